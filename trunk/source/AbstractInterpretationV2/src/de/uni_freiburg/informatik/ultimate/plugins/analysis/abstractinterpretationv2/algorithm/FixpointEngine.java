@@ -35,6 +35,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -77,6 +78,7 @@ public class FixpointEngine<STATE extends IAbstractState<STATE>, ACTION, VARDECL
 	private AbsIntResult<STATE, ACTION, LOC> mResult;
 	private final SummaryMap<STATE, ACTION, LOC> mSummaryMap;
 	private final boolean mUseHierachicalPre;
+	private final boolean mUseWeakTopologicalOrder;
 
 	public FixpointEngine(final FixpointEngineParameters<STATE, ACTION, VARDECL, LOC> params) {
 		if (params == null || !params.isValid()) {
@@ -92,6 +94,7 @@ public class FixpointEngine<STATE extends IAbstractState<STATE>, ACTION, VARDECL
 		mDebugHelper = params.getDebugHelper();
 		mMaxUnwindings = params.getMaxUnwindings();
 		mMaxParallelStates = params.getMaxParallelStates();
+		mUseWeakTopologicalOrder = params.getUseWeakTopologicalOrder();
 		mSummaryMap = new SummaryMap<>(mTransitionProvider, mLogger);
 		mUseHierachicalPre = mDomain.useHierachicalPre();
 	}
@@ -111,7 +114,7 @@ public class FixpointEngine<STATE extends IAbstractState<STATE>, ACTION, VARDECL
 	}
 
 	private void calculateFixpoint(final Collection<? extends LOC> start) {
-		final Deque<WorklistItem<STATE, ACTION, VARDECL, LOC>> worklist = new ArrayDeque<>();
+		final Queue<WorklistItem<STATE, ACTION, VARDECL, LOC>> worklist = createWorklist(start);
 		final IAbstractPostOperator<STATE, ACTION> postOp = mDomain.getPostOperator();
 		final IAbstractStateBinaryOperator<STATE> wideningOp = mDomain.getWideningOperator();
 		final Set<ACTION> reachedErrors = new HashSet<>();
@@ -124,7 +127,7 @@ public class FixpointEngine<STATE extends IAbstractState<STATE>, ACTION, VARDECL
 		while (!worklist.isEmpty()) {
 			checkTimeout();
 
-			final WorklistItem<STATE, ACTION, VARDECL, LOC> currentItem = worklist.removeFirst();
+			final WorklistItem<STATE, ACTION, VARDECL, LOC> currentItem = worklist.poll();
 			mResult.getBenchmark().addIteration(currentItem.getAction());
 
 			if (mLogger.isDebugEnabled()) {
@@ -167,6 +170,20 @@ public class FixpointEngine<STATE extends IAbstractState<STATE>, ACTION, VARDECL
 		}
 	}
 
+	/**
+	 * Create the worklist for a fixpoint computation that starts in the given locations. By default, the worklist is
+	 * processed in FIFO order. If enabled, the worklist instead returns items in the weak topological order of their
+	 * source locations s.t. inner loops stabilize before the locations after them are visited.
+	 */
+	private Queue<WorklistItem<STATE, ACTION, VARDECL, LOC>> createWorklist(final Collection<? extends LOC> start) {
+		if (!mUseWeakTopologicalOrder) {
+			return new ArrayDeque<>();
+		}
+		final WeakTopologicalOrder<ACTION, LOC> wto = new WeakTopologicalOrder<>(mTransitionProvider, start);
+		mLogger.info("Using weak topological order of " + wto.size() + " locations for worklist");
+		return new PriorityWorklist<>(a -> wto.getPosition(mTransitionProvider.getSource(a.getAction())));
+	}
+
 	/**
 	 * This method checks whether the current item can be ignored by a summary. This is the case if this item is a call
 	 * to a procedure for which a summary is already calculated. In this case, the item will count as processed and
@@ -179,7 +196,7 @@ public class FixpointEngine<STATE extends IAbstractState<STATE>, ACTION, VARDECL
 	 */
 	private boolean useSummaryInstead(final WorklistItem<STATE, ACTION, VARDECL, LOC> currentItem,
 			final DisjunctiveAbstractState<STATE> postState,
-			final Deque<WorklistItem<STATE, ACTION, VARDECL, LOC>> worklist) {
+			final Queue<WorklistItem<STATE, ACTION, VARDECL, LOC>> worklist) {
 		final ACTION callAction = currentItem.getAction();
 		if (!mTransitionProvider.isEnteringScope(callAction)) {
 			// can only use summary if entering a scope
@@ -26,6 +26,7 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 	private final IProgressAwareTimer mTimer;
 	private final int mMaxUnwindings;
 	private final int mMaxParallelStates;
+	private final boolean mUseWeakTopologicalOrder;
 	private final ILogger mLogger;
 
 	/**
@@ -51,6 +52,7 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 		final IPreferenceProvider ups = services.getPreferenceProvider(Activator.PLUGIN_ID);
 		mMaxUnwindings = ups.getInt(AbsIntPrefInitializer.LABEL_ITERATIONS_UNTIL_WIDENING);
 		mMaxParallelStates = ups.getInt(AbsIntPrefInitializer.LABEL_MAX_PARALLEL_STATES);
+		mUseWeakTopologicalOrder = ups.getBoolean(AbsIntPrefInitializer.LABEL_USE_WEAK_TOPOLOGICAL_ORDER);
 	}
 
 	/**
@@ -61,7 +63,7 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			final IVariableProvider<STATE, ACTION> varProvider, final ILoopDetector<ACTION> loopDetector,
 			final IAbstractDomain<STATE, ACTION> domain, final IDebugHelper<STATE, ACTION, VARDECL, LOC> debugHelper,
 			final IProgressAwareTimer timer, final ILogger logger, final int maxUnwindings,
-			final int maxParallelStates) {
+			final int maxParallelStates, final boolean useWeakTopologicalOrder) {
 		mTransitionProvider = transitionProvider;
 		mStorage = storage;
 		mVarProvider = varProvider;
@@ -72,6 +74,7 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 		mLogger = logger;
 		mMaxUnwindings = maxUnwindings;
 		mMaxParallelStates = maxParallelStates;
+		mUseWeakTopologicalOrder = useWeakTopologicalOrder;
 	}
 
 	/**
@@ -90,7 +93,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("transitionProvider may not be null");
 		}
 		return new FixpointEngineParameters<>(transitionProvider, mStorage, mVarProvider, mLoopDetector, mDomain,
-				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC>
@@ -99,7 +103,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("storage may not be null");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, storage, mVarProvider, mLoopDetector, mDomain,
-				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC>
@@ -108,7 +113,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("varProvider may not be null");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, varProvider, mLoopDetector, mDomain,
-				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC>
@@ -117,7 +123,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("loopDetector may not be null");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, loopDetector, mDomain,
-				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC>
@@ -126,7 +133,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("domain may not be null");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, mLoopDetector, domain,
-				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC>
@@ -135,7 +143,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("debugHelper may not be null");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, mLoopDetector, mDomain,
-				debugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				debugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC> setTimer(final IProgressAwareTimer timer) {
@@ -143,7 +152,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("timer may not be null");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, mLoopDetector, mDomain,
-				mDebugHelper, timer, mLogger, mMaxUnwindings, mMaxParallelStates);
+				mDebugHelper, timer, mLogger, mMaxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC> setMaxUnwindings(final int maxUnwindings) {
@@ -151,7 +161,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("maxUnwindings must be larger than zero");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, mLoopDetector, mDomain,
-				mDebugHelper, mTimer, mLogger, maxUnwindings, mMaxParallelStates);
+				mDebugHelper, mTimer, mLogger, maxUnwindings, mMaxParallelStates,
+				mUseWeakTopologicalOrder);
 	}
 
 	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC> setMaxParallelStates(final int maxParallelStates) {
@@ -159,7 +170,14 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 			throw new IllegalArgumentException("maxParallelStates must be larger than zero");
 		}
 		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, mLoopDetector, mDomain,
-				mDebugHelper, mTimer, mLogger, mMaxUnwindings, maxParallelStates);
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, maxParallelStates,
+				mUseWeakTopologicalOrder);
+	}
+
+	public FixpointEngineParameters<STATE, ACTION, VARDECL, LOC>
+			setUseWeakTopologicalOrder(final boolean useWeakTopologicalOrder) {
+		return new FixpointEngineParameters<>(mTransitionProvider, mStorage, mVarProvider, mLoopDetector, mDomain,
+				mDebugHelper, mTimer, mLogger, mMaxUnwindings, mMaxParallelStates, useWeakTopologicalOrder);
 	}
 
 	public boolean isValid() {
@@ -235,4 +253,8 @@ public class FixpointEngineParameters<STATE extends IAbstractState<STATE>, ACTIO
 	public int getMaxParallelStates() {
 		return mMaxParallelStates;
 	}
+
+	public boolean getUseWeakTopologicalOrder() {
+		return mUseWeakTopologicalOrder;
+	}
 }
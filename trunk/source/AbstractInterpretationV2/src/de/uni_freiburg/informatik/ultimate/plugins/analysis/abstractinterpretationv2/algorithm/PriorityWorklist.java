@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE AbstractInterpretationV2 plug-in.
+ *
+ * The ULTIMATE AbstractInterpretationV2 plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE AbstractInterpretationV2 plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE AbstractInterpretationV2 plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE AbstractInterpretationV2 plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE AbstractInterpretationV2 plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretationv2.algorithm;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * A worklist that always returns an element with the smallest priority. Elements with the same priority are returned
+ * in the order in which they were added.
+ *
+ * @param <E>
+ *            The type of the elements.
+ */
+final class PriorityWorklist<E> extends AbstractQueue<E> {
+
+	private final ToIntFunction<E> mPriority;
+	private final TreeMap<Integer, ArrayDeque<E>> mBuckets;
+	private int mSize;
+
+	PriorityWorklist(final ToIntFunction<E> priority) {
+		mPriority = priority;
+		mBuckets = new TreeMap<>();
+	}
+
+	@Override
+	public boolean offer(final E elem) {
+		mBuckets.computeIfAbsent(mPriority.applyAsInt(elem), a -> new ArrayDeque<>()).addLast(elem);
+		++mSize;
+		return true;
+	}
+
+	@Override
+	public E poll() {
+		final Entry<Integer, ArrayDeque<E>> first = mBuckets.firstEntry();
+		if (first == null) {
+			return null;
+		}
+		final E elem = first.getValue().removeFirst();
+		if (first.getValue().isEmpty()) {
+			mBuckets.remove(first.getKey());
+		}
+		--mSize;
+		return elem;
+	}
+
+	@Override
+	public E peek() {
+		final Entry<Integer, ArrayDeque<E>> first = mBuckets.firstEntry();
+		return first == null ? null : first.getValue().peekFirst();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return mBuckets.values().stream().flatMap(Collection::stream).iterator();
+	}
+
+	@Override
+	public int size() {
+		return mSize;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE AbstractInterpretationV2 plug-in.
+ *
+ * The ULTIMATE AbstractInterpretationV2 plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE AbstractInterpretationV2 plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE AbstractInterpretationV2 plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE AbstractInterpretationV2 plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE AbstractInterpretationV2 plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretationv2.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.uni_freiburg.informatik.ultimate.util.datastructures.relation.Pair;
+
+/**
+ * Weak topological order (WTO) of the locations of a control flow graph as defined by Bourdoncle ("Efficient chaotic
+ * iteration strategies with widenings", 1993).
+ * <p>
+ * A WTO is a total order of locations in which each strongly connected component is a contiguous interval that starts
+ * with the head of the component. The component without its head is again ordered in this way. If a worklist always
+ * processes the location with the smallest position first, an inner loop is stabilized before its outer loop
+ * continues, and the code after a loop is only processed with the result of the loop.
+ * <p>
+ * Strongly connected components are computed iteratively, the recursion depth of the computation is bounded by the
+ * nesting depth of loops.
+ *
+ * @param <ACTION>
+ *            The type of transitions of the control flow graph.
+ * @param <LOC>
+ *            The type of locations of the control flow graph.
+ */
+final class WeakTopologicalOrder<ACTION, LOC> {
+
+	private final ITransitionProvider<ACTION, LOC> mTransitionProvider;
+	private final Map<LOC, Integer> mPositions;
+
+	/**
+	 * Compute the WTO of all locations that are reachable from the given locations.
+	 */
+	WeakTopologicalOrder(final ITransitionProvider<ACTION, LOC> transitionProvider,
+			final Collection<? extends LOC> initialLocations) {
+		mTransitionProvider = transitionProvider;
+		final List<LOC> order = new ArrayList<>();
+		decompose(collectReachableLocations(initialLocations), order);
+		mPositions = new HashMap<>();
+		for (int i = 0; i < order.size(); ++i) {
+			mPositions.put(order.get(i), i);
+		}
+	}
+
+	/**
+	 * @return The position of the given location in this order, or {@link Integer#MAX_VALUE} if the location was not
+	 *         reachable.
+	 */
+	int getPosition(final LOC loc) {
+		final Integer position = mPositions.get(loc);
+		return position == null ? Integer.MAX_VALUE : position;
+	}
+
+	/**
+	 * @return The number of ordered locations.
+	 */
+	int size() {
+		return mPositions.size();
+	}
+
+	private Set<LOC> collectReachableLocations(final Collection<? extends LOC> initialLocations) {
+		final Set<LOC> reachable = new LinkedHashSet<>(initialLocations);
+		final Deque<LOC> worklist = new ArrayDeque<>(initialLocations);
+		while (!worklist.isEmpty()) {
+			final LOC current = worklist.removeFirst();
+			for (final ACTION action : mTransitionProvider.getSuccessorActions(current)) {
+				final LOC target = mTransitionProvider.getTarget(action);
+				if (reachable.add(target)) {
+					worklist.add(target);
+				}
+			}
+		}
+		return reachable;
+	}
+
+	/**
+	 * Append the WTO of the subgraph induced by the given locations to order.
+	 */
+	private void decompose(final Set<LOC> locations, final List<LOC> order) {
+		for (final List<LOC> component : computeStronglyConnectedComponents(locations)) {
+			final LOC head = component.get(0);
+			order.add(head);
+			if (component.size() > 1) {
+				// the head is the first location of the component that was reached, we break the component there
+				final Set<LOC> body = new LinkedHashSet<>(component);
+				body.remove(head);
+				decompose(body, order);
+			}
+		}
+	}
+
+	/**
+	 * Compute the strongly connected components of the subgraph induced by the given locations with Tarjan's
+	 * algorithm.
+	 *
+	 * @return The components in topological order. The first location of each component is the location of the
+	 *         component that was reached first.
+	 */
+	private List<List<LOC>> computeStronglyConnectedComponents(final Set<LOC> locations) {
+		final Map<LOC, Integer> index = new HashMap<>();
+		final Map<LOC, Integer> lowLink = new HashMap<>();
+		final Deque<LOC> stack = new ArrayDeque<>();
+		final Set<LOC> onStack = new HashSet<>();
+		final Deque<Pair<LOC, Iterator<LOC>>> callStack = new ArrayDeque<>();
+		final List<List<LOC>> components = new ArrayList<>();
+
+		for (final LOC root : locations) {
+			if (index.containsKey(root)) {
+				continue;
+			}
+			visit(root, locations, index, lowLink, stack, onStack, callStack);
+			while (!callStack.isEmpty()) {
+				final LOC current = callStack.peek().getFirst();
+				final Iterator<LOC> successors = callStack.peek().getSecond();
+				if (successors.hasNext()) {
+					final LOC succ = successors.next();
+					if (!index.containsKey(succ)) {
+						visit(succ, locations, index, lowLink, stack, onStack, callStack);
+					} else if (onStack.contains(succ)) {
+						lowLink.put(current, Math.min(lowLink.get(current), index.get(succ)));
+					}
+					continue;
+				}
+				callStack.pop();
+				if (!callStack.isEmpty()) {
+					final LOC pred = callStack.peek().getFirst();
+					lowLink.put(pred, Math.min(lowLink.get(pred), lowLink.get(current)));
+				}
+				if (lowLink.get(current).equals(index.get(current))) {
+					final LinkedList<LOC> component = new LinkedList<>();
+					LOC member;
+					do {
+						member = stack.pop();
+						onStack.remove(member);
+						component.addFirst(member);
+					} while (member != current);
+					components.add(component);
+				}
+			}
+		}
+		// Tarjan's algorithm finds the components in reverse topological order
+		Collections.reverse(components);
+		return components;
+	}
+
+	private void visit(final LOC loc, final Set<LOC> locations, final Map<LOC, Integer> index,
+			final Map<LOC, Integer> lowLink, final Deque<LOC> stack, final Set<LOC> onStack,
+			final Deque<Pair<LOC, Iterator<LOC>>> callStack) {
+		final int number = index.size();
+		index.put(loc, number);
+		lowLink.put(loc, number);
+		stack.push(loc);
+		onStack.add(loc);
+		final List<LOC> successors = new ArrayList<>();
+		for (final ACTION action : mTransitionProvider.getSuccessorActions(loc)) {
+			final LOC target = mTransitionProvider.getTarget(action);
+			if (locations.contains(target)) {
+				successors.add(target);
+			}
+		}
+		callStack.push(new Pair<>(loc, successors.iterator()));
+	}
+}
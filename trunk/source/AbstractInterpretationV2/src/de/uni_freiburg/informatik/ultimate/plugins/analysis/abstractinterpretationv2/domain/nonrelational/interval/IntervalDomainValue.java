@@ -174,7 +174,7 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			} else if (other.mLower.isInfinity()) {
 				lowerMax = new IntervalValue(mLower);
 			} else {
-				if (mLower.getValue().compareTo(other.mLower.getValue()) > 0) {
+				if (mLower.compareTo(other.mLower) > 0) {
 					lowerMax = new IntervalValue(mLower);
 				} else {
 					lowerMax = new IntervalValue(other.mLower);
@@ -217,7 +217,7 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			upperMin = other.mUpper;
 		} else if (other.mUpper.isInfinity()) {
 			upperMin = mUpper;
-		} else if (mUpper.getValue().compareTo(other.mUpper.getValue()) < 0) {
+		} else if (mUpper.compareTo(other.mUpper) < 0) {
 			upperMin = mUpper;
 		} else {
 			upperMin = other.mUpper;
@@ -360,8 +360,8 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			return true;
 		}
 
-		return (mLower.isInfinity() || mLower.getValue().signum() <= 0)
-				&& (mUpper.isInfinity() || mUpper.getValue().signum() >= 0);
+		return (mLower.isInfinity() || mLower.signum() <= 0)
+				&& (mUpper.isInfinity() || mUpper.signum() >= 0);
 	}
 
 	/**
@@ -406,34 +406,34 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 
 		if (mLower.compareTo(other.mLower) > 0) {
 			if (mLower.isInfinity()) {
-				newLower = new IntervalValue(other.mLower.getValue());
+				newLower = new IntervalValue(other.mLower);
 			} else {
-				newLower = new IntervalValue(mLower.getValue());
+				newLower = new IntervalValue(mLower);
 			}
 		} else if (mLower.compareTo(other.mLower) == 0) {
 			if (mLower.isInfinity()) {
 				newLower = new IntervalValue();
 			} else {
-				newLower = new IntervalValue(mLower.getValue());
+				newLower = new IntervalValue(mLower);
 			}
 		} else {
 			if (other.mLower.isInfinity()) {
-				newLower = new IntervalValue(mLower.getValue());
+				newLower = new IntervalValue(mLower);
 			} else {
-				newLower = new IntervalValue(other.mLower.getValue());
+				newLower = new IntervalValue(other.mLower);
 			}
 		}
 
 		if (mUpper.compareTo(other.mUpper) < 0) {
-			newUpper = new IntervalValue(mUpper.getValue());
+			newUpper = new IntervalValue(mUpper);
 		} else if (mUpper.compareTo(other.mUpper) == 0) {
 			if (mUpper.isInfinity()) {
 				newUpper = new IntervalValue();
 			} else {
-				newUpper = new IntervalValue(mUpper.getValue());
+				newUpper = new IntervalValue(mUpper);
 			}
 		} else {
-			newUpper = new IntervalValue(other.mUpper.getValue());
+			newUpper = new IntervalValue(other.mUpper);
 		}
 
 		if (!newLower.isInfinity() && newLower.compareTo(newUpper) > 0) {
@@ -479,14 +479,14 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 				if (mLower.isInfinity()) {
 					newLower = new IntervalValue();
 				} else {
-					newLower = new IntervalValue(mLower.getValue());
+					newLower = new IntervalValue(mLower);
 				}
 
 				IntervalValue newUpper;
 				if (mUpper.isInfinity()) {
 					newUpper = new IntervalValue();
 				} else {
-					newUpper = new IntervalValue(mUpper.getValue());
+					newUpper = new IntervalValue(mUpper);
 				}
 				return new IntervalDomainValue(newLower, newUpper);
 			}
@@ -499,9 +499,9 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			lower = new IntervalValue();
 		} else {
 			if (mLower.compareTo(other.mLower) < 0) {
-				lower = new IntervalValue(mLower.getValue());
+				lower = new IntervalValue(mLower);
 			} else {
-				lower = new IntervalValue(other.mLower.getValue());
+				lower = new IntervalValue(other.mLower);
 			}
 		}
 
@@ -509,9 +509,9 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			upper = new IntervalValue();
 		} else {
 			if (mUpper.compareTo(other.mUpper) < 0) {
-				upper = new IntervalValue(other.mUpper.getValue());
+				upper = new IntervalValue(other.mUpper);
 			} else {
-				upper = new IntervalValue(mUpper.getValue());
+				upper = new IntervalValue(mUpper);
 			}
 		}
 
@@ -567,7 +567,7 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		}
 
 		if (isPointInterval() && other.isPointInterval()) {
-			final IntervalValue result = new IntervalValue(getLower().getValue().multiply(other.getLower().getValue()));
+			final IntervalValue result = IntervalValue.multiply(getLower(), other.getLower());
 			return new IntervalDomainValue(result, result);
 		}
 
@@ -853,24 +853,24 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 				return new IntervalValue();
 			}
 			// -\infty * val = \infty, if val < 0
-			if (other.getLower().getValue().signum() < 0) {
+			if (other.getLower().signum() < 0) {
 				return new IntervalValue();
 			}
 
 			// -\infty * 0 = 0
-			if (other.getLower().getValue().signum() == 0) {
+			if (other.getLower().signum() == 0) {
 				returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			}
 		} else {
 			if (other.getLower().isInfinity()) {
 				// val * -\infty = \infty, if val < 0
-				if (getLower().getValue().signum() < 0) {
+				if (getLower().signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// 0 * -\infty = 0
-				if (getLower().getValue().signum() == 0) {
+				if (getLower().signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -885,12 +885,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		if (getLower().isInfinity()) {
 			if (!other.getUpper().isInfinity()) {
 				// -\infty * val = \infty, if val < 0
-				if (other.getUpper().getValue().signum() < 0) {
+				if (other.getUpper().signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// -\infty * 0 = 0
-				if (other.getUpper().getValue().signum() == 0) {
+				if (other.getUpper().signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -899,12 +899,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 
 			if (other.getUpper().isInfinity()) {
 				// val * \infty = \infty, if val > 0
-				if (getLower().getValue().signum() > 0) {
+				if (getLower().signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// 0 * anything = 0
-				if (getLower().getValue().signum() == 0) {
+				if (getLower().signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -919,12 +919,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		if (getUpper().isInfinity()) {
 			if (!other.getLower().isInfinity()) {
 				// \infty * val = \infty, if val > 0
-				if (other.getLower().getValue().signum() > 0) {
+				if (other.getLower().signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// \infty * 0 = 0
-				if (other.getLower().getValue().signum() == 0) {
+				if (other.getLower().signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -932,12 +932,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		} else {
 			if (other.getLower().isInfinity()) {
 				// val * -\infty = \infty, if val < 0
-				if (getUpper().getValue().signum() < 0) {
+				if (getUpper().signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// 0 * anything = 0
-				if (getUpper().getValue().signum() == 0) {
+				if (getUpper().signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -955,24 +955,24 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 				return new IntervalValue();
 			}
 			// \infty * val = \infty, if val > 0
-			if (other.getUpper().getValue().signum() > 0) {
+			if (other.getUpper().signum() > 0) {
 				return new IntervalValue();
 			}
 
 			// \infty * 0 = 0
-			if (other.getUpper().getValue().signum() == 0) {
+			if (other.getUpper().signum() == 0) {
 				returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			}
 		} else {
 			if (other.getUpper().isInfinity()) {
 				// val * \infty = \infty, if val > 0
-				if (getUpper().getValue().signum() > 0) {
+				if (getUpper().signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// 0 * \infty = 0
-				if (getUpper().getValue().signum() == 0) {
+				if (getUpper().signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1013,12 +1013,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			if (!other.getLower().isInfinity()) {
 
 				// -\infty * val = -\infty, if val > 0.
-				if (other.getLower().getValue().signum() > 0) {
+				if (other.getLower().signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// -\infty * val = 0, if val = 0.
-				if (other.getLower().getValue().signum() == 0) {
+				if (other.getLower().signum() == 0) {
 					returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1026,14 +1026,14 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		} else {
 
 			// 0 * anything = 0.
-			if (getLower().getValue().signum() == 0) {
+			if (getLower().signum() == 0) {
 				returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			} else {
 				if (other.getLower().isInfinity()) {
 
 					// val * -\infty = -\infty, if val > 0
-					if (getLower().getValue().signum() > 0) {
+					if (getLower().signum() > 0) {
 						return new IntervalValue();
 					}
 				} else {
@@ -1053,26 +1053,26 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			}
 
 			// -\infty * val = -\infty, if val > 0
-			if (other.getUpper().getValue().signum() > 0) {
+			if (other.getUpper().signum() > 0) {
 				return new IntervalValue();
 			}
 
 			// anything * 0 = 0.
-			if (other.getUpper().getValue().signum() == 0) {
+			if (other.getUpper().signum() == 0) {
 				returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			}
 		} else {
 
 			// 0 * anything = 0
-			if (getLower().getValue().signum() == 0) {
+			if (getLower().signum() == 0) {
 				returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			} else {
 				if (other.getUpper().isInfinity()) {
 
 					// val * \infty = -\infty, if val < 0
-					if (getLower().getValue().signum() < 0) {
+					if (getLower().signum() < 0) {
 						return new IntervalValue();
 					}
 				} else {
@@ -1092,24 +1092,24 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			}
 
 			// \infty * val = -\infty, if val < 0
-			if (other.getLower().getValue().signum() < 0) {
+			if (other.getLower().signum() < 0) {
 				return new IntervalValue();
 			}
 
 			// \infty * 0 = 0
-			if (other.getLower().getValue().signum() == 0) {
+			if (other.getLower().signum() == 0) {
 				returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			}
 		} else {
 			if (other.getLower().isInfinity()) {
 				// val * -\infty = -\infty, if val > 0
-				if (getUpper().getValue().signum() > 0) {
+				if (getUpper().signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// 0 * anything = 0
-				if (getUpper().getValue().signum() == 0) {
+				if (getUpper().signum() == 0) {
 					returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1125,11 +1125,11 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			if (!other.getUpper().isInfinity()) {
 
 				// \infty * val = -\infty, if val < 0
-				if (other.getUpper().getValue().signum() < 0) {
+				if (other.getUpper().signum() < 0) {
 					return new IntervalValue();
 				}
 
-				if (other.getUpper().getValue().signum() == 0) {
+				if (other.getUpper().signum() == 0) {
 					returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1137,12 +1137,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		} else {
 			if (other.getUpper().isInfinity()) {
 				// val * \infty = -\infty, if val < 0
-				if (getUpper().getValue().signum() < 0) {
+				if (getUpper().signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// 0 * \infty = 0
-				if (getUpper().getValue().signum() == 0) {
+				if (getUpper().signum() == 0) {
 					returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1263,7 +1263,7 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		}
 
 		if (isPointInterval() && other.isPointInterval()) {
-			if (other.getLower().getValue().signum() == 0) {
+			if (other.getLower().signum() == 0) {
 				return new IntervalDomainValue(true);
 			}
 			final IntervalValue result = new IntervalValue(divide(getLower().getValue(), other.getLower().getValue()));
@@ -1316,19 +1316,19 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		if (a.isInfinity()) {
 			if (!c.isInfinity()) {
 				// -\infty / val = -\infty, if val > 0
-				if (c.getValue().signum() > 0) {
+				if (c.signum() > 0) {
 					return new IntervalValue();
 				}
 			}
 		} else {
 			// 0 / anything = 0.
-			if (a.getValue().signum() == 0) {
+			if (a.signum() == 0) {
 				returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			} else {
 				if (c.isInfinity()) {
 					// val / -\infty = -\infty, if val > 0
-					if (a.getValue().signum() > 0) {
+					if (a.signum() > 0) {
 						return new IntervalValue();
 					}
 				} else {
@@ -1346,18 +1346,18 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			}
 
 			// -\infty / val = -\infty, if val > 0
-			if (d.getValue().signum() > 0) {
+			if (d.signum() > 0) {
 				return new IntervalValue();
 			}
 		} else {
 			// 0 / anything = 0
-			if (a.getValue().signum() == 0) {
+			if (a.signum() == 0) {
 				returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 				valuePresent = true;
 			} else {
 				if (d.isInfinity()) {
 					// val / \infty = -\infty, if val < 0
-					if (a.getValue().signum() < 0) {
+					if (a.signum() < 0) {
 						return new IntervalValue();
 					}
 				} else {
@@ -1374,18 +1374,18 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 			}
 
 			// \infty / val = -\infty, if val < 0
-			if (c.getValue().signum() < 0) {
+			if (c.signum() < 0) {
 				return new IntervalValue();
 			}
 		} else {
 			if (c.isInfinity()) {
 				// val / -\infty = -\infty, if val > 0
-				if (b.getValue().signum() > 0) {
+				if (b.signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// 0 / anything = 0
-				if (b.getValue().signum() == 0) {
+				if (b.signum() == 0) {
 					returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1399,19 +1399,19 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		if (b.isInfinity()) {
 			if (!d.isInfinity()) {
 				// \infty / val = -\infty, if val < 0
-				if (d.getValue().signum() < 0) {
+				if (d.signum() < 0) {
 					return new IntervalValue();
 				}
 			}
 		} else {
 			if (d.isInfinity()) {
 				// val / \infty = -\infty, if val < 0
-				if (b.getValue().signum() < 0) {
+				if (b.signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// 0 / anything = 0
-				if (b.getValue().signum() == 0) {
+				if (b.signum() == 0) {
 					returnValue = updateIfSmaller(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1470,18 +1470,18 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 				return new IntervalValue();
 			}
 			// -\infty / val = \infty, if val < 0
-			if (c.getValue().signum() < 0) {
+			if (c.signum() < 0) {
 				return new IntervalValue();
 			}
 		} else {
 			if (c.isInfinity()) {
 				// val / -\infty = \infty, if val < 0
-				if (a.getValue().signum() < 0) {
+				if (a.signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// 0 / -\infty = 0
-				if (a.getValue().signum() == 0) {
+				if (a.signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1495,19 +1495,19 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		if (a.isInfinity()) {
 			if (!d.isInfinity()) {
 				// -\infty / val = \infty, if val < 0
-				if (d.getValue().signum() < 0) {
+				if (d.signum() < 0) {
 					return new IntervalValue();
 				}
 			}
 		} else {
 			if (d.isInfinity()) {
 				// val / \infty = \infty, if val > 0
-				if (a.getValue().signum() > 0) {
+				if (a.signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// 0 / anything = 0
-				if (a.getValue().signum() == 0) {
+				if (a.signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1521,19 +1521,19 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 		if (b.isInfinity()) {
 			if (!c.isInfinity()) {
 				// \infty / val = \infty, if val > 0
-				if (c.getValue().signum() > 0) {
+				if (c.signum() > 0) {
 					return new IntervalValue();
 				}
 			}
 		} else {
 			if (c.isInfinity()) {
 				// val / -\infty = \infty, if val < 0
-				if (b.getValue().signum() < 0) {
+				if (b.signum() < 0) {
 					return new IntervalValue();
 				}
 
 				// 0 / anything = 0
-				if (b.getValue().signum() == 0) {
+				if (b.signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1550,18 +1550,18 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 				return new IntervalValue();
 			}
 			// \infty / val = \infty, if val > 0
-			if (d.getValue().signum() > 0) {
+			if (d.signum() > 0) {
 				return new IntervalValue();
 			}
 		} else {
 			if (d.isInfinity()) {
 				// val / \infty = \infty, if val > 0
-				if (b.getValue().signum() > 0) {
+				if (b.signum() > 0) {
 					return new IntervalValue();
 				}
 
 				// 0 / anything = 0
-				if (b.getValue().signum() == 0) {
+				if (b.signum() == 0) {
 					returnValue = updateIfLarger(returnValue, BigDecimal.ZERO, valuePresent);
 					valuePresent = true;
 				}
@@ -1716,17 +1716,17 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 
 		if (getLower().isInfinity()) {
 			return Collections
-					.singleton(new IntervalDomainValue(new IntervalValue(getUpper().getValue()), new IntervalValue()));
+					.singleton(new IntervalDomainValue(new IntervalValue(getUpper()), new IntervalValue()));
 		}
 
 		if (getUpper().isInfinity()) {
 			return Collections
-					.singleton(new IntervalDomainValue(new IntervalValue(), new IntervalValue(getLower().getValue())));
+					.singleton(new IntervalDomainValue(new IntervalValue(), new IntervalValue(getLower())));
 		}
 
 		final ArrayList<IntervalDomainValue> rtr = new ArrayList<>();
-		rtr.add(new IntervalDomainValue(new IntervalValue(getUpper().getValue()), new IntervalValue()));
-		rtr.add(new IntervalDomainValue(new IntervalValue(), new IntervalValue(getLower().getValue())));
+		rtr.add(new IntervalDomainValue(new IntervalValue(getUpper()), new IntervalValue()));
+		rtr.add(new IntervalDomainValue(new IntervalValue(), new IntervalValue(getLower())));
 		return rtr;
 	}
 
@@ -1742,12 +1742,12 @@ public class IntervalDomainValue implements INonrelationalValue<IntervalDomainVa
 
 		if (getLower().isInfinity()) {
 			return Collections
-					.singleton(new IntervalDomainValue(new IntervalValue(getUpper().getValue()), new IntervalValue()));
+					.singleton(new IntervalDomainValue(new IntervalValue(getUpper()), new IntervalValue()));
 		}
 
 		if (getUpper().isInfinity()) {
 			return Collections
-					.singleton(new IntervalDomainValue(new IntervalValue(), new IntervalValue(getLower().getValue())));
+					.singleton(new IntervalDomainValue(new IntervalValue(), new IntervalValue(getLower())));
 		}
 
 		final ArrayList<IntervalDomainValue> rtr = new ArrayList<>();
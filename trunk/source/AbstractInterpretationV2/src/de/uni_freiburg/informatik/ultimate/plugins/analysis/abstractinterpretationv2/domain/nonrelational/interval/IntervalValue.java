@@ -29,6 +29,7 @@
 package de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretationv2.domain.nonrelational.interval;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtSortUtils;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtUtils;
@@ -42,6 +43,12 @@ import de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretati
  * infinity.
  *
  * <p>
+ * Integral values that fit into a <code>long</code> are stored as <code>long</code> and the arithmetic operations and
+ * comparisons of this class use <code>long</code> arithmetic for them. The value is only represented as
+ * {@link BigDecimal} if it is not integral, if an operation overflows, or if {@link #getValue()} is called.
+ * </p>
+ *
+ * <p>
  * For interpreting values, one must always account for possible infinity. If {@link #isInfinity()} returns
  * <code>true</code>, the value obtained through {@link #getValue()} must be ignored as it is unsound.
  * </p>
@@ -54,7 +61,12 @@ public class IntervalValue implements Comparable<IntervalValue> {
 	private static int sId;
 	private final int mId;
 
-	private final BigDecimal mValue;
+	/**
+	 * The value as {@link BigDecimal}. May be null if {@link #mIsLong} is true, it is then computed on demand.
+	 */
+	private BigDecimal mValue;
+	private final long mLongValue;
+	private final boolean mIsLong;
 
 	private final boolean mIsInfty;
 
@@ -64,6 +76,8 @@ public class IntervalValue implements Comparable<IntervalValue> {
 	public IntervalValue() {
 		mIsInfty = true;
 		mValue = null;
+		mLongValue = 0;
+		mIsLong = false;
 		sId++;
 		mId = sId;
 	}
@@ -80,6 +94,18 @@ public class IntervalValue implements Comparable<IntervalValue> {
 		}
 		mValue = val;
 		mIsInfty = false;
+		long longValue = 0;
+		boolean isLong = false;
+		if (val.scale() == 0) {
+			try {
+				longValue = val.longValueExact();
+				isLong = true;
+			} catch (final ArithmeticException e) {
+				// does not fit into a long
+			}
+		}
+		mLongValue = longValue;
+		mIsLong = isLong;
 		sId++;
 		mId = sId;
 	}
@@ -92,6 +118,8 @@ public class IntervalValue implements Comparable<IntervalValue> {
 	 */
 	public IntervalValue(final IntervalValue val) {
 		mValue = val.mValue;
+		mLongValue = val.mLongValue;
+		mIsLong = val.mIsLong;
 		mIsInfty = val.mIsInfty;
 		sId++;
 		mId = sId;
@@ -104,7 +132,22 @@ public class IntervalValue implements Comparable<IntervalValue> {
 	 *            The value to set.
 	 */
 	public IntervalValue(final int val) {
-		this(new BigDecimal(val));
+		this((long) val);
+	}
+
+	/**
+	 * Constructor for a new {@link IntervalValue} that sets the value to the provided value.
+	 *
+	 * @param val
+	 *            The value to set.
+	 */
+	public IntervalValue(final long val) {
+		mValue = null;
+		mLongValue = val;
+		mIsLong = true;
+		mIsInfty = false;
+		sId++;
+		mId = sId;
 	}
 
 	/**
@@ -138,6 +181,9 @@ public class IntervalValue implements Comparable<IntervalValue> {
 	 * @return The value of this.
 	 */
 	public BigDecimal getValue() {
+		if (mValue == null && mIsLong) {
+			mValue = BigDecimal.valueOf(mLongValue);
+		}
 		return mValue;
 	}
 
@@ -150,6 +196,19 @@ public class IntervalValue implements Comparable<IntervalValue> {
 		return mIsInfty;
 	}
 
+	/**
+	 * Returns the signum of the value of this. Must not be called if {@link #isInfinity()} returns <code>true</code>.
+	 *
+	 * @return -1, 0, or 1 if the value of this is negative, zero, or positive.
+	 */
+	public int signum() {
+		assert !mIsInfty : "Infinity has no signum";
+		if (mIsLong) {
+			return Long.signum(mLongValue);
+		}
+		return mValue.signum();
+	}
+
 	/**
 	 * Multiply two {@link IntervalValue}s.
 	 *
@@ -170,7 +229,7 @@ public class IntervalValue implements Comparable<IntervalValue> {
 		}
 
 		if (a.isInfinity()) {
-			if (b.getValue().signum() == 0) {
+			if (b.signum() == 0) {
 				// infinity times 0 is 0
 				return new IntervalValue(0);
 			}
@@ -179,13 +238,20 @@ public class IntervalValue implements Comparable<IntervalValue> {
 		}
 
 		if (b.isInfinity()) {
-			if (a.getValue().signum() == 0) {
+			if (a.signum() == 0) {
 				return new IntervalValue(0);
 			}
 			return new IntervalValue();
 		}
 
 		// neither a nor b are infinity, thus a.getValue() has always a value
+		if (a.mIsLong && b.mIsLong) {
+			try {
+				return new IntervalValue(Math.multiplyExact(a.mLongValue, b.mLongValue));
+			} catch (final ArithmeticException e) {
+				// overflow, use BigDecimal
+			}
+		}
 		return new IntervalValue(a.getValue().multiply(b.getValue()));
 	}
 
@@ -213,7 +279,10 @@ public class IntervalValue implements Comparable<IntervalValue> {
 			return false;
 		}
 
-		return mValue.compareTo(comparableOther.mValue) == 0 ? true : false;
+		if (mIsLong && comparableOther.mIsLong) {
+			return mLongValue == comparableOther.mLongValue;
+		}
+		return getValue().compareTo(comparableOther.getValue()) == 0;
 	}
 
 	@Override
@@ -240,7 +309,10 @@ public class IntervalValue implements Comparable<IntervalValue> {
 			return -1;
 		}
 
-		return mValue.compareTo(other.mValue);
+		if (mIsLong && other.mIsLong) {
+			return Long.compare(mLongValue, other.mLongValue);
+		}
+		return getValue().compareTo(other.getValue());
 	}
 
 	@Override
@@ -249,18 +321,21 @@ public class IntervalValue implements Comparable<IntervalValue> {
 			return "\\infty";
 		}
 
-		return mValue.toString();
+		return getValue().toString();
 	}
 
 	public Term getTerm(final Sort sort, final Script script) {
 		assert !isInfinity() : "Cannot convert infinity to Term";
 		assert SmtSortUtils.isNumericSort(sort) : "Sort has to be numeric";
 		if (SmtSortUtils.isIntSort(sort)) {
+			if (mIsLong) {
+				return SmtUtils.constructIntValue(script, BigInteger.valueOf(mLongValue));
+			}
 			return SmtUtils.constructIntValue(script, mValue.toBigIntegerExact());
 		}
 		assert SmtSortUtils.isRealSort(sort) : "Seems that numeric sort now has something different then Int or Real";
 		// has to be real
-		return script.decimal(mValue);
+		return script.decimal(getValue());
 	}
 
 	public IntervalValue add(final IntervalValue other) {
@@ -270,6 +345,13 @@ public class IntervalValue implements Comparable<IntervalValue> {
 		if (other.isInfinity()) {
 			return other;
 		}
+		if (mIsLong && other.mIsLong) {
+			try {
+				return new IntervalValue(Math.addExact(mLongValue, other.mLongValue));
+			} catch (final ArithmeticException e) {
+				// overflow, use BigDecimal
+			}
+		}
 		return new IntervalValue(getValue().add(other.getValue()));
 	}
 
@@ -280,6 +362,13 @@ public class IntervalValue implements Comparable<IntervalValue> {
 		if (other.isInfinity()) {
 			return other;
 		}
+		if (mIsLong && other.mIsLong) {
+			try {
+				return new IntervalValue(Math.subtractExact(mLongValue, other.mLongValue));
+			} catch (final ArithmeticException e) {
+				// overflow, use BigDecimal
+			}
+		}
 		return new IntervalValue(getValue().subtract(other.getValue()));
 	}
 }
@@ -27,6 +27,7 @@
 
 package de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretationv2.domain.relational.octagon;
 
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -136,7 +137,13 @@ public class OctMatrix {
 	 * speed. The runtime of some algorithms depends on the content of the
 	 * matrix.
 	 */
-	private static final Consumer<OctMatrix> sDefaultShortestPathClosure = OctMatrix::shortestPathClosurePrimitiveSparse;
+	private static final Consumer<OctMatrix> sDefaultShortestPathClosure = OctMatrix::shortestPathClosureLongSparse;
+
+	/**
+	 * Represents {@link OctValue#INFINITY} in the primitive representation used by
+	 * {@link #shortestPathClosureLongSparse()}.
+	 */
+	private static final long LONG_INFINITY = Long.MAX_VALUE;
 
 	/**
 	 * Size of this matrix (size = #rows = #columns). Size is always an even
@@ -1044,6 +1051,136 @@ public class OctMatrix {
 		return indexLength;
 	}
 
+	/**
+	 * Computes the shortest path closure in-place, as in
+	 * {@link #shortestPathClosurePrimitiveSparse()}, but on a flat array of
+	 * primitive {@code long} values instead of {@link OctValue}s. The closure
+	 * does not allocate any {@link BigDecimal}s except for the updated entries
+	 * that are written back at the end.
+	 * <p>
+	 * The primitive representation is only used if all finite entries are
+	 * integers. Otherwise, or if an overflow occurs, this method falls back to
+	 * {@link #shortestPathClosurePrimitiveSparse()}. Both algorithms perform
+	 * the same updates in the same order and compute the same result.
+	 */
+	protected void shortestPathClosureLongSparse() {
+		final long[] original = entriesAsLongs();
+		if (original == null) {
+			shortestPathClosurePrimitiveSparse();
+			return;
+		}
+		final long[] closure = original.clone();
+		if (!shortestPathClosureLongSparse(closure)) {
+			shortestPathClosurePrimitiveSparse();
+			return;
+		}
+		for (int i = 0; i < closure.length; ++i) {
+			if (closure[i] != original[i]) {
+				// shortest path closure never introduces infinity
+				mEntries[i] = new OctValue(BigDecimal.valueOf(closure[i]));
+				mStrongClosure = mTightClosure = null;
+			}
+		}
+	}
+
+	/**
+	 * Converts the entries of this matrix into primitive values.
+	 * {@link OctValue#INFINITY} is represented by {@link #LONG_INFINITY}.
+	 *
+	 * @return Entries of this matrix, indexed like {@link #mEntries}, or
+	 *         {@code null} if some finite entry is not an integer that fits
+	 *         into a {@code long}
+	 */
+	private long[] entriesAsLongs() {
+		final long[] result = new long[mEntries.length];
+		for (int i = 0; i < mEntries.length; ++i) {
+			final OctValue value = mEntries[i];
+			if (value.isInfinity()) {
+				result[i] = LONG_INFINITY;
+				continue;
+			}
+			try {
+				result[i] = value.getValue().longValueExact();
+			} catch (final ArithmeticException e) {
+				return null;
+			}
+			if (result[i] == LONG_INFINITY) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the shortest path closure of a primitive representation of this
+	 * matrix in-place. See {@link #shortestPathClosurePrimitiveSparse()}.
+	 *
+	 * @param m
+	 *            Entries of this matrix, as computed by
+	 *            {@link #entriesAsLongs()}
+	 * @return {@code false} iff an overflow occurred. In this case {@code m}
+	 *         is in an undefined state.
+	 */
+	private boolean shortestPathClosureLongSparse(final long[] m) {
+		final int[] rk = new int[mSize]; // indices of finite entries in rows k and k^1
+		final int[] ck = new int[mSize]; // indices of finite entries in columns k and k^1
+		int indexLength = 0;
+		try {
+			for (int k = 0; k < mSize; ++k) {
+				final int kk = k ^ 1;
+				if (k < kk) { // k is even => entered new 2x2 block
+					indexLength = 0;
+					for (int i = 0; i < mSize; ++i) {
+						if (m[indexOf(i, k)] != LONG_INFINITY || m[indexOf(i, kk)] != LONG_INFINITY) {
+							ck[indexLength] = i;
+							rk[indexLength] = i ^ 1;
+							++indexLength;
+						}
+					}
+				}
+				for (int _i = 0; _i < indexLength; ++_i) {
+					final int i = ck[_i];
+					final long ik = m[indexOf(i, k)];
+					final long ikk = m[indexOf(i, kk)];
+					final int maxCol = i | 1;
+					// row i of the block lower triangular matrix is stored contiguously
+					final int rowStart = indexOfLower(i, 0);
+					for (int _j = 0; _j < indexLength; ++_j) {
+						final int j = rk[_j];
+						if (j > maxCol) {
+							break;
+						}
+						final long indirectRoute =
+								Math.min(addLongs(ik, m[indexOf(k, j)]), addLongs(ikk, m[indexOf(kk, j)]));
+						if (m[rowStart + j] > indirectRoute) {
+							m[rowStart + j] = indirectRoute;
+						}
+					}
+				}
+			}
+		} catch (final ArithmeticException e) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds two entries of the primitive representation.
+	 *
+	 * @throws ArithmeticException
+	 *             on overflow
+	 */
+	private static long addLongs(final long a, final long b) {
+		if (a == LONG_INFINITY || b == LONG_INFINITY) {
+			return LONG_INFINITY;
+		}
+		final long sum = Math.addExact(a, b);
+		if (sum == LONG_INFINITY) {
+			throw new ArithmeticException("finite sum collides with infinity");
+		}
+		return sum;
+	}
+
 	/**
 	 * Compute the shortest path closure in-place, using the closure algorithm
 	 * of APRON (a library) as recalled by Singh
@@ -96,10 +96,16 @@ public class AbsIntPrefInitializer extends UltimatePreferenceInitializer {
 	public static final String TOOLTIP_RUN_AS_PRE_ANALYSIS =
 			"Do not report any results, suppress all exceptions except OOM, use 20% of available time.";
 
+	public static final String LABEL_USE_WEAK_TOPOLOGICAL_ORDER = "Use weak topological order for worklist";
+	public static final String TOOLTIP_USE_WEAK_TOPOLOGICAL_ORDER =
+			"Process worklist items in the weak topological order of their source locations instead of FIFO order. "
+					+ "Inner loops are stabilized before the locations after them are visited.";
+
 	public static final int DEF_ITERATIONS_UNTIL_WIDENING = 3;
 	public static final int DEF_STATES_UNTIL_MERGE = 2;
 	public static final int DEF_MAX_EVALUATION_RECURSION_DEPTH = -1;
 	public static final boolean DEF_RUN_AS_PRE_ANALYSIS = false;
+	public static final boolean DEF_USE_WEAK_TOPOLOGICAL_ORDER = false;
 	public static final String DEF_ABSTRACT_DOMAIN = VALUES_ABSTRACT_DOMAIN[0];
 	public static final String DEF_ABSTRACT_DOMAIN_FUTURE = VALUES_ABSTRACT_DOMAIN_FUTURE[0];
 
@@ -127,6 +133,8 @@ public class AbsIntPrefInitializer extends UltimatePreferenceInitializer {
 				PreferenceType.Integer, new IUltimatePreferenceItemValidator.IntegerValidator(-1, 100000)));
 		rtr.add(new UltimatePreferenceItem<>(LABEL_RUN_AS_PRE_ANALYSIS, DEF_RUN_AS_PRE_ANALYSIS,
 				TOOLTIP_RUN_AS_PRE_ANALYSIS, PreferenceType.Boolean));
+		rtr.add(new UltimatePreferenceItem<>(LABEL_USE_WEAK_TOPOLOGICAL_ORDER, DEF_USE_WEAK_TOPOLOGICAL_ORDER,
+				TOOLTIP_USE_WEAK_TOPOLOGICAL_ORDER, PreferenceType.Boolean));
 		rtr.add(new UltimatePreferenceItem<>(LABEL_USE_FUTURE_RCFG, DEF_USE_FUTURE_RCFG, TOOLTIP_USE_FUTURE_RCFG,
 				PreferenceType.Boolean));
 
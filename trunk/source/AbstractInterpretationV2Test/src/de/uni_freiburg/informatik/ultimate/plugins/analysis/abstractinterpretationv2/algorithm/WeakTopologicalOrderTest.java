@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE AbstractInterpretationV2 plug-in.
+ *
+ * The ULTIMATE AbstractInterpretationV2 plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE AbstractInterpretationV2 plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE AbstractInterpretationV2 plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE AbstractInterpretationV2 plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE AbstractInterpretationV2 plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretationv2.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class WeakTopologicalOrderTest {
+
+	/**
+	 * 0 -> 1 -> 2 -> 3 -> 1, 2 -> 2, 1 -> 4, 3 -> 5 -> 4
+	 */
+	private static final int[][] NESTED_LOOPS = { { 0, 1 }, { 1, 2 }, { 2, 3 }, { 3, 1 }, { 2, 2 }, { 1, 4 },
+			{ 3, 5 }, { 5, 4 } };
+
+	@Test
+	public void testLoopHeadsPrecedeBodyAndExit() {
+		final WeakTopologicalOrder<int[], Integer> wto =
+				new WeakTopologicalOrder<>(new GraphTransitionProvider(NESTED_LOOPS), Collections.singleton(0));
+		assertEquals(6, wto.size());
+		assertTrue(wto.getPosition(0) < wto.getPosition(1));
+		assertTrue(wto.getPosition(1) < wto.getPosition(2));
+		assertTrue(wto.getPosition(2) < wto.getPosition(3));
+		// the loop 1 -> 2 -> 3 -> 1 is a contiguous interval, its exits are ordered after it
+		assertTrue(wto.getPosition(3) < wto.getPosition(5));
+		assertTrue(wto.getPosition(5) < wto.getPosition(4));
+	}
+
+	@Test
+	public void testUnreachableLocationsAreLast() {
+		final WeakTopologicalOrder<int[], Integer> wto =
+				new WeakTopologicalOrder<>(new GraphTransitionProvider(NESTED_LOOPS), Collections.singleton(4));
+		assertEquals(1, wto.size());
+		assertEquals(0, wto.getPosition(4));
+		assertEquals(Integer.MAX_VALUE, wto.getPosition(0));
+	}
+
+	@Test
+	public void testPriorityWorklistOrder() {
+		final PriorityWorklist<String> worklist = new PriorityWorklist<>(String::length);
+		worklist.add("ccc");
+		worklist.add("a");
+		worklist.add("bb");
+		worklist.add("b");
+		assertEquals(4, worklist.size());
+		final List<String> polled = new ArrayList<>();
+		while (!worklist.isEmpty()) {
+			polled.add(worklist.poll());
+		}
+		assertEquals("[a, b, bb, ccc]", polled.toString());
+	}
+
+	/**
+	 * Transition provider for a graph over integer locations whose actions are pairs of source and target.
+	 */
+	private static final class GraphTransitionProvider implements ITransitionProvider<int[], Integer> {
+		private final int[][] mEdges;
+
+		GraphTransitionProvider(final int[][] edges) {
+			mEdges = edges;
+		}
+
+		@Override
+		public Collection<int[]> getSuccessorActions(final Integer loc) {
+			return Arrays.stream(mEdges).filter(a -> a[0] == loc).collect(Collectors.toList());
+		}
+
+		@Override
+		public Collection<int[]> getPredecessorActions(final Integer loc) {
+			return Arrays.stream(mEdges).filter(a -> a[1] == loc).collect(Collectors.toList());
+		}
+
+		@Override
+		public Integer getSource(final int[] action) {
+			return action[0];
+		}
+
+		@Override
+		public Integer getTarget(final int[] action) {
+			return action[1];
+		}
+
+		@Override
+		public Collection<int[]> getSuccessors(final int[] action, final int[] scope) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Collection<int[]> getPredecessors(final int[] action, final int[] scope) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isErrorLocation(final Integer loc) {
+			return false;
+		}
+
+		@Override
+		public boolean isEnteringScope(final int[] action) {
+			return false;
+		}
+
+		@Override
+		public boolean isEnteringScope(final int[] action, final int[] scope) {
+			return false;
+		}
+
+		@Override
+		public boolean isLeavingScope(final int[] action, final int[] scope) {
+			return false;
+		}
+
+		@Override
+		public boolean isLeavingScope(final int[] action) {
+			return false;
+		}
+
+		@Override
+		public boolean isSummaryForCall(final int[] action, final int[] call) {
+			return false;
+		}
+
+		@Override
+		public boolean isSummaryWithImplementation(final int[] action) {
+			return false;
+		}
+
+		@Override
+		public int[] getSummaryForCall(final int[] call) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String getProcedureName(final int[] current) {
+			return "main";
+		}
+
+		@Override
+		public String toLogString(final int[] action) {
+			return action[0] + " -> " + action[1];
+		}
+	}
+}
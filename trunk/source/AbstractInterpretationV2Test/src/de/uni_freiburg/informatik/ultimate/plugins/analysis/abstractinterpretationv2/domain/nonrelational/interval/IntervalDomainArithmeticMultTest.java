@@ -30,6 +30,8 @@ package de.uni_freiburg.informatik.ultimate.plugins.analysis.abstractinterpretat
 
 import static org.junit.Assert.assertTrue;
 
+import java.math.BigDecimal;
+
 import org.junit.Test;
 
 /**
@@ -134,4 +136,25 @@ public class IntervalDomainArithmeticMultTest {
 		assertTrue(HelperFunctions.computeMultiplicationResult(interval1, interval3, expected2));
 		
 	}
+
+	@Test
+	public void testLongOverflowMult() {
+		final BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE);
+
+		// Interval [1, Long.MAX_VALUE]
+		final IntervalDomainValue interval1 =
+				new IntervalDomainValue(new IntervalValue(1), new IntervalValue(Long.MAX_VALUE));
+
+		// Interval [-4, 2]
+		final IntervalDomainValue interval2 = HelperFunctions.createInterval(-4, 2);
+
+		// Expected Interval [-4 * Long.MAX_VALUE, 2 * Long.MAX_VALUE]
+		final IntervalDomainValue expectedResult =
+				new IntervalDomainValue(new IntervalValue(max.multiply(BigDecimal.valueOf(-4))),
+						new IntervalValue(max.multiply(BigDecimal.valueOf(2))));
+
+		assertTrue(HelperFunctions.computeMultiplicationResult(interval1, interval2, expectedResult));
+		assertTrue(interval1.add(interval1).isAbstractionEqual(new IntervalDomainValue(new IntervalValue(2),
+				new IntervalValue(max.multiply(BigDecimal.valueOf(2))))));
+	}
 }
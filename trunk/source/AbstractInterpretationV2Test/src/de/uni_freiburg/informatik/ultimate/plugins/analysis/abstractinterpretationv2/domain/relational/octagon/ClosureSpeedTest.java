@@ -25,6 +25,7 @@ public class ClosureSpeedTest {
 		st.addFunction("fsparse", OctMatrix::shortestPathClosureFullSparse);
 		st.addFunction("sparse", OctMatrix::shortestPathClosureSparse);
 		st.addFunction("psparse", OctMatrix::shortestPathClosurePrimitiveSparse);
+		st.addFunction("lsparse", OctMatrix::shortestPathClosureLongSparse);
 		st.run();
 	}
 
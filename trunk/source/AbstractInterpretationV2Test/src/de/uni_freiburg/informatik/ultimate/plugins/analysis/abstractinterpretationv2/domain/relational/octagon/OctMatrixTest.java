@@ -147,6 +147,36 @@ public class OctMatrixTest {
 		}
 	}
 
+	@Test
+	public void testLongClosureByComparingRandom() {
+		for (int testcase = 0; testcase < 2000; ++testcase) {
+			final int variables = (int) (Math.random() * 10) + 1;
+			final OctMatrix m = OctMatrix.random(variables);
+			assertIsEqualTo(m.strongClosure(OctMatrix::shortestPathClosurePrimitiveSparse),
+					m.strongClosure(OctMatrix::shortestPathClosureLongSparse));
+			assertIsEqualTo(m.tightClosure(OctMatrix::shortestPathClosurePrimitiveSparse),
+					m.tightClosure(OctMatrix::shortestPathClosureLongSparse));
+		}
+	}
+
+	@Test
+	public void testLongClosureFallback() {
+		final OctMatrix reals = OctMatrix.parseBlockLowerTriangular(
+				  "  0 inf "
+				+ "inf   0 "
+				+ "0.5 inf   0 inf "
+				+ "inf 1.5 inf   0 ");
+		assertIsEqualTo(reals.strongClosure(OctMatrix::shortestPathClosurePrimitiveSparse),
+				reals.strongClosure(OctMatrix::shortestPathClosureLongSparse));
+		final OctMatrix overflow = OctMatrix.parseBlockLowerTriangular(
+				  "0 inf "
+				+ "inf 0 "
+				+ "9223372036854775000 inf 0 inf "
+				+ "inf inf 9223372036854775000 0 ");
+		assertIsEqualTo(overflow.strongClosure(OctMatrix::shortestPathClosurePrimitiveSparse),
+				overflow.strongClosure(OctMatrix::shortestPathClosureLongSparse));
+	}
+
 	// widening tests //////////////////////////////////////////////////////////////////////////////////////////////////
 
 	@Test
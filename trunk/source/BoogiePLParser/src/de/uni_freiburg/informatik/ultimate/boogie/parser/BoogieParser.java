@@ -30,6 +30,7 @@ package de.uni_freiburg.informatik.ultimate.boogie.parser;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -151,15 +152,17 @@ public class BoogieParser implements ISource {
 	 */
 	private Unit reflectiveParse(final String fileName) throws IOException {
 		final BoogieSymbolFactory symFactory = new BoogieSymbolFactory();
-		final Lexer lexer = new Lexer(new FileInputStream(fileName));
-		lexer.setSymbolFactory(symFactory);
-		final Parser parser = new Parser(lexer, symFactory, mServices);
-		parser.setFileName(fileName);
-		try {
-			return (Unit) parser.parse().value;
-		} catch (final Exception e) {
-			mLogger.fatal("syntax error: ", e);
-			throw new RuntimeException(e);
+		try (InputStream input = new FileInputStream(fileName)) {
+			final Lexer lexer = new Lexer(input);
+			lexer.setSymbolFactory(symFactory);
+			final Parser parser = new Parser(lexer, symFactory, mServices);
+			parser.setFileName(fileName);
+			try {
+				return (Unit) parser.parse().value;
+			} catch (final Exception e) {
+				mLogger.fatal("syntax error: ", e);
+				throw new RuntimeException(e);
+			}
 		}
 	}
 
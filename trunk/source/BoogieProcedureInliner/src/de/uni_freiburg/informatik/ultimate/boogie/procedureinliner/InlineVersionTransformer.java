@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -236,6 +237,13 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 	 */
 	private final Map<BoogieASTNode, BackTransValue> mBackTransMap = new HashMap<>();
 
+	/**
+	 * Mapping from the new generated expressions to their unprocessed origins, if expressions are shared between call
+	 * sites. A shared expression belongs to several call sites, hence its backtranslation must not contain a call
+	 * stack. Only used for backtranslation.
+	 */
+	private final Map<Expression, Expression> mSharedExprBackTransMap = new HashMap<>();
+
 	/**
 	 * Similar to a call stack on execution, this contains the currently processed procedures. The entry procedure is on
 	 * the bottom of the stack. Procedures of {@code call forall} statements aren't pushed onto the stack.
@@ -271,6 +279,17 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 	 */
 	private final Deque<UnaryExpression> mInlinedOldExprStack = new ArrayDeque<>();
 
+	/** Number of old() expressions, which were inlined so far. Used to detect expressions that cannot be shared. */
+	private int mInlinedOldExprCounter = 0;
+
+	/**
+	 * Mapping from original expressions of inlined procedures to their processed versions, which are reused when the
+	 * same procedure is inlined again. Variables of a procedure are mapped only once per entry procedure, hence the
+	 * processed version of an expression is the same for all call sites, unless it contains an inlined old()
+	 * expression. null, if sharing is disabled.
+	 */
+	private final Map<Expression, Expression> mSharedExpressions;
+
 	/**
 	 * Keeps track of global variables, which appeared inside inlined old() expressions.
 	 * <p>
@@ -311,12 +330,32 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 	 */
 	public InlineVersionTransformer(final IUltimateServiceProvider services,
 			final GlobalScopeManager globalScopeManager, final InlinerStatistic inlinerStatistic) {
+		this(services, globalScopeManager, inlinerStatistic, false);
+	}
+
+	/**
+	 * Creates a new InlineVersionTransformer.
+	 *
+	 * @param services
+	 *            Services
+	 * @param globalScopeManager
+	 *            GlobalScopeManager, has to be initialized already
+	 * @param inlinerStatistic
+	 *            Statistic, will be updated while inlining
+	 * @param shareExpressions
+	 *            Reuse the processed expressions of an inlined procedure for all its call sites instead of processing
+	 *            them again for every call.
+	 */
+	public InlineVersionTransformer(final IUltimateServiceProvider services,
+			final GlobalScopeManager globalScopeManager, final InlinerStatistic inlinerStatistic,
+			final boolean shareExpressions) {
 		mLogger = services.getLoggingService().getLogger(Activator.PLUGIN_ID);
 		mProgressMonitorService = services.getProgressMonitorService();
 		mGlobalScopeManager = globalScopeManager;
 		mInlinerStatistic = inlinerStatistic;
 		mVarMap = globalScopeManager.initVarMap();
 		globalScopeManager.initVarIdManager(mVarIdManager);
+		mSharedExpressions = shareExpressions ? new IdentityHashMap<>() : null;
 	}
 
 	/**
@@ -406,6 +445,15 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 		return Collections.unmodifiableMap(mBackTransMap);
 	}
 
+	/**
+	 * @return Read-only view of the backtranslation map of expressions that may be shared between call sites. Empty,
+	 *         if sharing is disabled.
+	 */
+	public Map<Expression, Expression> getSharedExpressionBacktranslationMap() {
+		checkInstanceUsed();
+		return Collections.unmodifiableMap(mSharedExprBackTransMap);
+	}
+
 	/** @return Read-only view of the variable map. */
 	public Map<VarMapKey, VarMapValue> getVariableMap() {
 		checkInstanceUsed();
@@ -436,6 +484,18 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 		mBackTransMap.put(inlinedNode, new BackTransValue(mEntryProcId, mCallStackStack.peek(), originalNode));
 	}
 
+	/**
+	 * Adds a backtranslation mapping for an expression. If expressions are shared, the mapping does not depend on the
+	 * call site, because the inlined expression may be reused at other call sites.
+	 */
+	private void addExpressionBacktranslation(final Expression inlinedExpr, final Expression originalExpr) {
+		if (mSharedExpressions == null) {
+			addBacktranslation(inlinedExpr, originalExpr);
+		} else {
+			mSharedExprBackTransMap.put(inlinedExpr, originalExpr);
+		}
+	}
+
 	/** @return Identifier of the currently processed procedure. */
 	private String currentProcId() {
 		return mProcedureStack.peek().getId();
@@ -1197,6 +1257,25 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 
 	@Override
 	protected Expression processExpression(final Expression expr) {
+		if (mSharedExpressions == null || inEntryProcedure() || inInlinedOldExpr()) {
+			return processExpressionUnshared(expr);
+		}
+		final Expression sharedExpr = mSharedExpressions.get(expr);
+		if (sharedExpr != null) {
+			// the backtranslation of the shared expression does not depend on the call site
+			mInlinerStatistic.incrementExpressionsShared();
+			return sharedExpr;
+		}
+		final int inlinedOldExprsBefore = mInlinedOldExprCounter;
+		final Expression newExpr = processExpressionUnshared(expr);
+		if (inlinedOldExprsBefore == mInlinedOldExprCounter) {
+			// inlined old() expressions have to be processed for every call, to save the old values of globals
+			mSharedExpressions.put(expr, newExpr);
+		}
+		return newExpr;
+	}
+
+	private Expression processExpressionUnshared(final Expression expr) {
 		Expression newExpr = null;
 		if (expr instanceof IdentifierExpression) {
 			final IdentifierExpression idExpr = (IdentifierExpression) expr;
@@ -1233,6 +1312,7 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 				&& ((UnaryExpression) expr).getOperator() == UnaryExpression.Operator.OLD && !inEntryProcedure()) {
 			final UnaryExpression unaryExpr = (UnaryExpression) expr;
 			mInlinedOldExprStack.push(unaryExpr);
+			++mInlinedOldExprCounter;
 			newExpr = processExpression(unaryExpr.getExpr());
 			mInlinedOldExprStack.pop();
 		}
@@ -1241,7 +1321,7 @@ public class InlineVersionTransformer extends BoogieCopyTransformer {
 		} else {
 			ModelUtils.copyAnnotations(expr, newExpr);
 		}
-		addBacktranslation(newExpr, expr);
+		addExpressionBacktranslation(newExpr, expr);
 		return newExpr;
 	}
 
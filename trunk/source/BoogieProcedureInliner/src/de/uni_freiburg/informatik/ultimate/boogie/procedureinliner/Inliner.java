@@ -125,12 +125,14 @@ public class Inliner implements IUnmanagedObserver {
 
 		final GlobalScopeManager globalMgr = new GlobalScopeManager(mNonProcedureDeclarations);
 		final InlinerStatistic inlinerStat = new InlinerStatistic(mCallGraph);
+		final boolean shareExpressions = mServices.getPreferenceProvider(Activator.PLUGIN_ID)
+				.getBoolean(PreferenceItem.SHARE_INLINED_EXPRESSIONS.getName());
 		for (final CallGraphNode proc : proceduresToBeProcessed()) {
 			if (proc.hasInlineFlags()) {
 				assert proc.isImplemented() : "Cannot inline procedure that is not implemented";
 
 				final InlineVersionTransformer transformer =
-						new InlineVersionTransformer(mServices, globalMgr, inlinerStat);
+						new InlineVersionTransformer(mServices, globalMgr, inlinerStat, shareExpressions);
 				mNewProceduresWithBody.put(proc.getId(), transformer.inlineCallsInside(proc));
 				mBacktranslator.addBacktranslation(transformer);
 			}
@@ -40,6 +40,7 @@ public class InlinerStatistic {
 	private final Map<String, CallGraphNode> mCallGraph;
 	private int mCallsInlined = 0;
 	private int mStatementsFlattened = 0;
+	private int mExpressionsShared = 0;
 
 	public InlinerStatistic (Map<String, CallGraphNode> callGraph) {
 		mCallGraph = callGraph;
@@ -58,6 +59,10 @@ public class InlinerStatistic {
 		++mCallsInlined;
 	}
 
+	public void incrementExpressionsShared() {
+		++mExpressionsShared;
+	}
+
 	public int numberOfProcedures() {
 		return mCallGraph.size();
 	}
@@ -89,6 +94,9 @@ public class InlinerStatistic {
 		s += ", calls flagged for inlining = " + numberOfCallGraphEdgesWithInlineFlag();
 		s += ", calls inlined = " + mCallsInlined;
 		s += ", statements flattened = " + mStatementsFlattened;
+		if (mExpressionsShared > 0) {
+			s += ", expressions shared = " + mExpressionsShared;
+		}
 		return s;
 	}
 }
@@ -76,6 +76,12 @@ public class InlinerBacktranslator
 	 */
 	private final Map<BoogieASTNode, BackTransValue> mBackTransMap = new HashMap<>();
 
+	/**
+	 * Mapping for expressions that are shared between call sites. They have no call stack, which is always taken from
+	 * the enclosing trace element.
+	 */
+	private final Map<Expression, Expression> mSharedExprBackTransMap = new HashMap<>();
+
 	private final ExpressionBacktranslation mExprBackTrans = new ExpressionBacktranslation();
 
 	/**
@@ -96,6 +102,7 @@ public class InlinerBacktranslator
 	 */
 	public void addBacktranslation(final InlineVersionTransformer transformer) {
 		mBackTransMap.putAll(transformer.getBacktranslationMap());
+		mSharedExprBackTransMap.putAll(transformer.getSharedExpressionBacktranslationMap());
 		mExprBackTrans.reverseAndAddMapping(transformer.getVariableMap());
 	}
 
@@ -183,10 +190,12 @@ public class InlinerBacktranslator
 					collectedRelevanceInfo = null;
 					final BackTransValue stepMapping = mBackTransMap.get(traceElem.getStep());
 					BoogieASTNode translatedStep;
-					if (stepMapping == null || stepMapping.getOriginalNode() == null) {
-						translatedStep = translatedTraceElem;
-					} else {
+					if (stepMapping != null && stepMapping.getOriginalNode() != null) {
 						translatedStep = stepMapping.getOriginalNode();
+					} else if (mSharedExprBackTransMap.containsKey(traceElem.getStep())) {
+						translatedStep = mSharedExprBackTransMap.get(traceElem.getStep());
+					} else {
+						translatedStep = translatedTraceElem;
 					}
 					translatedTrace.add(createAtomicTraceElement(traceElem, translatedTraceElem, translatedStep));
 				} else {
@@ -53,6 +53,11 @@ public enum PreferenceItem {
 	INLINE_IMPLEMENTED("Inline calls to implemented procedures", "When to inline calls to implemented procedures.",
 			EnableWhen.ALWAYS, PreferenceType.Combo, EnableWhen.values()),
 
+	SHARE_INLINED_EXPRESSIONS("Share expressions between inlined calls",
+			"Process the expressions of a procedure only once and reuse them for every inlined call of that procedure "
+					+ "(reduces inlining time and memory for procedures that are called often).",
+			Boolean.FALSE, PreferenceType.Boolean),
+
 	LABEL_IGNORE_CALLS("───  I g n o r e  ───"),
 
 	IGNORE_CALL_FORALL("Ignore calls with \'forall\' modifier",
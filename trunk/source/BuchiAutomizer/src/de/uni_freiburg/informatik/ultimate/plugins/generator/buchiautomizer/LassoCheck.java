@@ -53,6 +53,7 @@ import de.uni_freiburg.informatik.ultimate.lassoranker.ILassoRankerPreferences;
 import de.uni_freiburg.informatik.ultimate.lassoranker.LassoAnalysis;
 import de.uni_freiburg.informatik.ultimate.lassoranker.LassoAnalysis.AnalysisTechnique;
 import de.uni_freiburg.informatik.ultimate.lassoranker.LassoAnalysis.PreprocessingBenchmark;
+import de.uni_freiburg.informatik.ultimate.lassoranker.LassoAnalysisPortfolio;
 import de.uni_freiburg.informatik.ultimate.lassoranker.nontermination.DefaultNonTerminationAnalysisSettings;
 import de.uni_freiburg.informatik.ultimate.lassoranker.nontermination.FixpointCheck;
 import de.uni_freiburg.informatik.ultimate.lassoranker.nontermination.FixpointCheck.HasFixpoint;
@@ -151,6 +152,12 @@ public class LassoCheck<L extends IIcfgTransition<?>> {
 	 */
 	private final boolean mTemplateBenchmarkMode;
 
+	/**
+	 * Number of threads for the termination and nontermination analyses. If larger than one, all analyses run
+	 * concurrently and the first argument that is found is used.
+	 */
+	private final int mLassoAnalysisThreads;
+
 	// ////////////////////////////// input /////////////////////////////////
 	/**
 	 * Intermediate layer to encapsulate communication with SMT solvers.
@@ -229,6 +236,7 @@ public class LassoCheck<L extends IIcfgTransition<?>> {
 		mGntaDirections = baPref.getInt(BuchiAutomizerPreferenceInitializer.LABEL_GNTA_DIRECTIONS);
 
 		mTemplateBenchmarkMode = baPref.getBoolean(BuchiAutomizerPreferenceInitializer.LABEL_TEMPLATE_BENCHMARK_MODE);
+		mLassoAnalysisThreads = baPref.getInt(BuchiAutomizerPreferenceInitializer.LABEL_LASSO_ANALYSIS_THREADS);
 		mTrySimplificationTerminationArgument = baPref.getBoolean(BuchiAutomizerPreferenceInitializer.LABEL_SIMPLIFY);
 		mTryTwofoldRefinement = baPref.getBoolean(BuchiAutomizerPreferenceInitializer.LABEL_TRY_TWOFOLD_REFINEMENT);
 		mCsToolkit = csToolkit;
@@ -572,20 +580,13 @@ public class LassoCheck<L extends IIcfgTransition<?>> {
 		final boolean doNonterminationAnalysis =
 				(!AVOID_NONTERMINATION_CHECK_IF_ARRAYS_ARE_CONTAINED || !containsArrays);
 
+		if (mLassoAnalysisThreads > 1 && !mTemplateBenchmarkMode) {
+			return synthesizeConcurrently(withStem, stemTF, loopTF, doNonterminationAnalysis);
+		}
+
 		NonTerminationArgument nonTermArgument = null;
 		if (doNonterminationAnalysis) {
-			LassoAnalysis laNT = null;
-			try {
-				final boolean overapproximateArrayIndexConnection = false;
-				laNT = new LassoAnalysis(mCsToolkit, stemTF, loopTF, mModifiableGlobalsAtHonda, mSmtSymbols,
-						constructLassoRankerPreferences(withStem, overapproximateArrayIndexConnection,
-								NlaHandling.UNDERAPPROXIMATE, AnalysisTechnique.GEOMETRIC_NONTERMINATION_ARGUMENTS),
-						mServices, mSimplificationTechnique);
-				mPreprocessingBenchmarks.add(laNT.getPreprocessingBenchmark());
-			} catch (final TermException e) {
-				e.printStackTrace();
-				throw new AssertionError("TermException " + e);
-			}
+			final LassoAnalysis laNT = constructNonterminationLassoAnalysis(withStem, stemTF, loopTF);
 			try {
 				final NonTerminationAnalysisSettings settings = constructNTASettings();
 				nonTermArgument = laNT.checkNonTermination(settings);
@@ -606,19 +607,105 @@ public class LassoCheck<L extends IIcfgTransition<?>> {
 			}
 		}
 
-		LassoAnalysis laT = null;
+		final LassoAnalysis laT = constructTerminationLassoAnalysis(withStem, stemTF, loopTF);
+		final TerminationArgument termArg =
+				tryTemplatesAndComputePredicates(laT, constructRankingFunctionTemplates(), stemTF, loopTF);
+		assert nonTermArgument == null || termArg == null : " terminating and nonterminating";
+		if (termArg != null) {
+			mBspmResult = mBspm.computePredicates(termArg, mRemoveSuperfluousSupportingInvariants, stemTF, loopTF,
+					mModifiableGlobalsAtHonda);
+			return SynthesisResult.TERMINATING;
+		}
+		if (nonTermArgument != null) {
+			return SynthesisResult.NONTERMINATING;
+		}
+		return SynthesisResult.UNKNOWN;
+	}
+
+	/**
+	 * Variant of {@link #synthesize} that runs the nontermination analysis and all ranking function templates
+	 * concurrently (see {@link LassoAnalysisPortfolio}).
+	 */
+	private SynthesisResult synthesizeConcurrently(final boolean withStem, final UnmodifiableTransFormula stemTF,
+			final UnmodifiableTransFormula loopTF, final boolean doNonterminationAnalysis) throws IOException {
+		// the preprocessing uses the solver of the CfgSmtToolkit, hence it is done before the analyses start
+		final LassoAnalysis laNT =
+				doNonterminationAnalysis ? constructNonterminationLassoAnalysis(withStem, stemTF, loopTF) : null;
+		final LassoAnalysis laT = constructTerminationLassoAnalysis(withStem, stemTF, loopTF);
+
+		final LassoAnalysisPortfolio portfolio = new LassoAnalysisPortfolio(mServices, mLassoAnalysisThreads);
+		if (laNT != null) {
+			portfolio.addNonterminationAnalysis(laNT, constructNTASettings());
+		}
+		for (final RankingTemplate rft : constructRankingFunctionTemplates()) {
+			portfolio.addTemplate(laT, rft, constructTASettings());
+		}
+		final LassoAnalysisPortfolio.Result result;
+		try {
+			result = portfolio.run();
+		} catch (final SMTLIBException | TermException e) {
+			throw new ToolchainExceptionWrapper(Activator.PLUGIN_ID, e);
+		}
+		if (laNT != null) {
+			mNonterminationAnalysisBenchmarks.addAll(laNT.getNonterminationAnalysisBenchmarks());
+		}
+		mTerminationAnalysisBenchmarks.addAll(laT.getTerminationAnalysisBenchmarks());
+		if (!mServices.getProgressMonitorService().continueProcessing()) {
+			throw new ToolchainCanceledException(this.getClass(),
+					"applying concurrent lasso analysis, stem dagsize " + new DagSizePrinter(stemTF.getFormula())
+							+ ", loop dagsize " + new DagSizePrinter(loopTF.getFormula()));
+		}
+		if (result == null) {
+			return SynthesisResult.UNKNOWN;
+		}
+		final TerminationArgument termArg = result.getTerminationArgument();
+		if (termArg != null) {
+			mLogger.info("Termination proved with " + result.getTemplate().getName() + " template");
+			mBspmResult = mBspm.computePredicates(termArg, mRemoveSuperfluousSupportingInvariants, stemTF, loopTF,
+					mModifiableGlobalsAtHonda);
+			return SynthesisResult.TERMINATING;
+		}
+		if (withStem) {
+			mNonterminationArgument = result.getNonTerminationArgument();
+		}
+		return SynthesisResult.NONTERMINATING;
+	}
+
+	private LassoAnalysis constructNonterminationLassoAnalysis(final boolean withStem,
+			final UnmodifiableTransFormula stemTF, final UnmodifiableTransFormula loopTF) {
+		try {
+			final boolean overapproximateArrayIndexConnection = false;
+			final LassoAnalysis laNT = new LassoAnalysis(mCsToolkit, stemTF, loopTF, mModifiableGlobalsAtHonda,
+					mSmtSymbols,
+					constructLassoRankerPreferences(withStem, overapproximateArrayIndexConnection,
+							NlaHandling.UNDERAPPROXIMATE, AnalysisTechnique.GEOMETRIC_NONTERMINATION_ARGUMENTS),
+					mServices, mSimplificationTechnique);
+			mPreprocessingBenchmarks.add(laNT.getPreprocessingBenchmark());
+			return laNT;
+		} catch (final TermException e) {
+			e.printStackTrace();
+			throw new AssertionError("TermException " + e);
+		}
+	}
+
+	private LassoAnalysis constructTerminationLassoAnalysis(final boolean withStem,
+			final UnmodifiableTransFormula stemTF, final UnmodifiableTransFormula loopTF) {
 		try {
 			final boolean overapproximateArrayIndexConnection = true;
-			laT = new LassoAnalysis(mCsToolkit, stemTF, loopTF, mModifiableGlobalsAtHonda, mSmtSymbols,
+			final LassoAnalysis laT = new LassoAnalysis(mCsToolkit, stemTF, loopTF, mModifiableGlobalsAtHonda,
+					mSmtSymbols,
 					constructLassoRankerPreferences(withStem, overapproximateArrayIndexConnection,
 							NlaHandling.OVERAPPROXIMATE, AnalysisTechnique.RANKING_FUNCTIONS_SUPPORTING_INVARIANTS),
 					mServices, mSimplificationTechnique);
 			mPreprocessingBenchmarks.add(laT.getPreprocessingBenchmark());
+			return laT;
 		} catch (final TermException e) {
 			e.printStackTrace();
 			throw new AssertionError("TermException " + e);
 		}
+	}
 
+	private List<RankingTemplate> constructRankingFunctionTemplates() {
 		final List<RankingTemplate> rankingFunctionTemplates = new ArrayList<>();
 		rankingFunctionTemplates.add(new AffineTemplate());
 
@@ -656,19 +743,7 @@ public class LassoCheck<L extends IIcfgTransition<?>> {
 			rankingFunctionTemplates.add(new PiecewiseTemplate(4));
 		}
 		// }
-
-		final TerminationArgument termArg =
-				tryTemplatesAndComputePredicates(laT, rankingFunctionTemplates, stemTF, loopTF);
-		assert nonTermArgument == null || termArg == null : " terminating and nonterminating";
-		if (termArg != null) {
-			mBspmResult = mBspm.computePredicates(termArg, mRemoveSuperfluousSupportingInvariants, stemTF, loopTF,
-					mModifiableGlobalsAtHonda);
-			return SynthesisResult.TERMINATING;
-		}
-		if (nonTermArgument != null) {
-			return SynthesisResult.NONTERMINATING;
-		}
-		return SynthesisResult.UNKNOWN;
+		return rankingFunctionTemplates;
 	}
 
 	private TerminationArgument tryTemplatesAndComputePredicates(final LassoAnalysis la,
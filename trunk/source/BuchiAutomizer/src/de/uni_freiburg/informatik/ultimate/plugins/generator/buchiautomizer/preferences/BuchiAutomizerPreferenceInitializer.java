@@ -106,6 +106,11 @@ public class BuchiAutomizerPreferenceInitializer extends UltimatePreferenceIniti
 	public static final String LABEL_GNTA_DIRECTIONS = "Number of GNTA directions";
 	private static final int DEF_GNTA_DIRECTIONS = 3;
 	public static final String LABEL_TEMPLATE_BENCHMARK_MODE = "Template benchmark mode";
+	public static final String LABEL_LASSO_ANALYSIS_THREADS = "Number of threads for lasso analysis";
+	private static final int DEF_LASSO_ANALYSIS_THREADS = 1;
+	private static final String DESC_LASSO_ANALYSIS_THREADS = "If larger than 1, the ranking function templates and "
+			+ "the nontermination analysis are run concurrently, each with its own SMT solver. The first argument "
+			+ "that is found is used and the remaining analyses are canceled.";
 	public static final String LABEL_DUMP_SCRIPT_TO_FILE = "Dump SMT script to file";
 	public static final String LABEL_DUMP_SCRIPT_PATH = "To the following directory";
 	private static final String DEF_DUMP_SCRIPT_PATH = "";
@@ -183,6 +188,9 @@ public class BuchiAutomizerPreferenceInitializer extends UltimatePreferenceIniti
 						AnalysisType.values()),
 				new UltimatePreferenceItem<>(LABEL_GNTA_DIRECTIONS, DEF_GNTA_DIRECTIONS, PreferenceType.Integer),
 				new UltimatePreferenceItem<>(LABEL_TEMPLATE_BENCHMARK_MODE, false, PreferenceType.Boolean),
+				new UltimatePreferenceItem<>(LABEL_LASSO_ANALYSIS_THREADS, DEF_LASSO_ANALYSIS_THREADS,
+						DESC_LASSO_ANALYSIS_THREADS, PreferenceType.Integer,
+						new IUltimatePreferenceItemValidator.IntegerValidator(1, 64)),
 				new UltimatePreferenceItem<>(LABEL_DUMP_SCRIPT_TO_FILE, false, PreferenceType.Boolean),
 				new UltimatePreferenceItem<>(LABEL_DUMP_SCRIPT_PATH, DEF_DUMP_SCRIPT_PATH, PreferenceType.Directory),
 				new UltimatePreferenceItem<>(LABEL_CONSTRUCT_TERMCOMP_PROOF, false, PreferenceType.Boolean),
@@ -27,8 +27,10 @@
 package de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.base;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -92,6 +94,11 @@ public class DetermineNecessaryDeclarations extends ASTVisitor {
 	private final String mCheckedMethod;
 	private IASTTranslationUnit mTranslationUnit;
 	private final Set<String> mFunctions;
+	/**
+	 * The declarations of {@link #mFunctions}, i.e., of all functions that a function pointer may point to. Computed on
+	 * the first call via a function pointer.
+	 */
+	private List<IASTDeclaration> mFunctionPointerTargets;
 	private final CTranslationResultReporter mReporter;
 
 	public DetermineNecessaryDeclarations(final String checkedMethod, final CTranslationResultReporter reporter,
@@ -245,9 +252,16 @@ public class DetermineNecessaryDeclarations extends ASTVisitor {
 		} else {
 			// We add a dependency from the method/whatever the function pointer is used in to
 			// all methods that a function pointer may point to (from PreRunner's analysis)
-			for (final String fName : mFunctions) {
-				addDependency(mCurrentDeclarationStack.peek(),
-						getDeclarationFromFuncDefinitionOrFuncDeclarator(mFunctionTable.get(fName)));
+			if (mFunctionPointerTargets == null) {
+				mFunctionPointerTargets = new ArrayList<>(mFunctions.size());
+				for (final String fName : mFunctions) {
+					mFunctionPointerTargets
+							.add(getDeclarationFromFuncDefinitionOrFuncDeclarator(mFunctionTable.get(fName)));
+				}
+			}
+			final IASTDeclaration current = mCurrentDeclarationStack.peek();
+			for (final IASTDeclaration target : mFunctionPointerTargets) {
+				addDependency(current, target);
 			}
 
 		}
@@ -430,10 +444,9 @@ public class DetermineNecessaryDeclarations extends ASTVisitor {
 	}
 
 	private void addIfNecessaryPrelimInverseDependency(final IASTDeclaration declaration, final String declSpecName) {
-		for (final Entry<String, IASTDeclaration> entry : mDependencyGraphPreliminaryInverse.entrySet()) {
-			if (declSpecName.equals(entry.getKey())) {
-				addDependency(entry.getValue(), declaration);
-			}
+		final IASTDeclaration dependent = mDependencyGraphPreliminaryInverse.get(declSpecName);
+		if (dependent != null) {
+			addDependency(dependent, declaration);
 		}
 	}
 
@@ -576,12 +589,7 @@ public class DetermineNecessaryDeclarations extends ASTVisitor {
 		assert lhs != null;
 		assert rhs != null;
 
-		LinkedHashSet<IASTDeclaration> set = mDependencyGraph.get(lhs);
-		if (set == null) {
-			set = new LinkedHashSet<>();
-		}
-		set.add(rhs);
-		mDependencyGraph.put(lhs, set);
+		mDependencyGraph.computeIfAbsent(lhs, x -> new LinkedHashSet<>()).add(rhs);
 	}
 
 	String prettyPrintDependencyGraph() {
@@ -661,18 +669,21 @@ public class DetermineNecessaryDeclarations extends ASTVisitor {
 			entryPoints.addAll(mFunctionTable.keySet());
 		}
 
+		// each declaration is added to the reachable set when it is discovered and hence explored only once
 		final ArrayDeque<IASTDeclaration> openNodes = new ArrayDeque<>();
 		for (final String ep : entryPoints) {
-			openNodes.add(getDeclarationFromFuncDefinitionOrFuncDeclarator(mFunctionTable.get(ep)));
+			final IASTDeclaration entryNode = getDeclarationFromFuncDefinitionOrFuncDeclarator(mFunctionTable.get(ep));
+			if (mReachableDeclarations.add(entryNode)) {
+				openNodes.add(entryNode);
+			}
 		}
 
 		while (!openNodes.isEmpty()) {
 			final IASTDeclaration currentNode = openNodes.pollFirst();
-			mReachableDeclarations.add(currentNode);
 			final LinkedHashSet<IASTDeclaration> targets = mDependencyGraph.get(currentNode);
 			if (targets != null) {
 				for (final IASTDeclaration targetNode : targets) {
-					if (!mReachableDeclarations.contains(targetNode)) {
+					if (mReachableDeclarations.add(targetNode)) {
 						openNodes.add(targetNode);
 					}
 				}
@@ -27,6 +27,7 @@
 package de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.base;
 
 import java.util.LinkedHashMap;
+import java.util.Map.Entry;
 
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
@@ -92,4 +93,19 @@ public class FunctionTableBuilder extends ASTVisitor {
 	LinkedHashMap<String, IASTNode> getFunctionTable() {
 		return mFunctionTable;
 	}
+
+	/**
+	 * Add the functions that another builder collected from later translation units, as if this builder had visited
+	 * those units after its own: a definition replaces an earlier entry, a declaration is only added if there is no
+	 * entry for that name yet.
+	 */
+	void addAll(final FunctionTableBuilder other) {
+		for (final Entry<String, IASTNode> entry : other.mFunctionTable.entrySet()) {
+			if (entry.getValue() instanceof IASTFunctionDefinition) {
+				mFunctionTable.put(entry.getKey(), entry.getValue());
+			} else {
+				mFunctionTable.putIfAbsent(entry.getKey(), entry.getValue());
+			}
+		}
+	}
 }
@@ -26,12 +26,19 @@
  */
 package de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.base;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
@@ -61,6 +68,7 @@ import de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.except
 import de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.exception.UndeclaredFunctionException;
 import de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.exception.UnsupportedSyntaxException;
 import de.uni_freiburg.informatik.ultimate.cdt.translation.implementation.result.CHandlerTranslationResult;
+import de.uni_freiburg.informatik.ultimate.core.lib.exceptions.ToolchainCanceledException;
 import de.uni_freiburg.informatik.ultimate.core.lib.models.WrapperNode;
 import de.uni_freiburg.informatik.ultimate.core.lib.results.ExceptionOrErrorResult;
 import de.uni_freiburg.informatik.ultimate.core.lib.results.SyntaxErrorResult;
@@ -141,8 +149,23 @@ public class MainTranslator {
 		final CTranslationResultReporter reporter = new CTranslationResultReporter(mServices, mLogger);
 		final IPreferenceProvider ups = mServices.getPreferenceProvider(Activator.PLUGIN_ID);
 
-		TranslationSettings translationSettings = new TranslationSettings(ups);
+		final TranslationSettings translationSettings = new TranslationSettings(ups);
+		final int prerunThreads = Math.min(ups.getInt(CACSLPreferenceInitializer.LABEL_PRERUN_THREADS), nodes.size());
+		final ExecutorService prerunExecutor = prerunThreads > 1 ? Executors.newFixedThreadPool(prerunThreads) : null;
+		try {
+			return translateWithRestarts(nodes, witness, mst, reporter, ups, translationSettings, prerunExecutor);
+		} finally {
+			if (prerunExecutor != null) {
+				prerunExecutor.shutdownNow();
+			}
+		}
+	}
 
+	private BoogieASTNode translateWithRestarts(final List<DecoratedUnit> nodes,
+			final IExtractedCorrectnessWitness witness, final MultiparseSymbolTable mst,
+			final CTranslationResultReporter reporter, final IPreferenceProvider ups,
+			final TranslationSettings initialSettings, final ExecutorService prerunExecutor) {
+		TranslationSettings translationSettings = initialSettings;
 		while (true) {
 
 			// TODO: Line Directive mapping doesn't work with multiple TUs right now
@@ -163,14 +186,18 @@ public class MainTranslator {
 			// final ExplorativeVisitor evv = executePreRun(new ExplorativeVisitor(mLogger), nodes);
 
 			// Build the function table
-			final Map<String, IASTNode> functionTable =
-					executePreRun(new FunctionTableBuilder(flatSymbolTable), nodes).getFunctionTable();
+			final List<FunctionTableBuilder> functionTableBuilders =
+					executePreRunPerUnit(() -> new FunctionTableBuilder(flatSymbolTable), nodes, prerunExecutor);
+			final FunctionTableBuilder functionTableBuilder = functionTableBuilders.get(0);
+			functionTableBuilders.stream().skip(1).forEach(functionTableBuilder::addAll);
+			final Map<String, IASTNode> functionTable = functionTableBuilder.getFunctionTable();
 
-			final Set<String> functionPointers =
-					executePreRun(new FunctionPointerVisitor(flatSymbolTable, functionTable), nodes).getResult();
+			final Set<String> functionPointers = new LinkedHashSet<>();
+			executePreRunPerUnit(() -> new FunctionPointerVisitor(flatSymbolTable, functionTable), nodes,
+					prerunExecutor).forEach(a -> functionPointers.addAll(a.getResult()));
 
 			final Set<IASTDeclaration> reachableDeclarations = initReachableDeclarations(nodes, functionTable,
-					functionPointers, translationSettings.getEntryMethod());
+					functionPointers, translationSettings.getEntryMethod(), prerunExecutor);
 
 			mLogger.info("Built tables and reachable declarations");
 			final StaticObjectsHandler prerunStaticObjectsHandler = new StaticObjectsHandler(mLogger);
@@ -257,7 +284,8 @@ public class MainTranslator {
 	}
 
 	private Set<IASTDeclaration> initReachableDeclarations(final List<DecoratedUnit> nodes,
-			final Map<String, IASTNode> functionTable, final Set<String> functions, final String checkedMethod) {
+			final Map<String, IASTNode> functionTable, final Set<String> functions, final String checkedMethod,
+			final ExecutorService prerunExecutor) {
 		if (!DETERMINIZE_NECESSARY_DECLARATIONS) {
 			return null;
 		}
@@ -283,10 +311,11 @@ public class MainTranslator {
 				}
 			}
 		}
-		for (final DecoratedUnit du : nodes) {
-			final DetermineNecessaryDeclarations dnd = new DetermineNecessaryDeclarations(checkedMethod,
-					new CTranslationResultReporter(mServices, mLogger), functionTable, functions);
-			du.getRootNode().getCNode().accept(dnd);
+		final List<DetermineNecessaryDeclarations> dnds = executePreRunPerUnit(
+				() -> new DetermineNecessaryDeclarations(checkedMethod,
+						new CTranslationResultReporter(mServices, mLogger), functionTable, functions),
+				nodes, prerunExecutor);
+		for (final DetermineNecessaryDeclarations dnd : dnds) {
 			final Set<IASTDeclaration> decl = dnd.getReachableDeclarationsOrDeclarators();
 			for (final IASTDeclaration d : decl) {
 				if (!d.isPartOfTranslationUnitFile()) {
@@ -316,6 +345,49 @@ public class MainTranslator {
 		return preRun;
 	}
 
+	/**
+	 * Visit each translation unit with a new visitor. If an executor is given, the units are visited in parallel.
+	 * Each unit is only visited by one thread, hence visitors must not share mutable state.
+	 *
+	 * @return the visitors in the order of the given units
+	 */
+	private static <T extends ASTVisitor> List<T> executePreRunPerUnit(final Supplier<T> preRun,
+			final List<DecoratedUnit> units, final ExecutorService executor) {
+		final List<T> rtr = new ArrayList<>(units.size());
+		if (executor == null) {
+			for (final DecoratedUnit unit : units) {
+				rtr.add(executePreRun(preRun.get(), List.of(unit)));
+			}
+			return rtr;
+		}
+		final List<Future<T>> futures = new ArrayList<>(units.size());
+		for (final DecoratedUnit unit : units) {
+			futures.add(executor.submit(() -> executePreRun(preRun.get(), List.of(unit))));
+		}
+		for (final Future<T> future : futures) {
+			rtr.add(getResult(future));
+		}
+		return rtr;
+	}
+
+	private static <T> T getResult(final Future<T> future) {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ToolchainCanceledException(MainTranslator.class, "Interrupted during pre-run");
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new AssertionError(cause);
+		}
+	}
+
 	private void commonDoTranslationExceptionHandling(final IResult result) {
 		mServices.getResultService().reportResult(Activator.PLUGIN_ID, result);
 		mLogger.error(result.getShortDescription() + ": " + result.getLongDescription());
@@ -141,6 +141,12 @@ public class CACSLPreferenceInitializer extends UltimatePreferenceInitializer {
 			"Allow the calls of functions without a definition. In that case they are modeled fully non-deterministically.";
 	private static final boolean DEFAULT_ALLOW_UNDEFINED_FUNCTIONS = true;
 
+	public static final String LABEL_PRERUN_THREADS = "Number of threads for the pre-runs of multi-file programs";
+	private static final String DESC_PRERUN_THREADS = "The pre-runs that collect the functions of the program and the "
+			+ "functions that are used as function pointers visit each translation unit separately. If this is larger "
+			+ "than 1, they visit the translation units of multi-file programs in parallel.";
+	private static final int DEFAULT_PRERUN_THREADS = 1;
+
 	public enum CheckMode {
 		IGNORE, ASSUME, ASSERTandASSUME
 	}
@@ -325,7 +331,9 @@ public class CACSLPreferenceInitializer extends UltimatePreferenceInitializer {
 						DEFAULT_STRING_OVERAPPROXIMATION_THRESHOLD, DESC_STRING_OVERAPPROXIMATION_THRESHOLD,
 						PreferenceType.Integer),
 				new UltimatePreferenceItem<>(LABEL_ALLOW_UNDEFINED_FUNCTIONS, DEFAULT_ALLOW_UNDEFINED_FUNCTIONS,
-						DESC_ALLOW_UNDEFINED_FUNCTIONS, PreferenceType.Boolean), };
+						DESC_ALLOW_UNDEFINED_FUNCTIONS, PreferenceType.Boolean),
+				new UltimatePreferenceItem<>(LABEL_PRERUN_THREADS, DEFAULT_PRERUN_THREADS, DESC_PRERUN_THREADS,
+						PreferenceType.Integer), };
 
 	}
 }
@@ -34,6 +34,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,6 +47,7 @@ import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.IPDOMManager;
 import org.eclipse.cdt.core.dom.ast.IASTNode;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.gnu.c.GCCLanguage;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvider;
 import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvidersKeeper;
@@ -55,10 +57,15 @@ import org.eclipse.cdt.core.model.CoreModel;
 import org.eclipse.cdt.core.model.ICContainer;
 import org.eclipse.cdt.core.model.ICElement;
 import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.core.model.ILanguage;
 import org.eclipse.cdt.core.model.IPathEntry;
 import org.eclipse.cdt.core.model.ISourceEntry;
 import org.eclipse.cdt.core.model.ISourceRoot;
 import org.eclipse.cdt.core.model.ITranslationUnit;
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.NullLogService;
 import org.eclipse.cdt.core.parser.util.ASTPrinter;
 import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.cdt.core.settings.model.ICLanguageSettingEntry;
@@ -84,9 +91,11 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.content.IContentTypeSettings;
 import org.eclipse.core.runtime.jobs.Job;
@@ -127,6 +136,11 @@ public class CDTParser implements ISource {
 	 * translation, a special 'flag' directory is included in the path to mark the end of the non-relevant path entries.
 	 */
 	private final String mCdtPProjectHierachyFlag;
+	/**
+	 * The part of the path of each parsed file that is removed during normalization: the source folder of the CDT
+	 * project or, when parsing without a workspace, the directory that contains all parsed files.
+	 */
+	private String mSourceRoot;
 
 	private static final IProgressMonitor NULL_MONITOR = new NullProgressMonitor();
 	private final String[] mFileTypes;
@@ -138,6 +152,7 @@ public class CDTParser implements ISource {
 	public CDTParser() {
 		mFileTypes = new String[] { ".c", ".i", ".h", ".inl" };
 		mCdtPProjectHierachyFlag = "FLAG" + UUID.randomUUID().toString().substring(0, 10).replace("-", "");
+		mSourceRoot = mCdtPProjectHierachyFlag + File.separator + "src" + File.separator;
 	}
 
 	@Override
@@ -172,10 +187,16 @@ public class CDTParser implements ISource {
 
 	@Override
 	public IElement parseAST(final File[] files) throws Exception {
-		final Collection<IASTTranslationUnit> tuCollection = computeASTsFromFilesViaCdt(files);
+		final Collection<IASTTranslationUnit> tuCollection;
+		if (mServices.getPreferenceProvider(Activator.PLUGIN_ID)
+				.getBoolean(PreferenceInitializer.LABEL_PARSE_WITHOUT_WORKSPACE)) {
+			tuCollection = computeASTsFromFilesWithoutWorkspace(files);
+		} else {
+			tuCollection = computeASTsFromFilesViaCdt(files);
+		}
 
 		final MultiparseSymbolTable mps =
-				new MultiparseSymbolTable(mLogger, mCdtPProjectHierachyFlag, files.length == 1);
+				new MultiparseSymbolTable(mLogger, mSourceRoot, files.length == 1);
 		for (final IASTTranslationUnit tu : tuCollection) {
 			mLogger.info("Scanning " + normalizeCdtFilename(tu.getFilePath()));
 			dumpAST(tu, ASTPrinter::print, "all AST nodes");
@@ -217,28 +238,49 @@ public class CDTParser implements ISource {
 	}
 
 	/**
-	 * Normalizes a CDT project file name to the part just after the source folder (/src/<...>)
+	 * Normalizes a CDT file name to the part just after the source root, i.e., after the source folder of the CDT
+	 * project (FLAG-.../src/<...>) or after the directory that contains all files parsed without a workspace.
 	 *
-	 * @param prefix
-	 *            The current project prefix
+	 * @param sourceRoot
+	 *            The current source root, including a trailing separator
 	 * @param in
 	 *            the CDT file name
 	 * @return the normalized file name
 	 */
-	public static String normalizeCdtFilename(final String prefix, final String in) {
-		// Let's just assume that this string (FLAG-.../src/) is unique in the path...
-		final String lookingFor = prefix + File.separator + "src" + File.separator;
-		final int posInInput = in.indexOf(lookingFor);
+	public static String normalizeCdtFilename(final String sourceRoot, final String in) {
+		// Let's just assume that the source root is unique in the path...
+		final int posInInput = in.indexOf(sourceRoot);
 		if (posInInput < 0) {
 			// The name is already normalized
 			return in;
 		}
 
-		return in.substring(posInInput + lookingFor.length());
+		return in.substring(posInInput + sourceRoot.length());
 	}
 
 	private String normalizeCdtFilename(final String filename) {
-		return normalizeCdtFilename(mCdtPProjectHierachyFlag, filename);
+		return normalizeCdtFilename(mSourceRoot, filename);
+	}
+
+	/**
+	 * @return the deepest directory that contains all given files and directories, including a trailing separator, or
+	 *         the empty string if there is none
+	 */
+	static String getCommonDirectory(final List<File> files, final List<String> directories) {
+		final List<java.nio.file.Path> paths = new ArrayList<>();
+		files.forEach(a -> paths.add(a.toPath().getParent()));
+		directories.forEach(a -> paths.add(new File(a).toPath()));
+		java.nio.file.Path root = paths.get(0);
+		for (final java.nio.file.Path path : paths) {
+			while (root != null && !path.startsWith(root)) {
+				root = root.getParent();
+			}
+		}
+		if (root == null) {
+			return "";
+		}
+		final String rtr = root.toString();
+		return rtr.endsWith(File.separator) ? rtr : rtr + File.separator;
 	}
 
 	private ASTDecorator decorateTranslationUnits(final MultiparseSymbolTable mst,
@@ -385,6 +427,73 @@ public class CDTParser implements ISource {
 		return listTu;
 	}
 
+	/**
+	 * Parse the given files without a CDT project. As in {@link #createCompleteCdtProject(File[])}, the parseable files
+	 * in the include paths are parsed as translation units, too. Includes are resolved against the include paths.
+	 */
+	private Collection<IASTTranslationUnit> computeASTsFromFilesWithoutWorkspace(final File[] files)
+			throws CoreException {
+		final List<File> sourceFiles = new ArrayList<>();
+		for (final File file : files) {
+			sourceFiles.add(file.getAbsoluteFile().toPath().normalize().toFile());
+		}
+		final List<String> includePaths = new ArrayList<>();
+		final String includes =
+				mServices.getPreferenceProvider(Activator.PLUGIN_ID).getString(PreferenceInitializer.INCLUDE_PATHS);
+		for (final String includePath : includes.split(";")) {
+			if (!new File(includePath).isDirectory()) {
+				continue;
+			}
+			mLogger.info("Adding includes from " + includePath);
+			final File includeDir = new File(includePath).getAbsoluteFile().toPath().normalize().toFile();
+			includePaths.add(includeDir.getPath());
+			for (final File f : includeDir.listFiles()) {
+				if (f.isFile() && parseable(f)) {
+					sourceFiles.add(f);
+				}
+			}
+		}
+
+		// the workspace encoding is also used for the files linked into the CDT project
+		final CachingFileContentProvider contentProvider = CachingFileContentProvider.createWithSharedCache(
+				Charset.forName(ResourcesPlugin.getEncoding()), includePaths,
+				GccStaticLanguageSettingsProvider.getMacroDefinitions());
+		final List<IASTTranslationUnit> tuList = parseWithoutWorkspace(sourceFiles, includePaths, contentProvider);
+		mLogger.info("Found " + tuList.size() + " translation units.");
+		// as in the CDT project, file names are relative to the source root s.t. they do not depend on the machine
+		mSourceRoot = getCommonDirectory(sourceFiles, includePaths);
+		return tuList;
+	}
+
+	/**
+	 * Run the GNU C parser of CDT directly on each of the given files. Macros are defined as in
+	 * {@link GccStaticLanguageSettingsProvider}. Nothing is included into the translation units except what their
+	 * include directives ask for.
+	 *
+	 * @param includePaths
+	 *            directories that are searched for included files
+	 * @param contentProvider
+	 *            provides the contents of the translation units and of the included files; share it between all
+	 *            translation units of one run such that files included by several of them are read only once
+	 */
+	static List<IASTTranslationUnit> parseWithoutWorkspace(final List<File> sourceFiles,
+			final List<String> includePaths, final CachingFileContentProvider contentProvider) throws CoreException {
+		final IScannerInfo scannerInfo =
+				new ExtendedScannerInfo(GccStaticLanguageSettingsProvider.getMacroDefinitions(),
+						includePaths.toArray(new String[includePaths.size()]));
+		final List<IASTTranslationUnit> tuList = new ArrayList<>();
+		for (final File file : sourceFiles) {
+			final FileContent content = contentProvider.getContentForTranslationUnit(file.getAbsolutePath());
+			if (content == null) {
+				throw new CoreException(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "Cannot read " + file));
+			}
+			final int options = file.getName().endsWith(".h") ? 0 : ILanguage.OPTION_IS_SOURCE_UNIT;
+			tuList.add(GCCLanguage.getDefault().getASTTranslationUnit(content, scannerInfo, contentProvider, null,
+					options, new NullLogService()));
+		}
+		return tuList;
+	}
+
 	@Override
 	public String[] getFileTypes() {
 		return mFileTypes;
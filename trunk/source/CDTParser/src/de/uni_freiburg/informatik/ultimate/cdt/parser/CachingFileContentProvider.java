@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE CDTParser plug-in.
+ *
+ * The ULTIMATE CDTParser plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE CDTParser plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE CDTParser plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE CDTParser plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE CDTParser plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.cdt.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.internal.core.parser.IMacroDictionary;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
+
+/**
+ * An include file content provider that does not need a workspace and that reads each file only once. Use one instance
+ * for all translation units of one parser run, such that headers that are included by several translation units are
+ * read and decoded only once. Instances created by {@link #createWithSharedCache(Charset, List, Map)} additionally
+ * share the file contents with earlier parser runs, e.g., with the other tasks of a batch of single-file programs.
+ *
+ * A cached content is used as long as the modification time and the length of the file do not change.
+ */
+public class CachingFileContentProvider extends InternalFileContentProvider {
+
+	private static final int MAX_CACHED_FILES = 10000;
+	private static final int MAX_SHARED_CACHES = 8;
+
+	/**
+	 * File contents shared between parser runs by charset, include paths and macro definitions. Access only while
+	 * holding its lock.
+	 */
+	private static final Map<List<Object>, Map<String, CachedContent>> SHARED_CACHES =
+			new LinkedHashMap<>(16, 0.75F, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Entry<List<Object>, Map<String, CachedContent>> eldest) {
+					return size() > MAX_SHARED_CACHES;
+				}
+			};
+
+	private final Charset mCharset;
+	/**
+	 * Access only while holding its lock, because it may be shared with parser runs in other threads.
+	 */
+	private final Map<String, CachedContent> mContentCache;
+
+	/**
+	 * @param charset
+	 *            the encoding of all files
+	 */
+	public CachingFileContentProvider(final Charset charset) {
+		this(charset, createContentCache());
+	}
+
+	private CachingFileContentProvider(final Charset charset, final Map<String, CachedContent> contentCache) {
+		mCharset = charset;
+		mContentCache = contentCache;
+	}
+
+	/**
+	 * Create a provider for one parser run that shares its file contents with all providers that were created by this
+	 * method for the same charset, include paths and macro definitions. At most {@value #MAX_SHARED_CACHES} such
+	 * configurations with at most {@value #MAX_CACHED_FILES} files each are kept.
+	 *
+	 * @param charset
+	 *            the encoding of all files
+	 * @param includePaths
+	 *            the directories that are searched for included files
+	 * @param macroDefinitions
+	 *            the predefined macros of the parser run
+	 */
+	public static CachingFileContentProvider createWithSharedCache(final Charset charset,
+			final List<String> includePaths, final Map<String, String> macroDefinitions) {
+		final List<Object> key = List.of(charset.name(), List.copyOf(includePaths), new TreeMap<>(macroDefinitions));
+		synchronized (SHARED_CACHES) {
+			return new CachingFileContentProvider(charset,
+					SHARED_CACHES.computeIfAbsent(key, a -> createContentCache()));
+		}
+	}
+
+	private static Map<String, CachedContent> createContentCache() {
+		return new LinkedHashMap<>(16, 0.75F, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Entry<String, CachedContent> eldest) {
+				return size() > MAX_CACHED_FILES;
+			}
+		};
+	}
+
+	@Override
+	public InternalFileContent getContentForInclusion(final IIndexFileLocation ifl, final String astPath) {
+		return (InternalFileContent) FileContent.create(ifl);
+	}
+
+	@Override
+	public InternalFileContent getContentForInclusion(final String path, final IMacroDictionary macroDictionary) {
+		if (!getInclusionExists(path)) {
+			return null;
+		}
+		return getContent(path);
+	}
+
+	/**
+	 * @return the content of the given file for use as translation unit or null if it cannot be read
+	 */
+	public FileContent getContentForTranslationUnit(final String path) {
+		return getContent(path);
+	}
+
+	/**
+	 * @return the number of files whose contents are cached
+	 */
+	public int getNumberOfCachedFiles() {
+		synchronized (mContentCache) {
+			return mContentCache.size();
+		}
+	}
+
+	private InternalFileContent getContent(final String path) {
+		final File file = new File(path);
+		final long lastModified = file.lastModified();
+		final long length = file.length();
+		CachedContent cached;
+		synchronized (mContentCache) {
+			cached = mContentCache.get(path);
+		}
+		if (cached == null || cached.mLastModified != lastModified || cached.mLength != length) {
+			final char[] contents;
+			try {
+				contents = new String(Files.readAllBytes(file.toPath()), mCharset).toCharArray();
+			} catch (final IOException e) {
+				return null;
+			}
+			cached = new CachedContent(contents, lastModified, length);
+			synchronized (mContentCache) {
+				mContentCache.put(path, cached);
+			}
+		}
+		// CDT keeps parser state in the content object, so we create a fresh one for each use
+		return (InternalFileContent) FileContent.create(path, cached.mContents);
+	}
+
+	private static final class CachedContent {
+		private final char[] mContents;
+		private final long mLastModified;
+		private final long mLength;
+
+		private CachedContent(final char[] contents, final long lastModified, final long length) {
+			mContents = contents;
+			mLastModified = lastModified;
+			mLength = length;
+		}
+	}
+}
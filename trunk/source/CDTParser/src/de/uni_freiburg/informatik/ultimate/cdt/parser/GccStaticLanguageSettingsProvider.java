@@ -27,7 +27,9 @@
 package de.uni_freiburg.informatik.ultimate.cdt.parser;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvider;
 import org.eclipse.cdt.core.language.settings.providers.LanguageSettingsStorage;
@@ -279,6 +281,18 @@ public class GccStaticLanguageSettingsProvider implements ILanguageSettingsProvi
 		return GccStaticLanguageSettingsProvider.class.getSimpleName();
 	}
 
+	/**
+	 * @return The macro definitions of this provider as map from macro name (including parameters) to macro body, e.g.,
+	 *         for use in an {@link org.eclipse.cdt.core.parser.IScannerInfo} when parsing without a CDT project.
+	 */
+	public static Map<String, String> getMacroDefinitions() {
+		final Map<String, String> rtr = new LinkedHashMap<>();
+		for (final ICLanguageSettingEntry entry : new GccStaticLanguageSettingsProvider().mSettings) {
+			rtr.put(entry.getName(), entry.getValue());
+		}
+		return rtr;
+	}
+
 	private static ICLanguageSettingEntry createEntry(final String name, final String value) {
 		return new CMacroEntry(name, value, ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
 	}
@@ -28,8 +28,8 @@ package de.uni_freiburg.informatik.ultimate.cdt.parser;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,7 +55,8 @@ public class IncludeSorter {
 	private final MultiparseSymbolTable mSymTab;
 
 	/**
-	 * A map resolving normalized file names to translation units.
+	 * A map resolving normalized file names to translation units. Iterates in the order of the given units s.t. the
+	 * result does not depend on hash codes of file names.
 	 */
 	private final Map<String, IASTTranslationUnit> mResolver;
 
@@ -78,7 +79,7 @@ public class IncludeSorter {
 			final MultiparseSymbolTable symTab) {
 		mLogger = logger;
 		mSymTab = symTab;
-		mResolver = new HashMap<>();
+		mResolver = new LinkedHashMap<>();
 		for (final IASTTranslationUnit unit : units) {
 			mResolver.put(symTab.normalizeCDTFilename(unit.getFilePath()), unit);
 		}
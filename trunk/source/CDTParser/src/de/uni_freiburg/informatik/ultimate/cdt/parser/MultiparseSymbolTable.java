@@ -79,7 +79,7 @@ public class MultiparseSymbolTable extends ASTVisitor {
 	 * A mapping File Name -> List<File Name> which maps the files to the lists of files they include
 	 */
 	private final Map<String, List<String>> mIncludeMapping;
-	private final String mCdtPProjectHierachyFlag;
+	private final String mSourceRoot;
 	private final boolean mCreateFilebasedPrefixes;
 
 	/**
@@ -87,14 +87,14 @@ public class MultiparseSymbolTable extends ASTVisitor {
 	 *
 	 * @param logger
 	 *            a logger
-	 * @param cdtPProjectHierachyFlag
-	 *            A string representing the base path of the C project that is parsed
+	 * @param sourceRoot
+	 *            The base path of the C files that are parsed, i.e., the source folder of the CDT project or the
+	 *            directory that contains all files parsed without a workspace
 	 * @param fileBasedPrefixes
 	 *            true iff more than one translation unit is present and therefore variables should be prefixed
 	 */
-	public MultiparseSymbolTable(final ILogger logger, final String cdtPProjectHierachyFlag,
-			final boolean fileBasedPrefixes) {
-		mCdtPProjectHierachyFlag = cdtPProjectHierachyFlag;
+	public MultiparseSymbolTable(final ILogger logger, final String sourceRoot, final boolean fileBasedPrefixes) {
+		mSourceRoot = sourceRoot;
 		shouldVisitDeclarations = true;
 		shouldVisitTranslationUnit = true;
 		mLogger = logger;
@@ -280,6 +280,6 @@ public class MultiparseSymbolTable extends ASTVisitor {
 	}
 
 	public String normalizeCDTFilename(final String filePath) {
-		return CDTParser.normalizeCdtFilename(mCdtPProjectHierachyFlag, filePath);
+		return CDTParser.normalizeCdtFilename(mSourceRoot, filePath);
 	}
 }
@@ -39,9 +39,17 @@ public class PreferenceInitializer extends UltimatePreferenceInitializer {
 
 	@Override
 	protected UltimatePreferenceItem<?>[] initDefaultPreferences() {
-		return new UltimatePreferenceItem<?>[] { new UltimatePreferenceItem<>(INCLUDE_PATHS, "", PreferenceType.Path) };
+		return new UltimatePreferenceItem<?>[] { new UltimatePreferenceItem<>(INCLUDE_PATHS, "", PreferenceType.Path),
+				new UltimatePreferenceItem<>(LABEL_PARSE_WITHOUT_WORKSPACE, DEF_PARSE_WITHOUT_WORKSPACE,
+						DESC_PARSE_WITHOUT_WORKSPACE, PreferenceType.Boolean) };
 	}
 
 	public static final String INCLUDE_PATHS = "Please specify include paths that will be parsed with the given C-File";
 
+	public static final String LABEL_PARSE_WITHOUT_WORKSPACE = "Parse without CDT project";
+	private static final boolean DEF_PARSE_WITHOUT_WORKSPACE = false;
+	private static final String DESC_PARSE_WITHOUT_WORKSPACE =
+			"Run the GNU C parser of CDT directly on the input files instead of creating a temporary CDT project in the "
+					+ "workspace. Files that are included by several translation units are read only once.";
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE CDTParser plug-in.
+ *
+ * The ULTIMATE CDTParser plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE CDTParser plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE CDTParser plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE CDTParser plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE CDTParser plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.cdt.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
+import org.eclipse.cdt.core.dom.ast.IASTSimpleDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+/**
+ * Tests {@link CDTParser#parseWithoutWorkspace(List, List, CachingFileContentProvider)}.
+ */
+public class ParseWithoutWorkspaceTest {
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	@Test
+	public void sharedHeaderIsIncludedIntoEachTranslationUnit() throws Exception {
+		final File include = mFolder.newFolder("include");
+		final File src = mFolder.newFolder("src");
+		final File header = write(new File(include, "shared.h"), "#define LIMIT 10", "int shared(int x);");
+		// other files in the include path must not be included into the translation units
+		write(new File(include, "helper.c"), "int helper(void) { return 0; }");
+		final File first = write(new File(src, "first.c"), "#include \"shared.h\"",
+				"int first(void) { return shared(LIMIT); }");
+		final File second = write(new File(src, "second.c"), "#include <shared.h>",
+				"int second(void) { return shared(LIMIT + 1); }");
+
+		final CachingFileContentProvider contentProvider = new CachingFileContentProvider(StandardCharsets.UTF_8);
+		final List<IASTTranslationUnit> tus = CDTParser.parseWithoutWorkspace(Arrays.asList(first, second),
+				Collections.singletonList(include.getAbsolutePath()), contentProvider);
+
+		assertEquals(2, tus.size());
+		assertDeclarations(tus.get(0), header, "shared", "first");
+		assertDeclarations(tus.get(1), header, "shared", "second");
+		// the two translation units and the header, but not helper.c
+		assertEquals(3, contentProvider.getNumberOfCachedFiles());
+	}
+
+	@Test
+	public void modifiedHeaderIsReadAgain() throws Exception {
+		final File include = mFolder.newFolder("include");
+		final File header = write(new File(include, "shared.h"), "int shared(int x);");
+		final File source = write(new File(mFolder.getRoot(), "main.c"), "#include \"shared.h\"");
+
+		final CachingFileContentProvider contentProvider = new CachingFileContentProvider(StandardCharsets.UTF_8);
+		final List<String> includePaths = Collections.singletonList(include.getAbsolutePath());
+		assertDeclarations(CDTParser.parseWithoutWorkspace(Collections.singletonList(source), includePaths,
+				contentProvider).get(0), header, "shared");
+
+		final long lastModified = header.lastModified();
+		write(header, "int changed(int x);");
+		assertTrue(header.setLastModified(lastModified + 2000));
+		assertDeclarations(CDTParser.parseWithoutWorkspace(Collections.singletonList(source), includePaths,
+				contentProvider).get(0), header, "changed");
+	}
+
+	@Test
+	public void sharedCacheIsReusedByLaterRuns() throws Exception {
+		final File include = mFolder.newFolder("include");
+		final File header = write(new File(include, "shared.h"), "int shared(int x);");
+		final File source = write(new File(mFolder.getRoot(), "main.c"), "#include \"shared.h\"");
+		final List<String> includePaths = Collections.singletonList(include.getAbsolutePath());
+		final Map<String, String> macros = GccStaticLanguageSettingsProvider.getMacroDefinitions();
+
+		final CachingFileContentProvider first =
+				CachingFileContentProvider.createWithSharedCache(StandardCharsets.UTF_8, includePaths, macros);
+		assertDeclarations(CDTParser.parseWithoutWorkspace(Collections.singletonList(source), includePaths, first)
+				.get(0), header, "shared");
+
+		// a later run with the same configuration starts with the contents of the earlier one
+		final CachingFileContentProvider second =
+				CachingFileContentProvider.createWithSharedCache(StandardCharsets.UTF_8, includePaths, macros);
+		assertEquals(2, second.getNumberOfCachedFiles());
+		assertDeclarations(CDTParser.parseWithoutWorkspace(Collections.singletonList(source), includePaths, second)
+				.get(0), header, "shared");
+
+		// other include paths or macros use another cache
+		assertEquals(0, CachingFileContentProvider
+				.createWithSharedCache(StandardCharsets.UTF_8, Collections.emptyList(), macros)
+				.getNumberOfCachedFiles());
+		assertEquals(0, CachingFileContentProvider
+				.createWithSharedCache(StandardCharsets.UTF_8, includePaths, Collections.emptyMap())
+				.getNumberOfCachedFiles());
+	}
+
+	@Test
+	public void prefixesDoNotContainTheInputRoot() throws Exception {
+		final File include = mFolder.newFolder("include");
+		final File src = mFolder.newFolder("src");
+		write(new File(include, "shared.h"), "int shared(int x);");
+		final File first = write(new File(src, "first.c"), "#include \"shared.h\"", "static int value;",
+				"int first(void) { return shared(value); }");
+		final File second = write(new File(src, "second.c"), "static int value;");
+
+		final List<File> sourceFiles = Arrays.asList(first, second);
+		final List<String> includePaths = Collections.singletonList(include.getAbsolutePath());
+		final String sourceRoot = CDTParser.getCommonDirectory(sourceFiles, includePaths);
+		assertEquals(mFolder.getRoot().getAbsolutePath() + File.separator, sourceRoot);
+
+		final MultiparseSymbolTable symTab = new MultiparseSymbolTable(UltimateMocks
+				.createUltimateServiceProviderMock().getLoggingService().getLogger(getClass()), sourceRoot, false);
+		for (final IASTTranslationUnit tu : CDTParser.parseWithoutWorkspace(sourceFiles, includePaths,
+				new CachingFileContentProvider(StandardCharsets.UTF_8))) {
+			tu.accept(symTab);
+		}
+
+		// the names only depend on the paths relative to the input root, as in a CDT project
+		assertEquals("__U_MULTI_fsrc_first_c__value", symTab.getNameMappingIfExists(first.getAbsolutePath(), "value"));
+		assertEquals("__U_MULTI_fsrc_second_c__value",
+				symTab.getNameMappingIfExists(second.getAbsolutePath(), "value"));
+		assertEquals(Collections.singletonList("include" + File.separator + "shared.h"),
+				symTab.getIncludesFor("src" + File.separator + "first.c"));
+	}
+
+	private static void assertDeclarations(final IASTTranslationUnit tu, final File header,
+			final String... expectedNames) {
+		assertEquals(0, tu.getPreprocessorProblems().length);
+		final IASTPreprocessorIncludeStatement[] includes = tu.getIncludeDirectives();
+		assertEquals(1, includes.length);
+		assertTrue(includes[0].isResolved());
+		assertEquals(header.getAbsolutePath(), includes[0].getPath());
+
+		final List<String> names = new ArrayList<>();
+		for (final IASTDeclaration decl : tu.getDeclarations()) {
+			if (decl instanceof IASTFunctionDefinition) {
+				names.add(((IASTFunctionDefinition) decl).getDeclarator().getName().toString());
+			} else if (decl instanceof IASTSimpleDeclaration) {
+				for (final IASTDeclarator declarator : ((IASTSimpleDeclaration) decl).getDeclarators()) {
+					names.add(declarator.getName().toString());
+				}
+			}
+		}
+		assertEquals(Arrays.asList(expectedNames), names);
+	}
+
+	private static File write(final File file, final String... lines) throws IOException {
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+		return file;
+	}
+}
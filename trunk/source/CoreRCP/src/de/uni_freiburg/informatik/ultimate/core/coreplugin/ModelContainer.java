@@ -69,7 +69,7 @@ public class ModelContainer implements Serializable {
 		return mGraphType.toString();
 	}
 
-	protected ModelType getType() {
+	public ModelType getType() {
 		return mGraphType;
 	}
 }
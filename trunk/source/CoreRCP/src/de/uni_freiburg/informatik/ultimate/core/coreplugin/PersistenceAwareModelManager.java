@@ -39,7 +39,6 @@ import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.GraphNotFo
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.PersistentObjectNotFoundException;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.PersistentObjectTypeMismatchException;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.StoreObjectException;
-import de.uni_freiburg.informatik.ultimate.core.coreplugin.modelrepository.IRepository;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.modelrepository.SerializationRepository;
 import de.uni_freiburg.informatik.ultimate.core.model.models.IElement;
 import de.uni_freiburg.informatik.ultimate.core.model.models.ILocation;
@@ -64,22 +63,34 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 public class PersistenceAwareModelManager implements IModelManager {
 
 	private final LinkedHashMap<ModelType, ModelContainer> mModelMap;
-	private final IRepository<String, ModelContainer> mRepository;
+	private final SerializationRepository mRepository;
 	private final ILogger mLogger;
 	private ModelType mLastAdded;
 
 	public PersistenceAwareModelManager(final File repositoryRoot, final ILogger logger) {
+		this(repositoryRoot, false, logger);
+	}
+
+	/**
+	 * @param compress
+	 *            true iff persisted models are compressed
+	 */
+	public PersistenceAwareModelManager(final File repositoryRoot, final boolean compress, final ILogger logger) {
 		assert logger != null;
 		mModelMap = new LinkedHashMap<>();
 		mLogger = logger;
 		mLogger.info("Repository-Root is: " + repositoryRoot.getAbsolutePath());
-		mRepository = new SerializationRepository(repositoryRoot, mLogger);
+		mRepository = new SerializationRepository(repositoryRoot, compress, mLogger);
 	}
 
 	public PersistenceAwareModelManager(final String tmpDir, final ILogger logger) {
 		this(new File(tmpDir), logger);
 	}
 
+	public PersistenceAwareModelManager(final String tmpDir, final boolean compress, final ILogger logger) {
+		this(new File(tmpDir), compress, logger);
+	}
+
 	/**
 	 * String createFileNameFromNode
 	 *
@@ -249,9 +260,9 @@ public class PersistenceAwareModelManager implements IModelManager {
 				return t;
 			}
 		}
-		if (mRepository.listKeys().contains(s)) {
+		if (mRepository.contains(s)) {
 			try {
-				return mRepository.get(s).getType();
+				return mRepository.getType(s);
 			} catch (final DataAccessException e) {
 				mLogger.error("Problems deserializing persistent model: ", e);
 			}
@@ -279,7 +290,7 @@ public class PersistenceAwareModelManager implements IModelManager {
 		for (final String keyFromRepos : mRepository.listKeys()) {
 			if (keyFromRepos.contains(id)) {
 				try {
-					final ModelType graphType = mRepository.get(keyFromRepos).getType();
+					final ModelType graphType = mRepository.getType(keyFromRepos);
 					if (graphType.getCreator().equals(id)) {
 						return graphType;
 					}
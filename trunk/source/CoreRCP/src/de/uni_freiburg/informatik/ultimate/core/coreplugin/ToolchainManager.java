@@ -27,6 +27,10 @@
 package de.uni_freiburg.informatik.ultimate.core.coreplugin;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -69,6 +73,7 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceP
 import de.uni_freiburg.informatik.ultimate.core.preferences.RcpPreferenceProvider;
 import de.uni_freiburg.informatik.ultimate.util.VMUtils;
 import de.uni_freiburg.informatik.ultimate.util.statistics.Benchmark;
+import de.uni_freiburg.informatik.ultimate.util.statistics.EventTracer;
 
 /**
  *
@@ -135,9 +140,9 @@ public class ToolchainManager {
 	}
 
 	private IModelManager createModelManager() {
-		return new PersistenceAwareModelManager(
-				new RcpPreferenceProvider(Activator.PLUGIN_ID).getString(CorePreferenceInitializer.LABEL_TMP_DIRECTORY),
-				mLogger);
+		final RcpPreferenceProvider prefs = new RcpPreferenceProvider(Activator.PLUGIN_ID);
+		return new PersistenceAwareModelManager(prefs.getString(CorePreferenceInitializer.LABEL_TMP_DIRECTORY),
+				prefs.getBoolean(CorePreferenceInitializer.LABEL_COMPRESS_MODELS), mLogger);
 	}
 
 	/*************************** ToolchainContainer Implementation ****************************/
@@ -297,6 +302,7 @@ public class ToolchainManager {
 		@Override
 		public ReturnCode processToolchain(final IToolchainProgressMonitor monitor) throws Throwable {
 			mLogger.info("####################### " + getLogPrefix() + " #######################");
+			final long traceStart = System.nanoTime();
 			final RcpPreferenceProvider ups = new RcpPreferenceProvider(Activator.PLUGIN_ID);
 			final boolean useBenchmark = ups.getBoolean(CorePreferenceInitializer.LABEL_BENCHMARK);
 			IUltimateServiceProvider currentToolchainServices = mToolchainData.getServices();
@@ -353,12 +359,29 @@ public class ToolchainManager {
 							p -> !(p instanceof StatisticsResult<?>));
 				}
 				ResultUtil.logResults(controllerLogger, results, appendCompleteLongDescription);
+				EventTracer.record("Toolchain", "Toolchain", traceStart, System.nanoTime());
+				writeEventTrace(currentToolchainServices, traceStart);
+				EventTracer.removeTerminatedThreads();
 				mCurrentController.displayToolchainResults(this, resultService.getResults());
 				mModelManager.removeAll();
 				mToolchainWalker.endToolchain();
 			}
 		}
 
+		private void writeEventTrace(final IUltimateServiceProvider services, final long traceStart) {
+			final String filename = CorePreferenceInitializer.getPreferenceProvider(services)
+					.getString(CorePreferenceInitializer.LABEL_EVENT_TRACE_FILE);
+			if (filename == null || filename.isEmpty()) {
+				return;
+			}
+			try (Writer writer = Files.newBufferedWriter(Paths.get(filename))) {
+				EventTracer.writeChromeTrace(writer, traceStart);
+				mLogger.info(getLogPrefix() + ": Written event trace to " + filename);
+			} catch (final IOException e) {
+				mLogger.error(getLogPrefix() + ": Could not write event trace to " + filename + ": " + e.getMessage());
+			}
+		}
+
 		@Override
 		public void addAST(final IElement root, final ModelType outputDefinition) {
 			if (mModelManager.addItem(root, outputDefinition)) {
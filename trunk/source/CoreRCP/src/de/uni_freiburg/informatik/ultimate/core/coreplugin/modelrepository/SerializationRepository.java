@@ -33,6 +33,12 @@
  */
 package de.uni_freiburg.informatik.ultimate.core.coreplugin.modelrepository;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -41,9 +47,16 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.ModelContainer;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.DuplicateKeyException;
@@ -51,18 +64,41 @@ import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.InvalidKey
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.PersistentObjectNotFoundException;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.PersistentObjectTypeMismatchException;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.StoreObjectException;
+import de.uni_freiburg.informatik.ultimate.core.model.models.ModelType;
 import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 
 /**
  * SerializationRepository
+ * <p>
+ * Each model is stored in its own file. A file starts with a magic number, the version of the file format and flags
+ * that state whether the model is compressed. They are followed by a header that contains the {@link ModelType} of the
+ * model and by the {@link ModelContainer}, which is compressed with Deflate if the repository was constructed with
+ * compression. Compression makes files smaller, but costs time on every read and write. The header can be read without
+ * reading the model (see {@link #getType(String)}). Files of version 1, which have no flags and are always compressed,
+ * are still read. Files of other format versions are rejected.
  *
  * @author Björn Buchhold
  *
  */
 public class SerializationRepository implements IRepository<String, ModelContainer> {
 
+	private static final String FILE_EXTENSION = ".ser";
+	private static final String TMP_FILE_EXTENSION = ".tmp";
+	/**
+	 * "UMDL"
+	 */
+	private static final int MAGIC_NUMBER = 0x554D444C;
+	private static final int FORMAT_VERSION = 2;
+	/**
+	 * Format version whose files have no flags and are always compressed.
+	 */
+	private static final int FORMAT_VERSION_COMPRESSED = 1;
+	private static final int FLAG_COMPRESSED = 1;
+	private static final int BUFFER_SIZE = 1 << 16;
+
 	private final File mFileSystemDirectory;
 	private final ILogger mLogger;
+	private final boolean mCompress;
 
 	/**
 	 * Constructor for {@link SerializationRepository}. Constructs a repository that uses {@link Serializable} to
@@ -73,8 +109,18 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	 *            persisted objects
 	 */
 	public SerializationRepository(final File fileSystemDirectory, final ILogger logger) {
+		this(fileSystemDirectory, false, logger);
+	}
+
+	/**
+	 * @param compress
+	 *            true iff models are compressed before they are written. Stored models can be read regardless of this
+	 *            setting.
+	 */
+	public SerializationRepository(final File fileSystemDirectory, final boolean compress, final ILogger logger) {
 		assert logger != null;
 		mFileSystemDirectory = fileSystemDirectory;
+		mCompress = compress;
 		mLogger = logger;
 	}
 
@@ -86,13 +132,15 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	@Override
 	public ModelContainer get(final String key)
 			throws PersistentObjectNotFoundException, PersistentObjectTypeMismatchException {
-		if (listKeys().contains(key)) {
+		if (contains(key)) {
 			try {
 				mLogger.debug("deserializing model");
 				final Object obj = deserialize(key);
 				return (ModelContainer) obj;
 			} catch (final FileNotFoundException e) {
 				throw new PersistentObjectNotFoundException(e);
+			} catch (final StreamCorruptedException e) {
+				throw new PersistentObjectTypeMismatchException(e.getMessage(), e);
 			} catch (final IOException e) {
 				throw new PersistentObjectNotFoundException(e);
 			} catch (final ClassNotFoundException e) {
@@ -104,6 +152,28 @@ public class SerializationRepository implements IRepository<String, ModelContain
 		throw new PersistentObjectNotFoundException("No object found using the key: " + key);
 	}
 
+	/**
+	 * Read only the header of a stored model.
+	 *
+	 * @return The {@link ModelType} of the model stored under the given key.
+	 */
+	public ModelType getType(final String key)
+			throws PersistentObjectNotFoundException, PersistentObjectTypeMismatchException {
+		if (!contains(key)) {
+			throw new PersistentObjectNotFoundException("No object found using the key: " + key);
+		}
+		try (DataInputStream input = openFile(key)) {
+			readPreamble(input, key);
+			return (ModelType) readHeader(input);
+		} catch (final StreamCorruptedException e) {
+			throw new PersistentObjectTypeMismatchException(e.getMessage(), e);
+		} catch (final IOException e) {
+			throw new PersistentObjectNotFoundException(e);
+		} catch (final ClassNotFoundException e) {
+			throw new PersistentObjectTypeMismatchException("Could not read the model type", e);
+		}
+	}
+
 	/**
 	 * ModelContainer deserialize
 	 *
@@ -115,11 +185,62 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	 * @throws FileNotFoundException
 	 */
 	private Object deserialize(final String key) throws FileNotFoundException, IOException, ClassNotFoundException {
+		try (DataInputStream input = openFile(key)) {
+			final boolean compressed = readPreamble(input, key);
+			// skip the header
+			input.readFully(new byte[input.readInt()]);
+			if (!compressed) {
+				return new ObjectInputStream(input).readObject();
+			}
+			final Inflater inflater = new Inflater();
+			try {
+				final ObjectInputStream stream =
+						new ObjectInputStream(new InflaterInputStream(input, inflater, BUFFER_SIZE));
+				return stream.readObject();
+			} finally {
+				inflater.end();
+			}
+		}
+	}
 
-		final ObjectInputStream stream = new ObjectInputStream(new FileInputStream(keyToFile(key)));
-		final Object rtr = stream.readObject();
-		stream.close();
-		return rtr;
+	private DataInputStream openFile(final String key) throws IOException {
+		return new DataInputStream(new BufferedInputStream(new FileInputStream(keyToFile(key)), BUFFER_SIZE));
+	}
+
+	/**
+	 * Read the magic number, the format version and the flags of a stored model.
+	 *
+	 * @return true iff the model is compressed
+	 */
+	private boolean readPreamble(final DataInputStream input, final String key) throws IOException {
+		if (input.readInt() != MAGIC_NUMBER) {
+			throw new StreamCorruptedException(keyToFile(key) + " is not a stored model");
+		}
+		final int version = input.readInt();
+		if (version == FORMAT_VERSION_COMPRESSED) {
+			return true;
+		}
+		if (version != FORMAT_VERSION) {
+			throw new StreamCorruptedException(keyToFile(key) + " has format version " + version + ", but version "
+					+ FORMAT_VERSION + " is required");
+		}
+		return (input.readInt() & FLAG_COMPRESSED) != 0;
+	}
+
+	private static Object readHeader(final DataInputStream input) throws IOException, ClassNotFoundException {
+		final byte[] header = new byte[input.readInt()];
+		input.readFully(header);
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(header))) {
+			return stream.readObject();
+		}
+	}
+
+	/**
+	 * @return true iff a model is stored under the given key. Note that {@link #listKeys()} returns keys in which
+	 *         characters that are illegal in file names are replaced.
+	 */
+	public boolean contains(final String key) {
+		return keyToFile(key).isFile();
 	}
 
 	@Override
@@ -132,9 +253,9 @@ public class SerializationRepository implements IRepository<String, ModelContain
 		final List<String> keys = new LinkedList<>();
 		for (final String fileName : mFileSystemDirectory.list()) {
 			final File file = new File(fileName);
-			if (file.getName().endsWith(".ser")) {
+			if (file.getName().endsWith(FILE_EXTENSION)) {
 				// only keep the name. Throw away path and extension
-				keys.add(file.getName().substring(0, file.getName().length() - 4));
+				keys.add(file.getName().substring(0, file.getName().length() - FILE_EXTENSION.length()));
 			}
 		}
 		return keys;
@@ -142,9 +263,9 @@ public class SerializationRepository implements IRepository<String, ModelContain
 
 	@Override
 	public boolean remove(final String key) {
-		final File toBeDeleted = new File(mFileSystemDirectory + "/" + key + ".ser");
+		final File toBeDeleted = keyToFile(key);
 		final boolean success = toBeDeleted.delete();
-		if (!success && listKeys().contains(key)) {
+		if (!success && contains(key)) {
 			mLogger.warn("Could not delete " + toBeDeleted.getPath() + " from the file system!");
 			return false;
 		}
@@ -163,7 +284,7 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	@Override
 	public void add(final String key, final ModelContainer transientInstance)
 			throws DuplicateKeyException, StoreObjectException {
-		if (listKeys().contains(key)) {
+		if (contains(key)) {
 			throw new DuplicateKeyException("The key: " + key + " is already in use. If you want to "
 					+ "replace the stored object, use method addOrReplace instead!");
 		}
@@ -185,6 +306,9 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	/**
 	 * void serializie
 	 *
+	 * The model is first written to a temporary file that replaces the old file afterwards, such that a failed
+	 * serialization does not leave a truncated model in the repository.
+	 *
 	 * @param key
 	 * @param transientInstance
 	 * @throws IOException
@@ -192,12 +316,48 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	 */
 	private void serializie(final String key, final ModelContainer transientInstance)
 			throws FileNotFoundException, IOException {
-		final ObjectOutputStream stream = new ObjectOutputStream(new FileOutputStream(keyToFile(key)));
-		stream.writeObject(transientInstance);
-		stream.close();
+		final File file = keyToFile(key);
+		final File tmpFile = new File(file.getPath() + TMP_FILE_EXTENSION);
+		final Deflater deflater = mCompress ? new Deflater(Deflater.BEST_SPEED) : null;
+		try (DataOutputStream output =
+				new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile), BUFFER_SIZE))) {
+			output.writeInt(MAGIC_NUMBER);
+			output.writeInt(FORMAT_VERSION);
+			output.writeInt(mCompress ? FLAG_COMPRESSED : 0);
+			final byte[] header = toBytes(transientInstance.getType());
+			output.writeInt(header.length);
+			output.write(header);
+			if (deflater == null) {
+				final ObjectOutputStream stream = new ObjectOutputStream(output);
+				stream.writeObject(transientInstance);
+				stream.flush();
+			} else {
+				final DeflaterOutputStream body = new DeflaterOutputStream(output, deflater, BUFFER_SIZE);
+				final ObjectOutputStream stream = new ObjectOutputStream(body);
+				stream.writeObject(transientInstance);
+				stream.flush();
+				body.finish();
+			}
+		} catch (final IOException e) {
+			Files.deleteIfExists(tmpFile.toPath());
+			throw e;
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+		Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
 		mLogger.debug("serialized model");
 	}
 
+	private static byte[] toBytes(final Serializable obj) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(obj);
+		}
+		return bytes.toByteArray();
+	}
+
 	/**
 	 * String keyToFile
 	 *
@@ -206,7 +366,7 @@ public class SerializationRepository implements IRepository<String, ModelContain
 	 * @return File to store model represented by key.
 	 */
 	private File keyToFile(final String key) {
-		return new File(mFileSystemDirectory + File.separator + sanitize(key) + ".ser");
+		return new File(mFileSystemDirectory + File.separator + sanitize(key) + FILE_EXTENSION);
 	}
 
 	/**
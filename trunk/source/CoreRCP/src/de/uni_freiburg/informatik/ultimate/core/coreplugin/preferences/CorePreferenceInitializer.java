@@ -145,6 +145,11 @@ public class CorePreferenceInitializer extends RcpPreferenceInitializer {
 	public static final String LABEL_TMP_DIRECTORY = "Repository directory";
 	public static final String VALUE_TMP_DIRECTORY;
 
+	public static final String LABEL_COMPRESS_MODELS = "Compress models in the repository";
+	public static final boolean VALUE_COMPRESS_MODELS = false;
+	private static final String DESC_COMPRESS_MODELS = "Compress models with Deflate before they are written to the "
+			+ "repository directory. This saves disk space, but costs time on every write and read.";
+
 	public static final String LABEL_ROOT_PREF = "Root log level";
 	public static final String LABEL_TOOLS_PREF = "Log level for external tools";
 	public static final String LABEL_CORE_PREF = "Log level for core plugin";
@@ -191,6 +196,12 @@ public class CorePreferenceInitializer extends RcpPreferenceInitializer {
 	public static final String LABEL_PRINT_STATISTICS_RESULTS = "Print statistic results";
 	private static final boolean VALUE_PRINT_STATISTICS_RESULTS = true;
 	private static final String DESC_PRINT_STATISTICS_RESULTS = "Print results of type StatisticsResult";
+	public static final String LABEL_EVENT_TRACE_FILE = "Write event trace to file";
+	private static final String VALUE_EVENT_TRACE_FILE = "";
+	private static final String DESC_EVENT_TRACE_FILE =
+			"If not empty, write a timeline of the toolchain (CEGAR iterations, trace checks, Hoare triple checks, "
+					+ "SMT solver calls) in the Chrome trace event format to this file. Open it with chrome://tracing "
+					+ "or https://ui.perfetto.dev";
 
 	static {
 		final String tmpDir = System.getProperty("java.io.tmpdir");
@@ -242,6 +253,8 @@ public class CorePreferenceInitializer extends RcpPreferenceInitializer {
 				new UltimatePreferenceItem<>(LABEL_LONG_RESULT, VALUE_LONG_RESULT_DEFAULT, PreferenceType.Boolean),
 				new UltimatePreferenceItem<>(LABEL_PRINT_STATISTICS_RESULTS, VALUE_PRINT_STATISTICS_RESULTS,
 						DESC_PRINT_STATISTICS_RESULTS, PreferenceType.Boolean),
+				new UltimatePreferenceItem<>(LABEL_EVENT_TRACE_FILE, VALUE_EVENT_TRACE_FILE, DESC_EVENT_TRACE_FILE,
+						PreferenceType.String),
 
 				// Log files
 				new UltimatePreferenceItemGroup("Logfile", DESC_LOGFILE,
@@ -253,6 +266,8 @@ public class CorePreferenceInitializer extends RcpPreferenceInitializer {
 				// ModelManager
 				new UltimatePreferenceItem<>(LABEL_DROP_MODELS, VALUE_DROP_MODELS, PreferenceType.Boolean),
 				new UltimatePreferenceItem<>(LABEL_TMP_DIRECTORY, VALUE_TMP_DIRECTORY, PreferenceType.Directory),
+				new UltimatePreferenceItem<>(LABEL_COMPRESS_MODELS, VALUE_COMPRESS_MODELS, DESC_COMPRESS_MODELS,
+						PreferenceType.Boolean),
 
 				new UltimatePreferenceItem<>(LABEL_LOG4J_PATTERN, VALUE_LOG4J_PATTERN, PreferenceType.String),
 				new UltimatePreferenceItem<>(LABEL_LOG4J_CONTROLLER_PATTERN, VALUE_LOG4J_CONTROLLER_PATTERN,
@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE Core.
+ *
+ * The ULTIMATE Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE Core. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE Core, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE Core grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.core.coreplugin.modelrepository;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.ModelContainer;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.PersistentObjectNotFoundException;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.PersistentObjectTypeMismatchException;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.StoreObjectException;
+import de.uni_freiburg.informatik.ultimate.core.lib.models.ObjectContainer;
+import de.uni_freiburg.informatik.ultimate.core.model.models.IElement;
+import de.uni_freiburg.informatik.ultimate.core.model.models.ModelType;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger.LogLevel;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+/**
+ * Tests the file format of the {@link SerializationRepository}.
+ */
+public class SerializationRepositoryTest {
+
+	private static final String KEY = "model";
+	private static final int MAGIC_NUMBER = 0x554D444C;
+	private static final int FORMAT_VERSION = 2;
+	/**
+	 * First bytes of a Java serialization stream.
+	 */
+	private static final short STREAM_MAGIC = (short) 0xACED;
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	private File mDirectory;
+	private SerializationRepository mRepository;
+
+	@Before
+	public void setUp() {
+		mDirectory = mFolder.getRoot();
+		mRepository = createRepository(false);
+	}
+
+	@Test
+	public void roundTrip() throws Exception {
+		final TestModelContainer model = createModel(new ObjectContainer<>("root"));
+		mRepository.add(KEY, model);
+
+		Assert.assertEquals(Collections.singletonList(KEY), mRepository.listKeys());
+		final TestModelContainer stored = (TestModelContainer) mRepository.get(KEY);
+		Assert.assertEquals(model.getType(), stored.getType());
+		Assert.assertEquals(model.getName(), stored.getName());
+		Assert.assertEquals("root", ((ObjectContainer<?>) stored.getRoot()).getValue());
+		Assert.assertEquals(model.getType(), mRepository.getType(KEY));
+	}
+
+	@Test
+	public void modelsAreOnlyCompressedIfRequested() throws Exception {
+		final TestModelContainer model = createModel(new ObjectContainer<>("root"));
+		mRepository.add(KEY, model);
+		Assert.assertEquals(STREAM_MAGIC, readBodyStart(KEY));
+
+		final SerializationRepository compressing = createRepository(true);
+		compressing.add("compressed", model);
+		Assert.assertNotEquals(STREAM_MAGIC, readBodyStart("compressed"));
+
+		// both repositories read both files
+		for (final SerializationRepository repository : Arrays.asList(mRepository, compressing)) {
+			for (final String key : Arrays.asList(KEY, "compressed")) {
+				Assert.assertEquals(model.getType(), repository.getType(key));
+				Assert.assertEquals("root",
+						((ObjectContainer<?>) ((TestModelContainer) repository.get(key)).getRoot()).getValue());
+			}
+		}
+	}
+
+	@Test
+	public void filesOfVersionOneAreRead() throws Exception {
+		final TestModelContainer model = createModel(new ObjectContainer<>("root"));
+		createRepository(true).add(KEY, model);
+
+		// version 1 has no flags and is always compressed
+		final File file = getFile(KEY);
+		final byte[] bytes = Files.readAllBytes(file.toPath());
+		try (DataOutputStream output = new DataOutputStream(new FileOutputStream(file))) {
+			output.writeInt(MAGIC_NUMBER);
+			output.writeInt(1);
+			output.write(bytes, 3 * Integer.BYTES, bytes.length - 3 * Integer.BYTES);
+		}
+
+		Assert.assertEquals(model.getType(), mRepository.getType(KEY));
+		Assert.assertEquals("root", ((ObjectContainer<?>) ((TestModelContainer) mRepository.get(KEY)).getRoot())
+				.getValue());
+	}
+
+	@Test
+	public void getTypeReadsOnlyTheHeader() throws Exception {
+		final TestModelContainer model = createModel(new ObjectContainer<>("root"));
+		mRepository.add(KEY, model);
+
+		// cut off the model after the header
+		final File file = getFile(KEY);
+		final int headerLength;
+		try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+			input.readInt();
+			input.readInt();
+			input.readInt();
+			headerLength = input.readInt();
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			Assert.assertTrue(raf.length() > 4 * Integer.BYTES + headerLength);
+			raf.setLength(4 * Integer.BYTES + headerLength);
+		}
+
+		Assert.assertEquals(model.getType(), mRepository.getType(KEY));
+		Assert.assertThrows(PersistentObjectNotFoundException.class, () -> mRepository.get(KEY));
+	}
+
+	@Test
+	public void wrongMagicNumberIsRejected() throws IOException {
+		writeHeader(KEY, 0xCAFEBABE, FORMAT_VERSION);
+		Assert.assertThrows(PersistentObjectTypeMismatchException.class, () -> mRepository.getType(KEY));
+		Assert.assertThrows(PersistentObjectTypeMismatchException.class, () -> mRepository.get(KEY));
+	}
+
+	@Test
+	public void wrongVersionIsRejected() throws IOException {
+		writeHeader(KEY, MAGIC_NUMBER, FORMAT_VERSION + 1);
+		Assert.assertThrows(PersistentObjectTypeMismatchException.class, () -> mRepository.getType(KEY));
+		Assert.assertThrows(PersistentObjectTypeMismatchException.class, () -> mRepository.get(KEY));
+	}
+
+	@Test
+	public void failedWriteLeavesNoTemporaryFile() throws Exception {
+		final TestModelContainer model = createModel(new ObjectContainer<>("root"));
+		mRepository.add(KEY, model);
+
+		// the root is not serializable
+		final TestModelContainer broken = createModel(new ObjectContainer<>(new Object()));
+		Assert.assertThrows(StoreObjectException.class, () -> mRepository.addOrReplace(KEY, broken));
+
+		Assert.assertEquals(Collections.singletonList(KEY + ".ser"), Arrays.asList(mDirectory.list()));
+		final TestModelContainer stored = (TestModelContainer) mRepository.get(KEY);
+		Assert.assertEquals("root", ((ObjectContainer<?>) stored.getRoot()).getValue());
+	}
+
+	private SerializationRepository createRepository(final boolean compress) {
+		return new SerializationRepository(mDirectory, compress,
+				UltimateMocks.createUltimateServiceProviderMock(LogLevel.DEBUG).getLoggingService()
+						.getLogger(getClass()));
+	}
+
+	/**
+	 * @return the first two bytes after the header of a stored model
+	 */
+	private short readBodyStart(final String key) throws IOException {
+		try (DataInputStream input = new DataInputStream(new FileInputStream(getFile(key)))) {
+			input.readInt();
+			input.readInt();
+			input.readInt();
+			input.readFully(new byte[input.readInt()]);
+			return input.readShort();
+		}
+	}
+
+	private static TestModelContainer createModel(final IElement root) {
+		return new TestModelContainer(root,
+				new ModelType("plugin", ModelType.Type.AST, Collections.singletonList("input.bpl")), "name");
+	}
+
+	private File getFile(final String key) {
+		return new File(mDirectory, key + ".ser");
+	}
+
+	private void writeHeader(final String key, final int magicNumber, final int version) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(new FileOutputStream(getFile(key)))) {
+			output.writeInt(magicNumber);
+			output.writeInt(version);
+			output.writeInt(0);
+		}
+	}
+
+	private static final class TestModelContainer extends ModelContainer {
+		private static final long serialVersionUID = 1L;
+
+		private TestModelContainer(final IElement rootNode, final ModelType type, final String name) {
+			super(rootNode, type, name);
+		}
+
+		@Override
+		protected IElement getRoot() {
+			return super.getRoot();
+		}
+
+		@Override
+		protected String getName() {
+			return super.getName();
+		}
+	}
+}
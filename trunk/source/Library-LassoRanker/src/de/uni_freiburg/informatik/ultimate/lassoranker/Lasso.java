@@ -71,6 +71,18 @@ public class Lasso implements Serializable {
 	 */
 	private final LinearTransition mLoop;
 
+	/**
+	 * Cached results of {@link #guessEigenvalues(boolean)} without and with negative guesses. The guesses are used by
+	 * the synthesis for every template, hence we compute them only once per lasso.
+	 */
+	private transient Rational[] mEigenvalueGuesses;
+	private transient Rational[] mEigenvalueGuessesIncludingNegative;
+
+	/**
+	 * Overapproximation of the stem that was computed by the termination analysis, null if not yet computed.
+	 */
+	private transient LinearTransition mOverapproximatedStem;
+
 	/**
 	 * Construct a new lasso program
 	 *
@@ -167,7 +179,36 @@ public class Lasso implements Serializable {
 	 *            whether to include negative guesses
 	 * @return an array of guesses for the loop's eigenvalues
 	 */
-	public Rational[] guessEigenvalues(final boolean includeNegative) {
+	public synchronized Rational[] guessEigenvalues(final boolean includeNegative) {
+		if (includeNegative) {
+			if (mEigenvalueGuessesIncludingNegative == null) {
+				mEigenvalueGuessesIncludingNegative = computeEigenvalueGuesses(true);
+			}
+			return mEigenvalueGuessesIncludingNegative.clone();
+		}
+		if (mEigenvalueGuesses == null) {
+			mEigenvalueGuesses = computeEigenvalueGuesses(false);
+		}
+		return mEigenvalueGuesses.clone();
+	}
+
+	/**
+	 * @return the overapproximation of the stem that was stored by {@link #setOverapproximatedStem(LinearTransition)}
+	 *         or null if there is none
+	 */
+	public synchronized LinearTransition getOverapproximatedStem() {
+		return mOverapproximatedStem;
+	}
+
+	/**
+	 * Store an overapproximation of the stem such that the termination analysis does not have to recompute it for
+	 * each template.
+	 */
+	public synchronized void setOverapproximatedStem(final LinearTransition overapproximatedStem) {
+		mOverapproximatedStem = overapproximatedStem;
+	}
+
+	private Rational[] computeEigenvalueGuesses(final boolean includeNegative) {
 		final Set<Rational> motzkinCoeffs = new HashSet<>();
 		motzkinCoeffs.add(Rational.ZERO);
 		motzkinCoeffs.add(Rational.ONE);
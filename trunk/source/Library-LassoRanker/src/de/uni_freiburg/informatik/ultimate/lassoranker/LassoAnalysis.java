@@ -32,6 +32,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -210,9 +211,9 @@ public class LassoAnalysis {
 		mCfgSmtToolkit = csToolkit;
 		mSymbolTable = csToolkit.getSymbolTable();
 
-		mLassoTerminationAnalysisBenchmarks = new ArrayList<>();
+		mLassoTerminationAnalysisBenchmarks = Collections.synchronizedList(new ArrayList<>());
 
-		mLassoNonterminationAnalysisBenchmarks = new ArrayList<>();
+		mLassoNonterminationAnalysisBenchmarks = Collections.synchronizedList(new ArrayList<>());
 
 		mStemTransition = stemTransition;
 		mLoopTransition = loopTransition;
@@ -362,6 +363,22 @@ public class LassoAnalysis {
 	 */
 	public GeometricNonTerminationArgument checkNonTermination(final NonTerminationAnalysisSettings settings)
 			throws SMTLIBException, TermException, IOException {
+		return checkNonTermination(settings, mServices);
+	}
+
+	/**
+	 * Try to find a non-termination argument for the lasso program. The SMT solvers for the synthesis are constructed
+	 * with the given services, e.g., to use a timer that differs from the one of this analysis.
+	 *
+	 * @param settings
+	 *            (local) settings for nontermination analysis
+	 * @param services
+	 *            services used by the solvers of the synthesis
+	 * @return the list of non-termination arguments (one for each component) or null if at least one component does not
+	 *         have one
+	 */
+	public GeometricNonTerminationArgument checkNonTermination(final NonTerminationAnalysisSettings settings,
+			final IUltimateServiceProvider services) throws SMTLIBException, TermException, IOException {
 		mLogger.info("Checking for nontermination...");
 
 		final List<GeometricNonTerminationArgument> ntas = new ArrayList<>(mLassos.size());
@@ -373,11 +390,11 @@ public class LassoAnalysis {
 			final long startTime = System.nanoTime();
 			final NonTerminationAnalysisSettings gev0settings = constructGev0Copy(settings);
 			NonTerminationArgumentSynthesizer nas =
-					new NonTerminationArgumentSynthesizer(lasso, mPreferences, gev0settings, mServices);
+					new NonTerminationArgumentSynthesizer(lasso, mPreferences, gev0settings, services);
 			LBool constraintSat = nas.synthesize();
 			if (constraintSat == LBool.UNSAT) {
 				nas.close();
-				nas = new NonTerminationArgumentSynthesizer(lasso, mPreferences, settings, mServices);
+				nas = new NonTerminationArgumentSynthesizer(lasso, mPreferences, settings, services);
 				constraintSat = nas.synthesize();
 			}
 
@@ -447,6 +464,24 @@ public class LassoAnalysis {
 	 */
 	public TerminationArgument tryTemplate(final RankingTemplate template, final TerminationAnalysisSettings settings)
 			throws SMTLIBException, TermException, IOException {
+		return tryTemplate(template, settings, mServices);
+	}
+
+	/**
+	 * Try to find a termination argument for the lasso program specified by the given ranking function template. The
+	 * SMT solvers for the synthesis are constructed with the given services. Different templates can be tried
+	 * concurrently, because each synthesis uses its own solver.
+	 *
+	 * @param template
+	 *            the ranking function template
+	 * @param settings
+	 *            (local) settings for termination analysis
+	 * @param services
+	 *            services used by the solvers of the synthesis
+	 * @return the termination argument or null of none is found
+	 */
+	public TerminationArgument tryTemplate(final RankingTemplate template, final TerminationAnalysisSettings settings,
+			final IUltimateServiceProvider services) throws SMTLIBException, TermException, IOException {
 		// ignore stem
 		mLogger.info("Using template '" + template.getName() + "'.");
 		if (mLogger.isDebugEnabled()) {
@@ -457,7 +492,7 @@ public class LassoAnalysis {
 			final long startTime = System.nanoTime();
 
 			final TerminationArgumentSynthesizer tas = new TerminationArgumentSynthesizer(lasso, template, mPreferences,
-					settings, mArrayIndexSupportingInvariants, mServices);
+					settings, mArrayIndexSupportingInvariants, services);
 			final LBool constraintSat = tas.synthesize();
 
 			final long endTime = System.nanoTime();
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE LassoRanker Library.
+ *
+ * The ULTIMATE LassoRanker Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE LassoRanker Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE LassoRanker Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE LassoRanker Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE LassoRanker Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.lassoranker;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import de.uni_freiburg.informatik.ultimate.core.lib.exceptions.ToolchainCanceledException;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IProgressAwareTimer;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
+import de.uni_freiburg.informatik.ultimate.icfgtransformer.transformulatransformers.TermException;
+import de.uni_freiburg.informatik.ultimate.lassoranker.nontermination.GeometricNonTerminationArgument;
+import de.uni_freiburg.informatik.ultimate.lassoranker.nontermination.NonTerminationAnalysisSettings;
+import de.uni_freiburg.informatik.ultimate.lassoranker.termination.TerminationAnalysisSettings;
+import de.uni_freiburg.informatik.ultimate.lassoranker.termination.TerminationArgument;
+import de.uni_freiburg.informatik.ultimate.lassoranker.termination.templates.RankingTemplate;
+
+/**
+ * Runs several termination and nontermination analyses of a lasso concurrently. Each analysis uses its own SMT solver.
+ * {@link #run()} returns the result of the first analysis that finds a termination or nontermination argument and
+ * cancels all other analyses. Cancellation is done via the progress monitor of the services that are given to the
+ * solvers, i.e., the solver processes of canceled analyses are terminated.
+ * <p>
+ * Note that the result is the first result in time, hence it can differ between two runs on the same lasso.
+ */
+public final class LassoAnalysisPortfolio {
+
+	private final IUltimateServiceProvider mServices;
+	private final CancelableTimer mTimer;
+	private final ExecutorService mExecutor;
+	private final ExecutorCompletionService<Result> mCompletionService;
+	private int mNumberOfAnalyses;
+
+	/**
+	 * @param services
+	 *            Services of the caller. If they time out, all analyses are canceled.
+	 * @param numberOfThreads
+	 *            Maximal number of analyses that run at the same time.
+	 */
+	public LassoAnalysisPortfolio(final IUltimateServiceProvider services, final int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("number of threads has to be positive");
+		}
+		mTimer = new CancelableTimer(services.getProgressMonitorService());
+		mServices = services.getProgressMonitorService().registerChildTimer(services, mTimer);
+		mExecutor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+			final Thread thread = new Thread(runnable, "LassoAnalysisPortfolio");
+			thread.setDaemon(true);
+			return thread;
+		});
+		mCompletionService = new ExecutorCompletionService<>(mExecutor);
+	}
+
+	/**
+	 * Add a termination analysis with the given template. Analyses are started in the order in which they are added.
+	 */
+	public void addTemplate(final LassoAnalysis lassoAnalysis, final RankingTemplate template,
+			final TerminationAnalysisSettings settings) {
+		mCompletionService.submit(() -> new Result(lassoAnalysis.tryTemplate(template, settings, mServices), null,
+				template));
+		mNumberOfAnalyses++;
+	}
+
+	/**
+	 * Add a nontermination analysis. Analyses are started in the order in which they are added.
+	 */
+	public void addNonterminationAnalysis(final LassoAnalysis lassoAnalysis,
+			final NonTerminationAnalysisSettings settings) {
+		mCompletionService
+				.submit(() -> new Result(null, lassoAnalysis.checkNonTermination(settings, mServices), null));
+		mNumberOfAnalyses++;
+	}
+
+	/**
+	 * Wait until the first analysis finds an argument or all analyses are finished. All analyses that are still
+	 * running afterwards are canceled. This object cannot be used afterwards.
+	 *
+	 * @return The result of the first analysis that found an argument, or null if no analysis found an argument.
+	 */
+	public Result run() throws TermException, IOException {
+		Throwable firstError = null;
+		try {
+			for (int i = 0; i < mNumberOfAnalyses; ++i) {
+				final Future<Result> future;
+				try {
+					future = mCompletionService.take();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ToolchainCanceledException(getClass());
+				}
+				try {
+					final Result result = future.get();
+					if (result.isConclusive()) {
+						return result;
+					}
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ToolchainCanceledException(getClass());
+				} catch (final ExecutionException e) {
+					if (firstError == null) {
+						firstError = e.getCause();
+					}
+				}
+			}
+		} finally {
+			mTimer.cancel();
+			mExecutor.shutdownNow();
+		}
+		if (firstError == null) {
+			return null;
+		}
+		if (firstError instanceof TermException) {
+			throw (TermException) firstError;
+		}
+		if (firstError instanceof IOException) {
+			throw (IOException) firstError;
+		}
+		if (firstError instanceof RuntimeException) {
+			throw (RuntimeException) firstError;
+		}
+		if (firstError instanceof Error) {
+			throw (Error) firstError;
+		}
+		throw new AssertionError(firstError);
+	}
+
+	/**
+	 * Result of one analysis of the portfolio.
+	 */
+	public static final class Result {
+		private final TerminationArgument mTerminationArgument;
+		private final GeometricNonTerminationArgument mNonTerminationArgument;
+		private final RankingTemplate mTemplate;
+
+		private Result(final TerminationArgument terminationArgument,
+				final GeometricNonTerminationArgument nonTerminationArgument, final RankingTemplate template) {
+			mTerminationArgument = terminationArgument;
+			mNonTerminationArgument = nonTerminationArgument;
+			mTemplate = template;
+		}
+
+		private boolean isConclusive() {
+			return mTerminationArgument != null || mNonTerminationArgument != null;
+		}
+
+		/**
+		 * @return the termination argument or null if this is the result of a nontermination analysis
+		 */
+		public TerminationArgument getTerminationArgument() {
+			return mTerminationArgument;
+		}
+
+		/**
+		 * @return the nontermination argument or null if this is the result of a termination analysis
+		 */
+		public GeometricNonTerminationArgument getNonTerminationArgument() {
+			return mNonTerminationArgument;
+		}
+
+		/**
+		 * @return the template that was used to find the termination argument, null for nontermination analyses
+		 */
+		public RankingTemplate getTemplate() {
+			return mTemplate;
+		}
+	}
+
+	/**
+	 * Timer that expires if its parent expires or if it was canceled.
+	 */
+	private static final class CancelableTimer implements IProgressAwareTimer {
+		private final IProgressAwareTimer mParent;
+		private volatile boolean mCanceled;
+
+		CancelableTimer(final IProgressAwareTimer parent) {
+			mParent = parent;
+		}
+
+		void cancel() {
+			mCanceled = true;
+		}
+
+		@Override
+		public boolean continueProcessing() {
+			return !mCanceled && mParent.continueProcessing();
+		}
+
+		@Override
+		public IProgressAwareTimer getChildTimer(final long timeout) {
+			return mParent.getChildTimer(timeout);
+		}
+
+		@Override
+		public IProgressAwareTimer getChildTimer(final double percentage) {
+			return mParent.getChildTimer(percentage);
+		}
+
+		@Override
+		public IProgressAwareTimer getTimer(final long timeout) {
+			return mParent.getTimer(timeout);
+		}
+
+		@Override
+		public IProgressAwareTimer getParent() {
+			return mParent;
+		}
+
+		@Override
+		public long getDeadline() {
+			return mParent.getDeadline();
+		}
+
+		@Override
+		public long remainingTime() {
+			return mParent.remainingTime();
+		}
+	}
+}
@@ -307,6 +307,25 @@ public class TerminationArgumentSynthesizer extends ArgumentSynthesizer {
 		return conj;
 	}
 
+	/**
+	 * Overapproximate the stem. The result does not depend on the template, hence it is computed only once per lasso
+	 * and reused by the synthesis for all other templates.
+	 */
+	private LinearTransition overapproximateStem(final LinearTransition stem) throws IOException {
+		final LinearTransition cached = mLasso.getOverapproximatedStem();
+		if (cached != null) {
+			mLogger.info("Using overapproximation of stem from previous template.");
+			return cached;
+		}
+		mLogger.info("Overapproximating stem...");
+		final StemOverapproximator so = new StemOverapproximator(mPreferences, mServices);
+		final int stematoms = stem.getNumInequalities();
+		final LinearTransition result = so.overapproximate(stem);
+		mLogger.info("Reduced " + stematoms + " stem atoms to " + result.getNumInequalities() + ".");
+		mLasso.setOverapproximatedStem(result);
+		return result;
+	}
+
 	/**
 	 * Ranking function generation for lasso programs
 	 *
@@ -388,11 +407,7 @@ public class TerminationArgumentSynthesizer extends ArgumentSynthesizer {
 
 			});
 		} else if (mSettings.isOverapproximateStem()) {
-			mLogger.info("Overapproximating stem...");
-			final StemOverapproximator so = new StemOverapproximator(mPreferences, mServices);
-			final int stematoms = stem.getNumInequalities();
-			stem = so.overapproximate(stem);
-			mLogger.info("Reduced " + stematoms + " stem atoms to " + stem.getNumInequalities() + ".");
+			stem = overapproximateStem(stem);
 		}
 
 		// Assert all conjuncts generated from the template
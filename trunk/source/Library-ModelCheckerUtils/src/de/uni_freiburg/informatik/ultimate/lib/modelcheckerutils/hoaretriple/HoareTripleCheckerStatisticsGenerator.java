@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.hoaretriple.IHoareTripleChecker.HoareTripleCheckerStatisticsDefinitions;
 import de.uni_freiburg.informatik.ultimate.util.InCaReCounter;
 import de.uni_freiburg.informatik.ultimate.util.ReflectionUtil.Reflected;
+import de.uni_freiburg.informatik.ultimate.util.statistics.EventTracer;
 import de.uni_freiburg.informatik.ultimate.util.statistics.IStatisticsDataProvider;
 import de.uni_freiburg.informatik.ultimate.util.statistics.IStatisticsType;
 import de.uni_freiburg.informatik.ultimate.util.statistics.KeyType;
@@ -43,6 +44,9 @@ import de.uni_freiburg.informatik.ultimate.util.statistics.TimeTracker;
 
 public class HoareTripleCheckerStatisticsGenerator implements IStatisticsDataProvider {
 
+	private static final String TRACE_CATEGORY = "HoareTripleChecker";
+	private static final String TRACE_EVENT = "Hoare triple check";
+
 	@Statistics(type = KeyType.IN_CA_RE_COUNTER)
 	private final InCaReCounter mSDtfsCounter;
 
@@ -67,6 +71,9 @@ public class HoareTripleCheckerStatisticsGenerator implements IStatisticsDataPro
 	@Statistics(type = KeyType.IN_CA_RE_COUNTER)
 	private final InCaReCounter mSolverCounterNotChecked;
 
+	@Statistics(type = KeyType.IN_CA_RE_COUNTER)
+	private final InCaReCounter mCachedModelCounterSat;
+
 	@Reflected(prettyName = "Time")
 	@Statistics(type = KeyType.TT_TIMER)
 	private final TimeTracker mTimer;
@@ -92,6 +99,7 @@ public class HoareTripleCheckerStatisticsGenerator implements IStatisticsDataPro
 		mSolverCounterUnsat = new InCaReCounter();
 		mSolverCounterUnknown = new InCaReCounter();
 		mSolverCounterNotChecked = new InCaReCounter();
+		mCachedModelCounterSat = new InCaReCounter();
 
 		mTimer = new TimeTracker();
 		mRunning = false;
@@ -107,6 +115,7 @@ public class HoareTripleCheckerStatisticsGenerator implements IStatisticsDataPro
 		mStats.put(HoareTripleCheckerStatisticsDefinitions.SolverUnsat.name(), this::getSolverCounterUnsat);
 		mStats.put(HoareTripleCheckerStatisticsDefinitions.SolverUnknown.name(), this::getSolverCounterUnknown);
 		mStats.put(HoareTripleCheckerStatisticsDefinitions.SolverNotchecked.name(), this::getSolverCounterNotChecked);
+		mStats.put(HoareTripleCheckerStatisticsDefinitions.CachedModelSat.name(), this::getCachedModelCounterSat);
 		mStats.put(HoareTripleCheckerStatisticsDefinitions.Time.name(), this::getEdgeCheckerTime);
 	}
 
@@ -150,6 +159,10 @@ public class HoareTripleCheckerStatisticsGenerator implements IStatisticsDataPro
 		return mSolverCounterNotChecked;
 	}
 
+	public InCaReCounter getCachedModelCounterSat() {
+		return mCachedModelCounterSat;
+	}
+
 	public long getEdgeCheckerTime() {
 		return mTimer.elapsedTime(TimeUnit.NANOSECONDS);
 	}
@@ -164,6 +177,8 @@ public class HoareTripleCheckerStatisticsGenerator implements IStatisticsDataPro
 		assert mRunning : "Timing not running";
 		mRunning = false;
 		mTimer.stop();
+		final long end = System.nanoTime();
+		EventTracer.record(TRACE_CATEGORY, TRACE_EVENT, end - mTimer.lastDelta(TimeUnit.NANOSECONDS), end);
 	}
 
 	@Override
@@ -32,6 +32,7 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.CfgSmtToolkit;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.structure.IAction;
+import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.ModelCache;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.IPredicate;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.IPredicateUnifier;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SubtermPropertyChecker;
@@ -57,6 +58,7 @@ public final class HoareTripleCheckerUtils {
 	 * Let Hoare triple checker immediately say `unknown` if the action is quantified.
 	 */
 	private static final boolean UNKNOWN_FOR_ALL_QUANTIFIED_TRANSFORMULAS = false;
+	private static final int MODEL_CACHE_CAPACITY = 32;
 
 	private HoareTripleCheckerUtils() {
 		// do not instantiate utility class
@@ -101,6 +103,10 @@ public final class HoareTripleCheckerUtils {
 		case INCREMENTAL:
 			solverHtc = new IncrementalHoareTripleChecker(csToolkit, false);
 			break;
+		case INCREMENTAL_WITH_MODEL_CACHE:
+			solverHtc = new IncrementalHoareTripleChecker(csToolkit, false,
+					new ModelCache(csToolkit.getManagedScript(), MODEL_CACHE_CAPACITY));
+			break;
 		default:
 			throw new UnsupportedOperationException("unknown value " + hoareTripleChecks);
 		}
@@ -150,7 +156,13 @@ public final class HoareTripleCheckerUtils {
 	 * Hoare triple check mode.
 	 */
 	public enum HoareTripleChecks {
-		MONOLITHIC, INCREMENTAL
+		MONOLITHIC, INCREMENTAL,
+		/**
+		 * Like {@link #INCREMENTAL}, but refute Hoare triples by models of earlier checks before calling the solver.
+		 * Each satisfiable check costs an additional get-value query, which only pays off if cached models often
+		 * refute later checks.
+		 */
+		INCREMENTAL_WITH_MODEL_CACHE
 	}
 
 }
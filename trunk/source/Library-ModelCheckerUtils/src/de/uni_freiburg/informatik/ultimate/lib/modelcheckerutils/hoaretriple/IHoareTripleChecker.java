@@ -106,6 +106,12 @@ public interface IHoareTripleChecker extends ILockHolderWithVoluntaryLockRelease
 
 		SolverNotchecked(StatisticsType.IN_CA_RE_ADDITION, StatisticsType.DATA_BEFORE_KEY),
 
+		/**
+		 * Invalid Hoare triples that were refuted by a model of an earlier satisfiable check, without calling the
+		 * solver.
+		 */
+		CachedModelSat(StatisticsType.IN_CA_RE_ADDITION, StatisticsType.DATA_BEFORE_KEY),
+
 		Time(StatisticsType.LONG_ADDITION, StatisticsType.NANOS_BEFORE_KEY),;
 
 		private final Function<Object, Function<Object, Object>> mAggr;
@@ -26,11 +26,13 @@
  */
 package de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.hoaretriple;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -53,6 +55,7 @@ import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.I
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.IProgramOldVar;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.IProgramVar;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.ProgramVarUtils;
+import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.ModelCache;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.IPredicate;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.IncrementalPlicationChecker;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.IncrementalPlicationChecker.Validity;
@@ -102,6 +105,13 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 	private ProgramState<Term> mCounterexampleStatePrecond;
 	private ProgramState<Term> mCounterexampleStatePostcond;
 
+	private final ModelCache mModelCache;
+	/**
+	 * Closed formulas that are currently asserted, one list for each push of this checker. Only maintained if we use a
+	 * {@link ModelCache}.
+	 */
+	private final ArrayDeque<List<Term>> mAssertedClosedFormulas;
+
 	/**
 	 * @param csToolkit
 	 *            A {@link CfgSmtToolkit} instance.
@@ -114,11 +124,24 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 	 *            represent state before call)
 	 */
 	public IncrementalHoareTripleChecker(final CfgSmtToolkit csToolkit, final boolean constructCounterexamples) {
+		this(csToolkit, constructCounterexamples, null);
+	}
+
+	/**
+	 * @param modelCache
+	 *            If not null, we store the model of each invalid Hoare triple in this cache and we check if a cached
+	 *            model refutes a Hoare triple before we call the solver. Refutations by cached models do not come with
+	 *            counterexamples, hence the cache is not used for refutations if constructCounterexamples is set.
+	 */
+	public IncrementalHoareTripleChecker(final CfgSmtToolkit csToolkit, final boolean constructCounterexamples,
+			final ModelCache modelCache) {
 		mManagedScript = csToolkit.getManagedScript();
 		mModifiableGlobalVariableManager = csToolkit.getModifiableGlobalsTable();
 		mOldVarsAssignmentCache = csToolkit.getOldVarsAssignmentCache();
 		mEdgeCheckerBenchmark = new HoareTripleCheckerStatisticsGenerator();
 		mConstructCounterexamples = constructCounterexamples;
+		mModelCache = modelCache;
+		mAssertedClosedFormulas = new ArrayDeque<>();
 	}
 
 	@Override
@@ -292,7 +315,9 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		mAssertedPrecond = p;
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 		mManagedScript.push(this, 1);
+		beginModelCacheScope();
 		Term predcondition = p.getClosedFormula();
+		recordForModelCache(predcondition);
 		if (mUseNamedTerms) {
 			final Annotation annot = new Annotation(ANNOT_NAMED, ID_PRECONDITION);
 			predcondition = mManagedScript.annotate(this, predcondition, annot);
@@ -306,6 +331,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		if (!oldVarEqualities.isEmpty()) {
 			Term nonModOldVarsEquality = SmtUtils.and(mManagedScript.getScript(),
 					oldVarEqualities.toArray(new Term[oldVarEqualities.size()]));
+			recordForModelCache(nonModOldVarsEquality);
 			if (mUseNamedTerms) {
 				final Annotation annot = new Annotation(ANNOT_NAMED, ID_PRECONDITION_NON_MOD_GLOBAL_EQUALITY);
 				nonModOldVarsEquality = mManagedScript.annotate(this, nonModOldVarsEquality, annot);
@@ -347,6 +373,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		assert mAssertedPrecond != null : "No PrePred asserted";
 		mAssertedPrecond = null;
 		mManagedScript.pop(this, 1);
+		endModelCacheScope();
 
 		if (mAssertedAction == null) {
 			throw new AssertionError("CodeBlock is assigned first");
@@ -364,6 +391,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 		mManagedScript.push(this, 1);
+		beginModelCacheScope();
 
 		Term cbFormula;
 		if (act instanceof IInternalAction) {
@@ -375,6 +403,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		} else {
 			throw new AssertionError("unknown action");
 		}
+		recordForModelCache(cbFormula);
 		if (mUseNamedTerms) {
 			final Annotation annot = new Annotation(ANNOT_NAMED, ID_TRANSITION_FORMULA);
 			cbFormula = mManagedScript.annotate(this, cbFormula, annot);
@@ -395,6 +424,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 				ovaFormula = new FormulaUnLet().unlet(ovaFormula);
 			}
 			assert ovaFormula.getFreeVars().length == 0;
+			recordForModelCache(ovaFormula);
 			if (mUseNamedTerms) {
 				final Annotation annot = new Annotation(ANNOT_NAMED, ID_TRANSITION_MODIFIABLE_GLOBAL_EQUALITY);
 				ovaFormula = mManagedScript.annotate(this, ovaFormula, annot);
@@ -418,6 +448,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 				locVarAssign = new FormulaUnLet().unlet(locVarAssign);
 			}
 			assert locVarAssign.getFreeVars().length == 0;
+			recordForModelCache(locVarAssign);
 			if (mUseNamedTerms) {
 				final Annotation annot = new Annotation(ANNOT_NAMED, ID_LOCAL_VARS_ASSIGNMENT);
 				locVarAssign = mManagedScript.annotate(this, locVarAssign, annot);
@@ -434,6 +465,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		mAssertedAction = null;
 		mHierConstants = null;
 		mManagedScript.pop(this, 1);
+		endModelCacheScope();
 		if (mAssertedPrecond != null) {
 			throw new AssertionError("CodeBlock is unasserted last");
 		}
@@ -450,6 +482,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		mAssertedHier = p;
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 		mManagedScript.push(this, 1);
+		beginModelCacheScope();
 		mHierConstants.beginScope();
 		Term hierFormula = p.getFormula();
 
@@ -476,6 +509,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 
 		// TODO auxvars
 		assert hierFormula.getFreeVars().length == 0;
+		recordForModelCache(hierFormula);
 
 		if (mUseNamedTerms) {
 			final Annotation annot = new Annotation(ANNOT_NAMED, ID_HIERACHICAL_PRECONDITION);
@@ -526,6 +560,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		assert mAssertedAction instanceof IReturnAction : MSG_WRONG_KIND_OF_ACTION;
 		mAssertedHier = null;
 		mManagedScript.pop(this, 1);
+		endModelCacheScope();
 		mHierConstants.endScope();
 	}
 
@@ -536,6 +571,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		assert mAssertedAction instanceof IInternalAction : MSG_WRONG_KIND_OF_ACTION;
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 		mManagedScript.push(this, 1);
+		beginModelCacheScope();
 		mAssertedPostcond = p;
 
 		// OldVars renamed (depending on modifiability)
@@ -549,6 +585,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		}
 		assert renamedFormula.getFreeVars().length == 0;
 		Term negation = mManagedScript.term(this, "not", renamedFormula);
+		recordForModelCache(negation);
 		if (mUseNamedTerms) {
 			final Annotation annot = new Annotation(ANNOT_NAMED, ID_NEGATED_POSTCONDITION);
 			negation = mManagedScript.annotate(this, negation, annot);
@@ -577,6 +614,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		assert mAssertedAction instanceof ICallAction : MSG_WRONG_KIND_OF_ACTION;
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 		mManagedScript.push(this, 1);
+		beginModelCacheScope();
 		mAssertedPostcond = p;
 
 		final Set<IProgramVar> boogieVars = p.getVars();
@@ -590,6 +628,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		}
 		assert renamedFormula.getFreeVars().length == 0;
 		Term negation = mManagedScript.term(this, "not", renamedFormula);
+		recordForModelCache(negation);
 		if (mUseNamedTerms) {
 			final Annotation annot = new Annotation(ANNOT_NAMED, ID_NEGATED_POSTCONDITION);
 			negation = mManagedScript.annotate(this, negation, annot);
@@ -606,6 +645,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		assert mAssertedHier != null;
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 		mManagedScript.push(this, 1);
+		beginModelCacheScope();
 		mHierConstants.beginScope();
 		mAssertedPostcond = p;
 
@@ -644,6 +684,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		}
 		assert renamedFormula.getFreeVars().length == 0;
 		Term negation = mManagedScript.term(this, "not", renamedFormula);
+		recordForModelCache(negation);
 
 		if (mUseNamedTerms) {
 			final Annotation annot = new Annotation(ANNOT_NAMED, ID_NEGATED_POSTCONDITION);
@@ -663,6 +704,7 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		mCounterexampleStatePrecond = null;
 		mCounterexampleStatePostcond = null;
 		mManagedScript.pop(this, 1);
+		endModelCacheScope();
 		if (mAssertedAction instanceof IReturnAction) {
 			assert mHierConstants != null : "Assert hierPred first!";
 			assert mAssertedHier != null : "Assert hierPred first!";
@@ -677,6 +719,13 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		assert mAssertedPostcond != null : "Assert postcond first! ";
 		mEdgeCheckerBenchmark.continueEdgeCheckerTime();
 
+		if (mModelCache != null && !mConstructCounterexamples
+				&& mModelCache.isSatisfiedBySomeModel(getAssertedClosedFormulas())) {
+			mEdgeCheckerBenchmark.getCachedModelCounterSat().incRe();
+			mEdgeCheckerBenchmark.stopEdgeCheckerTime();
+			return Validity.INVALID;
+		}
+
 		final LBool isSat = mManagedScript.checkSat(this);
 
 		switch (isSat) {
@@ -685,6 +734,9 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 				mCounterexampleStatePrecond = constructCounterexampleStateForPrecondition();
 				mCounterexampleStatePostcond = constructCounterexampleStateForPostcondition();
 			}
+			if (mModelCache != null) {
+				mModelCache.addModel(this, ModelCache.collectConstants(getAssertedClosedFormulas()));
+			}
 			mEdgeCheckerBenchmark.getSolverCounterSat().incRe();
 			break;
 		case UNKNOWN:
@@ -700,6 +752,28 @@ public class IncrementalHoareTripleChecker implements IHoareTripleChecker {
 		return IncrementalPlicationChecker.convertLBool2Validity(isSat);
 	}
 
+	private void beginModelCacheScope() {
+		if (mModelCache != null) {
+			mAssertedClosedFormulas.push(new ArrayList<>());
+		}
+	}
+
+	private void recordForModelCache(final Term closedFormula) {
+		if (mModelCache != null) {
+			mAssertedClosedFormulas.peek().add(closedFormula);
+		}
+	}
+
+	private void endModelCacheScope() {
+		if (mModelCache != null) {
+			mAssertedClosedFormulas.pop();
+		}
+	}
+
+	private List<Term> getAssertedClosedFormulas() {
+		return mAssertedClosedFormulas.stream().flatMap(List::stream).collect(Collectors.toList());
+	}
+
 	private ProgramState<Term> constructCounterexampleStateForPrecondition() {
 		final UnmodifiableTransFormula tf = mAssertedAction.getTransformula();
 		return constructCounterexampleState(tf.getInVars(), TransFormulaUtils::constructOutvarsToInvarsMap,
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE ModelCheckerUtils Library.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE ModelCheckerUtils Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE ModelCheckerUtils Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE ModelCheckerUtils Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.BitvectorUtils;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.ManagedScript;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.NonTheorySymbol;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtSortUtils;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtUtils;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.Substitution;
+import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+
+/**
+ * Bounded cache of models that we obtained from satisfiable checks. A model is an assignment of values to constants.
+ * The cache allows us to refute queries without calling the solver, e.g., an implication is not valid if some cached
+ * model satisfies the antecedent but violates the succedent.
+ * <p>
+ * A constant that is not assigned by a model gets a fixed default value of its sort (zero, false). Because this
+ * completion is deterministic, all evaluations that use the same model are evaluations in the same state. Hence,
+ * refutations are sound even if the model was obtained for a query over a different set of constants.
+ * <p>
+ * Evaluation is done by substituting values for constants and applying our lightweight simplifications. If the result
+ * is neither true nor false (e.g., because of quantifiers, arrays, or uninterpreted functions) the evaluation is
+ * {@link LBool#UNKNOWN} and the model is not used for a refutation.
+ */
+public class ModelCache {
+
+	private final ManagedScript mMgdScript;
+	private final int mCapacity;
+	private final ArrayDeque<CachedModel> mModels;
+	/**
+	 * Set to true if the solver was not able to provide a model. We do not ask again afterwards.
+	 */
+	private boolean mModelsUnavailable;
+	private int mAddedModels;
+	private int mEvaluations;
+
+	public ModelCache(final ManagedScript mgdScript, final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity has to be positive");
+		}
+		mMgdScript = mgdScript;
+		mCapacity = capacity;
+		mModels = new ArrayDeque<>(capacity);
+	}
+
+	/**
+	 * Store the values that the model of the last satisfiable check-sat assigns to the given constants. Has to be
+	 * called by the current lock owner of the {@link ManagedScript} before the assertion stack is modified. Constants
+	 * of sorts that we cannot evaluate are ignored. If the cache is full, the oldest model is evicted.
+	 *
+	 * @return true iff a model was added to this cache
+	 */
+	public boolean addModel(final Object lockOwner, final Collection<ApplicationTerm> constants) {
+		if (mModelsUnavailable) {
+			return false;
+		}
+		final Term[] supportedConstants =
+				constants.stream().filter(x -> isSupportedSort(x.getSort())).toArray(Term[]::new);
+		if (supportedConstants.length == 0) {
+			return false;
+		}
+		final Map<Term, Term> values;
+		try {
+			values = mMgdScript.getValue(lockOwner, supportedConstants);
+		} catch (final SMTLIBException | UnsupportedOperationException e) {
+			// solver was not started in a mode that produces models
+			mModelsUnavailable = true;
+			return false;
+		}
+		if (mModels.size() >= mCapacity) {
+			mModels.removeFirst();
+		}
+		mModels.addLast(new CachedModel(values));
+		mAddedModels++;
+		return true;
+	}
+
+	/**
+	 * @return true iff some cached model satisfies the closed formula antecedent but violates the closed formula
+	 *         succedent, which means that the implication antecedent ==> succedent is not valid.
+	 */
+	public boolean refutesImplication(final Term antecedent, final Term succedent) {
+		final Iterator<CachedModel> it = mModels.descendingIterator();
+		while (it.hasNext()) {
+			final CachedModel model = it.next();
+			if (evaluate(model, antecedent) == LBool.SAT && evaluate(model, succedent) == LBool.UNSAT) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return true iff some cached model satisfies all given closed formulas, which means that the conjunction of the
+	 *         closed formulas is satisfiable.
+	 */
+	public boolean isSatisfiedBySomeModel(final Collection<Term> closedFormulas) {
+		final Iterator<CachedModel> it = mModels.descendingIterator();
+		while (it.hasNext()) {
+			final CachedModel model = it.next();
+			if (closedFormulas.stream().allMatch(x -> evaluate(model, x) == LBool.SAT)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public int getNumberOfAddedModels() {
+		return mAddedModels;
+	}
+
+	public int getNumberOfEvaluations() {
+		return mEvaluations;
+	}
+
+	/**
+	 * @return {@link LBool#SAT} if the model satisfies the closed formula, {@link LBool#UNSAT} if the model violates
+	 *         the closed formula, {@link LBool#UNKNOWN} if we cannot evaluate the formula.
+	 */
+	private LBool evaluate(final CachedModel model, final Term closedFormula) {
+		final LBool memorized = model.mEvaluations.get(closedFormula);
+		if (memorized != null) {
+			return memorized;
+		}
+		mEvaluations++;
+		final LBool result = evaluateWithoutMemorization(model, closedFormula);
+		model.mEvaluations.put(closedFormula, result);
+		return result;
+	}
+
+	private LBool evaluateWithoutMemorization(final CachedModel model, final Term closedFormula) {
+		final Map<Term, Term> substitutionMapping = new HashMap<>();
+		for (final NonTheorySymbol<?> symbol : NonTheorySymbol.extractNonTheorySymbols(closedFormula)) {
+			if (!(symbol instanceof NonTheorySymbol.Constant)) {
+				// free variable or uninterpreted function, we cannot evaluate
+				return LBool.UNKNOWN;
+			}
+			final ApplicationTerm constant = ((NonTheorySymbol.Constant) symbol).getSymbol();
+			Term value = model.mValues.get(constant);
+			if (value == null) {
+				value = getDefaultValue(constant.getSort());
+				if (value == null) {
+					return LBool.UNKNOWN;
+				}
+			}
+			substitutionMapping.put(constant, value);
+		}
+		final Term evaluated = Substitution.apply(mMgdScript, substitutionMapping, closedFormula);
+		if (SmtUtils.isTrueLiteral(evaluated)) {
+			return LBool.SAT;
+		}
+		if (SmtUtils.isFalseLiteral(evaluated)) {
+			return LBool.UNSAT;
+		}
+		return LBool.UNKNOWN;
+	}
+
+	private static boolean isSupportedSort(final Sort sort) {
+		return SmtSortUtils.isBoolSort(sort) || SmtSortUtils.isNumericSort(sort) || SmtSortUtils.isBitvecSort(sort);
+	}
+
+	private Term getDefaultValue(final Sort sort) {
+		if (SmtSortUtils.isBoolSort(sort)) {
+			return mMgdScript.getScript().term("false");
+		}
+		if (SmtSortUtils.isNumericSort(sort)) {
+			return SmtUtils.rational2Term(mMgdScript.getScript(), Rational.ZERO, sort);
+		}
+		if (SmtSortUtils.isBitvecSort(sort)) {
+			return BitvectorUtils.constructTerm(mMgdScript.getScript(), BigInteger.ZERO, sort);
+		}
+		return null;
+	}
+
+	/**
+	 * @return all constants that occur in the given terms
+	 */
+	public static Set<ApplicationTerm> collectConstants(final Term... terms) {
+		return collectConstants(Arrays.asList(terms));
+	}
+
+	/**
+	 * @return all constants that occur in the given terms
+	 */
+	public static Set<ApplicationTerm> collectConstants(final Collection<Term> terms) {
+		final Set<ApplicationTerm> result = new LinkedHashSet<>();
+		for (final Term term : terms) {
+			for (final NonTheorySymbol<?> symbol : NonTheorySymbol.extractNonTheorySymbols(term)) {
+				if (symbol instanceof NonTheorySymbol.Constant) {
+					result.add(((NonTheorySymbol.Constant) symbol).getSymbol());
+				}
+			}
+		}
+		return result;
+	}
+
+	private static final class CachedModel {
+		private final Map<Term, Term> mValues;
+		private final Map<Term, LBool> mEvaluations;
+
+		CachedModel(final Map<Term, Term> values) {
+			mValues = values;
+			mEvaluations = new HashMap<>();
+		}
+	}
+}
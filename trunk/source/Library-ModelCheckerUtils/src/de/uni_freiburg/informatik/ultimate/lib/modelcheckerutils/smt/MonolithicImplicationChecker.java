@@ -46,11 +46,23 @@ public class MonolithicImplicationChecker {
 
 	private final IUltimateServiceProvider mServices;
 	private final ManagedScript mManagedScript;
+	private final ModelCache mModelCache;
 
 	public MonolithicImplicationChecker(final IUltimateServiceProvider services, final ManagedScript managedScript) {
+		this(services, managedScript, null);
+	}
+
+	/**
+	 * @param modelCache
+	 *            If not null, we store the counterexample of each implication that is not valid in this cache and we
+	 *            try to refute implications by the cached counterexamples before we call the solver.
+	 */
+	public MonolithicImplicationChecker(final IUltimateServiceProvider services, final ManagedScript managedScript,
+			final ModelCache modelCache) {
 		super();
 		mServices = services;
 		mManagedScript = managedScript;
+		mModelCache = modelCache;
 	}
 
 
@@ -74,6 +86,9 @@ public class MonolithicImplicationChecker {
 				return dataflowAnalysisResult;
 			}
 		}
+		if (mModelCache != null && mModelCache.refutesImplication(antecedentClosedFormula, succedentClosedFormula)) {
+			return Validity.INVALID;
+		}
 		if (mManagedScript.isLocked()) {
 			mManagedScript.requestLockRelease();
 		}
@@ -83,6 +98,9 @@ public class MonolithicImplicationChecker {
 		mManagedScript.assertTerm(this, antecedentClosedFormula);
 		mManagedScript.assertTerm(this, SmtUtils.not(mManagedScript.getScript(), succedentClosedFormula));
 		final LBool lbool = mManagedScript.checkSat(this);
+		if (lbool == LBool.SAT && mModelCache != null) {
+			mModelCache.addModel(this, ModelCache.collectConstants(antecedentClosedFormula, succedentClosedFormula));
+		}
 		mManagedScript.pop(this, 1);
 		mManagedScript.echo(this, new QuotedObject("Finished implication check"));
 		mManagedScript.unlock(this);
@@ -31,6 +31,7 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,7 +47,9 @@ import de.uni_freiburg.informatik.ultimate.core.lib.exceptions.ToolchainCanceled
 import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.IIcfgSymbolTable;
+import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.IProgramFunction;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.IProgramVar;
+import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.ModelCache;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.MonolithicImplicationChecker;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.PredicateUnifierStatisticsGenerator.PredicateUnifierStatisticsType;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.CommuhashNormalForm;
@@ -68,6 +71,7 @@ import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.TermVariable;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.util.DAGSize;
 import de.uni_freiburg.informatik.ultimate.util.DebugMessage;
+import de.uni_freiburg.informatik.ultimate.util.datastructures.DataStructureUtils;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.poset.IPartialComparator;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.poset.IPartialComparator.ComparisonResult;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.poset.PosetUtils;
@@ -94,6 +98,12 @@ public class PredicateUnifier implements IPredicateUnifier {
 	 */
 	private static final boolean DUMP_UNEXPLOITED_ELIMININATION_POSSIBILITIES = false;
 
+	/**
+	 * Number of counterexamples to implications that we keep. Before we ask the solver whether a new term implies
+	 * (resp. is implied by) a known predicate, we check if one of these models already refutes the implication.
+	 */
+	private static final int MODEL_CACHE_CAPACITY = 32;
+
 	protected final ManagedScript mMgdScript;
 	private final BasicPredicateFactory mPredicateFactory;
 	private final Map<Term, IPredicate> mTerm2Predicates;
@@ -104,6 +114,7 @@ public class PredicateUnifier implements IPredicateUnifier {
 	protected final IUltimateServiceProvider mServices;
 	private final Script mScript;
 	private final MonolithicImplicationChecker mImplicationChecker;
+	private final ModelCache mModelCache;
 	private final IIcfgSymbolTable mSymbolTable;
 	private final SimplificationTechnique mSimplificationTechnique;
 
@@ -124,7 +135,8 @@ public class PredicateUnifier implements IPredicateUnifier {
 		mSymbolTable = symbolTable;
 		mServices = services;
 		mLogger = logger;
-		mImplicationChecker = new MonolithicImplicationChecker(mServices, mMgdScript);
+		mModelCache = new ModelCache(mMgdScript, MODEL_CACHE_CAPACITY);
+		mImplicationChecker = new MonolithicImplicationChecker(mServices, mMgdScript, mModelCache);
 		mTerm2Predicates = new HashMap<>();
 		final Term trueTerm = mScript.term("true");
 		IPredicate truePredicate = null;
@@ -192,7 +204,8 @@ public class PredicateUnifier implements IPredicateUnifier {
 	 * stores already an equivalent predicate.
 	 */
 	void declarePredicate(final IPredicate predicate) {
-		final PredicateComparison pc = new PredicateComparison(predicate.getFormula(), predicate.getVars(), null, null);
+		final PredicateComparison pc = new PredicateComparison(predicate.getFormula(), predicate.getVars(),
+				predicate.getFuns(), null, null);
 		if (pc.isEquivalentToExistingPredicateWithLeqQuantifiers()) {
 			final IPredicate other = pc.getEquivalantLeqQuantifiedPredicate();
 			if (other != predicate) {
@@ -370,8 +383,8 @@ public class PredicateUnifier implements IPredicateUnifier {
 			}
 		}
 
-		final PredicateComparison pc =
-				new PredicateComparison(commuNF, tvp.getVars(), impliedPredicates, expliedPredicates);
+		final PredicateComparison pc = new PredicateComparison(commuNF, tvp.getVars(), tvp.getFuns(),
+				impliedPredicates, expliedPredicates);
 		if (pc.isEquivalentToExistingPredicateWithLeqQuantifiers()) {
 			mPredicateUnifierBenchmarkGenerator.incrementSemanticMatches();
 			mPredicateUnifierBenchmarkGenerator.stopTime();
@@ -752,6 +765,8 @@ public class PredicateUnifier implements IPredicateUnifier {
 	private final class PredicateComparison {
 		private final Term mTerm;
 		private final Term mClosedTerm;
+		private final Set<IProgramVar> mVars;
+		private final Set<IProgramFunction> mFuns;
 		private final boolean mTermContainsQuantifiers;
 		private final HashMap<IPredicate, Validity> mImpliedPredicates;
 		private final HashMap<IPredicate, Validity> mExpliedPredicates;
@@ -764,7 +779,7 @@ public class PredicateUnifier implements IPredicateUnifier {
 		 * are implied/explied by term can be provided as an input by the Maps impliedPredicates/expliedPredicates both
 		 * maps will be modified by (new predicates added) by this method.
 		 */
-		PredicateComparison(final Term term, final Set<IProgramVar> vars,
+		PredicateComparison(final Term term, final Set<IProgramVar> vars, final Set<IProgramFunction> funs,
 				final HashMap<IPredicate, Validity> impliedPredicates,
 				final HashMap<IPredicate, Validity> expliedPredicates) {
 			if (impliedPredicates == null) {
@@ -779,6 +794,8 @@ public class PredicateUnifier implements IPredicateUnifier {
 			}
 			mTerm = term;
 			mClosedTerm = PredicateUtils.computeClosedFormula(term, vars, mMgdScript);
+			mVars = vars;
+			mFuns = funs;
 			mTermContainsQuantifiers = new ContainsQuantifier().containsQuantifier(term);
 			mEquivalentGtQuantifiedPredicates = new HashSet<>();
 
@@ -909,8 +926,7 @@ public class PredicateUnifier implements IPredicateUnifier {
 				final Term otherClosedTerm = other.getClosedFormula();
 				Validity implies = mImpliedPredicates.get(other);
 				if (implies == null) {
-					implies = mImplicationChecker.checkImplication(mTerm, mClosedTerm, false, other.getFormula(),
-							other.getClosedFormula(), false);
+					implies = checkImplication(other, true);
 					if (implies == Validity.VALID) {
 						// if (this ==> other) and (other ==> impliedByOther) then
 						// we conclude (this ==> impliedByOther)
@@ -944,8 +960,7 @@ public class PredicateUnifier implements IPredicateUnifier {
 				}
 				Validity explies = mExpliedPredicates.get(other);
 				if (explies == null) {
-					explies = mImplicationChecker.checkImplication(other.getFormula(), other.getClosedFormula(), false,
-							mTerm, mClosedTerm, false);
+					explies = checkImplication(other, false);
 					if (explies == Validity.VALID) {
 						// if (other ==> this) and (expliedByOther ==> other)
 						// we conclude (expliedByOther ==> this)
@@ -1011,6 +1026,69 @@ public class PredicateUnifier implements IPredicateUnifier {
 			return null;
 		}
 
+		/**
+		 * Check the implication between the new term and the known predicate other. We call the solver only if
+		 * {@link #checkImplicationWithoutSolver(IPredicate, boolean)} cannot decide the implication.
+		 *
+		 * @param termIsAntecedent
+		 *            if true we check (term ==> other), otherwise we check (other ==> term)
+		 */
+		private Validity checkImplication(final IPredicate other, final boolean termIsAntecedent) {
+			final Validity withoutSolver = checkImplicationWithoutSolver(other, termIsAntecedent);
+			if (withoutSolver != null) {
+				return withoutSolver;
+			}
+			if (termIsAntecedent) {
+				return mImplicationChecker.checkImplication(mTerm, mClosedTerm, false, other.getFormula(),
+						other.getClosedFormula(), false);
+			}
+			return mImplicationChecker.checkImplication(other.getFormula(), other.getClosedFormula(), false, mTerm,
+					mClosedTerm, false);
+		}
+
+		/**
+		 * Try to decide the implication between the new term and the known predicate other without calling the
+		 * solver. We use the following checks.
+		 * <ul>
+		 * <li>If term and other do not share variables or functions, the implication is not valid because term and
+		 * other are both satisfiable and both not valid.
+		 * <li>If each conjunct of the succedent is a conjunct of the antecedent, or if each disjunct of the antecedent
+		 * is a disjunct of the succedent, the implication is valid.
+		 * <li>If a cached model satisfies the antecedent but violates the succedent, the implication is not valid.
+		 * </ul>
+		 * This method may only be called after we found out that term is neither equivalent to true nor equivalent to
+		 * false.
+		 *
+		 * @param termIsAntecedent
+		 *            if true we check (term ==> other), otherwise we check (other ==> term)
+		 * @return the validity of the implication or null if these checks were not able to decide the implication
+		 */
+		private Validity checkImplicationWithoutSolver(final IPredicate other, final boolean termIsAntecedent) {
+			if (DataStructureUtils.haveEmptyIntersection(mVars, other.getVars())
+					&& DataStructureUtils.haveEmptyIntersection(mFuns, other.getFuns())
+					&& getCoverageRelation().isCovered(mTruePredicate, other) == Validity.INVALID
+					&& getCoverageRelation().isCovered(other, mFalsePredicate) == Validity.INVALID) {
+				mPredicateUnifierBenchmarkGenerator.incrementImplicationChecksBySyntacticFeatures();
+				return Validity.INVALID;
+			}
+			final Term antecedent = termIsAntecedent ? mTerm : other.getFormula();
+			final Term succedent = termIsAntecedent ? other.getFormula() : mTerm;
+			if (Arrays.asList(SmtUtils.getConjuncts(antecedent))
+					.containsAll(Arrays.asList(SmtUtils.getConjuncts(succedent)))
+					|| Arrays.asList(SmtUtils.getDisjuncts(succedent))
+							.containsAll(Arrays.asList(SmtUtils.getDisjuncts(antecedent)))) {
+				mPredicateUnifierBenchmarkGenerator.incrementImplicationChecksBySyntacticFeatures();
+				return Validity.VALID;
+			}
+			final Term antecedentClosed = termIsAntecedent ? mClosedTerm : other.getClosedFormula();
+			final Term succedentClosed = termIsAntecedent ? other.getClosedFormula() : mClosedTerm;
+			if (mModelCache.refutesImplication(antecedentClosed, succedentClosed)) {
+				mPredicateUnifierBenchmarkGenerator.incrementImplicationChecksByCachedModels();
+				return Validity.INVALID;
+			}
+			return null;
+		}
+
 		private void checkTimeout(final Term closedTerm) {
 			if (!mServices.getProgressMonitorService().continueProcessing()) {
 				final String quantifierInformation = generateQuantifierInformation(closedTerm);
@@ -20,6 +20,8 @@ public final class PredicateUnifierStatisticsGenerator implements IStatisticsDat
 	private int mIntricatePredicates = 0;
 	private int mDeprecatedPredicatesCount = 0;
 	private int mImplicationChecksByTransitivity = 0;
+	private int mImplicationChecksBySyntacticFeatures = 0;
+	private int mImplicationChecksByCachedModels = 0;
 	protected final Benchmark mBenchmark;
 
 	protected boolean mRunning = false;
@@ -61,6 +63,14 @@ public final class PredicateUnifierStatisticsGenerator implements IStatisticsDat
 		mImplicationChecksByTransitivity++;
 	}
 
+	public void incrementImplicationChecksBySyntacticFeatures() {
+		mImplicationChecksBySyntacticFeatures++;
+	}
+
+	public void incrementImplicationChecksByCachedModels() {
+		mImplicationChecksByCachedModels++;
+	}
+
 	public long getTime() {
 		return (long) mBenchmark.getElapsedTime(String.valueOf(PredicateUniferStatisticsDefinitions.Time),
 				TimeUnit.NANOSECONDS);
@@ -104,6 +114,10 @@ public final class PredicateUnifierStatisticsGenerator implements IStatisticsDat
 			return mDeprecatedPredicatesCount;
 		case ImplicationChecksByTransitivity:
 			return mImplicationChecksByTransitivity;
+		case ImplicationChecksBySyntacticFeatures:
+			return mImplicationChecksBySyntacticFeatures;
+		case ImplicationChecksByCachedModels:
+			return mImplicationChecksByCachedModels;
 		case Time:
 			return getTime();
 		default:
@@ -134,6 +148,11 @@ public final class PredicateUnifierStatisticsGenerator implements IStatisticsDat
 
 		ImplicationChecksByTransitivity(Integer.class, StatisticsType.INTEGER_ADDITION, StatisticsType.DATA_BEFORE_KEY),
 
+		ImplicationChecksBySyntacticFeatures(Integer.class, StatisticsType.INTEGER_ADDITION,
+				StatisticsType.DATA_BEFORE_KEY),
+
+		ImplicationChecksByCachedModels(Integer.class, StatisticsType.INTEGER_ADDITION, StatisticsType.DATA_BEFORE_KEY),
+
 		Time(Integer.class, StatisticsType.LONG_ADDITION, StatisticsType.NANOS_BEFORE_KEY),;
 
 		private final Class<?> mClazz;
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE ModelCheckerUtils Library.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE ModelCheckerUtils Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE ModelCheckerUtils Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE ModelCheckerUtils Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.modelcheckerutils.smt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.ManagedScript;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtSortUtils;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtTelemetry;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtTelemetry.SlowQuery;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.TelemetryScript;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.solverbuilder.SolverBuilder;
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+public class TelemetryScriptTest {
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	private SmtTelemetry mTelemetry;
+	private Script mScript;
+	private Term mX;
+
+	@Before
+	public void setUp() {
+		mTelemetry = new SmtTelemetry();
+		mScript = new TelemetryScript(new SMTInterpol(), mTelemetry);
+		mScript.setOption(":produce-models", true);
+		mScript.setLogic(Logics.QF_LIA);
+		final Sort intSort = SmtSortUtils.getIntSort(mScript);
+		mScript.declareFun("x", new Sort[0], intSort);
+		mX = mScript.term("x");
+	}
+
+	@Test
+	public void latenciesPerCommandAndCaller() {
+		Assert.assertEquals(LBool.SAT, mScript.checkSat());
+		try (SmtTelemetry.CallerScope scope = mTelemetry.enterCaller(this, "Test")) {
+			mScript.checkSat();
+			mScript.getValue(new Term[] { mX });
+		}
+		Assert.assertEquals(2, mTelemetry.getLatencyPerCommand().get("check-sat").getCount());
+		Assert.assertEquals(1, mTelemetry.getLatencyPerCommand().get("get-value").getCount());
+		Assert.assertEquals(2, mTelemetry.getLatencyPerCaller().get("Test").getCount());
+		Assert.assertEquals(1, mTelemetry.getLatencyPerCaller().get("Unknown").getCount());
+		Assert.assertEquals("Unknown", mTelemetry.getCurrentCaller());
+	}
+
+	@Test
+	public void callersDoNotHaveToBeExitedInReverseOrder() {
+		final Object first = new Object();
+		final Object second = new Object();
+		mTelemetry.enterCaller(first, "First");
+		mTelemetry.enterCaller(second, "Second");
+		mTelemetry.exitCaller(first);
+		mScript.checkSat();
+		Assert.assertEquals("Second", mTelemetry.getCurrentCaller());
+		mTelemetry.enterCaller(first, "First");
+		mTelemetry.exitCaller(first);
+		Assert.assertEquals("Second", mTelemetry.getCurrentCaller());
+		mTelemetry.exitCaller(second);
+		mScript.checkSat();
+		Assert.assertEquals("Unknown", mTelemetry.getCurrentCaller());
+		Assert.assertEquals(1, mTelemetry.getLatencyPerCaller().get("Second").getCount());
+		Assert.assertEquals(1, mTelemetry.getLatencyPerCaller().get("Unknown").getCount());
+		Assert.assertNull(mTelemetry.getLatencyPerCaller().get("First"));
+	}
+
+	@Test
+	public void reproductionScriptContainsAssertionStack() {
+		mScript.push(1);
+		mScript.assertTerm(mScript.term(">", mX, mScript.numeral("1")));
+		mScript.checkSat();
+		mScript.pop(1);
+		mScript.assertTerm(mScript.term("<", mX, mScript.numeral("0")));
+		mScript.checkSat();
+
+		final List<SlowQuery> queries = mTelemetry.getSlowQueries();
+		Assert.assertEquals(2, queries.size());
+		for (final SlowQuery query : queries) {
+			final String script = query.getReproductionScript();
+			Assert.assertTrue(script, script.startsWith("(set-option :produce-models true)\n(set-logic QF_LIA)\n"));
+			Assert.assertTrue(script, script.contains("(declare-fun x () Int)"));
+			Assert.assertTrue(script, script.endsWith("(check-sat)\n"));
+			Assert.assertTrue(script, script.contains("(assert (< x 0))") != script.contains("(assert (> x 1))"));
+		}
+	}
+
+	@Test
+	public void slowQueriesAreWrittenToFiles() throws IOException {
+		mScript.assertTerm(mScript.term(">", mX, mScript.numeral("1")));
+		mScript.checkSat();
+		final File directory = new File(mFolder.getRoot(), "dump");
+		final List<File> files = mTelemetry.writeSlowQueries(directory.getPath(), "program");
+
+		final List<SlowQuery> queries = mTelemetry.getSlowQueries();
+		Assert.assertEquals(1, files.size());
+		Assert.assertEquals(new File(directory, "program_slowQuery0.smt2"), files.get(0));
+		Assert.assertEquals(files.get(0), queries.get(0).getFile());
+		Assert.assertTrue(queries.get(0).toString().endsWith(files.get(0).getAbsolutePath()));
+		Assert.assertEquals(queries.get(0).getReproductionScript(),
+				new String(Files.readAllBytes(files.get(0).toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void callersAreDroppedAtTheEndOfTheToolchain() {
+		mTelemetry.enterCaller(this, "NeverExited");
+		Assert.assertEquals("NeverExited", mTelemetry.getCurrentCaller());
+		mTelemetry.destroy();
+		Assert.assertEquals("Unknown", mTelemetry.getCurrentCaller());
+	}
+
+	@Test
+	public void managedScriptReportsLockOwnerOnlyWithTelemetry() {
+		final ManagedScript withTelemetry =
+				new ManagedScript(UltimateMocks.createUltimateServiceProviderMock(), mScript);
+		Assert.assertSame(mTelemetry, withTelemetry.getTelemetry());
+		withTelemetry.lock(this);
+		withTelemetry.getScript().checkSat();
+		Assert.assertEquals(getClass().getSimpleName(), mTelemetry.getCurrentCaller());
+		withTelemetry.unlock(this);
+		Assert.assertEquals("Unknown", mTelemetry.getCurrentCaller());
+		Assert.assertEquals(1, mTelemetry.getLatencyPerCaller().get(getClass().getSimpleName()).getCount());
+
+		final ManagedScript withoutTelemetry =
+				new ManagedScript(UltimateMocks.createUltimateServiceProviderMock(), new SMTInterpol());
+		Assert.assertNull(withoutTelemetry.getTelemetry());
+		withoutTelemetry.lock(this);
+		withoutTelemetry.unlock(this);
+	}
+
+	@Test
+	public void telemetryIsDisabledByDefault() {
+		Assert.assertFalse(SolverBuilder.constructSolverSettings().collectTelemetry());
+		Assert.assertTrue(SolverBuilder.constructSolverSettings().setCollectTelemetry(true).collectTelemetry());
+	}
+
+	@Test
+	public void onlySlowestQueriesAreKept() {
+		for (int i = 0; i < 3 * SmtTelemetry.NUMBER_OF_SLOW_QUERIES; ++i) {
+			mScript.checkSat();
+		}
+		final List<SlowQuery> queries = mTelemetry.getSlowQueries();
+		Assert.assertEquals(SmtTelemetry.NUMBER_OF_SLOW_QUERIES, queries.size());
+		for (int i = 1; i < queries.size(); ++i) {
+			Assert.assertTrue(queries.get(i - 1).getDurationNanos() >= queries.get(i).getDurationNanos());
+		}
+	}
+}
@@ -45,13 +45,19 @@ import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.cfg.variables.I
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.biesenb.BPredicateUnifier;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.BasicPredicateFactory;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.IPredicate;
+import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.IPredicateCoverageChecker;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.PredicateUnifier;
+import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.PredicateUnifierStatisticsGenerator.PredicateUniferStatisticsDefinitions;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.IncrementalPlicationChecker.Validity;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.ManagedScript;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtUtils.SimplificationTechnique;
 import de.uni_freiburg.informatik.ultimate.logic.Logics;
 import de.uni_freiburg.informatik.ultimate.logic.Script;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+import de.uni_freiburg.informatik.ultimate.smtsolver.external.SmtInterpolLogProxyWrapper;
 import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+import de.uni_freiburg.informatik.ultimate.util.statistics.IStatisticsDataProvider;
 
 /**
  * @author Ben Biesenbach (ben.biesenbach@neptun.uni-freiburg.de)
@@ -74,7 +80,11 @@ public class PredicateUnifierTest {
 	public void setUp() {
 		mServices = UltimateMocks.createUltimateServiceProviderMock(LogLevel.INFO);
 		mLogger = mServices.getLoggingService().getLogger(getClass());
-		mScript = UltimateMocks.createZ3Script();
+		initialize(UltimateMocks.createZ3Script());
+	}
+
+	private void initialize(final Script script) {
+		mScript = script;
 		mMgdScript = new ManagedScript(mServices, mScript);
 		mScript.setLogic(Logics.ALL);
 		mFactory = new TestPredicateFactory(mMgdScript);
@@ -420,6 +430,61 @@ public class PredicateUnifierTest {
 				Is.is(oUnifier.collectPredicateUnifierStatistics().substring(0, 99)));
 	}
 
+	@Test
+	public void testCoverageRelationWithoutSolver() {
+		// the statistics depend on the models that the solver returns, hence we use a solver that is deterministic
+		mScript.exit();
+		final Script smtInterpol = new SMTInterpol(new SmtInterpolLogProxyWrapper(mLogger));
+		smtInterpol.setOption(":produce-models", true);
+		initialize(smtInterpol);
+
+		final PredicateUnifier oUnifier = new PredicateUnifier(mLogger, mServices, mMgdScript, mBasicFactory, mTable,
+				SimplificationTechnique.NONE);
+
+		final Term aIsOne = mScript.term("=", mA.getTermVariable(), mOne);
+		final Term aIsPositive = mScript.term(">", mA.getTermVariable(), mZero);
+		final Term bIsPositive = mScript.term(">", mB.getTermVariable(), mZero);
+		final Term aIsThree = mScript.term("=", mA.getTermVariable(), mThree);
+
+		final IPredicate pred1 = oUnifier.getOrConstructPredicate(aIsOne);
+		final IPredicate pred2 = oUnifier.getOrConstructPredicate(aIsPositive);
+		// does not share variables with pred1 and pred2
+		final IPredicate pred3 = oUnifier.getOrConstructPredicate(bIsPositive);
+		// implies pred2 and pred3 because it contains their conjuncts
+		final IPredicate pred4 = oUnifier.getOrConstructPredicate(mScript.term("and", aIsPositive, bIsPositive));
+		// refuted by models that we obtained while comparing the predicates above
+		final IPredicate pred5 = oUnifier.getOrConstructPredicate(aIsThree);
+
+		final IPredicateCoverageChecker coverage = oUnifier.getCoverageRelation();
+		Assert.assertThat("1", coverage.isCovered(pred1, pred2), Is.is(Validity.VALID));
+		Assert.assertThat("2", coverage.isCovered(pred2, pred1), Is.is(Validity.INVALID));
+		Assert.assertThat("3", coverage.isCovered(pred3, pred1), Is.is(Validity.INVALID));
+		Assert.assertThat("4", coverage.isCovered(pred2, pred3), Is.is(Validity.INVALID));
+		Assert.assertThat("5", coverage.isCovered(pred4, pred2), Is.is(Validity.VALID));
+		Assert.assertThat("6", coverage.isCovered(pred4, pred3), Is.is(Validity.VALID));
+		Assert.assertThat("7", coverage.isCovered(pred4, pred1), Is.is(Validity.INVALID));
+		Assert.assertThat("8", coverage.isCovered(pred5, pred2), Is.is(Validity.VALID));
+		Assert.assertThat("9", coverage.isCovered(pred5, pred1), Is.is(Validity.INVALID));
+		Assert.assertThat("10", coverage.isCovered(pred1, pred5), Is.is(Validity.INVALID));
+		Assert.assertThat("11", coverage.isCovered(pred5, pred4), Is.is(Validity.INVALID));
+
+		final IStatisticsDataProvider statistics = oUnifier.getPredicateUnifierBenchmark();
+		mLogger.info(statistics);
+		Assert.assertThat("constructed",
+				getStatistic(statistics, PredicateUniferStatisticsDefinitions.ConstructedPredicates), Is.is(5));
+		Assert.assertThat("syntactic",
+				getStatistic(statistics, PredicateUniferStatisticsDefinitions.ImplicationChecksBySyntacticFeatures), Is.is(7));
+		Assert.assertThat("models",
+				getStatistic(statistics, PredicateUniferStatisticsDefinitions.ImplicationChecksByCachedModels), Is.is(5));
+		Assert.assertThat("transitivity",
+				getStatistic(statistics, PredicateUniferStatisticsDefinitions.ImplicationChecksByTransitivity), Is.is(4));
+	}
+
+	private static Object getStatistic(final IStatisticsDataProvider statistics,
+			final PredicateUniferStatisticsDefinitions key) {
+		return statistics.getValue(key.name());
+	}
+
 	private String assertEqualSet(final String s, final Set<IPredicate> a, final Set<IPredicate> b) {
 		final Set<String> sa = new HashSet<>();
 		final Set<String> sb = new HashSet<>();
@@ -162,6 +162,21 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 	 * the one with correct pre.
 	 */
 	private final Deque<Pair<ProofObligation, ProofObligation>> mSatProofObligations;
+	/*
+	 * Results of blocking queries frame /\ transition /\ proof-obligation'. All predicates are unified, hence the same
+	 * query is posed again whenever the same obligation reaches a location whose frame did not change. This happens
+	 * often on higher levels and in recursive PDR calls.
+	 */
+	private final Map<Triple<IPredicate, IAction, IPredicate>, LBool> mQueryResults;
+	/*
+	 * Predicates that were blocked for an unsatisfiable query (i.e., the proof-obligation strengthened by an
+	 * interpolant).
+	 */
+	private final Map<Triple<IPredicate, IAction, IPredicate>, IPredicate> mBlockedPredicates;
+	/*
+	 * Preconditions of proof-obligations w.r.t. transitions.
+	 */
+	private final Map<Pair<IPredicate, IAction>, IPredicate> mPreconditions;
 
 	private boolean mTraceCheckFinishedNormally;
 	private IProgramExecution<L, Term> mFeasibleProgramExecution;
@@ -225,6 +240,9 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 
 		mGlobalFrames = initializeGlobalFrames(mPpIcfg);
 		mSatProofObligations = new ArrayDeque<>();
+		mQueryResults = new HashMap<>();
+		mBlockedPredicates = new HashMap<>();
+		mPreconditions = new HashMap<>();
 		mLogger.info("Analyzing path program with PDR");
 
 		try {
@@ -481,8 +499,7 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 					// final LBool res = PredicateUtils.isInductiveHelper(mScript.getScript(), predecessorFrame,
 					// not(toBeBlocked), normalizedTf, modifiableGlobals, modifiableGlobals);
 
-					final LBool res = PredicateUtils.isInductiveHelper(mScript.getScript(), predecessorFrame,
-							not(toBeBlocked), predTF, modifiableGlobals, modifiableGlobals);
+					final LBool res = checkQuery(query, predTF, modifiableGlobals);
 
 					if (mLogger.isDebugEnabled()) {
 						mLogger.debug(String.format("Is %s", res));
@@ -491,11 +508,7 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 					 * Query is satisfiable: generate new proofobligation
 					 */
 					if (res == LBool.SAT) {
-						Term pre = mPredTrans.pre(toBeBlocked, predTF);
-						final Term term = pre;
-						pre = PartialQuantifierElimination.eliminateCompat(mServices, mScript,
-								SimplificationTechnique.SIMPLIFY_DDA, term);
-						final IPredicate prePred = mLocalPredicateUnifier.getOrConstructPredicate(pre);
+						final IPredicate prePred = computePrecondition(toBeBlocked, predecessorTransition);
 
 						final ProofObligation newProofObligation =
 								new ProofObligation(prePred, predecessor, localLevel - level + 1);
@@ -517,8 +530,12 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 						 * Query is not satisfiable: strengthen the frames of location.
 						 */
 					} else if (res == LBool.UNSAT) {
-						final IPredicate actualToBeBlocked =
-								computeNewToBeBlocked(toBeBlocked, predecessorTransition, predecessorFrame);
+						IPredicate actualToBeBlocked = mBlockedPredicates.get(query);
+						if (actualToBeBlocked == null) {
+							actualToBeBlocked =
+									computeNewToBeBlocked(toBeBlocked, predecessorTransition, predecessorFrame);
+							mBlockedPredicates.put(query, actualToBeBlocked);
+						}
 						updateLocalFrames(actualToBeBlocked, location, level, localFrames);
 						proofObligation.addBlockedQuery(query);
 					} else {
@@ -728,6 +745,44 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 
 	}
 
+	/**
+	 * Check frame /\ transition /\ proof-obligation' for satisfiability. Results of previous checks of the same query
+	 * are reused.
+	 */
+	private LBool checkQuery(final Triple<IPredicate, IAction, IPredicate> query, final UnmodifiableTransFormula tf,
+			final Set<IProgramNonOldVar> modifiableGlobals) {
+		final LBool cached = mQueryResults.get(query);
+		if (cached != null) {
+			mPdrBenchmark.incrementCachedQueries();
+			return cached;
+		}
+		mPdrBenchmark.incrementQueries();
+		final LBool res = PredicateUtils.isInductiveHelper(mScript.getScript(), query.getFirst(),
+				not(query.getThird()), tf, modifiableGlobals, modifiableGlobals);
+		if (res != LBool.UNKNOWN) {
+			mQueryResults.put(query, res);
+		}
+		return res;
+	}
+
+	/**
+	 * Compute the precondition of a proof-obligation w.r.t. a transition. Preconditions that were already computed
+	 * are reused.
+	 */
+	private IPredicate computePrecondition(final IPredicate toBeBlocked, final IcfgEdge transition) {
+		final Pair<IPredicate, IAction> key = new Pair<>(toBeBlocked, transition);
+		final IPredicate cached = mPreconditions.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		final Term pre = mPredTrans.pre(toBeBlocked, transition.getTransformula());
+		final Term eliminated = PartialQuantifierElimination.eliminateCompat(mServices, mScript,
+				SimplificationTechnique.SIMPLIFY_DDA, pre);
+		final IPredicate prePred = mLocalPredicateUnifier.getOrConstructPredicate(eliminated);
+		mPreconditions.put(key, prePred);
+		return prePred;
+	}
+
 	private IPredicate computeNewToBeBlocked(final IPredicate toBeBlocked, final IcfgEdge predecessorTransition,
 			final IPredicate predecessorFrame) throws AssertionError {
 		final IPredicate actualToBeBlocked;
@@ -1110,26 +1165,34 @@ public class Pdr<L extends IIcfgTransition<?>> implements IInterpolatingTraceChe
 	}
 
 	/**
-	 * Propagation-Phase, for finding invariants
+	 * Propagation-Phase, for finding invariants. We check each level only once instead of once for each location
+	 * whose frames are equal on that level.
 	 */
 	private final boolean propagationPhase(final Map<IcfgLocation, List<Pair<ChangedFrame, IPredicate>>> localFrames) {
 		mLogger.debug("Begin Propagation Phase: \n");
-		for (final Entry<IcfgLocation, List<Pair<ChangedFrame, IPredicate>>> locationTrace : localFrames.entrySet()) {
-			final List<Pair<ChangedFrame, IPredicate>> frames = locationTrace.getValue();
-
-			for (int i = 0; i < frames.size() - 1; i++) {
-				/*
-				 * if (frames.get(i).getFirst() == ChangedFrame.UNCHANGED || frames.get(i + 1).getFirst() ==
-				 * ChangedFrame.UNCHANGED) { continue; }
-				 */
-				final IPredicate p1 = frames.get(i).getSecond();
-				final IPredicate p2 = frames.get(i + 1).getSecond();
+		int numberOfLevels = 0;
+		for (final List<Pair<ChangedFrame, IPredicate>> frames : localFrames.values()) {
+			numberOfLevels = Math.max(numberOfLevels, frames.size());
+		}
+		for (int i = 0; i < numberOfLevels - 1; i++) {
+			if (existsEqualFrames(i, localFrames) && checkFrames(i, localFrames)) {
+				mLogger.debug("Spot: " + i);
+				mInvarSpot = i;
+				return true;
+			}
+		}
+		return false;
+	}
 
-				if (p1.getFormula().equals(p2.getFormula()) && checkFrames(i, localFrames)) {
-					mLogger.debug("Spot: " + i);
-					mInvarSpot = i;
-					return true;
-				}
+	/**
+	 * Check whether some location has the same frame on level i and i + 1
+	 */
+	private static boolean existsEqualFrames(final int i,
+			final Map<IcfgLocation, List<Pair<ChangedFrame, IPredicate>>> localFrames) {
+		for (final List<Pair<ChangedFrame, IPredicate>> frames : localFrames.values()) {
+			if (i + 1 < frames.size()
+					&& frames.get(i).getSecond().getFormula().equals(frames.get(i + 1).getSecond().getFormula())) {
+				return true;
 			}
 		}
 		return false;
@@ -47,6 +47,23 @@ public final class PdrBenchmark extends StatisticsGeneratorWithStopwatches imple
 
 	private static final String[] STOPWATCHES = new String[] { PdrStatisticsDefinitions.PDR_RUNTIME.toString() };
 
+	private int mQueries;
+	private int mCachedQueries;
+
+	/**
+	 * Count a blocking query that was sent to the solver.
+	 */
+	public void incrementQueries() {
+		mQueries++;
+	}
+
+	/**
+	 * Count a blocking query whose result was taken from the cache of previous queries.
+	 */
+	public void incrementCachedQueries() {
+		mCachedQueries++;
+	}
+
 	@Override
 	public Collection<String> getKeys() {
 		return getBenchmarkType().getKeys();
@@ -62,6 +79,10 @@ public final class PdrBenchmark extends StatisticsGeneratorWithStopwatches imple
 			} catch (final StopwatchStillRunningException e) {
 				throw new AssertionError("clock still running: " + key);
 			}
+		case PDR_QUERIES:
+			return mQueries;
+		case PDR_CACHED_QUERIES:
+			return mCachedQueries;
 		default:
 			throw new AssertionError("unknown data: " + keyEnum);
 		}
@@ -83,7 +104,9 @@ public final class PdrBenchmark extends StatisticsGeneratorWithStopwatches imple
 	 *
 	 */
 	public enum PdrStatisticsDefinitions implements IStatisticsElement {
-		PDR_RUNTIME(Long.class, StatisticsType.LONG_ADDITION, StatisticsType.NANOS_BEFORE_KEY);
+		PDR_RUNTIME(Long.class, StatisticsType.LONG_ADDITION, StatisticsType.NANOS_BEFORE_KEY),
+		PDR_QUERIES(Integer.class, StatisticsType.INTEGER_ADDITION, StatisticsType.DATA_BEFORE_KEY),
+		PDR_CACHED_QUERIES(Integer.class, StatisticsType.INTEGER_ADDITION, StatisticsType.DATA_BEFORE_KEY);
 
 		private final Class<?> mClazz;
 		private final Function<Object, Function<Object, Object>> mAggr;
@@ -43,15 +43,19 @@ public class BooleanDecision extends Decision<BooleanDecision> {
 	private static Vector<String> sAllVars = new Vector<>();
 
 	private final String mVar;
-	private int mGlobalIdx = -1;
-	private BooleanDecision mPrimeCache;
+	private final int mGlobalIdx;
+	private volatile BooleanDecision mPrimeCache;
 
 	public BooleanDecision(final String v) {
-		mGlobalIdx = sAllVars.indexOf(v);
-
-		if (mGlobalIdx < 0) {
-			sAllVars.add(v);
-			mGlobalIdx = sAllVars.indexOf(v);
+		synchronized (sAllVars) {
+			final int globalIdx = sAllVars.indexOf(v);
+
+			if (globalIdx < 0) {
+				sAllVars.add(v);
+				mGlobalIdx = sAllVars.size() - 1;
+			} else {
+				mGlobalIdx = globalIdx;
+			}
 		}
 
 		mVar = v;
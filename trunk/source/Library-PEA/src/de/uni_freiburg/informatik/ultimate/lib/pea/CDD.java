@@ -36,7 +36,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
-import de.uni_freiburg.informatik.ultimate.util.datastructures.UnifyHash;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.relation.Pair;
 
 /**
@@ -81,9 +80,9 @@ public final class CDD {
 	public static final CDD[] FALSE_CHILDS = { CDD.FALSE, CDD.TRUE };
 
 	/**
-	 * Hash to keep all equal CDDs identical.
+	 * Keeps all equal CDDs identical and memoizes the results of operations.
 	 */
-	private static final UnifyHash<CDD> UNIFY_HASH = new UnifyHash<>();
+	private static final CddManager MANAGER = CddManager.getInstance();
 
 	private static final Comparator<Decision<?>> DECISION_COMPARATOR = Decision.getComparator();
 
@@ -92,7 +91,7 @@ public final class CDD {
 	private final CDD[] mChilds;
 	private final boolean mTimed;
 
-	private CDD mPrimeCache;
+	private volatile CDD mPrimeCache;
 
 	/**
 	 * Create a new CDD with the given decision and sub diagrams.
@@ -141,17 +140,7 @@ public final class CDD {
 		for (int i = 0; i < childs.length; i++) {
 			hashcode = hashcode * (11 + i) ^ childs[i].hashCode();
 		}
-		final Iterator<CDD> iter = UNIFY_HASH.iterateHashCode(hashcode).iterator();
-
-		while (iter.hasNext()) {
-			final CDD current = iter.next();
-			if (current.isEqual(cdd)) {
-				return current;
-			}
-		}
-
-		UNIFY_HASH.put(hashcode, cdd);
-		return cdd;
+		return MANAGER.unify(cdd, hashcode);
 	}
 
 	public boolean isEqual(final CDD cdd) {
@@ -213,6 +202,10 @@ public final class CDD {
 			}
 			return TRUE;
 		}
+		final CDD cached = MANAGER.lookup(CddManager.OP_NEGATE, this, null);
+		if (cached != null) {
+			return cached;
+		}
 
 		final CDD[] newchilds = new CDD[mChilds.length];
 
@@ -220,7 +213,9 @@ public final class CDD {
 			newchilds[i] = mChilds[i].negate();
 		}
 
-		return create(mDecision, newchilds);
+		final CDD result = create(mDecision, newchilds);
+		MANAGER.store(CddManager.OP_NEGATE, result, null, this);
+		return MANAGER.store(CddManager.OP_NEGATE, this, null, result);
 	}
 
 	/**
@@ -238,6 +233,10 @@ public final class CDD {
 		if (other == CDD.TRUE || this == CDD.FALSE) {
 			return this;
 		}
+		final CDD cached = MANAGER.lookup(CddManager.OP_AND, this, other);
+		if (cached != null) {
+			return cached;
+		}
 
 		return and(other, new HashMap<>());
 	}
@@ -267,6 +266,11 @@ public final class CDD {
 		if (result != null) {
 			return result;
 		}
+		result = MANAGER.lookup(CddManager.OP_AND, this, other);
+		if (result != null) {
+			cache2.put(other, result);
+			return result;
+		}
 		CDD[] newchilds;
 		final int cmpTo = DECISION_COMPARATOR.compare(mDecision, other.mDecision);
 
@@ -290,7 +294,7 @@ public final class CDD {
 			result = other.mDecision.simplify(newchilds);
 		}
 		cache2.put(other, result);
-		return result;
+		return MANAGER.store(CddManager.OP_AND, this, other, result);
 	}
 
 	/**
@@ -308,6 +312,10 @@ public final class CDD {
 		if (other == CDD.TRUE || this == CDD.FALSE) {
 			return other;
 		}
+		final CDD cached = MANAGER.lookup(CddManager.OP_OR, this, other);
+		if (cached != null) {
+			return cached;
+		}
 
 		final Map<CDD, Map<CDD, CDD>> cache = new HashMap<>();
 		return or(other, cache);
@@ -331,6 +339,11 @@ public final class CDD {
 		if (cachedResult != null) {
 			return cachedResult;
 		}
+		final CDD memoizedResult = MANAGER.lookup(CddManager.OP_OR, this, other);
+		if (memoizedResult != null) {
+			innerCache.put(other, memoizedResult);
+			return memoizedResult;
+		}
 
 		CDD[] newchilds;
 		final int cmpTo = DECISION_COMPARATOR.compare(mDecision, other.mDecision);
@@ -357,7 +370,7 @@ public final class CDD {
 		}
 		final CDD old = innerCache.put(other, result);
 		assert old == null;
-		return result;
+		return MANAGER.store(CddManager.OP_OR, this, other, result);
 	}
 
 	/**
@@ -372,7 +385,18 @@ public final class CDD {
 	 *            the assumption.
 	 * @return the simplified CDDs.
 	 */
-	public CDD assume(CDD assumption) {
+	public CDD assume(final CDD assumption) {
+		if (this == TRUE || this == FALSE || assumption == TRUE || assumption == FALSE) {
+			return assumeUncached(assumption);
+		}
+		final CDD cached = MANAGER.lookup(CddManager.OP_ASSUME, this, assumption);
+		if (cached != null) {
+			return cached;
+		}
+		return MANAGER.store(CddManager.OP_ASSUME, this, assumption, assumeUncached(assumption));
+	}
+
+	private CDD assumeUncached(CDD assumption) {
 		while (true) {
 			if (this == TRUE || assumption == FALSE) {
 				return TRUE;
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE Library-PEA plug-in.
+ *
+ * The ULTIMATE Library-PEA plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE Library-PEA plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE Library-PEA plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE Library-PEA plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE Library-PEA plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.lib.pea;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import de.uni_freiburg.informatik.ultimate.util.datastructures.UnifyHash;
+
+/**
+ * Manages the tables that are shared by all {@link CDD}s, i.e., the unique table that keeps equal {@link CDD}s
+ * identical and the computed table that memoizes the results of {@link CDD#and(CDD)}, {@link CDD#or(CDD)},
+ * {@link CDD#negate()}, and {@link CDD#assume(CDD)} across calls.
+ * <p>
+ * Both tables can be used concurrently. The unique table is split into segments that are locked independently and
+ * that only hold weak references, i.e., unused {@link CDD}s can still be garbage collected. The computed table is a
+ * lossy, direct-mapped cache of fixed size: each operation is stored at a slot determined by its operands and replaces
+ * the previous entry of this slot. Entries are immutable, so reading and replacing them needs no synchronization.
+ */
+public final class CddManager {
+
+	static final int OP_AND = 0;
+	static final int OP_OR = 1;
+	static final int OP_NEGATE = 2;
+	static final int OP_ASSUME = 3;
+
+	private static final int UNIQUE_TABLE_SEGMENTS = 64;
+	private static final int COMPUTED_TABLE_SIZE = 1 << 18;
+
+	private static final CddManager INSTANCE = new CddManager(UNIQUE_TABLE_SEGMENTS, COMPUTED_TABLE_SIZE);
+
+	private final UnifyHash<CDD>[] mUniqueTable;
+	private final int mUniqueTableMask;
+	private final ComputedEntry[] mComputedTable;
+	private final int mComputedTableMask;
+
+	private final LongAdder mComputedHits;
+	private final LongAdder mComputedMisses;
+
+	@SuppressWarnings("unchecked")
+	private CddManager(final int segments, final int computedTableSize) {
+		assert Integer.bitCount(segments) == 1 && Integer.bitCount(computedTableSize) == 1;
+		mUniqueTable = new UnifyHash[segments];
+		for (int i = 0; i < segments; ++i) {
+			mUniqueTable[i] = new UnifyHash<>();
+		}
+		mUniqueTableMask = segments - 1;
+		mComputedTable = new ComputedEntry[computedTableSize];
+		mComputedTableMask = computedTableSize - 1;
+		mComputedHits = new LongAdder();
+		mComputedMisses = new LongAdder();
+	}
+
+	/**
+	 * @return the manager that is used by all {@link CDD}s
+	 */
+	public static CddManager getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Return the {@link CDD} that equals the given one and was created before, or register the given one if there is
+	 * none.
+	 */
+	CDD unify(final CDD cdd, final int hashcode) {
+		final UnifyHash<CDD> segment = mUniqueTable[spread(hashcode) & mUniqueTableMask];
+		synchronized (segment) {
+			for (final CDD current : segment.iterateHashCode(hashcode)) {
+				if (current.isEqual(cdd)) {
+					return current;
+				}
+			}
+			segment.put(hashcode, cdd);
+			return cdd;
+		}
+	}
+
+	/**
+	 * @return the memoized result of the given operation or null if there is none
+	 */
+	CDD lookup(final int op, final CDD first, final CDD second) {
+		final ComputedEntry entry = mComputedTable[slot(op, first, second)];
+		if (entry != null && entry.mOp == op && entry.mFirst == first && entry.mSecond == second) {
+			mComputedHits.increment();
+			return entry.mResult;
+		}
+		mComputedMisses.increment();
+		return null;
+	}
+
+	/**
+	 * Memoize the result of the given operation.
+	 */
+	CDD store(final int op, final CDD first, final CDD second, final CDD result) {
+		mComputedTable[slot(op, first, second)] = new ComputedEntry(op, first, second, result);
+		return result;
+	}
+
+	/**
+	 * Drop all memoized results and reset the hit and miss counters of the computed table. The computed table holds
+	 * strong references, hence users should call this method when they are done, such that the {@link CDD}s it
+	 * references can be garbage collected.
+	 */
+	public void clearComputedTable() {
+		for (int i = 0; i < mComputedTable.length; ++i) {
+			mComputedTable[i] = null;
+		}
+		mComputedHits.reset();
+		mComputedMisses.reset();
+	}
+
+	/**
+	 * @return the number of {@link CDD}s in the unique table
+	 */
+	public int getNumberOfCdds() {
+		int rtr = 0;
+		for (final UnifyHash<CDD> segment : mUniqueTable) {
+			synchronized (segment) {
+				segment.cleanUp();
+				rtr += segment.size();
+			}
+		}
+		return rtr;
+	}
+
+	@Override
+	public String toString() {
+		final long hits = mComputedHits.sum();
+		final long misses = mComputedMisses.sum();
+		return String.format("%s CDDs, computed table: %s hits, %s misses (%.1f%% hit rate)", getNumberOfCdds(), hits,
+				misses, hits + misses == 0 ? 0.0 : 100.0 * hits / (hits + misses));
+	}
+
+	private int slot(final int op, final CDD first, final CDD second) {
+		int hash = System.identityHashCode(first) * 31 + op;
+		hash = hash * 31 + System.identityHashCode(second);
+		return spread(hash) & mComputedTableMask;
+	}
+
+	private static int spread(final int hash) {
+		final int rtr = hash * 0x9E3779B9;
+		return rtr ^ rtr >>> 16;
+	}
+
+	private static final class ComputedEntry {
+		private final int mOp;
+		private final CDD mFirst;
+		private final CDD mSecond;
+		private final CDD mResult;
+
+		private ComputedEntry(final int op, final CDD first, final CDD second, final CDD result) {
+			mOp = op;
+			mFirst = first;
+			mSecond = second;
+			mResult = result;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE ReqParser plug-in.
+ *
+ * The ULTIMATE ReqParser plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE ReqParser plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE ReqParser plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE ReqParser plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE ReqParser plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.lib.pea.test;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.lib.pea.BooleanDecision;
+import de.uni_freiburg.informatik.ultimate.lib.pea.CDD;
+import de.uni_freiburg.informatik.ultimate.lib.pea.CddManager;
+import de.uni_freiburg.informatik.ultimate.lib.pea.RangeDecision;
+
+/**
+ * Tests that {@link CDD}s stay canonical if they are memoized by the {@link CddManager} and if they are created
+ * concurrently.
+ */
+@RunWith(JUnit4.class)
+public class CddManagerTest {
+
+	private static final int THREADS = 8;
+	private static final int VARS = 12;
+
+	@Test
+	public void memoizedResultsAreCanonical() {
+		final CDD a = BooleanDecision.create("mt_a");
+		final CDD b = BooleanDecision.create("mt_b");
+		final CDD c = RangeDecision.create("mt_c", RangeDecision.OP_LT, 5);
+
+		final CDD first = a.and(b.or(c));
+		final CDD second = a.and(b.or(c));
+		assertSame(first, second);
+		assertSame(first, a.and(b).or(a.and(c)));
+
+		CddManager.getInstance().clearComputedTable();
+		assertSame(first, a.and(b.or(c)));
+		assertSame(first, first.negate().negate());
+		assertSame(CDD.FALSE, first.and(first.negate()));
+		assertSame(a.and(b), a.and(b).assume(c));
+	}
+
+	@Test
+	public void clearingResetsStatistics() {
+		final CDD a = BooleanDecision.create("cs_a");
+		final CDD b = BooleanDecision.create("cs_b");
+		a.and(b);
+		a.and(b);
+
+		final CddManager manager = CddManager.getInstance();
+		manager.clearComputedTable();
+		assertTrue(manager.toString(), manager.toString().contains("computed table: 0 hits, 0 misses"));
+		final CDD conjunction = a.and(b);
+		assertSame(conjunction, a.and(b));
+	}
+
+	@Test
+	public void concurrentOperationsAreCanonical() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			final List<Future<CDD>> results = new ArrayList<>();
+			for (int i = 0; i < THREADS * 4; ++i) {
+				final int offset = i;
+				results.add(executor.submit(() -> buildFormula(offset)));
+			}
+			final CDD expected = buildFormula(0);
+			for (final Future<CDD> result : results) {
+				assertSame(expected, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Build (x_0 xor x_1) or ... or (x_{n-2} xor x_{n-1}) in an order that depends on the offset.
+	 */
+	private static CDD buildFormula(final int offset) {
+		CDD rtr = CDD.FALSE;
+		for (int i = 0; i < VARS - 1; ++i) {
+			final int idx = (i + offset) % (VARS - 1);
+			final CDD x = BooleanDecision.create("ct_x" + idx);
+			final CDD y = BooleanDecision.create("ct_x" + (idx + 1));
+			rtr = rtr.or(x.and(y.negate()).or(x.negate().and(y)));
+		}
+		return rtr;
+	}
+}
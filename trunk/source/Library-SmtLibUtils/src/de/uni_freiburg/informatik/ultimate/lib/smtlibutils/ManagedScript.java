@@ -42,7 +42,9 @@ import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
 import de.uni_freiburg.informatik.ultimate.logic.Sort;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.TermVariable;
+import de.uni_freiburg.informatik.ultimate.logic.WrapperScript;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.MultiElementCounter;
+import de.uni_freiburg.informatik.ultimate.util.statistics.EventTracer;
 
 /**
  * Wrapper for an {@link Script} with additional locking mechanism. Additionally this class provides a mechanism to
@@ -52,12 +54,19 @@ import de.uni_freiburg.informatik.ultimate.util.datastructures.MultiElementCount
  */
 public class ManagedScript {
 	private static final String MANAGED_SCRIPT_LOCKED_BY = "ManagedScript locked by ";
+	private static final String TRACE_CATEGORY = "SMT";
 	protected final IUltimateServiceProvider mServices;
 	protected final Script mScript;
 	protected final ILogger mLogger;
 	protected final VariableManager mVariableManager;
 	private final SkolemFunctionManager mSkolemFunctionManager;
 
+	/**
+	 * The telemetry to which lock owners are reported as callers, or null if the script is not wrapped in a
+	 * {@link TelemetryScript}, i.e., if telemetry was disabled in the settings of the solver.
+	 */
+	private final SmtTelemetry mTelemetry;
+
 	private Object mLockOwner;
 
 	public ManagedScript(final IUltimateServiceProvider services, final Script script) {
@@ -67,6 +76,22 @@ public class ManagedScript {
 		mLogger = mServices.getLoggingService().getLogger(SmtLibUtils.PLUGIN_ID);
 		mVariableManager = new VariableManager();
 		mSkolemFunctionManager = new SkolemFunctionManager();
+		mTelemetry = getTelemetry(script);
+	}
+
+	private static SmtTelemetry getTelemetry(final Script script) {
+		if (!(script instanceof WrapperScript)) {
+			return null;
+		}
+		final TelemetryScript telemetryScript = ((WrapperScript) script).findBacking(TelemetryScript.class);
+		return telemetryScript == null ? null : telemetryScript.getTelemetry();
+	}
+
+	/**
+	 * @return the telemetry to which the queries of this script are reported or null if telemetry is disabled
+	 */
+	public SmtTelemetry getTelemetry() {
+		return mTelemetry;
 	}
 
 	public void lock(final Object lockOwner) {
@@ -75,6 +100,9 @@ public class ManagedScript {
 		}
 		if (mLockOwner == null) {
 			mLockOwner = lockOwner;
+			if (mTelemetry != null) {
+				mTelemetry.enterCaller(lockOwner, getCallerName(lockOwner));
+			}
 			if (mLogger.isDebugEnabled()) {
 				mLogger.debug(MANAGED_SCRIPT_LOCKED_BY + lockOwner.toString());
 			}
@@ -89,6 +117,9 @@ public class ManagedScript {
 		}
 		if (mLockOwner == lockOwner) {
 			mLockOwner = null;
+			if (mTelemetry != null) {
+				mTelemetry.exitCaller(lockOwner);
+			}
 			if (mLogger.isDebugEnabled()) {
 				mLogger.debug("ManagedScript unlocked by " + lockOwner.toString());
 			}
@@ -97,6 +128,11 @@ public class ManagedScript {
 		}
 	}
 
+	private static String getCallerName(final Object lockOwner) {
+		final String name = lockOwner.getClass().getSimpleName();
+		return name.isEmpty() ? lockOwner.getClass().getName() : name;
+	}
+
 	public boolean isLocked() {
 		return mLockOwner != null;
 	}
@@ -145,7 +181,9 @@ public class ManagedScript {
 
 	public LBool checkSat(final Object lockOwner) throws SMTLIBException {
 		assert lockOwner == mLockOwner : generateLockErrorMessage(lockOwner, mLockOwner);
-		return mScript.checkSat();
+		try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "check-sat")) {
+			return mScript.checkSat();
+		}
 	}
 
 	public Term[] getUnsatCore(final Object lockOwner) throws SMTLIBException, UnsupportedOperationException {
@@ -198,13 +236,17 @@ public class ManagedScript {
 	public Term[] getInterpolants(final Object lockOwner, final Term[] partition)
 			throws SMTLIBException, UnsupportedOperationException {
 		assert lockOwner == mLockOwner : generateLockErrorMessage(lockOwner, mLockOwner);
-		return mScript.getInterpolants(partition);
+		try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "get-interpolants")) {
+			return mScript.getInterpolants(partition);
+		}
 	}
 
 	public Term[] getInterpolants(final Object lockOwner, final Term[] partition, final int[] startOfSubtree)
 			throws SMTLIBException, UnsupportedOperationException {
 		assert lockOwner == mLockOwner : generateLockErrorMessage(lockOwner, mLockOwner);
-		return mScript.getInterpolants(partition, startOfSubtree);
+		try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "get-interpolants")) {
+			return mScript.getInterpolants(partition, startOfSubtree);
+		}
 	}
 
 	private static String generateLockErrorMessage(final Object expectedLockOwner, final Object actualLockOwner) {
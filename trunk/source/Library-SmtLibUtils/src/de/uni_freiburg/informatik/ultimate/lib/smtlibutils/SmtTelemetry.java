@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE ModelCheckerUtils Library.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE ModelCheckerUtils Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE ModelCheckerUtils Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE ModelCheckerUtils Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.lib.smtlibutils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import de.uni_freiburg.informatik.ultimate.core.model.services.IStorable;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IToolchainStorage;
+import de.uni_freiburg.informatik.ultimate.util.CoreUtil;
+import de.uni_freiburg.informatik.ultimate.util.statistics.AbstractStatisticsDataProvider;
+import de.uni_freiburg.informatik.ultimate.util.statistics.Aggregate;
+import de.uni_freiburg.informatik.ultimate.util.statistics.PrettyPrint;
+
+/**
+ * Telemetry of all SMT solvers of a toolchain run. {@link TelemetryScript}s report the latency of their queries, which
+ * is collected in histograms per command and per caller. Additionally, the {@link #NUMBER_OF_SLOW_QUERIES} slowest
+ * queries are kept together with an SMT-LIB script that reproduces them, see
+ * {@link #writeSlowQueries(String, String)}.
+ * <p>
+ * The caller of a query is the caller that was most recently entered by the current thread via
+ * {@link #enterCaller(Object, String)} and not yet exited. Callers are identified by their owner, hence they do not
+ * have to be exited in the reverse order in which they were entered. A {@link ManagedScript} whose script reports to
+ * this telemetry uses the class of its lock owner as caller, e.g., the trace check or the Hoare triple checker that
+ * currently uses the solver. The callers are kept per toolchain run and dropped by {@link #destroy()}, hence callers
+ * that are never exited do not outlive the run on pooled threads.
+ * <p>
+ * There is one instance per toolchain run, see {@link #getOrCreate(IToolchainStorage)}. All methods are thread-safe.
+ */
+public final class SmtTelemetry extends AbstractStatisticsDataProvider implements IStorable {
+
+	/**
+	 * Number of queries whose reproduction scripts are kept.
+	 */
+	public static final int NUMBER_OF_SLOW_QUERIES = 10;
+
+	private static final String STORAGE_KEY = SmtTelemetry.class.getName();
+	private static final String UNKNOWN_CALLER = "Unknown";
+	private static final String SLOW_QUERY_SUFFIX = "_slowQuery";
+	private static final String SMT2_FILE_ENDING = ".smt2";
+
+	/**
+	 * The entered callers of each thread, in the order in which they were entered. Each map is only accessed by its
+	 * thread.
+	 */
+	private final Map<Thread, Map<Object, String>> mCallers = new ConcurrentHashMap<>();
+	private final Map<String, LatencyHistogram> mLatencyPerCommand = new TreeMap<>();
+	private final Map<String, LatencyHistogram> mLatencyPerCaller = new TreeMap<>();
+	private final PriorityQueue<SlowQuery> mSlowQueries =
+			new PriorityQueue<>(Comparator.comparingLong(SlowQuery::getDurationNanos));
+
+	public SmtTelemetry() {
+		declare("Latency per command", this::getLatencyPerCommand, SmtTelemetry::aggregateHistograms,
+				PrettyPrint::keyColonData);
+		declare("Latency per caller", this::getLatencyPerCaller, SmtTelemetry::aggregateHistograms,
+				PrettyPrint::keyColonData);
+		declare("Slowest queries", this::getSlowQueries, Aggregate::appendList,
+				PrettyPrint.list(PrettyPrint::keyColonData, Object::toString));
+	}
+
+	/**
+	 * @return the telemetry of the toolchain run that uses the given storage; it is created if necessary
+	 */
+	public static SmtTelemetry getOrCreate(final IToolchainStorage storage) {
+		synchronized (storage) {
+			final SmtTelemetry telemetry = get(storage);
+			if (telemetry != null) {
+				return telemetry;
+			}
+			final SmtTelemetry newTelemetry = new SmtTelemetry();
+			storage.putStorable(STORAGE_KEY, newTelemetry);
+			return newTelemetry;
+		}
+	}
+
+	/**
+	 * @return the telemetry of the toolchain run that uses the given storage or null if no solver was constructed yet
+	 */
+	public static SmtTelemetry get(final IToolchainStorage storage) {
+		return (SmtTelemetry) storage.getStorable(STORAGE_KEY);
+	}
+
+	/**
+	 * Attribute all queries of the current thread to the given caller until {@link #exitCaller(Object)} is called
+	 * with the same owner or another caller is entered. The returned scope exits the caller when it is closed and can
+	 * be used with try-with-resources.
+	 *
+	 * @param owner
+	 *            identifies the caller, e.g., the lock owner of a {@link ManagedScript}
+	 */
+	public CallerScope enterCaller(final Object owner, final String caller) {
+		final Map<Object, String> callers =
+				mCallers.computeIfAbsent(Thread.currentThread(), x -> new LinkedHashMap<>());
+		// re-insert to make the caller the most recent one
+		callers.remove(owner);
+		callers.put(owner, caller);
+		return new CallerScope(this, owner);
+	}
+
+	/**
+	 * Stop attributing queries of the current thread to the caller of the given owner. If it was the most recent
+	 * caller, queries are attributed to the most recent caller that is still entered.
+	 */
+	public void exitCaller(final Object owner) {
+		final Thread thread = Thread.currentThread();
+		final Map<Object, String> callers = mCallers.get(thread);
+		if (callers == null) {
+			return;
+		}
+		callers.remove(owner);
+		if (callers.isEmpty()) {
+			mCallers.remove(thread);
+		}
+	}
+
+	/**
+	 * @return the caller to which queries of the current thread are attributed
+	 */
+	public String getCurrentCaller() {
+		final Map<Object, String> callers = mCallers.get(Thread.currentThread());
+		String caller = UNKNOWN_CALLER;
+		if (callers != null) {
+			for (final String entered : callers.values()) {
+				caller = entered;
+			}
+		}
+		return caller;
+	}
+
+	/**
+	 * @return true iff a query of the given duration would be one of the slowest queries. Used to avoid the
+	 *         construction of reproduction scripts for fast queries.
+	 */
+	public synchronized boolean isSlowQuery(final long durationNanos) {
+		return mSlowQueries.size() < NUMBER_OF_SLOW_QUERIES || mSlowQueries.peek().getDurationNanos() < durationNanos;
+	}
+
+	/**
+	 * Record a query.
+	 *
+	 * @param reproduction
+	 *            a script that reproduces the query or null if the query is not a slow query
+	 */
+	public synchronized void record(final String command, final String caller, final long durationNanos,
+			final TelemetryScript.ReproductionScript reproduction) {
+		mLatencyPerCommand.computeIfAbsent(command, x -> new LatencyHistogram()).add(durationNanos);
+		mLatencyPerCaller.computeIfAbsent(caller, x -> new LatencyHistogram()).add(durationNanos);
+		if (reproduction != null && isSlowQuery(durationNanos)) {
+			mSlowQueries.add(new SlowQuery(command, caller, durationNanos, reproduction));
+			if (mSlowQueries.size() > NUMBER_OF_SLOW_QUERIES) {
+				mSlowQueries.poll();
+			}
+		}
+	}
+
+	public synchronized Map<String, LatencyHistogram> getLatencyPerCommand() {
+		return copy(mLatencyPerCommand);
+	}
+
+	public synchronized Map<String, LatencyHistogram> getLatencyPerCaller() {
+		return copy(mLatencyPerCaller);
+	}
+
+	/**
+	 * @return the slowest queries, slowest first
+	 */
+	public synchronized List<SlowQuery> getSlowQueries() {
+		final List<SlowQuery> rtr = new ArrayList<>(mSlowQueries);
+		rtr.sort(Comparator.comparingLong(SlowQuery::getDurationNanos).reversed());
+		return rtr;
+	}
+
+	/**
+	 * Write the reproduction script of each of the slowest queries to a file
+	 * <code>&lt;baseName&gt;_slowQuery&lt;i&gt;.smt2</code> in the given directory, where i is the rank of the query.
+	 * Afterwards, the string representation of each query contains the path of its file.
+	 *
+	 * @return the written files, slowest query first
+	 */
+	public List<File> writeSlowQueries(final String directory, final String baseName) throws IOException {
+		final List<SlowQuery> queries = getSlowQueries();
+		final List<File> rtr = new ArrayList<>(queries.size());
+		for (int i = 0; i < queries.size(); ++i) {
+			final File file = new File(directory, baseName + SLOW_QUERY_SUFFIX + i + SMT2_FILE_ENDING);
+			queries.get(i).writeReproductionScript(file);
+			rtr.add(file);
+		}
+		return rtr;
+	}
+
+	@Override
+	public synchronized void destroy() {
+		mSlowQueries.clear();
+		mCallers.clear();
+	}
+
+	private static Map<String, LatencyHistogram> copy(final Map<String, LatencyHistogram> histograms) {
+		final Map<String, LatencyHistogram> rtr = new TreeMap<>();
+		for (final Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+			rtr.put(entry.getKey(), new LatencyHistogram(entry.getValue()));
+		}
+		return rtr;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object aggregateHistograms(final Object lhs, final Object rhs) {
+		final Map<String, LatencyHistogram> rtr = copy((Map<String, LatencyHistogram>) lhs);
+		for (final Entry<String, LatencyHistogram> entry : ((Map<String, LatencyHistogram>) rhs).entrySet()) {
+			rtr.computeIfAbsent(entry.getKey(), x -> new LatencyHistogram()).addAll(entry.getValue());
+		}
+		return rtr;
+	}
+
+	/**
+	 * Exits the caller of its owner when closed.
+	 */
+	public static final class CallerScope implements AutoCloseable {
+		private final SmtTelemetry mTelemetry;
+		private final Object mOwner;
+
+		private CallerScope(final SmtTelemetry telemetry, final Object owner) {
+			mTelemetry = telemetry;
+			mOwner = owner;
+		}
+
+		@Override
+		public void close() {
+			mTelemetry.exitCaller(mOwner);
+		}
+	}
+
+	/**
+	 * Histogram of latencies with buckets whose bounds are powers of two milliseconds.
+	 */
+	public static final class LatencyHistogram {
+		private static final int NUMBER_OF_BUCKETS = 32;
+
+		private final long[] mBuckets;
+		private long mCount;
+		private long mTotalNanos;
+		private long mMaxNanos;
+
+		LatencyHistogram() {
+			mBuckets = new long[NUMBER_OF_BUCKETS];
+		}
+
+		LatencyHistogram(final LatencyHistogram other) {
+			mBuckets = other.mBuckets.clone();
+			mCount = other.mCount;
+			mTotalNanos = other.mTotalNanos;
+			mMaxNanos = other.mMaxNanos;
+		}
+
+		void add(final long durationNanos) {
+			final long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+			final int bucket = Math.min(Long.SIZE - Long.numberOfLeadingZeros(millis), NUMBER_OF_BUCKETS - 1);
+			mBuckets[bucket]++;
+			mCount++;
+			mTotalNanos += durationNanos;
+			mMaxNanos = Math.max(mMaxNanos, durationNanos);
+		}
+
+		void addAll(final LatencyHistogram other) {
+			for (int i = 0; i < NUMBER_OF_BUCKETS; ++i) {
+				mBuckets[i] += other.mBuckets[i];
+			}
+			mCount += other.mCount;
+			mTotalNanos += other.mTotalNanos;
+			mMaxNanos = Math.max(mMaxNanos, other.mMaxNanos);
+		}
+
+		public long getCount() {
+			return mCount;
+		}
+
+		public long getTotalNanos() {
+			return mTotalNanos;
+		}
+
+		public long getMaxNanos() {
+			return mMaxNanos;
+		}
+
+		/**
+		 * @return the number of latencies that are below 2^i ms and at least 2^(i-1) ms (at least 0 ms for i = 0)
+		 */
+		public long getBucket(final int i) {
+			return mBuckets[i];
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder sb = new StringBuilder();
+			sb.append(mCount).append(" queries, total ");
+			sb.append(CoreUtil.toTimeString(mTotalNanos, TimeUnit.NANOSECONDS, TimeUnit.MILLISECONDS, 0));
+			sb.append(", max ");
+			sb.append(CoreUtil.toTimeString(mMaxNanos, TimeUnit.NANOSECONDS, TimeUnit.MILLISECONDS, 0));
+			sb.append(" [");
+			String sep = "";
+			for (int i = 0; i < NUMBER_OF_BUCKETS; ++i) {
+				if (mBuckets[i] == 0) {
+					continue;
+				}
+				sb.append(sep).append('<').append(1L << i).append("ms: ").append(mBuckets[i]);
+				sep = ", ";
+			}
+			sb.append(']');
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * A query of the SMT solver together with an SMT-LIB script that reproduces it.
+	 */
+	public static final class SlowQuery {
+		private final String mCommand;
+		private final String mCaller;
+		private final long mDurationNanos;
+		private final TelemetryScript.ReproductionScript mReproduction;
+		private volatile File mFile;
+
+		private SlowQuery(final String command, final String caller, final long durationNanos,
+				final TelemetryScript.ReproductionScript reproduction) {
+			mCommand = command;
+			mCaller = caller;
+			mDurationNanos = durationNanos;
+			mReproduction = reproduction;
+		}
+
+		public String getCommand() {
+			return mCommand;
+		}
+
+		public String getCaller() {
+			return mCaller;
+		}
+
+		public long getDurationNanos() {
+			return mDurationNanos;
+		}
+
+		/**
+		 * @return an SMT-LIB script that reproduces this query. The script is constructed on demand.
+		 */
+		public String getReproductionScript() {
+			return mReproduction.toString();
+		}
+
+		/**
+		 * @return the file to which the reproduction script was written or null if it was not written yet
+		 */
+		public File getFile() {
+			return mFile;
+		}
+
+		private void writeReproductionScript(final File file) throws IOException {
+			final File parent = file.getAbsoluteFile().getParentFile();
+			if (parent != null) {
+				Files.createDirectories(parent.toPath());
+			}
+			try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+				writer.write(getReproductionScript());
+			}
+			mFile = file;
+		}
+
+		@Override
+		public String toString() {
+			final String rtr = mCommand + " by " + mCaller + " took "
+					+ CoreUtil.toTimeString(mDurationNanos, TimeUnit.NANOSECONDS, TimeUnit.MILLISECONDS, 0) + " ("
+					+ mReproduction.getNumberOfCommands() + " commands)";
+			final File file = mFile;
+			return file == null ? rtr : rtr + " " + file.getAbsolutePath();
+		}
+	}
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE ModelCheckerUtils Library.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE ModelCheckerUtils Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE ModelCheckerUtils Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE ModelCheckerUtils Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE ModelCheckerUtils Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.lib.smtlibutils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Model;
+import de.uni_freiburg.informatik.ultimate.logic.PrintTerm;
+import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.TermVariable;
+import de.uni_freiburg.informatik.ultimate.logic.WrapperScript;
+
+/**
+ * {@link WrapperScript} that reports the latency of each query to an {@link SmtTelemetry}.
+ * <p>
+ * In contrast to a {@link de.uni_freiburg.informatik.ultimate.logic.LoggingScript}, this script does not print
+ * commands. It only keeps references to the declarations and assertions that are currently on the assertion stack.
+ * An SMT-LIB script is only constructed if a query is one of the slowest queries, and it is only printed on demand.
+ * Datatype declarations are not recorded.
+ * <p>
+ * The solver builder only wraps solvers in this script if telemetry is enabled, see
+ * {@code SolverSettings#setCollectTelemetry(boolean)}.
+ */
+public class TelemetryScript extends WrapperScript {
+
+	private static final String CHECK_SAT = "check-sat";
+	private static final String CHECK_SAT_ASSUMING = "check-sat-assuming";
+	private static final String GET_INTERPOLANTS = "get-interpolants";
+	private static final String GET_UNSAT_CORE = "get-unsat-core";
+	private static final String GET_VALUE = "get-value";
+	private static final String GET_MODEL = "get-model";
+	private static final String GLOBAL_DECLARATIONS = ":global-declarations";
+
+	private final SmtTelemetry mTelemetry;
+	private final List<ICommand> mCommands;
+	/**
+	 * Number of commands when the assertion stack levels were pushed.
+	 */
+	private final Deque<Integer> mStackHeights;
+	/**
+	 * Number of commands that are not removed by reset-assertions.
+	 */
+	private int mPreambleSize;
+	private boolean mGlobalDeclarations;
+
+	public TelemetryScript(final Script wrappedScript, final SmtTelemetry telemetry) {
+		super(wrappedScript);
+		mTelemetry = telemetry;
+		mCommands = new ArrayList<>();
+		mStackHeights = new ArrayDeque<>();
+	}
+
+	public SmtTelemetry getTelemetry() {
+		return mTelemetry;
+	}
+
+	@Override
+	public void setLogic(final String logic) throws UnsupportedOperationException, SMTLIBException {
+		super.setLogic(logic);
+		addPreamble((sb, printer) -> sb.append("(set-logic ").append(logic).append(')'));
+	}
+
+	@Override
+	public void setLogic(final Logics logic) throws UnsupportedOperationException, SMTLIBException {
+		super.setLogic(logic);
+		addPreamble((sb, printer) -> sb.append("(set-logic ").append(logic.name()).append(')'));
+	}
+
+	@Override
+	public void setOption(final String opt, final Object value) throws UnsupportedOperationException, SMTLIBException {
+		super.setOption(opt, value);
+		if (GLOBAL_DECLARATIONS.equals(opt)) {
+			mGlobalDeclarations = Boolean.TRUE.equals(value);
+		}
+		addPreamble((sb, printer) -> sb.append("(set-option ").append(opt).append(' ')
+				.append(PrintTerm.quoteObjectIfString(value)).append(')'));
+	}
+
+	@Override
+	public void declareSort(final String sort, final int arity) throws SMTLIBException {
+		super.declareSort(sort, arity);
+		mCommands.add(new Declaration((sb, printer) -> sb.append("(declare-sort ")
+				.append(PrintTerm.quoteIdentifier(sort)).append(' ').append(arity).append(')')));
+	}
+
+	@Override
+	public void defineSort(final String sort, final Sort[] sortParams, final Sort definition) throws SMTLIBException {
+		super.defineSort(sort, sortParams, definition);
+		final Sort[] params = sortParams.clone();
+		mCommands.add(new Declaration((sb, printer) -> {
+			sb.append("(define-sort ").append(PrintTerm.quoteIdentifier(sort)).append(" (");
+			appendAll(sb, printer, params);
+			sb.append(") ");
+			printer.append(sb, definition);
+			sb.append(')');
+		}));
+	}
+
+	@Override
+	public void declareFun(final String fun, final Sort[] paramSorts, final Sort resultSort) throws SMTLIBException {
+		super.declareFun(fun, paramSorts, resultSort);
+		final Sort[] params = paramSorts.clone();
+		mCommands.add(new Declaration((sb, printer) -> {
+			sb.append("(declare-fun ").append(PrintTerm.quoteIdentifier(fun)).append(" (");
+			appendAll(sb, printer, params);
+			sb.append(") ");
+			printer.append(sb, resultSort);
+			sb.append(')');
+		}));
+	}
+
+	@Override
+	public void defineFun(final String fun, final TermVariable[] params, final Sort resultSort, final Term definition)
+			throws SMTLIBException {
+		super.defineFun(fun, params, resultSort, definition);
+		final TermVariable[] vars = params.clone();
+		mCommands.add(new Declaration((sb, printer) -> {
+			sb.append("(define-fun ").append(PrintTerm.quoteIdentifier(fun)).append(" (");
+			String sep = "";
+			for (final TermVariable var : vars) {
+				sb.append(sep).append('(').append(var).append(' ');
+				printer.append(sb, var.getSort());
+				sb.append(')');
+				sep = " ";
+			}
+			sb.append(") ");
+			printer.append(sb, resultSort);
+			sb.append(' ');
+			printer.append(sb, definition);
+			sb.append(')');
+		}));
+	}
+
+	@Override
+	public void push(final int levels) throws SMTLIBException {
+		super.push(levels);
+		for (int i = 0; i < levels; ++i) {
+			mStackHeights.push(mCommands.size());
+		}
+	}
+
+	@Override
+	public void pop(final int levels) throws SMTLIBException {
+		super.pop(levels);
+		int height = mCommands.size();
+		for (int i = 0; i < levels; ++i) {
+			height = mStackHeights.pop();
+		}
+		truncate(height);
+	}
+
+	@Override
+	public LBool assertTerm(final Term term) throws SMTLIBException {
+		final LBool result = super.assertTerm(term);
+		mCommands.add((sb, printer) -> {
+			sb.append("(assert ");
+			printer.append(sb, term);
+			sb.append(')');
+		});
+		return result;
+	}
+
+	@Override
+	public LBool checkSat() throws SMTLIBException {
+		return timeQuery(CHECK_SAT, (sb, printer) -> sb.append("(check-sat)"), super::checkSat);
+	}
+
+	@Override
+	public LBool checkSatAssuming(final Term... assumptions) throws SMTLIBException {
+		final Term[] terms = assumptions.clone();
+		return timeQuery(CHECK_SAT_ASSUMING, (sb, printer) -> {
+			sb.append("(check-sat-assuming (");
+			appendAll(sb, printer, terms);
+			sb.append("))");
+		}, () -> super.checkSatAssuming(assumptions));
+	}
+
+	@Override
+	public Term[] getUnsatCore() throws SMTLIBException, UnsupportedOperationException {
+		return timeQuery(GET_UNSAT_CORE, (sb, printer) -> sb.append("(check-sat)\n(get-unsat-core)"),
+				super::getUnsatCore);
+	}
+
+	@Override
+	public Map<Term, Term> getValue(final Term[] terms) throws SMTLIBException, UnsupportedOperationException {
+		final Term[] values = terms.clone();
+		return timeQuery(GET_VALUE, (sb, printer) -> {
+			sb.append("(check-sat)\n(get-value (");
+			appendAll(sb, printer, values);
+			sb.append("))");
+		}, () -> super.getValue(terms));
+	}
+
+	@Override
+	public Model getModel() throws SMTLIBException, UnsupportedOperationException {
+		return timeQuery(GET_MODEL, (sb, printer) -> sb.append("(check-sat)\n(get-model)"), super::getModel);
+	}
+
+	@Override
+	public Term[] getInterpolants(final Term[] partition) throws SMTLIBException, UnsupportedOperationException {
+		final Term[] terms = partition.clone();
+		return timeQuery(GET_INTERPOLANTS, (sb, printer) -> {
+			sb.append("(check-sat)\n(get-interpolants ");
+			appendAll(sb, printer, terms);
+			sb.append(')');
+		}, () -> super.getInterpolants(partition));
+	}
+
+	@Override
+	public Term[] getInterpolants(final Term[] partition, final int[] startOfSubtree)
+			throws SMTLIBException, UnsupportedOperationException {
+		return timeQuery(GET_INTERPOLANTS, treeInterpolantQuery(partition, startOfSubtree),
+				() -> super.getInterpolants(partition, startOfSubtree));
+	}
+
+	@Override
+	public Term[] getInterpolants(final Term[] partition, final int[] startOfSubtree, final Term proofTree)
+			throws SMTLIBException, UnsupportedOperationException {
+		return timeQuery(GET_INTERPOLANTS, treeInterpolantQuery(partition, startOfSubtree),
+				() -> super.getInterpolants(partition, startOfSubtree, proofTree));
+	}
+
+	@Override
+	public void resetAssertions() {
+		super.resetAssertions();
+		mStackHeights.clear();
+		mCommands.subList(mPreambleSize, mCommands.size()).clear();
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		mStackHeights.clear();
+		mCommands.clear();
+		mPreambleSize = 0;
+		mGlobalDeclarations = false;
+	}
+
+	private void addPreamble(final ICommand command) {
+		mCommands.add(command);
+		if (mStackHeights.isEmpty()) {
+			mPreambleSize = mCommands.size();
+		}
+	}
+
+	/**
+	 * Remove all commands after the given height, but keep declarations if declarations are global.
+	 */
+	private void truncate(final int height) {
+		final List<ICommand> removed = mCommands.subList(height, mCommands.size());
+		if (mGlobalDeclarations) {
+			final List<ICommand> declarations = new ArrayList<>();
+			for (final ICommand command : removed) {
+				if (command instanceof Declaration) {
+					declarations.add(command);
+				}
+			}
+			removed.clear();
+			mCommands.addAll(declarations);
+		} else {
+			removed.clear();
+		}
+	}
+
+	private <T> T timeQuery(final String command, final ICommand query, final Supplier<T> solverCall) {
+		final String caller = mTelemetry.getCurrentCaller();
+		final long start = System.nanoTime();
+		try {
+			return solverCall.get();
+		} finally {
+			final long duration = System.nanoTime() - start;
+			final ReproductionScript reproduction =
+					mTelemetry.isSlowQuery(duration) ? new ReproductionScript(mCommands, query) : null;
+			mTelemetry.record(command, caller, duration, reproduction);
+		}
+	}
+
+	private static ICommand treeInterpolantQuery(final Term[] partition, final int[] startOfSubtree) {
+		final Term[] terms = partition.clone();
+		final int[] starts = startOfSubtree.clone();
+		// see LoggingScript for the grammar of tree interpolation queries
+		return (sb, printer) -> {
+			sb.append("(check-sat)\n(get-interpolants ");
+			printer.append(sb, terms[0]);
+			for (int i = 1; i < terms.length; ++i) {
+				int prevStart = starts[i - 1];
+				while (starts[i] < prevStart) {
+					sb.append(')');
+					prevStart = starts[prevStart - 1];
+				}
+				sb.append(' ');
+				if (starts[i] == i) {
+					sb.append('(');
+				}
+				printer.append(sb, terms[i]);
+			}
+			sb.append(')');
+		};
+	}
+
+	private static void appendAll(final StringBuilder sb, final PrintTerm printer, final Object[] elems) {
+		String sep = "";
+		for (final Object elem : elems) {
+			sb.append(sep);
+			if (elem instanceof Term) {
+				printer.append(sb, (Term) elem);
+			} else {
+				printer.append(sb, (Sort) elem);
+			}
+			sep = " ";
+		}
+	}
+
+	/**
+	 * A recorded SMT-LIB command.
+	 */
+	@FunctionalInterface
+	private interface ICommand {
+		void print(StringBuilder sb, PrintTerm printer);
+	}
+
+	/**
+	 * A declaration or definition of a sort or function, which survives pop if declarations are global.
+	 */
+	private static final class Declaration implements ICommand {
+		private final ICommand mCommand;
+
+		private Declaration(final ICommand command) {
+			mCommand = command;
+		}
+
+		@Override
+		public void print(final StringBuilder sb, final PrintTerm printer) {
+			mCommand.print(sb, printer);
+		}
+	}
+
+	/**
+	 * The commands that were on the assertion stack when a query was asked, followed by the query.
+	 */
+	public static final class ReproductionScript {
+		private final List<ICommand> mCommands;
+
+		private ReproductionScript(final List<ICommand> commands, final ICommand query) {
+			mCommands = new ArrayList<>(commands.size() + 1);
+			mCommands.addAll(commands);
+			mCommands.add(query);
+		}
+
+		public int getNumberOfCommands() {
+			return mCommands.size();
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder sb = new StringBuilder();
+			final PrintTerm printer = new PrintTerm();
+			for (final ICommand command : mCommands) {
+				command.print(sb, printer);
+				sb.append('\n');
+			}
+			return sb.toString();
+		}
+	}
+}
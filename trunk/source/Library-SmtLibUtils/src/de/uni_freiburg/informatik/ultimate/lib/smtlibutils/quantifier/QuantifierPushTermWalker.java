@@ -36,6 +36,7 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.ManagedScript;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.PolyPacSimplificationTermWalker;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtTelemetry;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtUtils;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtUtils.ExtendedSimplificationResult;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtUtils.SimplificationTechnique;
@@ -66,6 +67,7 @@ public class QuantifierPushTermWalker extends TermWalker<Context> {
 
 	private static final boolean DEBUG_CHECK_RESULT = false;
 	private static final boolean DEBUG_CHECK_SIMPLIFICATION_POTENTIAL_OF_INPUT_AND_OUTPUT = false;
+	private static final String TELEMETRY_CALLER = "QuantifierElimination";
 
 
 	private final IUltimateServiceProvider mServices;
@@ -294,9 +296,14 @@ public class QuantifierPushTermWalker extends TermWalker<Context> {
 		checkSimplificationPotential(services, script, "Quantifier elimination called on non-simplified input",
 				inputTerm);
 		final Comparator<Term> siblingOrder = null;
-		final Term result = TermContextTransformationEngine.transform(new QuantifierPushTermWalker(services,
-				applyDistributivity, quantifierEliminationTechniques, simplificationTechnique, script), siblingOrder,
-				context, inputTerm);
+		final QuantifierPushTermWalker walker = new QuantifierPushTermWalker(services, applyDistributivity,
+				quantifierEliminationTechniques, simplificationTechnique, script);
+		final Term result;
+		final SmtTelemetry telemetry = script.getTelemetry();
+		try (SmtTelemetry.CallerScope scope =
+				telemetry == null ? null : telemetry.enterCaller(walker, TELEMETRY_CALLER)) {
+			result = TermContextTransformationEngine.transform(walker, siblingOrder, context, inputTerm);
+		}
 		checkSimplificationPotential(services, script, "Quantifier elimination failed to simlify output", result);
 		if (DEBUG_CHECK_RESULT) {
 			final boolean tolerateUnknown = true;
@@ -41,6 +41,8 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.IToolchainStorage
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.scripttransfer.HistoryRecordingScript;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtSortUtils;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtTelemetry;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.TelemetryScript;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.arrays.DiffWrapperScript;
 import de.uni_freiburg.informatik.ultimate.logic.LoggingScript;
 import de.uni_freiburg.informatik.ultimate.logic.Logics;
@@ -109,7 +111,7 @@ public final class SolverBuilder {
 	 */
 	public static SolverSettings constructSolverSettings() throws AssertionError {
 		return new SolverSettings(SolverMode.Internal_SMTInterpol, false, false, null, null, -1, null, false, false,
-				false, null, null, false, false, null, false, Collections.emptyMap(), null, false);
+				false, null, null, false, false, null, false, Collections.emptyMap(), null, false, false);
 	}
 
 	/**
@@ -162,6 +164,9 @@ public final class SolverBuilder {
 			script = new LoggingScriptForMainTrackBenchmarks(script, settings.getBaseNameOfDumpedScript(),
 					settings.getPathOfDumpedScript());
 		}
+		if (settings.collectTelemetry()) {
+			script = new TelemetryScript(script, SmtTelemetry.getOrCreate(services.getStorage()));
+		}
 		return new HistoryRecordingScript(script);
 	}
 
@@ -394,6 +399,11 @@ public final class SolverBuilder {
 
 		private final boolean mUseMinimalUnsatCoreEnumerationForSmtInterpol;
 
+		/**
+		 * Report the latency of all queries to the {@link SmtTelemetry} of the toolchain run.
+		 */
+		private final boolean mCollectTelemetry;
+
 		private SolverSettings(final SolverMode solverMode, final boolean fakeNonIncrementalScript,
 				final boolean useExternalSolver, final String commandExternalSolver, final Logics solverLogic,
 				final long timeoutSmtInterpol, final ExternalInterpolator externalInterpolator,
@@ -402,7 +412,7 @@ public final class SolverBuilder {
 				final String baseNameOfDumpedScript, final boolean useDiffWrapper, final boolean dumpFeatureVector,
 				final String featureVectorDumpPath, final boolean compressDumpedScript,
 				final Map<String, String> additionalOptions, final ILogger logger,
-				final boolean useMinimalUnsatCoreEnumerationForSmtInterpol) {
+				final boolean useMinimalUnsatCoreEnumerationForSmtInterpol, final boolean collectTelemetry) {
 			mSolverMode = solverMode;
 			mFakeNonIncrementalScript = fakeNonIncrementalScript;
 			mUseExternalSolver = useExternalSolver;
@@ -422,6 +432,7 @@ public final class SolverBuilder {
 			mAdditionalOptions = additionalOptions;
 			mSolverLogger = logger;
 			mUseMinimalUnsatCoreEnumerationForSmtInterpol = useMinimalUnsatCoreEnumerationForSmtInterpol;
+			mCollectTelemetry = collectTelemetry;
 		}
 
 		public boolean fakeNonIncrementalScript() {
@@ -468,6 +479,10 @@ public final class SolverBuilder {
 			return mDumpMainTrackBenchmark;
 		}
 
+		public boolean collectTelemetry() {
+			return mCollectTelemetry;
+		}
+
 		public String getPathOfDumpedScript() {
 			return mPathOfDumpedScript;
 		}
@@ -521,7 +536,7 @@ public final class SolverBuilder {
 					mExternalSolverCommand, mSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator, enabled,
 					mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, folderPathOfDumpedFile, basenameOfDumpedFile,
 					mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath, compressScript, mAdditionalOptions,
-					mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol, mCollectTelemetry);
 		}
 
 		public SolverSettings setDumpUnsatCoreTrackBenchmark(final boolean enable) {
@@ -530,7 +545,8 @@ public final class SolverBuilder {
 					mExternalSolverCommand, mSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator,
 					mDumpSmtScriptToFile, enable, mDumpMainTrackBenchmark, mPathOfDumpedScript, mBaseNameOfDumpedScript,
 					mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath, mCompressDumpedScript,
-					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol,
+					mCollectTelemetry);
 		}
 
 		public SolverSettings setDumpMainTrackBenchmark(final boolean enable) {
@@ -540,7 +556,7 @@ public final class SolverBuilder {
 					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, enable, mPathOfDumpedScript,
 					mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath,
 					mCompressDumpedScript, mAdditionalOptions, mSolverLogger,
-					mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mUseMinimalUnsatCoreEnumerationForSmtInterpol, mCollectTelemetry);
 		}
 
 		public SolverSettings setDumpFeatureVectors(final boolean enabled, final String dumpPath) {
@@ -548,7 +564,8 @@ public final class SolverBuilder {
 					mExternalSolverCommand, mSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator,
 					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript,
 					mBaseNameOfDumpedScript, mUseDiffWrapper, enabled, dumpPath, mCompressDumpedScript,
-					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol,
+					mCollectTelemetry);
 		}
 
 		/**
@@ -567,7 +584,7 @@ public final class SolverBuilder {
 					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript,
 					mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath,
 					mCompressDumpedScript, mAdditionalOptions, mSolverLogger,
-					mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mUseMinimalUnsatCoreEnumerationForSmtInterpol, mCollectTelemetry);
 		}
 
 		public SolverSettings setUseExternalSolver(final boolean enable, final String externalSolverCommand,
@@ -576,7 +593,8 @@ public final class SolverBuilder {
 					externalSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator, mDumpSmtScriptToFile,
 					mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript, mBaseNameOfDumpedScript,
 					mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath, mCompressDumpedScript,
-					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol,
+					mCollectTelemetry);
 		}
 
 		/**
@@ -632,7 +650,7 @@ public final class SolverBuilder {
 					mTimeoutSmtInterpol, mExternalInterpolator, mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark,
 					mDumpMainTrackBenchmark, mPathOfDumpedScript, mBaseNameOfDumpedScript, mUseDiffWrapper,
 					mDumpFeatureVector, mFeatureVectorDumpPath, mCompressDumpedScript, mAdditionalOptions,
-					mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol, mCollectTelemetry);
 		}
 
 		public SolverSettings setSolverLogics(final Logics logics) {
@@ -640,7 +658,8 @@ public final class SolverBuilder {
 					mExternalSolverCommand, logics, mTimeoutSmtInterpol, mExternalInterpolator, mDumpSmtScriptToFile,
 					mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript, mBaseNameOfDumpedScript,
 					mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath, mCompressDumpedScript,
-					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol,
+					mCollectTelemetry);
 		}
 
 		public SolverSettings setUseMinimalUnsatCoreEnumerationForSmtInterpol(final boolean enable) {
@@ -648,7 +667,20 @@ public final class SolverBuilder {
 					mExternalSolverCommand, mSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator,
 					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript,
 					mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath,
-					mCompressDumpedScript, mAdditionalOptions, mSolverLogger, enable);
+					mCompressDumpedScript, mAdditionalOptions, mSolverLogger, enable, mCollectTelemetry);
+		}
+
+		/**
+		 * Report the latency of all queries of the solver to the {@link SmtTelemetry} of the toolchain run. The
+		 * telemetry keeps the assertion stack of the solver alive, hence it is disabled by default.
+		 */
+		public SolverSettings setCollectTelemetry(final boolean enable) {
+			return new SolverSettings(mSolverMode, mFakeNonIncrementalScript, mUseExternalSolver,
+					mExternalSolverCommand, mSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator,
+					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript,
+					mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath,
+					mCompressDumpedScript, mAdditionalOptions, mSolverLogger,
+					mUseMinimalUnsatCoreEnumerationForSmtInterpol, enable);
 		}
 
 		/**
@@ -674,7 +706,7 @@ public final class SolverBuilder {
 						mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark,
 						mPathOfDumpedScript, mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector,
 						mFeatureVectorDumpPath, mCompressDumpedScript, mAdditionalOptions, mSolverLogger,
-						mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+						mUseMinimalUnsatCoreEnumerationForSmtInterpol, mCollectTelemetry);
 			}
 
 			final boolean useExternalSolver;
@@ -736,7 +768,8 @@ public final class SolverBuilder {
 					logics, timeoutSmtInterpol, externalInterpolator, mDumpSmtScriptToFile,
 					mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript, mBaseNameOfDumpedScript,
 					useDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath, mCompressDumpedScript,
-					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mAdditionalOptions, mSolverLogger, mUseMinimalUnsatCoreEnumerationForSmtInterpol,
+					mCollectTelemetry);
 		}
 
 		public SolverSettings setAdditionalOptions(final Map<String, String> additionalOptions) {
@@ -745,7 +778,7 @@ public final class SolverBuilder {
 					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript,
 					mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath,
 					mCompressDumpedScript, Objects.requireNonNull(additionalOptions), mSolverLogger,
-					mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mUseMinimalUnsatCoreEnumerationForSmtInterpol, mCollectTelemetry);
 		}
 
 		public SolverSettings setSolverLogger(final ILogger logger) {
@@ -753,7 +786,8 @@ public final class SolverBuilder {
 					mExternalSolverCommand, mSolverLogics, mTimeoutSmtInterpol, mExternalInterpolator,
 					mDumpSmtScriptToFile, mDumpUnsatCoreTrackBenchmark, mDumpMainTrackBenchmark, mPathOfDumpedScript,
 					mBaseNameOfDumpedScript, mUseDiffWrapper, mDumpFeatureVector, mFeatureVectorDumpPath,
-					mCompressDumpedScript, mAdditionalOptions, logger, mUseMinimalUnsatCoreEnumerationForSmtInterpol);
+					mCompressDumpedScript, mAdditionalOptions, logger, mUseMinimalUnsatCoreEnumerationForSmtInterpol,
+					mCollectTelemetry);
 		}
 
 		@Override
@@ -30,12 +30,10 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
-import java.lang.Thread.State;
 import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -45,7 +43,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -62,6 +64,11 @@ import de.uni_freiburg.informatik.ultimate.util.ReflectionUtil;
 /**
  * A MonitoredProcess is a {@link Process} that will be terminated at the end of the toolchain from which it was created
  * or by a timeout signaled by {@link IProgressMonitorService}.
+ * <p>
+ * All monitored processes share their helper threads: the output of a process is pumped by threads of a shared pool
+ * that are reused after a process ended, the end of a process is handled via {@link Process#onExit()}, and timeouts are
+ * watched by one shared scheduler thread. Hence, a running process does not occupy threads of its own except for the
+ * two pumps that block while reading its output.
  *
  * @author dietsch@informatik.uni-freiburg.de
  */
@@ -84,6 +91,18 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 
 	private static final AtomicInteger sInstanceCounter = new AtomicInteger();
 
+	/**
+	 * Runs the stream pumps and all actions that may block, e.g., the termination of a process.
+	 */
+	private static final ExecutorService EXECUTOR =
+			Executors.newCachedThreadPool(createDaemonThreadFactory("MonitoredProcess worker"));
+
+	/**
+	 * Watches the timeouts of all processes. Scheduled tasks only check conditions and hand blocking actions over to
+	 * {@link #EXECUTOR}.
+	 */
+	private static final ScheduledThreadPoolExecutor TIMEOUT_SCHEDULER = createTimeoutScheduler();
+
 	private final ILogger mLogger;
 	private final IUltimateServiceProvider mServices;
 	private final String mCommand;
@@ -93,13 +112,16 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 
 	private final AtomicBoolean mTimeoutAttached;
 
-	private Thread mProcessRunner;
 	private int mID;
 
 	private Process mProcess;
 	private volatile int mReturnCode;
 
 	private final CompletableFuture<Process> mProcessOnExit;
+	/**
+	 * Completed after the process ended, its output was pumped, and it was removed from the storage.
+	 */
+	private final CompletableFuture<Void> mMonitorFinished;
 
 	private final AtomicBoolean mIsKillProcessCalled;
 
@@ -112,7 +134,7 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 		mCommand = command;
 		mExitCommand = exitCommand;
 		mReturnCode = -1;
-		mProcessRunner = null;
+		mMonitorFinished = new CompletableFuture<>();
 		mStdInStreamPipe = new PipedInputStream(DEFAULT_BUFFER_SIZE);
 		mStdErrStreamPipe = new PipedInputStream(DEFAULT_BUFFER_SIZE);
 
@@ -224,12 +246,91 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 			old.destroy();
 		}
 
-		final ProcessRunner pr = new ProcessRunner(this);
-		mProcessRunner = new Thread(pr, String.format("MonitoredProcess %s %s", mID, oneLineCmd));
 		mLogger.info("Starting monitored process %s with %s (exit command is %s, workingDir is %s)", mID, mCommand,
 				mExitCommand, workingDir);
-		mProcessRunner.start();
-		pr.mEndOfSetup.acquireUninterruptibly();
+		final CompletableFuture<Void> endOfPumps;
+		try {
+			endOfPumps = CompletableFuture.allOf(
+					startPump(mProcess.getInputStream(), new PipedOutputStream(mStdInStreamPipe), "stdIn"),
+					startPump(mProcess.getErrorStream(), new PipedOutputStream(mStdErrStreamPipe), "stdErr"));
+		} catch (final IOException e) {
+			if (mLogger.isErrorEnabled()) {
+				mLogger.error(getLogStringPrefix() + " Failed during stream data buffering. Terminating abnormally.", e);
+			}
+			killProcess();
+			mMonitorFinished.complete(null);
+			return;
+		}
+		mLogger.debug(getLogStringPrefix() + " Finished pump setup");
+		mProcessOnExit.thenComposeAsync(process -> {
+			mReturnCode = process.exitValue();
+			mLogger.debug(getLogStringPrefix() + " Finished waiting for process");
+			return endOfPumps.thenApply(x -> Boolean.TRUE).completeOnTimeout(Boolean.FALSE,
+					WAIT_FOR_EXIT_COMMAND_MILLIS, TimeUnit.MILLISECONDS);
+		}, EXECUTOR).handleAsync(this::finishMonitoring, EXECUTOR)
+				.thenRun(() -> mMonitorFinished.complete(null));
+	}
+
+	private CompletableFuture<Void> startPump(final InputStream inputStream, final OutputStream outputStream,
+			final String name) {
+		return CompletableFuture.runAsync(new PipePump(outputStream, inputStream, name), EXECUTOR);
+	}
+
+	private Void finishMonitoring(final Boolean pumpsFinished, final Throwable exception) {
+		try {
+			if (exception != null) {
+				mLogger.error(getLogStringPrefix() + " Monitoring failed. Terminating abnormally.", exception);
+			} else if (!pumpsFinished) {
+				mLogger.warn(getLogStringPrefix() + " Abandoning pump threads because process wont die");
+			} else if (mLogger.isDebugEnabled()) {
+				mLogger.debug(getLogStringPrefix() + " Finished waiting for pump threads");
+				logUnreadPipeContent();
+			}
+		} finally {
+			killProcess();
+			mLogger.debug(getLogStringPrefix() + " Finished monitoring");
+		}
+		return null;
+	}
+
+	/**
+	 * Log how much of the output was not read yet. We must not read the content here, because the owner of this
+	 * process may still read it.
+	 */
+	private void logUnreadPipeContent() {
+		try {
+			final int stdout = mStdInStreamPipe.available();
+			final int stderr = mStdErrStreamPipe.available();
+			if (stdout > 0 || stderr > 0) {
+				mLogger.debug("%s %s bytes of stdout and %s bytes of stderr are not read yet", getLogStringPrefix(),
+						stdout, stderr);
+			}
+		} catch (final IOException e) {
+			// pipes are already closed
+		}
+	}
+
+	/**
+	 * Wait for the end of monitoring, i.e., until the process ended and its output was pumped.
+	 *
+	 * @param millis
+	 *            The time to wait in milliseconds. 0 means waiting forever.
+	 * @return true iff monitoring ended
+	 */
+	private boolean joinMonitor(final long millis) throws InterruptedException {
+		try {
+			if (millis == 0) {
+				mMonitorFinished.get();
+			} else {
+				mMonitorFinished.get(millis, TimeUnit.MILLISECONDS);
+			}
+		} catch (final ExecutionException e) {
+			// finishMonitoring handles all exceptions
+			throw new AssertionError(e);
+		} catch (final TimeoutException e) {
+			return false;
+		}
+		return true;
 	}
 
 	/**
@@ -242,14 +343,7 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 	 *             cleared when this exception is thrown.
 	 */
 	public MonitoredProcessState waitfor() throws InterruptedException {
-		if (mProcessRunner.getState() == State.TERMINATED) {
-			return new MonitoredProcessState(false, false, mReturnCode);
-		}
-		mProcessRunner.join();
-		if (mProcessRunner.getState() == State.TERMINATED) {
-			return new MonitoredProcessState(false, false, mReturnCode);
-		}
-		return new MonitoredProcessState(true, false, mReturnCode);
+		return waitfor(0);
 	}
 
 	/**
@@ -264,11 +358,7 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 	 *             cleared when this exception is thrown.
 	 */
 	public MonitoredProcessState waitfor(final long millis) throws InterruptedException {
-		if (mProcessRunner.getState() == State.TERMINATED) {
-			return new MonitoredProcessState(false, false, mReturnCode);
-		}
-		mProcessRunner.join(millis);
-		if (mProcessRunner.getState() == State.TERMINATED) {
+		if (mMonitorFinished.isDone() || joinMonitor(millis)) {
 			return new MonitoredProcessState(false, false, mReturnCode);
 		}
 		return new MonitoredProcessState(true, false, mReturnCode);
@@ -298,17 +388,21 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 		}
 		if (mps == null || mps.isRunning()) {
 			mLogger.warn("%s Timeout reached", getLogStringPrefix());
-			forceShutdown();
-			try {
-				mProcessRunner.join(WAIT_FOR_EXIT_COMMAND_MILLIS);
-			} catch (final InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
-			return new MonitoredProcessState(mProcessRunner.getState() != State.TERMINATED, true, mReturnCode);
+			return shutdownAfterTimeout();
 		}
 		return mps;
 	}
 
+	private MonitoredProcessState shutdownAfterTimeout() {
+		forceShutdown();
+		try {
+			joinMonitor(WAIT_FOR_EXIT_COMMAND_MILLIS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return new MonitoredProcessState(!mMonitorFinished.isDone(), true, mReturnCode);
+	}
+
 	/**
 	 * Wait until the toolchain is cancelled or {@link IProgressMonitorService} signals timeout for the termination of
 	 * the process. If the process is still running, try sending an exit command if present. If it is still running,
@@ -351,7 +445,7 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 		}
 
 		forceShutdown();
-		return new MonitoredProcessState(mProcessRunner.getState() != State.TERMINATED, true, mReturnCode);
+		return new MonitoredProcessState(!mMonitorFinished.isDone(), true, mReturnCode);
 	}
 
 	/**
@@ -372,7 +466,14 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 				throw new IllegalArgumentException("millis must be larger than zero");
 			}
 
-			new Thread(() -> impatientWaitUntilTime(millis), "CountdownTimeout watcher for " + mID).start();
+			mLogger.info("%s Terminating monitored process in %s ms", getLogStringPrefix(), millis);
+			final ScheduledFuture<?> countdown = TIMEOUT_SCHEDULER.schedule(() -> EXECUTOR.execute(() -> {
+				if (!mMonitorFinished.isDone()) {
+					mLogger.warn("%s Timeout reached", getLogStringPrefix());
+					shutdownAfterTimeout();
+				}
+			}), millis, TimeUnit.MILLISECONDS);
+			mMonitorFinished.thenRun(() -> countdown.cancel(false));
 		}
 	}
 
@@ -396,7 +497,7 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 				throw new IllegalArgumentException("millis must be non-negative");
 			}
 
-			new Thread(() -> impatientWaitUntilTimeout(gracePeriod), "TimeoutWatcher for " + mID).start();
+			new TimeoutWatcher(mServices.getProgressMonitorService(), gracePeriod).start();
 		}
 	}
 
@@ -419,8 +520,8 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 						e.getMessage());
 			}
 			try {
-				mLogger.debug("%s About to join with the monitor thread... ", getLogStringPrefix());
-				mProcessRunner.join(WAIT_FOR_EXIT_COMMAND_MILLIS);
+				mLogger.debug("%s About to join with the monitor... ", getLogStringPrefix());
+				joinMonitor(WAIT_FOR_EXIT_COMMAND_MILLIS);
 				mLogger.debug("%s Successfully joined", getLogStringPrefix());
 
 			} catch (final InterruptedException e) {
@@ -599,95 +700,47 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 	}
 
 	/**
-	 * @author dietsch@informatik.uni-freiburg.de
+	 * Checks periodically whether {@link IProgressMonitorService} signals a timeout and terminates the process after
+	 * the grace period.
 	 */
-	private final class ProcessRunner implements Runnable {
-
-		/**
-		 * -2 because we wait until all 3 threads (stderr buffer, stdin buffer, actual process watcher) are ready.
-		 */
-		private static final int INITIAL_SEMAPHORE_COUNT = -2;
+	private final class TimeoutWatcher implements Runnable {
+		private final IProgressMonitorService mProgressService;
+		private final long mGracePeriod;
+		private ScheduledFuture<?> mCheck;
 
-		private final Semaphore mEndOfSetup;
-		private final MonitoredProcess mMonitoredProcess;
-
-		private ProcessRunner(final MonitoredProcess monitoredProcess) {
-			mMonitoredProcess = monitoredProcess;
-			mEndOfSetup = new Semaphore(INITIAL_SEMAPHORE_COUNT);
+		private TimeoutWatcher(final IProgressMonitorService progressService, final long gracePeriod) {
+			mProgressService = progressService;
+			mGracePeriod = gracePeriod;
 		}
 
-		@Override
-		public void run() {
-			final Semaphore endOfPumps = new Semaphore(-INITIAL_SEMAPHORE_COUNT);
-			final PipedOutputStream stdInBufferPipe;
-			final PipedOutputStream stdErrBufferPipe;
-			final ILogger logger = mMonitoredProcess.mLogger;
-			try {
-				stdInBufferPipe = new PipedOutputStream(mStdInStreamPipe);
-				stdErrBufferPipe = new PipedOutputStream(mStdErrStreamPipe);
-				setUpStreamBuffer(mMonitoredProcess.mProcess.getInputStream(), stdInBufferPipe, endOfPumps, "stdIn");
-				setUpStreamBuffer(mMonitoredProcess.mProcess.getErrorStream(), stdErrBufferPipe, endOfPumps, "stdErr");
-
-			} catch (final IOException e) {
-				if (logger.isErrorEnabled()) {
-					logger.error(getLogStringPrefix() + " Failed during stream data buffering. Terminating abnormally.",
-							e);
-				}
-				killProcess();
-				// release enough permits for exec to guarantee return
-				mEndOfSetup.release(1 - INITIAL_SEMAPHORE_COUNT);
-				return;
+		private void start() {
+			mLogger.info("%s Waiting until timeout for monitored process", getLogStringPrefix());
+			synchronized (this) {
+				mCheck = TIMEOUT_SCHEDULER.scheduleWithFixedDelay(this, WAIT_BETWEEN_CHECKS_MILLIS,
+						WAIT_BETWEEN_CHECKS_MILLIS, TimeUnit.MILLISECONDS);
 			}
+			mMonitorFinished.thenRun(this::cancel);
+		}
 
-			try {
-				mEndOfSetup.release();
-				logger.debug(getLogStringPrefix() + " Finished thread setup");
-				mMonitoredProcess.mReturnCode = mMonitoredProcess.mProcess.waitFor();
-				logger.debug(getLogStringPrefix() + " Finished waiting for process");
-				if (!endOfPumps.tryAcquire(-INITIAL_SEMAPHORE_COUNT, WAIT_FOR_EXIT_COMMAND_MILLIS,
-						TimeUnit.MILLISECONDS)) {
-					logger.warn(getLogStringPrefix() + " Abandoning pump threads because process wont die");
-				} else if (logger.isDebugEnabled()) {
-					logger.debug(getLogStringPrefix() + " Finished waiting for pump threads");
-					logUnreadPipeContent();
-					logger.debug(getLogStringPrefix() + " Finished dumping unread pipe content");
-				}
-			} catch (final InterruptedException e) {
-				logger.error(getLogStringPrefix() + " Pump interrupted. Terminating abnormally.", e);
-				Thread.currentThread().interrupt();
-			} finally {
-				killProcess();
-				logger.debug(getLogStringPrefix() + " Exiting monitor thread");
-			}
+		private synchronized void cancel() {
+			mCheck.cancel(false);
 		}
 
-		private void logUnreadPipeContent() {
-			final String stdout = CoreUtil.convertStreamToString(getInputStream());
-			final String stderr = CoreUtil.convertStreamToString(getErrorStream());
-			if (stdout.isEmpty() && stderr.isEmpty()) {
+		@Override
+		public void run() {
+			if (mProgressService != null && mProgressService.continueProcessing()) {
 				return;
 			}
-
-			final StringBuilder sb = new StringBuilder();
-			sb.append(getLogStringPrefix()).append(CoreUtil.getPlatformLineSeparator());
-			if (!stdout.isEmpty()) {
-				sb.append("Unread content of stdout:").append(CoreUtil.getPlatformLineSeparator()).append(stdout);
-			}
-			if (!stderr.isEmpty()) {
-				if (!stdout.isEmpty()) {
-					sb.append(CoreUtil.getPlatformLineSeparator());
+			synchronized (this) {
+				mCheck.cancel(false);
+				if (mMonitorFinished.isDone()) {
+					return;
 				}
-				sb.append("Unread content of stderr:").append(CoreUtil.getPlatformLineSeparator()).append(stderr);
+				mLogger.warn("%s Timeout while monitored process is still running, waiting %s ms for graceful end",
+						getLogStringPrefix(), mGracePeriod);
+				mCheck = TIMEOUT_SCHEDULER.schedule(() -> EXECUTOR.execute(MonitoredProcess.this::forceShutdown),
+						mGracePeriod, TimeUnit.MILLISECONDS);
 			}
-			mLogger.debug(sb);
-		}
-
-		private void setUpStreamBuffer(final InputStream inputStream, final OutputStream outputStream,
-				final Semaphore endOfPumps, final String name) {
-			endOfPumps.acquireUninterruptibly();
-			final InputStreamReader streamReader = new InputStreamReader(inputStream, Charset.defaultCharset());
-			final String threadName = "MonitoredProcess " + mID + " StreamBuffer " + name;
-			new Thread(new PipePump(outputStream, streamReader, mEndOfSetup, endOfPumps, name), threadName).start();
 		}
 	}
 
@@ -696,30 +749,26 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 	 */
 	private final class PipePump implements Runnable {
 		private final OutputStream mOutputStream;
-		private final InputStreamReader mStreamReader;
-		private final Semaphore mEndOfPumps;
-		private final Semaphore mEndOfSetup;
+		private final InputStream mInputStream;
 		private final String mPumpName;
 
-		private PipePump(final OutputStream outputStream, final InputStreamReader streamReader,
-				final Semaphore endOfSetup, final Semaphore endOfPumps, final String pumpName) {
+		private PipePump(final OutputStream outputStream, final InputStream inputStream, final String pumpName) {
 			mOutputStream = outputStream;
-			mStreamReader = streamReader;
-			mEndOfPumps = endOfPumps;
+			mInputStream = inputStream;
 			mPumpName = pumpName;
-			mEndOfSetup = endOfSetup;
 		}
 
 		@Override
 		public void run() {
-			mEndOfSetup.release();
+			final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
 			try {
-				int chunk = -1;
-				while ((chunk = mStreamReader.read()) != -1) {
-					mOutputStream.write(chunk);
+				// read returns as soon as some bytes are available, hence the reader sees them without delay
+				int length;
+				while ((length = mInputStream.read(buffer)) != -1) {
+					mOutputStream.write(buffer, 0, length);
 					mOutputStream.flush();
 				}
-			} catch (final IOException /* | InterruptedException */ e) {
+			} catch (final IOException e) {
 				if (mLogger.isWarnEnabled()) {
 					mLogger.warn(getLogStringPrefix() + " The stream was forcibly closed: " + mPumpName);
 				}
@@ -731,9 +780,24 @@ public final class MonitoredProcess implements IStorable, AutoCloseable {
 					mLogger.fatal(getLogStringPrefix() + " During closing of the streams " + mPumpName
 							+ ", an error occured");
 				}
-				mEndOfPumps.release();
 			}
 		}
 	}
 
+	private static ThreadFactory createDaemonThreadFactory(final String name) {
+		final AtomicInteger threadCounter = new AtomicInteger();
+		return runnable -> {
+			final Thread thread = new Thread(runnable, name + " " + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+		final ScheduledThreadPoolExecutor scheduler =
+				new ScheduledThreadPoolExecutor(1, createDaemonThreadFactory("MonitoredProcess timeout watcher"));
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE Util Library.
+ *
+ * The ULTIMATE Util Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE Util Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE Util Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE Util Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE Util Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.util.statistics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Always-on recorder of timed events, e.g., the phases of a CEGAR iteration or single SMT solver calls. In contrast to
+ * {@link Benchmark} and {@link StatisticsData}, events are not aggregated, hence they show a timeline of a run.
+ * <p>
+ * Each thread records into its own ring buffer of {@link #CAPACITY} events, i.e., recording does not synchronize. The
+ * ring buffer is allocated when a thread records its first event. After that, {@link #record(String, String, long,
+ * long)} does not allocate, but {@link #span(String, String)} allocates one {@link Span} per event. If a thread records
+ * more events, its oldest events are overwritten. The events of all threads can be written in the Chrome trace event
+ * format (load the file in chrome://tracing or https://ui.perfetto.dev).
+ * <p>
+ * The ring buffer of a thread is kept until the events were written or {@link #removeTerminatedThreads()} is called
+ * after the thread terminated. The toolchain manager does the latter at the end of each toolchain.
+ * <p>
+ * Names and categories of events should be constants, because they are stored by reference.
+ */
+public final class EventTracer {
+
+	/**
+	 * Number of events that are kept per thread.
+	 */
+	public static final int CAPACITY = 1 << 12;
+	private static final int MASK = CAPACITY - 1;
+	private static final double NANOS_PER_MICRO = 1000.0;
+
+	private static final Queue<Recorder> RECORDERS = new ConcurrentLinkedQueue<>();
+	private static final ThreadLocal<Recorder> RECORDER = ThreadLocal.withInitial(() -> {
+		final Recorder recorder = new Recorder(Thread.currentThread());
+		RECORDERS.add(recorder);
+		return recorder;
+	});
+
+	private EventTracer() {
+		// this is a utility class
+	}
+
+	/**
+	 * Record an event of the current thread.
+	 *
+	 * @param startNanos
+	 *            start of the event as returned by {@link System#nanoTime()}
+	 * @param endNanos
+	 *            end of the event as returned by {@link System#nanoTime()}
+	 */
+	public static void record(final String category, final String name, final long startNanos,
+			final long endNanos) {
+		RECORDER.get().record(category, name, startNanos, endNanos);
+	}
+
+	/**
+	 * Start an event of the current thread that is recorded when the returned {@link Span} is closed. Use with
+	 * try-with-resources.
+	 */
+	public static Span span(final String category, final String name) {
+		return new Span(category, name);
+	}
+
+	/**
+	 * Write all recorded events that started at or after the given time as JSON in the Chrome trace event format.
+	 * Events that are recorded while this method runs may be missing or, if the ring buffer of their thread wraps
+	 * around, be inconsistent. Afterwards, the ring buffers of terminated threads are dropped.
+	 *
+	 * @param fromNanos
+	 *            only events that started at or after this time (as returned by {@link System#nanoTime()}) are written
+	 */
+	public static void writeChromeTrace(final Writer writer, final long fromNanos) throws IOException {
+		final long pid = ProcessHandle.current().pid();
+		writer.write("{\"traceEvents\":[");
+		boolean first = true;
+		for (final Recorder recorder : RECORDERS) {
+			first = recorder.write(writer, pid, fromNanos, first);
+		}
+		writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+		writer.flush();
+		removeTerminatedThreads();
+	}
+
+	/**
+	 * Drop all recorded events and forget threads that are no longer alive.
+	 */
+	public static void clear() {
+		for (final Recorder recorder : RECORDERS) {
+			recorder.clear();
+		}
+		removeTerminatedThreads();
+	}
+
+	/**
+	 * Forget the ring buffers of threads that are no longer alive. Their events are lost.
+	 */
+	public static void removeTerminatedThreads() {
+		final Iterator<Recorder> iter = RECORDERS.iterator();
+		while (iter.hasNext()) {
+			final Thread thread = iter.next().mThread.get();
+			if (thread == null || !thread.isAlive()) {
+				iter.remove();
+			}
+		}
+	}
+
+	private static void writeString(final Writer writer, final String str) throws IOException {
+		writer.write('"');
+		for (int i = 0; i < str.length(); ++i) {
+			final char c = str.charAt(i);
+			if (c == '"' || c == '\\') {
+				writer.write('\\');
+				writer.write(c);
+			} else if (c < ' ') {
+				writer.write(String.format("\\u%04x", (int) c));
+			} else {
+				writer.write(c);
+			}
+		}
+		writer.write('"');
+	}
+
+	/**
+	 * An event that is recorded when it is closed.
+	 */
+	public static final class Span implements AutoCloseable {
+		private final String mCategory;
+		private final String mName;
+		private final long mStart;
+
+		private Span(final String category, final String name) {
+			mCategory = category;
+			mName = name;
+			mStart = System.nanoTime();
+		}
+
+		@Override
+		public void close() {
+			record(mCategory, mName, mStart, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Ring buffer of the events of one thread. Only the owning thread writes, {@link #mCount} publishes the events to
+	 * other threads.
+	 */
+	private static final class Recorder {
+		private final WeakReference<Thread> mThread;
+		private final long mThreadId;
+		private final String mThreadName;
+		private final String[] mCategories;
+		private final String[] mNames;
+		private final long[] mStarts;
+		private final long[] mEnds;
+		private volatile long mCount;
+		private volatile long mFirstValid;
+
+		private Recorder(final Thread thread) {
+			mThread = new WeakReference<>(thread);
+			mThreadId = thread.getId();
+			mThreadName = thread.getName();
+			mCategories = new String[CAPACITY];
+			mNames = new String[CAPACITY];
+			mStarts = new long[CAPACITY];
+			mEnds = new long[CAPACITY];
+		}
+
+		private void record(final String category, final String name, final long startNanos, final long endNanos) {
+			final long count = mCount;
+			final int slot = (int) (count & MASK);
+			mCategories[slot] = category;
+			mNames[slot] = name;
+			mStarts[slot] = startNanos;
+			mEnds[slot] = endNanos;
+			mCount = count + 1;
+		}
+
+		private void clear() {
+			mFirstValid = mCount;
+		}
+
+		private boolean write(final Writer writer, final long pid, final long fromNanos, final boolean isFirst)
+				throws IOException {
+			final long count = mCount;
+			final long first = Math.max(mFirstValid, count - CAPACITY);
+			boolean firstEvent = isFirst;
+			boolean threadNameWritten = false;
+			for (long i = first; i < count; ++i) {
+				final int slot = (int) (i & MASK);
+				final long start = mStarts[slot];
+				if (start - fromNanos < 0) {
+					continue;
+				}
+				if (!threadNameWritten) {
+					firstEvent = writeSeparator(writer, firstEvent);
+					writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + pid + ",\"tid\":" + mThreadId
+							+ ",\"args\":{\"name\":");
+					writeString(writer, mThreadName);
+					writer.write("}}");
+					threadNameWritten = true;
+				}
+				firstEvent = writeSeparator(writer, firstEvent);
+				writer.write("{\"name\":");
+				writeString(writer, String.valueOf(mNames[slot]));
+				writer.write(",\"cat\":");
+				writeString(writer, String.valueOf(mCategories[slot]));
+				writer.write(",\"ph\":\"X\",\"ts\":" + (start - fromNanos) / NANOS_PER_MICRO + ",\"dur\":"
+						+ (mEnds[slot] - start) / NANOS_PER_MICRO + ",\"pid\":" + pid + ",\"tid\":" + mThreadId + "}");
+			}
+			return firstEvent;
+		}
+
+		private static boolean writeSeparator(final Writer writer, final boolean isFirst) throws IOException {
+			if (!isFirst) {
+				writer.write(',');
+			}
+			writer.write('\n');
+			return false;
+		}
+	}
+}
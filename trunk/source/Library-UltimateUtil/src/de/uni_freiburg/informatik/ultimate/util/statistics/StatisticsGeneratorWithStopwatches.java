@@ -35,21 +35,28 @@ import java.util.concurrent.TimeUnit;
  * Superclass for benchmark generators that use stopwatches. Takes care that
  * <li>no unregistered stopwatches are used
  * <li>we only take the time of stopwatches that have been stopped.
+ * <li>every interval of a stopwatch is recorded as event of the {@link EventTracer}.
  *
  * @author Matthias Heizmann
  */
 public abstract class StatisticsGeneratorWithStopwatches {
 
 	private final Map<String, Boolean> mRunningStopwatches;
+	private final Map<String, long[]> mStartTimes;
 	private final Benchmark mBenchmark;
+	private final String mTraceCategory;
 
 	public StatisticsGeneratorWithStopwatches() {
 		mRunningStopwatches = new HashMap<>(getStopwatches().length);
+		mStartTimes = new HashMap<>(getStopwatches().length);
 		mBenchmark = new Benchmark();
 		for (final String name : getStopwatches()) {
 			mRunningStopwatches.put(name, false);
+			// one mutable slot per stopwatch s.t. starting a stopwatch does not box its start time
+			mStartTimes.put(name, new long[1]);
 			mBenchmark.register(name);
 		}
+		mTraceCategory = getClass().getSimpleName();
 	}
 
 	public abstract String[] getStopwatches();
@@ -62,6 +69,10 @@ public abstract class StatisticsGeneratorWithStopwatches {
 		assert mRunningStopwatches.containsKey(stopwatchName) : "no such stopwatch " + stopwatchName;
 		assert !mRunningStopwatches.get(stopwatchName).booleanValue() : "already started " + stopwatchName;
 		mRunningStopwatches.put(stopwatchName, true);
+		final long[] startTime = mStartTimes.get(stopwatchName);
+		if (startTime != null) {
+			startTime[0] = System.nanoTime();
+		}
 		mBenchmark.unpause(stopwatchName);
 	}
 
@@ -74,6 +85,10 @@ public abstract class StatisticsGeneratorWithStopwatches {
 		assert mRunningStopwatches.get(stopwatchName).booleanValue() : "not running " + stopwatchName;
 		mRunningStopwatches.put(stopwatchName, false);
 		mBenchmark.pause(stopwatchName);
+		final long[] startTime = mStartTimes.get(stopwatchName);
+		if (startTime != null) {
+			EventTracer.record(mTraceCategory, stopwatchName, startTime[0], System.nanoTime());
+		}
 	}
 
 	public void stopAllStopwatches() {
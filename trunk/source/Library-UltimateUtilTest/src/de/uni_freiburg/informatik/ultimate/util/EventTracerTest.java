@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE Util Library.
+ *
+ * The ULTIMATE Util Library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE Util Library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE Util Library. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE Util Library, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE Util Library grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.util;
+
+import java.io.StringWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.uni_freiburg.informatik.ultimate.util.statistics.EventTracer;
+
+public class EventTracerTest {
+
+	@Test
+	public void recordedEventsAreWritten() throws Exception {
+		final long start = System.nanoTime();
+		try (EventTracer.Span span = EventTracer.span("Test", "span \"quoted\"")) {
+			Thread.sleep(1);
+		}
+		final String trace = writeTrace(start);
+		Assert.assertTrue(trace, trace.startsWith("{\"traceEvents\":["));
+		Assert.assertTrue(trace, trace.contains("\"name\":\"span \\\"quoted\\\"\",\"cat\":\"Test\",\"ph\":\"X\""));
+		Assert.assertTrue(trace, trace.contains("\"thread_name\""));
+	}
+
+	@Test
+	public void eventsBeforeStartAreOmitted() throws Exception {
+		final long before = System.nanoTime();
+		EventTracer.record("Test", "old", before, before + 1);
+		final String trace = writeTrace(before + 1);
+		Assert.assertFalse(trace, trace.contains("\"old\""));
+	}
+
+	@Test
+	public void ringBufferKeepsNewestEvents() throws Exception {
+		final long start = System.nanoTime();
+		EventTracer.record("Test", "overwritten", start, start);
+		for (int i = 0; i < EventTracer.CAPACITY; ++i) {
+			EventTracer.record("Test", "newer", start, start);
+		}
+		final String trace = writeTrace(start);
+		Assert.assertFalse(trace, trace.contains("\"overwritten\""));
+		Assert.assertTrue(trace, trace.contains("\"newer\""));
+	}
+
+	@Test
+	public void clearDropsEvents() throws Exception {
+		final long start = System.nanoTime();
+		EventTracer.record("Test", "cleared", start, start);
+		EventTracer.clear();
+		Assert.assertFalse(writeTrace(start).contains("\"cleared\""));
+	}
+
+	@Test
+	public void eventsOfTerminatedThreadsAreDroppedAfterWriting() throws Exception {
+		final long start = System.nanoTime();
+		final Thread thread = new Thread(() -> EventTracer.record("Test", "terminated", start, start));
+		thread.start();
+		thread.join();
+		Assert.assertTrue(writeTrace(start).contains("\"terminated\""));
+		Assert.assertFalse(writeTrace(start).contains("\"terminated\""));
+	}
+
+	@Test
+	public void eventsOfLiveThreadsAreKeptAfterWriting() throws Exception {
+		final long start = System.nanoTime();
+		EventTracer.record("Test", "alive", start, start);
+		EventTracer.removeTerminatedThreads();
+		Assert.assertTrue(writeTrace(start).contains("\"alive\""));
+		Assert.assertTrue(writeTrace(start).contains("\"alive\""));
+	}
+
+	private static String writeTrace(final long fromNanos) throws Exception {
+		final StringWriter writer = new StringWriter();
+		EventTracer.writeChromeTrace(writer, fromNanos);
+		return writer.toString();
+	}
+}
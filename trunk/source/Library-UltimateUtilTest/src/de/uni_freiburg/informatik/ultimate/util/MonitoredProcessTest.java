@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import org.hamcrest.MatcherAssert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -109,6 +110,47 @@ public class MonitoredProcessTest {
 		mLogger.info("Took %s ms to kill", killTime);
 	}
 
+	@Test
+	public void testCountdownToTermination() throws IOException, InterruptedException {
+		final long start = System.currentTimeMillis();
+		final MonitoredProcess mp = sleepExternal(300);
+		mp.setCountdownToTermination(500);
+		final MonitoredProcessState mps = mp.waitfor(2000);
+		final long stop = System.currentTimeMillis();
+		MatcherAssert.assertThat("Process is still running", !mps.isRunning() && !mp.isRunning());
+		final long killTime = stop - start;
+		MatcherAssert.assertThat("Killed before countdown ended", killTime >= 500);
+		MatcherAssert.assertThat("Killing took more than 2s", killTime < 2000);
+		mLogger.info("Took %s ms to kill", killTime);
+	}
+
+	@Test
+	public void testTerminationAfterTimeout() throws IOException, InterruptedException {
+		final long start = System.currentTimeMillis();
+		mServices.getProgressMonitorService().setDeadline(start + 500);
+		final MonitoredProcess mp = sleepExternal(300);
+		mp.setTerminationAfterTimeout(200);
+		final MonitoredProcessState mps = mp.waitfor(2000);
+		final long stop = System.currentTimeMillis();
+		MatcherAssert.assertThat("Process is still running", !mps.isRunning() && !mp.isRunning());
+		final long killTime = stop - start;
+		MatcherAssert.assertThat("Killed before grace period ended", killTime >= 700);
+		MatcherAssert.assertThat("Killing took more than 2s", killTime < 2000);
+		mLogger.info("Took %s ms to kill", killTime);
+	}
+
+	@Test
+	public void testOutputIsPumped() throws IOException, InterruptedException {
+		final String text = "some output\n".repeat(1000);
+		final MonitoredProcess mp = CoreUtil.OS_IS_WINDOWS ? null
+				: MonitoredProcess.exec(new String[] { "printf", "%s", text }, null, null, mServices);
+		Assume.assumeNotNull(mp);
+		final String output = CoreUtil.convertStreamToString(mp.getInputStream());
+		final MonitoredProcessState mps = mp.waitfor(2000);
+		MatcherAssert.assertThat("Process is still running", !mps.isRunning());
+		MatcherAssert.assertThat("Output was not pumped", text.equals(output));
+	}
+
 	private MonitoredProcess sleepExternal(final long timeoutInSeconds) throws IOException {
 		final MonitoredProcess mp;
 		if (CoreUtil.OS_IS_WINDOWS) {
@@ -11,6 +11,7 @@ import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferencePro
 import de.uni_freiburg.informatik.ultimate.core.model.results.IResult;
 import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
+import de.uni_freiburg.informatik.ultimate.lib.pea.CddManager;
 import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences.PEATransformerMode;
@@ -41,7 +42,14 @@ public class PEAtoBoogieObserver extends BaseObserver {
 		if (!mServices.getProgressMonitorService().continueProcessing()) {
 			return false;
 		}
-		mBoogieAST = generateBoogie(rawPatterns);
+		try {
+			mBoogieAST = generateBoogie(rawPatterns);
+		} finally {
+			// the computed table of the CDDs is static; release the CDDs of this run
+			final CddManager cddManager = CddManager.getInstance();
+			mLogger.info("CDD statistics: " + cddManager);
+			cddManager.clearComputedTable();
+		}
 		return false;
 	}
 
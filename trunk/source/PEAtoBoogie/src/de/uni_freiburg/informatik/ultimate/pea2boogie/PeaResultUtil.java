@@ -39,6 +39,7 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.generator.RtInconcistencyConditionGenerator.InvariantInfeasibleException;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheckReusedSuccessResult;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheckSuccessResult;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.results.RequirementInconsistentErrorResult;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.results.RequirementTransformationErrorResult;
@@ -99,6 +100,13 @@ public class PeaResultUtil {
 		report(new ReqCheckSuccessResult<>(element, plugin));
 	}
 
+	/**
+	 * Report the success of a check that was proven in a previous run (see {@link ReqCheckResultStore}).
+	 */
+	public void provenInPreviousRun(final IElement element) {
+		report(new ReqCheckReusedSuccessResult<>(element, Activator.PLUGIN_ID));
+	}
+
 	public void infeasibleInvariant(final InvariantInfeasibleException ex) {
 		errorAndAbort(new RequirementInconsistentErrorResult(ex));
 	}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE PEAtoBoogie plug-in.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE PEAtoBoogie plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE PEAtoBoogie plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE PEAtoBoogie plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.pea2boogie;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.uni_freiburg.informatik.ultimate.core.model.models.annotation.Spec;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IStorable;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IToolchainStorage;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheck;
+
+/**
+ * Persistent store of the fingerprints of {@link ReqCheck}s that were proven successful, i.e., rt-consistent,
+ * non-vacuous, or consistent, in previous runs. A fingerprint covers everything the result of a check depends on,
+ * hence a check whose fingerprint is in the store does not have to be generated again.
+ * <p>
+ * The store is a text file with a header line followed by one fingerprint per line. There is one instance per
+ * toolchain run, see {@link #getOrCreate(IUltimateServiceProvider)}. All methods are thread-safe.
+ * <p>
+ * A fingerprint only covers the variable component of the checked requirements, but reachability depends on all
+ * requirements: If the requirements are inconsistent, every rt-inconsistency check succeeds vacuously, and a
+ * requirement of another component can block time. Hence, the successes of the current run are kept pending and are
+ * only appended to the file at the end of the run (see {@link #destroy()}) if the consistency check succeeded in this
+ * or a previous run and no rt-inconsistency check that involves another component failed.
+ */
+public final class ReqCheckResultStore implements IStorable {
+
+	private static final String STORAGE_KEY = ReqCheckResultStore.class.getName();
+	private static final String HEADER = "# ReqCheck result store v1";
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final ILogger mLogger;
+	private final Path mFile;
+	private final Set<String> mProven;
+	private final Map<ReqCheck, PendingCheck> mPending;
+	private final List<PendingCheck> mSucceeded;
+	private final List<Set<String>> mFailedRtInconsistencyComponents;
+	private boolean mConsistent;
+	private boolean mInconsistent;
+	private int mReused;
+	private int mRecorded;
+
+	/**
+	 * Load the store from the given file. If the file does not exist or has an unknown format, the store starts empty
+	 * and the file is overwritten as soon as the first result is recorded.
+	 */
+	public ReqCheckResultStore(final ILogger logger, final Path file) {
+		mLogger = logger;
+		mFile = file;
+		mProven = new HashSet<>();
+		mPending = new HashMap<>();
+		mSucceeded = new ArrayList<>();
+		mFailedRtInconsistencyComponents = new ArrayList<>();
+		load();
+	}
+
+	/**
+	 * @return the result store of the current toolchain run or null if no result store is configured
+	 */
+	public static ReqCheckResultStore getOrCreate(final IUltimateServiceProvider services) {
+		final String file = Pea2BoogiePreferences.getPreferenceProvider(services)
+				.getString(Pea2BoogiePreferences.LABEL_INCREMENTAL_RESULT_STORE);
+		if (file == null || file.isEmpty()) {
+			return null;
+		}
+		final IToolchainStorage storage = services.getStorage();
+		synchronized (storage) {
+			final ReqCheckResultStore store = get(storage);
+			if (store != null) {
+				return store;
+			}
+			final ILogger logger = services.getLoggingService().getLogger(Activator.PLUGIN_ID);
+			final ReqCheckResultStore newStore = new ReqCheckResultStore(logger, Paths.get(file));
+			storage.putStorable(STORAGE_KEY, newStore);
+			return newStore;
+		}
+	}
+
+	/**
+	 * @return the result store of the toolchain run that uses the given storage or null if there is none
+	 */
+	public static ReqCheckResultStore get(final IToolchainStorage storage) {
+		return (ReqCheckResultStore) storage.getStorable(STORAGE_KEY);
+	}
+
+	/**
+	 * @return the SHA-256 hash of the given parts as hex string
+	 */
+	public static String fingerprint(final List<String> parts) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new AssertionError("Every Java platform supports SHA-256", e);
+		}
+		for (final String part : parts) {
+			digest.update(part.getBytes(StandardCharsets.UTF_8));
+			// separate the parts such that ("ab", "c") and ("a", "bc") differ
+			digest.update((byte) 0);
+		}
+		final byte[] hash = digest.digest();
+		final char[] rtr = new char[hash.length * 2];
+		for (int i = 0; i < hash.length; ++i) {
+			rtr[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+			rtr[2 * i + 1] = HEX_DIGITS[hash[i] & 0xF];
+		}
+		return new String(rtr);
+	}
+
+	/**
+	 * @return true iff a check with the given fingerprint was proven successful before
+	 */
+	public synchronized boolean isProven(final String fingerprint) {
+		if (mProven.contains(fingerprint)) {
+			mReused++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Remember the fingerprint of a check that is verified in the current run such that its result can be recorded
+	 * with {@link #recordSuccess(ReqCheck)} or {@link #recordFailure(ReqCheck)}.
+	 *
+	 * @param components
+	 *            the fingerprints of the variable components of the requirements the check involves
+	 */
+	public synchronized void register(final ReqCheck check, final String fingerprint, final Set<String> components) {
+		mPending.put(check, new PendingCheck(fingerprint, components));
+	}
+
+	/**
+	 * Record that the consistency check of all requirements was proven in a previous run and is therefore not verified
+	 * again.
+	 */
+	public synchronized void setConsistent() {
+		mConsistent = true;
+	}
+
+	/**
+	 * Record that the given check was proven successful. Does nothing if the check was not registered. The fingerprint
+	 * of the check is written when the run ends.
+	 */
+	public synchronized void recordSuccess(final ReqCheck check) {
+		final PendingCheck pending = mPending.remove(check);
+		if (pending == null) {
+			return;
+		}
+		if (check.getSpec().contains(Spec.CONSISTENCY)) {
+			mConsistent = true;
+		}
+		mSucceeded.add(pending);
+	}
+
+	/**
+	 * Record that the given check failed. Does nothing if the check was not registered. A failed consistency check
+	 * drops all successes of the run, a failed rt-inconsistency check drops the successes of checks that do not
+	 * involve all of its components.
+	 */
+	public synchronized void recordFailure(final ReqCheck check) {
+		final PendingCheck pending = mPending.remove(check);
+		if (pending == null) {
+			return;
+		}
+		if (check.getSpec().contains(Spec.CONSISTENCY)) {
+			mInconsistent = true;
+		} else if (check.getSpec().contains(Spec.RTINCONSISTENT)) {
+			mFailedRtInconsistencyComponents.add(pending.mComponents);
+		}
+	}
+
+	/**
+	 * @return the number of fingerprints that were loaded or recorded
+	 */
+	public synchronized int size() {
+		return mProven.size();
+	}
+
+	/**
+	 * Write the fingerprints of the successful checks of the current run to the file if their results do not depend
+	 * on requirements that may block time, and forget all results of the run.
+	 */
+	@Override
+	public synchronized void destroy() {
+		if (!mSucceeded.isEmpty()) {
+			if (!mConsistent || mInconsistent) {
+				mLogger.warn("Not recording %s proven checks in result store %s because the consistency of the "
+						+ "requirements was not proven", mSucceeded.size(), mFile);
+			} else {
+				write();
+			}
+		}
+		if (mReused > 0 || mRecorded > 0) {
+			mLogger.info("Result store %s: reused %s and recorded %s proven checks", mFile, mReused, mRecorded);
+		}
+		mPending.clear();
+		mSucceeded.clear();
+		mFailedRtInconsistencyComponents.clear();
+		mConsistent = false;
+		mInconsistent = false;
+		mReused = 0;
+		mRecorded = 0;
+	}
+
+	private void write() {
+		final List<String> fingerprints = new ArrayList<>();
+		int dropped = 0;
+		for (final PendingCheck check : mSucceeded) {
+			if (isBlockedByFailedRtInconsistency(check)) {
+				dropped++;
+			} else if (mProven.add(check.mFingerprint)) {
+				fingerprints.add(check.mFingerprint);
+			}
+		}
+		if (dropped > 0) {
+			mLogger.warn("Not recording %s proven checks in result store %s because rt-inconsistency checks of other "
+					+ "requirements failed", dropped, mFile);
+		}
+		if (fingerprints.isEmpty()) {
+			return;
+		}
+		try {
+			if (!isValidStoreFile()) {
+				Files.write(mFile, List.of(HEADER), StandardCharsets.UTF_8);
+			}
+			try (BufferedWriter writer =
+					Files.newBufferedWriter(mFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+				for (final String fingerprint : fingerprints) {
+					writer.write(fingerprint);
+					writer.newLine();
+				}
+			}
+			mRecorded += fingerprints.size();
+		} catch (final IOException e) {
+			mLogger.warn("Could not write result store %s: %s", mFile, e.getMessage());
+		}
+	}
+
+	/**
+	 * A failed rt-inconsistency check only invalidates a success if it involves a component the successful check does
+	 * not cover: fixing the failure changes a requirement of that component, but not the fingerprint of the success.
+	 */
+	private boolean isBlockedByFailedRtInconsistency(final PendingCheck check) {
+		return mFailedRtInconsistencyComponents.stream().anyMatch(a -> !check.mComponents.containsAll(a));
+	}
+
+	private void load() {
+		if (!isValidStoreFile()) {
+			if (Files.exists(mFile)) {
+				mLogger.warn("Ignoring result store %s because it has an unknown format", mFile);
+			}
+			return;
+		}
+		try {
+			final List<String> lines = Files.readAllLines(mFile, StandardCharsets.UTF_8);
+			for (final String line : lines.subList(1, lines.size())) {
+				if (!line.isEmpty()) {
+					mProven.add(line);
+				}
+			}
+			mLogger.info("Loaded %s proven checks from result store %s", mProven.size(), mFile);
+		} catch (final IOException e) {
+			mLogger.warn("Could not read result store %s: %s", mFile, e.getMessage());
+			mProven.clear();
+		}
+	}
+
+	private boolean isValidStoreFile() {
+		if (!Files.isRegularFile(mFile)) {
+			return false;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(mFile, StandardCharsets.UTF_8)) {
+			return HEADER.equals(reader.readLine());
+		} catch (final IOException e) {
+			return false;
+		}
+	}
+
+	private static final class PendingCheck {
+		private final String mFingerprint;
+		private final Set<String> mComponents;
+
+		private PendingCheck(final String fingerprint, final Set<String> components) {
+			mFingerprint = fingerprint;
+			mComponents = components;
+		}
+	}
+}
@@ -159,9 +159,16 @@ public class VerificationResultTransformer {
 		final IElement element = oldRes.getElement();
 		final String plugin = oldRes.getPlugin();
 
+		final ReqCheckResultStore store = ReqCheckResultStore.get(mServices.getStorage());
 		if (isPositive) {
+			if (store != null) {
+				store.recordSuccess(reqCheck);
+			}
 			return new ReqCheckSuccessResult<>(element, plugin);
 		}
+		if (store != null) {
+			store.recordFailure(reqCheck);
+		}
 
 		if (spec == Spec.RTINCONSISTENT) {
 			@SuppressWarnings("unchecked")
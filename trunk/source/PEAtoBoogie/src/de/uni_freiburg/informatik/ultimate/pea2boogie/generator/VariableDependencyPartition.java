@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE PEAtoBoogie plug-in.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE PEAtoBoogie plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE PEAtoBoogie plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE PEAtoBoogie plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.pea2boogie.generator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import de.uni_freiburg.informatik.ultimate.lib.pea.BoogieBooleanExpressionDecision;
+import de.uni_freiburg.informatik.ultimate.lib.pea.CDD;
+import de.uni_freiburg.informatik.ultimate.lib.pea.Decision;
+import de.uni_freiburg.informatik.ultimate.lib.pea.EventDecision;
+import de.uni_freiburg.informatik.ultimate.lib.pea.Phase;
+import de.uni_freiburg.informatik.ultimate.lib.pea.PhaseEventAutomata;
+import de.uni_freiburg.informatik.ultimate.lib.pea.Transition;
+import de.uni_freiburg.informatik.ultimate.util.datastructures.UnionFind;
+
+/**
+ * Partitions PEAs into components of PEAs that (transitively) share variables or events.
+ * <p>
+ * Let S be a set of PEAs whose automata fall into the components C_1, ..., C_k and let S_i be the part of S in C_i.
+ * The non-deadlock condition (NDC) of S is the conjunction of the NDCs of the parts S_i, because the existential
+ * projection of a conjunction of formulas over disjoint variables is the conjunction of the projections. Hence, if
+ * the NDC of S is violated, the NDC of some part S_i is violated. Further, the NDC of each superset T of S_i implies
+ * the NDC of S_i, because T has more constraints. Hence, a violation of the NDC of S_i implies a violation of the NDC
+ * of T. If each part S_i can be extended to a set T of the size of S that lies in C_i, that set is checked anyway and
+ * reports every rt-inconsistency that the check of S would report. The check of S is then redundant.
+ */
+public class VariableDependencyPartition {
+
+	private static final Pattern IDENTIFIER = Pattern.compile("[a-zA-Z_][\\w.]*");
+
+	private final UnionFind<Object> mPartition;
+	private final Map<Object, Integer> mConsideredPerComponent;
+
+	/**
+	 * @param allAutomata
+	 *            all automata that take part in an rt-inconsistency check, including the invariants that are added to
+	 *            every check
+	 * @param consideredAutomata
+	 *            the automata from which the sets that are checked are built
+	 * @param ignoredVars
+	 *            variables that do not introduce a dependency, i.e., constants
+	 */
+	public VariableDependencyPartition(final Collection<PhaseEventAutomata> allAutomata,
+			final Collection<PhaseEventAutomata> consideredAutomata, final Set<String> ignoredVars) {
+		mPartition = new UnionFind<>();
+		for (final PhaseEventAutomata pea : allAutomata) {
+			addAutomaton(pea, ignoredVars);
+		}
+		mConsideredPerComponent = new HashMap<>();
+		for (final PhaseEventAutomata pea : consideredAutomata) {
+			addAutomaton(pea, ignoredVars);
+			mConsideredPerComponent.merge(mPartition.find(pea), 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * @return true iff the automata fall into more than one component and each of those components contains at least
+	 *         as many considered automata as there are automata in the given set.
+	 */
+	public boolean isRedundant(final PhaseEventAutomata[] automata) {
+		final Set<Object> components = new HashSet<>();
+		for (final PhaseEventAutomata pea : automata) {
+			components.add(mPartition.find(pea));
+		}
+		if (components.size() < 2) {
+			return false;
+		}
+		return components.stream().allMatch(a -> mConsideredPerComponent.getOrDefault(a, 0) >= automata.length);
+	}
+
+	/**
+	 * @return the number of components that contain at least one considered automaton
+	 */
+	public int getNumberOfComponents() {
+		return mConsideredPerComponent.size();
+	}
+
+	/**
+	 * @return all components, each consisting of automata and the names of the variables and events they depend on
+	 */
+	public Collection<Set<Object>> getComponents() {
+		return mPartition.getAllEquivalenceClasses();
+	}
+
+	private void addAutomaton(final PhaseEventAutomata pea, final Set<String> ignoredVars) {
+		if (mPartition.find(pea) != null) {
+			return;
+		}
+		mPartition.makeEquivalenceClass(pea);
+		final Set<String> vars = new HashSet<>();
+		final Set<CDD> visited = new HashSet<>();
+		for (final Phase phase : pea.getPhases()) {
+			collectVariables(phase.getStateInvariant(), vars, visited);
+			for (final Transition trans : phase.getTransitions()) {
+				collectVariables(trans.getGuard(), vars, visited);
+			}
+		}
+		for (final String var : vars) {
+			if (ignoredVars.contains(var)) {
+				continue;
+			}
+			mPartition.findAndConstructEquivalenceClassIfNeeded(var);
+			mPartition.union(pea, var);
+		}
+	}
+
+	private static void collectVariables(final CDD cdd, final Set<String> vars, final Set<CDD> visited) {
+		if (cdd == CDD.TRUE || cdd == CDD.FALSE || !visited.add(cdd)) {
+			return;
+		}
+		final Decision<?> dec = cdd.getDecision();
+		if (dec instanceof BoogieBooleanExpressionDecision) {
+			((BoogieBooleanExpressionDecision) dec).getVars().keySet().forEach(a -> vars.add(unprime(a)));
+		} else if (dec instanceof EventDecision) {
+			vars.add(((EventDecision) dec).getEvent());
+		} else if (dec != null) {
+			// other decisions may contain whole expressions, we over-approximate their identifiers
+			final Matcher matcher = IDENTIFIER.matcher(dec.getVar());
+			while (matcher.find()) {
+				vars.add(matcher.group());
+			}
+		}
+		if (cdd.getChilds() != null) {
+			for (final CDD child : cdd.getChilds()) {
+				collectVariables(child, vars, visited);
+			}
+		}
+	}
+
+	private static String unprime(final String var) {
+		// primed variables (x') and history variables ('x) depend on x
+		return var.replace("'", "");
+	}
+}
@@ -26,6 +26,8 @@
  */
 package de.uni_freiburg.informatik.ultimate.pea2boogie.preferences;
 
+import java.util.List;
+
 import de.uni_freiburg.informatik.ultimate.core.lib.preferences.UltimatePreferenceInitializer;
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceProvider;
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.PreferenceType;
@@ -81,6 +83,30 @@ public class Pea2BoogiePreferences extends UltimatePreferenceInitializer {
 					+ " are treated as separate requirements. If enabled, each rt-inconsistency check is of the form "
 					+ "Invariants ∧ (check over all remaining requirements). If disabled, invariants are not treated separately.";
 
+	public static final String LABEL_RT_INCONSISTENCY_SKIP_INDEPENDENT =
+			"Skip rt-inconsistency checks of independent requirements";
+	private static final boolean DEF_RT_INCONSISTENCY_SKIP_INDEPENDENT = true;
+	private static final String DESC_RT_INCONSISTENCY_SKIP_INDEPENDENT =
+			"Do not generate rt-inconsistency checks for sets of requirements that can be split into parts that do not "
+					+ "share variables if each part is already covered by another check. An rt-inconsistency of such a "
+					+ "set is reported for a set of dependent requirements that contains one of its parts.";
+
+	public static final String LABEL_RT_INCONSISTENCY_THREADS = "Number of threads for rt-inconsistency checks";
+	private static final int DEF_RT_INCONSISTENCY_THREADS = 4;
+	private static final String DESC_RT_INCONSISTENCY_THREADS =
+			"How many rt-inconsistency checks should be generated in parallel? Each thread uses its own SMT solver.";
+
+	public static final String LABEL_INCREMENTAL_RESULT_STORE = "Result store for incremental requirement analysis";
+	private static final String DEF_INCREMENTAL_RESULT_STORE = "";
+	private static final String DESC_INCREMENTAL_RESULT_STORE =
+			"If not empty, check requirements incrementally: the PEAs of unchanged requirements are reused and the "
+					+ "rt-consistency, non-vacuity and consistency proofs are stored in this file. A check is skipped "
+					+ "if it was proven before and no requirement, variable or constant it depends on has changed, "
+					+ "where a check depends only on the requirements that (transitively) share variables with the "
+					+ "checked ones. Failed checks are always checked again. Proofs are only stored if the "
+					+ "consistency of all requirements was proven and no rt-inconsistency check of other "
+					+ "requirements failed, i.e., check consistency as well.";
+
 	public static final String LABEL_HISTORY_VARS = "Generate history vars ('v) in Encoding";
 	private static final boolean DEF_HISTORY_VARS = true;
 	private static final String DESC_HISTORY_VASRS =
@@ -103,6 +129,13 @@ public class Pea2BoogiePreferences extends UltimatePreferenceInitializer {
 			+ "require a previosu state to determine the successor state. Note: this will only work for the very first"
 			+ "step independend of length or usefulness.";
 
+	/**
+	 * The settings that influence how requirements and checks are encoded in Boogie. A check that was proven by the
+	 * incremental requirement analysis is only reused if all of them are unchanged.
+	 */
+	public static final List<String> ENCODING_LABELS = List.of(LABEL_TRANSFOMER_MODE, LABEL_USE_EPSILON,
+			LABEL_RT_INCONSISTENCY_USE_ALL_INVARIANTS, LABEL_HISTORY_VARS, LABEL_GUESS_IN_OUT, LABEL_GUESS_INITIAL);
+
 	public enum PEATransformerMode {
 		REQ_CHECK, REQ_TEST, REQ_RED
 	}
@@ -133,6 +166,14 @@ public class Pea2BoogiePreferences extends UltimatePreferenceInitializer {
 				new UltimatePreferenceItem<>(LABEL_RT_INCONSISTENCY_USE_ALL_INVARIANTS,
 						DEF_RT_INCONSISTENCY_USE_ALL_INVARIANTS, DESC_RT_INCONSISTENCY_USE_ALL_INVARIANTS,
 						PreferenceType.Boolean),
+				new UltimatePreferenceItem<>(LABEL_RT_INCONSISTENCY_SKIP_INDEPENDENT,
+						DEF_RT_INCONSISTENCY_SKIP_INDEPENDENT, DESC_RT_INCONSISTENCY_SKIP_INDEPENDENT,
+						PreferenceType.Boolean),
+				new UltimatePreferenceItem<>(LABEL_RT_INCONSISTENCY_THREADS, DEF_RT_INCONSISTENCY_THREADS,
+						DESC_RT_INCONSISTENCY_THREADS, PreferenceType.Integer,
+						IUltimatePreferenceItemValidator.ONLY_POSITIVE),
+				new UltimatePreferenceItem<>(LABEL_INCREMENTAL_RESULT_STORE, DEF_INCREMENTAL_RESULT_STORE,
+						DESC_INCREMENTAL_RESULT_STORE, PreferenceType.String),
 				new UltimatePreferenceItem<>(LABEL_HISTORY_VARS, DEF_HISTORY_VARS, DESC_HISTORY_VASRS,
 						PreferenceType.Boolean),
 				new UltimatePreferenceItem<>(LABEL_GUESS_IN_OUT, DEF_GUESS_IN_OUT, DESC_GUESS_IN_OUT,
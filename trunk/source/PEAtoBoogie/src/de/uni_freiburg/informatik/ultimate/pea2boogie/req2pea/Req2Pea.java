@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import de.uni_freiburg.informatik.ultimate.boogie.BoogieLocation;
@@ -56,6 +57,7 @@ import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType;
 import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType.ReqPeas;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.IReqSymbolTable;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.PeaResultUtil;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.translator.ReqSymboltableBuilder;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.translator.ReqSymboltableBuilder.ErrorInfo;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.translator.ReqSymboltableBuilder.ErrorType;
@@ -67,6 +69,21 @@ import de.uni_freiburg.informatik.ultimate.pea2boogie.translator.ReqSymboltableB
  */
 public class Req2Pea implements IReq2Pea {
 	private static final boolean ENABLE_DEBUG_LOGS = false;
+	private static final int PEA_CACHE_SIZE = 10000;
+
+	/**
+	 * PEAs of requirements of previous runs by normalized requirement text, used during incremental requirement
+	 * analysis. Access only while holding its lock.
+	 */
+	private static final Map<String, ReqPeas> PEA_CACHE = new LinkedHashMap<>(16, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Entry<String, ReqPeas> eldest) {
+			return size() > PEA_CACHE_SIZE;
+		}
+	};
+
 	private final ILogger mLogger;
 	private final IUltimateServiceProvider mServices;
 	private final PeaResultUtil mResultUtil;
@@ -74,12 +91,16 @@ public class Req2Pea implements IReq2Pea {
 	private final IReqSymbolTable mSymbolTable;
 	private final boolean mHasErrors;
 	private final Durations mDurations;
+	private final boolean mUsePeaCache;
+	private int mReusedPeas;
 
 	public Req2Pea(final IUltimateServiceProvider services, final ILogger logger, final List<DeclarationPattern> init,
 			final List<PatternType<?>> reqs) {
 		mLogger = logger;
 		mServices = services;
 		mResultUtil = new PeaResultUtil(mLogger, mServices);
+		mUsePeaCache = !Pea2BoogiePreferences.getPreferenceProvider(mServices)
+				.getString(Pea2BoogiePreferences.LABEL_INCREMENTAL_RESULT_STORE).isEmpty();
 
 		final List<PatternType<?>> requirements = replacePrev(reqs);
 		final ReqSymboltableBuilder builder = new ReqSymboltableBuilder(mServices, mLogger);
@@ -153,7 +174,7 @@ public class Req2Pea implements IReq2Pea {
 					mLogger.info("Transforming " + pat.getId());
 				}
 				counter.compute(pat.getClass(), (a, b) -> b == null ? 1 : b + 1);
-				pea = pat.transformToPea(mLogger, durations);
+				pea = mUsePeaCache ? transformToPeaCached(pat, durations) : pat.transformToPea(mLogger, durations);
 			} catch (final Exception ex) {
 				final String reason = ex.getMessage() == null ? ex.getClass().toString() : ex.getMessage();
 				mResultUtil.transformationError(pat, reason);
@@ -179,11 +200,36 @@ public class Req2Pea implements IReq2Pea {
 			mLogger.info(entry.getKey() + " : " + entry.getValue());
 		}
 
+		if (mUsePeaCache) {
+			mLogger.info(String.format("Reused the PEAs of %s unchanged requirements", mReusedPeas));
+		}
 		mLogger.info(String.format("Finished transforming %s requirements to PEAs", patterns.size()));
 
 		return req2automata.entrySet().stream().map(Entry::getValue).collect(Collectors.toList());
 	}
 
+	/**
+	 * Transform a requirement to PEAs or reuse the PEAs of a requirement with the same normalized text from a previous
+	 * run.
+	 */
+	private ReqPeas transformToPeaCached(final PatternType<?> pat, final Durations durations) {
+		final String key =
+				ReqCheckFingerprints.normalize(pat) + " with constants " + new TreeSet<>(durations.getConstNames());
+		final ReqPeas cached;
+		synchronized (PEA_CACHE) {
+			cached = PEA_CACHE.get(key);
+		}
+		if (cached != null) {
+			mReusedPeas++;
+			return new ReqPeas(pat, cached.getCounterTrace2Pea());
+		}
+		final ReqPeas rtr = pat.transformToPea(mLogger, durations);
+		synchronized (PEA_CACHE) {
+			PEA_CACHE.put(key, rtr);
+		}
+		return rtr;
+	}
+
 	@Override
 	public boolean hasErrors() {
 		return mHasErrors;
@@ -32,8 +32,15 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import de.uni_freiburg.informatik.ultimate.boogie.BoogieExpressionTransformer;
@@ -51,6 +58,7 @@ import de.uni_freiburg.informatik.ultimate.boogie.ast.Statement;
 import de.uni_freiburg.informatik.ultimate.boogie.ast.UnaryExpression.Operator;
 import de.uni_freiburg.informatik.ultimate.core.lib.exceptions.RunningTaskInfo;
 import de.uni_freiburg.informatik.ultimate.core.lib.exceptions.ToolchainCanceledException;
+import de.uni_freiburg.informatik.ultimate.core.lib.models.annotation.Check;
 import de.uni_freiburg.informatik.ultimate.core.model.models.ILocation;
 import de.uni_freiburg.informatik.ultimate.core.model.models.annotation.Spec;
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceProvider;
@@ -69,8 +77,10 @@ import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType.ReqPe
 import de.uni_freiburg.informatik.ultimate.pea2boogie.Activator;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.IReqSymbolTable;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.PeaResultUtil;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.ReqCheckResultStore;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.generator.RtInconcistencyConditionGenerator;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.generator.RtInconcistencyConditionGenerator.InvariantInfeasibleException;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.generator.VariableDependencyPartition;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences.PEATransformerMode;
 import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheck;
@@ -102,6 +112,11 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 	private boolean mReportTrivialConsistency;
 
 	private boolean mSeparateInvariantHandling;
+	private boolean mSkipIndependentRequirements;
+	private int mRtInconsistencyThreads;
+	private List<Declaration> mDeclarations;
+	private ReqCheckResultStore mResultStore;
+	private ReqCheckFingerprints mFingerprints;
 	private RtInconcistencyConditionGenerator mRtInconcistencyConditionGenerator;
 	private final NormalFormTransformer<Expression> mNormalFormTransformer;
 	private final IReqSymbolTable mSymbolTable;
@@ -139,23 +154,35 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 		mCheckConsistency = prefs.getBoolean(Pea2BoogiePreferences.LABEL_CHECK_CONSISTENCY);
 		mReportTrivialConsistency = prefs.getBoolean(Pea2BoogiePreferences.LABEL_REPORT_TRIVIAL_RT_CONSISTENCY);
 		mSeparateInvariantHandling = prefs.getBoolean(Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_USE_ALL_INVARIANTS);
+		mSkipIndependentRequirements =
+				prefs.getBoolean(Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_SKIP_INDEPENDENT);
+		mRtInconsistencyThreads = prefs.getInt(Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_THREADS);
 		mCheckRedundancy = prefs.getEnum(Pea2BoogiePreferences.LABEL_TRANSFOMER_MODE,
 				PEATransformerMode.class) == PEATransformerMode.REQ_RED;
 
 		// log preferences
-		mLogger.info(String.format("%s=%s, %s=%s, %s=%s, %s=%s, %s=%s", Pea2BoogiePreferences.LABEL_CHECK_VACUITY,
-				mCheckVacuity, Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_RANGE, mCombinationNum,
+		mLogger.info(String.format("%s=%s, %s=%s, %s=%s, %s=%s, %s=%s, %s=%s, %s=%s",
+				Pea2BoogiePreferences.LABEL_CHECK_VACUITY, mCheckVacuity,
+				Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_RANGE, mCombinationNum,
 				Pea2BoogiePreferences.LABEL_CHECK_CONSISTENCY, mCheckConsistency,
 				Pea2BoogiePreferences.LABEL_REPORT_TRIVIAL_RT_CONSISTENCY, mReportTrivialConsistency,
-				Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_USE_ALL_INVARIANTS, mSeparateInvariantHandling));
-
-		final List<Declaration> decls = new ArrayList<>(mSymbolTable.getDeclarations());
+				Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_USE_ALL_INVARIANTS, mSeparateInvariantHandling,
+				Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_SKIP_INDEPENDENT, mSkipIndependentRequirements,
+				Pea2BoogiePreferences.LABEL_RT_INCONSISTENCY_THREADS, mRtInconsistencyThreads));
+
+		mDeclarations = new ArrayList<>(mSymbolTable.getDeclarations());
+		mResultStore = ReqCheckResultStore.getOrCreate(mServices);
+		if (mResultStore != null) {
+			final List<String> settings = new ArrayList<>();
+			for (final String label : Pea2BoogiePreferences.ENCODING_LABELS) {
+				settings.add(label + "=" + prefs.getString(label));
+			}
+			mFingerprints = new ReqCheckFingerprints(mReqPeas, mSymbolTable, settings);
+		}
 		RtInconcistencyConditionGenerator rticGenerator;
 		try {
 			if (mCombinationNum >= 1) {
-				final BoogieDeclarations boogieDeclarations = new BoogieDeclarations(decls, mLogger);
-				rticGenerator = new RtInconcistencyConditionGenerator(mLogger, mServices, mPeaResultUtil, mSymbolTable,
-						mReqPeas, boogieDeclarations, mDurations, mSeparateInvariantHandling);
+				rticGenerator = createRtInconsistencyConditionGenerator();
 			} else {
 				rticGenerator = null;
 			}
@@ -168,6 +195,13 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 		return generateAnnotations();
 	}
 
+	private RtInconcistencyConditionGenerator createRtInconsistencyConditionGenerator()
+			throws InvariantInfeasibleException {
+		final BoogieDeclarations boogieDeclarations = new BoogieDeclarations(mDeclarations, mLogger);
+		return new RtInconcistencyConditionGenerator(mLogger, mServices, mPeaResultUtil, mSymbolTable, mReqPeas,
+				boogieDeclarations, mDurations, mSeparateInvariantHandling);
+	}
+
 	private List<Statement> generateAnnotations() {
 		final List<Statement> annotations = new ArrayList<>();
 		if (mCheckConsistency) {
@@ -186,10 +220,37 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 		return annotations;
 	}
 
-	private static List<Statement> genCheckConsistency(final BoogieLocation bl) {
+	private List<Statement> genCheckConsistency(final BoogieLocation bl) {
 		final ReqCheck check = new ReqCheck(Spec.CONSISTENCY);
 		final Expression expr = ExpressionFactory.createBooleanLiteral(bl, false);
-		return Collections.singletonList(createAssert(expr, check, "CONSISTENCY"));
+		final AssertStatement assertStmt = createAssert(expr, check, "CONSISTENCY");
+		if (isProvenInPreviousRun(assertStmt, () -> mFingerprints.consistency(),
+				() -> mFingerprints.consistencyComponents())) {
+			mResultStore.setConsistent();
+			return Collections.emptyList();
+		}
+		return Collections.singletonList(assertStmt);
+	}
+
+	/**
+	 * Check whether the given check was proven in a previous run. If so, report its success, otherwise remember its
+	 * fingerprint such that its result can be recorded.
+	 *
+	 * @return true iff the check was proven before and does not have to be verified again
+	 */
+	private boolean isProvenInPreviousRun(final AssertStatement assertStmt, final Supplier<String> fingerprint,
+			final Supplier<Set<String>> components) {
+		if (mResultStore == null) {
+			return false;
+		}
+		final ReqCheck check = (ReqCheck) Check.getAnnotation(assertStmt);
+		final String key = fingerprint.get();
+		if (mResultStore.isProven(key)) {
+			mPeaResultUtil.provenInPreviousRun(assertStmt);
+			return true;
+		}
+		mResultStore.register(check, key, components.get());
+		return false;
 	}
 
 	private List<Statement> genCheckComplement(final BoogieLocation bl) {
@@ -350,60 +411,170 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 		}
 
 		final List<Statement> stmtList = new ArrayList<>();
-		final List<Entry<PatternType<?>, PhaseEventAutomata>[]> subsets = CrossProducts.subArrays(
-				consideredAutomata.toArray(new Entry[count]), actualCombinationNum, new Entry[actualCombinationNum]);
+		final List<Entry<PatternType<?>, PhaseEventAutomata>[]> subsets = removeProvenSubsets(consideredAutomata,
+				removeIndependentSubsets(consideredAutomata, CrossProducts.subArrays(
+						consideredAutomata.toArray(new Entry[count]), actualCombinationNum,
+						new Entry[actualCombinationNum])));
 		int subsetsSize = subsets.size();
 		if (subsetsSize > 10000) {
-			mLogger.warn("Computing rt-inconsistency assertions for " + subsetsSize
-					+ " subsets, this might take a while...");
+			mLogger.warn("Computing rt-inconsistency assertions for %s subsets with %s threads, this might take a "
+					+ "while...", subsetsSize, mRtInconsistencyThreads);
 		} else {
-			mLogger.info("Computing rt-inconsistency assertions for " + subsetsSize + " subsets");
+			mLogger.info("Computing rt-inconsistency assertions for %s subsets with %s threads", subsetsSize,
+					mRtInconsistencyThreads);
 		}
 
-		long last = System.currentTimeMillis();
-		for (final Entry<PatternType<?>, PhaseEventAutomata>[] subset : subsets) {
-			if (subsetsSize % 100 == 0 && !mServices.getProgressMonitorService().continueProcessing()) {
-				throw new ToolchainCanceledException(getClass(),
-						"Computing rt-inconsistency assertions, still " + subsetsSize + " left");
-			}
-			if (subsetsSize % 10 == 0) {
-				final long current = System.currentTimeMillis();
-				mLogger.info("%s subsets remaining (took %s since last message)", subsetsSize,
-						CoreUtil.humanReadableTime(current - last, TimeUnit.MILLISECONDS, 2));
-				last = current;
-				mRtInconcistencyConditionGenerator.logStats();
+		// each worker thread takes an idle generator (and thus an idle solver) or creates a new one
+		final Queue<RtInconcistencyConditionGenerator> idleGenerators = new ConcurrentLinkedQueue<>();
+		final Queue<RtInconcistencyConditionGenerator> allGenerators = new ConcurrentLinkedQueue<>();
+		idleGenerators.add(mRtInconcistencyConditionGenerator);
+		allGenerators.add(mRtInconcistencyConditionGenerator);
+		final ExecutorService executor = Executors.newFixedThreadPool(mRtInconsistencyThreads);
+		try {
+			final List<Future<Expression>> conditions = new ArrayList<>(subsets.size());
+			for (final Entry<PatternType<?>, PhaseEventAutomata>[] subset : subsets) {
+				conditions.add(executor.submit(
+						() -> generateNonDeadlockCondition(subset, idleGenerators, allGenerators)));
 			}
-			final Statement assertStmt = genAssertRTInconsistency(subset);
-			if (assertStmt != null) {
-				stmtList.add(assertStmt);
-				if (DEBUG_ONLY_FIRST_NON_TRIVIAL_RT_INCONSISTENCY) {
-					mLogger.warn(
-							"Considering only the first non-trivial rt-inconsistency assertion and skipping all others");
-					break;
+
+			// the assertions are created in the order of the subsets, independent of the order of the workers
+			long last = System.currentTimeMillis();
+			for (int i = 0; i < subsets.size(); ++i) {
+				if (subsetsSize % 100 == 0 && !mServices.getProgressMonitorService().continueProcessing()) {
+					throw new ToolchainCanceledException(getClass(),
+							"Computing rt-inconsistency assertions, still " + subsetsSize + " left");
+				}
+				if (subsetsSize % 10 == 0) {
+					final long current = System.currentTimeMillis();
+					mLogger.info("%s subsets remaining (took %s since last message)", subsetsSize,
+							CoreUtil.humanReadableTime(current - last, TimeUnit.MILLISECONDS, 2));
+					last = current;
+				}
+				final Statement assertStmt = genAssertRTInconsistency(subsets.get(i), getResult(conditions.get(i)));
+				if (assertStmt != null) {
+					stmtList.add(assertStmt);
+					if (DEBUG_ONLY_FIRST_NON_TRIVIAL_RT_INCONSISTENCY) {
+						mLogger.warn(
+								"Considering only the first non-trivial rt-inconsistency assertion and skipping all others");
+						break;
+					}
 				}
+				subsetsSize--;
 			}
-			subsetsSize--;
+		} finally {
+			executor.shutdownNow();
 		}
-		mRtInconcistencyConditionGenerator.logStats();
+		allGenerators.forEach(RtInconcistencyConditionGenerator::logStats);
 		return stmtList;
 	}
 
-	private Statement genAssertRTInconsistency(final Entry<PatternType<?>, PhaseEventAutomata>[] subset) {
+	/**
+	 * Remove all subsets whose rt-inconsistency checks are implied by the checks of other subsets, i.e., subsets that
+	 * consist of requirements that do not share variables (see {@link VariableDependencyPartition}).
+	 */
+	private List<Entry<PatternType<?>, PhaseEventAutomata>[]> removeIndependentSubsets(
+			final List<Entry<PatternType<?>, PhaseEventAutomata>> consideredAutomata,
+			final List<Entry<PatternType<?>, PhaseEventAutomata>[]> subsets) {
+		if (!mSkipIndependentRequirements || subsets.isEmpty() || subsets.get(0).length < 2) {
+			return subsets;
+		}
+		final List<PhaseEventAutomata> allAutomata = mReqPeas.stream().flatMap(a -> a.getCounterTrace2Pea().stream())
+				.map(Entry::getValue).collect(Collectors.toList());
+		final VariableDependencyPartition partition = new VariableDependencyPartition(allAutomata,
+				consideredAutomata.stream().map(Entry::getValue).collect(Collectors.toList()),
+				mSymbolTable.getConstVars());
+		final List<Entry<PatternType<?>, PhaseEventAutomata>[]> rtr =
+				subsets.stream().filter(a -> !partition.isRedundant(getAutomata(a))).collect(Collectors.toList());
+		mLogger.info("Skipping %s of %s subsets because their requirements do not share variables "
+				+ "(%s independent groups of requirements)", subsets.size() - rtr.size(), subsets.size(),
+				partition.getNumberOfComponents());
+		return rtr;
+	}
+
+	/**
+	 * Remove all subsets whose rt-consistency was proven in a previous run and whose requirements did not change since
+	 * then (see {@link ReqCheckResultStore}).
+	 */
+	private List<Entry<PatternType<?>, PhaseEventAutomata>[]> removeProvenSubsets(
+			final List<Entry<PatternType<?>, PhaseEventAutomata>> consideredAutomata,
+			final List<Entry<PatternType<?>, PhaseEventAutomata>[]> subsets) {
+		if (mResultStore == null) {
+			return subsets;
+		}
+		// the invariants are part of each check if they are handled separately
+		final Set<PhaseEventAutomata> considered =
+				consideredAutomata.stream().map(Entry::getValue).collect(Collectors.toSet());
+		final List<PhaseEventAutomata> invariants = mReqPeas.stream().flatMap(a -> a.getCounterTrace2Pea().stream())
+				.map(Entry::getValue).filter(a -> !considered.contains(a)).collect(Collectors.toList());
+		final List<Entry<PatternType<?>, PhaseEventAutomata>[]> rtr = new ArrayList<>();
+		for (final Entry<PatternType<?>, PhaseEventAutomata>[] subset : subsets) {
+			final ReqCheck check = createReqCheck(Spec.RTINCONSISTENT, subset);
+			final String key = mFingerprints.rtInconsistency(getAutomata(subset), invariants);
+			if (mResultStore.isProven(key)) {
+				mPeaResultUtil.provenInPreviousRun(createTrivialRtInconsistencyAssert(subset, check));
+			} else {
+				mResultStore.register(check, key,
+						mFingerprints.rtInconsistencyComponents(getAutomata(subset), invariants));
+				rtr.add(subset);
+			}
+		}
+		mLogger.info("Skipping %s of %s subsets because their rt-consistency was proven in a previous run",
+				subsets.size() - rtr.size(), subsets.size());
+		return rtr;
+	}
+
+	private Expression generateNonDeadlockCondition(final Entry<PatternType<?>, PhaseEventAutomata>[] subset,
+			final Queue<RtInconcistencyConditionGenerator> idleGenerators,
+			final Queue<RtInconcistencyConditionGenerator> allGenerators) throws InvariantInfeasibleException {
+		RtInconcistencyConditionGenerator generator = idleGenerators.poll();
+		if (generator == null) {
+			generator = createRtInconsistencyConditionGenerator();
+			allGenerators.add(generator);
+		}
+		try {
+			return generator.generateNonDeadlockCondition(getAutomata(subset));
+		} finally {
+			idleGenerators.add(generator);
+		}
+	}
+
+	private static Expression getResult(final Future<Expression> condition) {
+		try {
+			return condition.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ToolchainCanceledException(ReqCheckAnnotator.class,
+					"Interrupted while computing rt-inconsistency assertions");
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			// the invariants were already checked by the first generator
+			throw new AssertionError(cause);
+		}
+	}
+
+	private static PhaseEventAutomata[] getAutomata(final Entry<PatternType<?>, PhaseEventAutomata>[] subset) {
 		final Set<PhaseEventAutomata> automataSet = Arrays.stream(subset)
 				.map(Entry<PatternType<?>, PhaseEventAutomata>::getValue).collect(Collectors.toSet());
 		assert automataSet.size() == subset.length;
-		final PhaseEventAutomata[] automata = automataSet.toArray(new PhaseEventAutomata[subset.length]);
+		return automataSet.toArray(new PhaseEventAutomata[subset.length]);
+	}
 
-		final Expression expr = mRtInconcistencyConditionGenerator.generateNonDeadlockCondition(automata);
+	private Statement genAssertRTInconsistency(final Entry<PatternType<?>, PhaseEventAutomata>[] subset,
+			final Expression expr) {
 		final ReqCheck check = createReqCheck(Spec.RTINCONSISTENT, subset);
 
 		if (expr == null) {
+			if (mResultStore != null) {
+				mResultStore.recordSuccess(check);
+			}
 			if (mReportTrivialConsistency) {
-				final ILocation loc =
-						mSymbolTable.getIdentifierExpression(mSymbolTable.getPcName(subset[0].getValue())).getLoc();
-				final AssertStatement fakeElem = createAssert(ExpressionFactory.createBooleanLiteral(loc, true), check,
-						"RTINCONSISTENT_" + getAssertLabel(subset));
-				mPeaResultUtil.intrinsicRtConsistencySuccess(fakeElem);
+				mPeaResultUtil.intrinsicRtConsistencySuccess(createTrivialRtInconsistencyAssert(subset, check));
 			}
 			return null;
 		}
@@ -411,6 +582,14 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 		return createAssert(expr, check, "RTINCONSISTENT_" + getAssertLabel(subset));
 	}
 
+	private AssertStatement createTrivialRtInconsistencyAssert(final Entry<PatternType<?>, PhaseEventAutomata>[] subset,
+			final ReqCheck check) {
+		final ILocation loc =
+				mSymbolTable.getIdentifierExpression(mSymbolTable.getPcName(subset[0].getValue())).getLoc();
+		return createAssert(ExpressionFactory.createBooleanLiteral(loc, true), check,
+				"RTINCONSISTENT_" + getAssertLabel(subset));
+	}
+
 	private static String getAssertLabel(final Entry<PatternType<?>, PhaseEventAutomata>[] subset) {
 		final StringBuilder sb = new StringBuilder();
 		for (final Entry<PatternType<?>, PhaseEventAutomata> entry : subset) {
@@ -441,8 +620,10 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 		for (final ReqPeas reqpea : mReqPeas) {
 			final PatternType<?> pattern = reqpea.getPattern();
 			for (final Entry<CounterTrace, PhaseEventAutomata> pea : reqpea.getCounterTrace2Pea()) {
-				final Statement assertStmt = genAssertNonVacuous(pattern, pea.getValue(), bl);
-				if (assertStmt != null) {
+				final AssertStatement assertStmt = genAssertNonVacuous(pattern, pea.getValue(), bl);
+				if (assertStmt != null
+						&& !isProvenInPreviousRun(assertStmt, () -> mFingerprints.vacuity(pea.getValue()),
+								() -> mFingerprints.vacuityComponents(pea.getValue()))) {
 					stmtList.add(assertStmt);
 				}
 			}
@@ -464,7 +645,7 @@ public class ReqCheckAnnotator implements IReq2PeaAnnotator {
 	 *            A boogie location used for all statements.
 	 * @return The assertion for non-vacousness or null if the assertion would be false.
 	 */
-	private Statement genAssertNonVacuous(final PatternType<?> req, final PhaseEventAutomata aut,
+	private AssertStatement genAssertNonVacuous(final PatternType<?> req, final PhaseEventAutomata aut,
 			final BoogieLocation bl) {
 		final List<Phase> phases = aut.getPhases();
 
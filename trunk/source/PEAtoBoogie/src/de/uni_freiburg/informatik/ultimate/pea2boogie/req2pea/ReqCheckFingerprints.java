@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE PEAtoBoogie plug-in.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE PEAtoBoogie plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE PEAtoBoogie plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE PEAtoBoogie plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.pea2boogie.req2pea;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import de.uni_freiburg.informatik.ultimate.boogie.ast.ConstDeclaration;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.Declaration;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.Expression;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.VarList;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.VariableDeclaration;
+import de.uni_freiburg.informatik.ultimate.boogie.output.BoogiePrettyPrinter;
+import de.uni_freiburg.informatik.ultimate.core.model.models.annotation.Spec;
+import de.uni_freiburg.informatik.ultimate.lib.pea.CounterTrace;
+import de.uni_freiburg.informatik.ultimate.lib.pea.PhaseEventAutomata;
+import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType;
+import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType.ReqPeas;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.IReqSymbolTable;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.ReqCheckResultStore;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.generator.VariableDependencyPartition;
+
+/**
+ * Computes the fingerprints under which the results of checks are kept in a {@link ReqCheckResultStore}.
+ * <p>
+ * The fingerprint of a check covers the normalized text of the checked requirements, of all requirements that
+ * (transitively) share variables with them (see {@link VariableDependencyPartition}), the declarations of those
+ * variables, all constants, and the settings that influence the encoding. Hence, changing a requirement only changes
+ * the fingerprints of the checks that involve requirements of its component.
+ */
+final class ReqCheckFingerprints {
+
+	private final String mContext;
+	private final Map<PhaseEventAutomata, String> mPea2Component;
+
+	/**
+	 * @param settings
+	 *            the values of all settings that influence the encoding of the checks
+	 */
+	ReqCheckFingerprints(final List<ReqPeas> reqPeas, final IReqSymbolTable symbolTable, final List<String> settings) {
+		final Map<PhaseEventAutomata, PatternType<?>> pea2Req = new HashMap<>();
+		for (final ReqPeas reqPea : reqPeas) {
+			for (final Entry<CounterTrace, PhaseEventAutomata> entry : reqPea.getCounterTrace2Pea()) {
+				pea2Req.put(entry.getValue(), reqPea.getPattern());
+			}
+		}
+
+		final Map<String, String> var2Declaration = new HashMap<>();
+		final Set<String> context = new TreeSet<>(settings);
+		for (final Declaration decl : symbolTable.getDeclarations()) {
+			if (decl instanceof VariableDeclaration) {
+				for (final VarList varList : ((VariableDeclaration) decl).getVariables()) {
+					final String text = BoogiePrettyPrinter.print(varList);
+					for (final String var : varList.getIdentifiers()) {
+						var2Declaration.put(var, text);
+					}
+				}
+			} else if (decl instanceof ConstDeclaration) {
+				context.add("const " + BoogiePrettyPrinter.print(((ConstDeclaration) decl).getVarList()));
+			}
+		}
+		for (final Entry<String, Expression> entry : symbolTable.getConstToValue().entrySet()) {
+			context.add(entry.getKey() + " == " + BoogiePrettyPrinter.print(entry.getValue()));
+		}
+		mContext = ReqCheckResultStore.fingerprint(new ArrayList<>(context));
+
+		final VariableDependencyPartition partition =
+				new VariableDependencyPartition(pea2Req.keySet(), pea2Req.keySet(), symbolTable.getConstVars());
+		mPea2Component = new HashMap<>();
+		for (final Set<Object> component : partition.getComponents()) {
+			final Set<String> members = new TreeSet<>();
+			final List<PhaseEventAutomata> automata = new ArrayList<>();
+			for (final Object member : component) {
+				if (member instanceof PhaseEventAutomata) {
+					final PhaseEventAutomata pea = (PhaseEventAutomata) member;
+					automata.add(pea);
+					members.add("pea " + pea.getName() + " of " + normalize(pea2Req.get(pea)));
+				} else {
+					members.add("var " + member + " " + var2Declaration.get(member));
+				}
+			}
+			final String fingerprint = ReqCheckResultStore.fingerprint(new ArrayList<>(members));
+			automata.forEach(a -> mPea2Component.put(a, fingerprint));
+		}
+	}
+
+	/**
+	 * @return a text that identifies the given requirement independently of the objects that represent it
+	 */
+	static String normalize(final PatternType<?> req) {
+		return req.getClass().getName() + " " + req + " " + req.getDurations() + " " + req.getDurationNames();
+	}
+
+	/**
+	 * @param invariants
+	 *            automata that are part of every rt-inconsistency check
+	 * @return the fingerprint of the rt-inconsistency check of the given automata
+	 */
+	String rtInconsistency(final PhaseEventAutomata[] automata, final Collection<PhaseEventAutomata> invariants) {
+		final Set<String> names = new TreeSet<>();
+		for (final PhaseEventAutomata pea : automata) {
+			names.add(pea.getName());
+		}
+		return fingerprint(Spec.RTINCONSISTENT, names, rtInconsistencyComponents(automata, invariants));
+	}
+
+	/**
+	 * @return the fingerprints of the components the rt-inconsistency check of the given automata involves
+	 */
+	Set<String> rtInconsistencyComponents(final PhaseEventAutomata[] automata,
+			final Collection<PhaseEventAutomata> invariants) {
+		final Set<String> components = new TreeSet<>();
+		for (final PhaseEventAutomata pea : automata) {
+			components.add(mPea2Component.get(pea));
+		}
+		invariants.forEach(a -> components.add(mPea2Component.get(a)));
+		return components;
+	}
+
+	/**
+	 * @return the fingerprint of the vacuity check of the given automaton
+	 */
+	String vacuity(final PhaseEventAutomata pea) {
+		return fingerprint(Spec.VACUOUS, Set.of(pea.getName()), vacuityComponents(pea));
+	}
+
+	/**
+	 * @return the fingerprints of the components the vacuity check of the given automaton involves
+	 */
+	Set<String> vacuityComponents(final PhaseEventAutomata pea) {
+		return Set.of(mPea2Component.get(pea));
+	}
+
+	/**
+	 * @return the fingerprint of the consistency check of all requirements
+	 */
+	String consistency() {
+		return fingerprint(Spec.CONSISTENCY, Set.of(), consistencyComponents());
+	}
+
+	/**
+	 * @return the fingerprints of all components
+	 */
+	Set<String> consistencyComponents() {
+		return new TreeSet<>(mPea2Component.values());
+	}
+
+	private String fingerprint(final Spec spec, final Set<String> names, final Set<String> components) {
+		final List<String> parts = new ArrayList<>();
+		parts.add(spec.name());
+		parts.add(mContext);
+		parts.add(names.stream().collect(Collectors.joining(",")));
+		parts.addAll(components);
+		return ReqCheckResultStore.fingerprint(parts);
+	}
+}
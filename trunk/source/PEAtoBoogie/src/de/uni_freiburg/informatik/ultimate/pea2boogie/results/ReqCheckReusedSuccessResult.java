@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE PEAtoBoogie plug-in.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE PEAtoBoogie plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE PEAtoBoogie plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE PEAtoBoogie plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.pea2boogie.results;
+
+import de.uni_freiburg.informatik.ultimate.core.model.models.IElement;
+
+/**
+ * The success of a check that was not verified in this run because it was proven in a previous run and nothing it
+ * depends on has changed since then (see the result store for incremental requirement analysis).
+ *
+ * @param <E>
+ */
+public final class ReqCheckReusedSuccessResult<E extends IElement> extends ReqCheckSuccessResult<E> {
+
+	private static final String SUFFIX = " (proven in a previous run)";
+
+	public ReqCheckReusedSuccessResult(final E element, final String plugin) {
+		super(element, plugin);
+	}
+
+	@Override
+	public String getShortDescription() {
+		return super.getShortDescription() + SUFFIX;
+	}
+
+	@Override
+	public String getLongDescription() {
+		return super.getLongDescription() + SUFFIX;
+	}
+}
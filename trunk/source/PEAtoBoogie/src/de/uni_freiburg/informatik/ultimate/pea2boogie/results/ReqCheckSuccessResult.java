@@ -4,7 +4,7 @@ import de.uni_freiburg.informatik.ultimate.core.lib.models.annotation.Check;
 import de.uni_freiburg.informatik.ultimate.core.lib.results.AbstractResultAtElement;
 import de.uni_freiburg.informatik.ultimate.core.model.models.IElement;
 
-public final class ReqCheckSuccessResult<E extends IElement> extends AbstractResultAtElement<E> {
+public class ReqCheckSuccessResult<E extends IElement> extends AbstractResultAtElement<E> {
 
 	private final ReqCheck mReqCheck;
 
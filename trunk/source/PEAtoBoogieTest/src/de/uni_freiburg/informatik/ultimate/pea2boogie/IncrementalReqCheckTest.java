@@ -0,0 +1,414 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE PEAtoBoogie plug-in.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE PEAtoBoogie plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE PEAtoBoogie plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE PEAtoBoogie plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.pea2boogie;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.uni_freiburg.informatik.ultimate.boogie.BoogieVisitor;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.AssertStatement;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.Declaration;
+import de.uni_freiburg.informatik.ultimate.boogie.ast.Unit;
+import de.uni_freiburg.informatik.ultimate.core.lib.models.annotation.Check;
+import de.uni_freiburg.informatik.ultimate.core.model.IServiceFactory;
+import de.uni_freiburg.informatik.ultimate.core.model.models.annotation.Spec;
+import de.uni_freiburg.informatik.ultimate.core.model.preferences.BaseUltimatePreferenceItem;
+import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceProvider;
+import de.uni_freiburg.informatik.ultimate.core.model.preferences.UltimatePreferenceItem;
+import de.uni_freiburg.informatik.ultimate.core.model.results.IResult;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IBacktranslationService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILoggingService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IProgressMonitorService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IResultService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IToolchainStorage;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
+import de.uni_freiburg.informatik.ultimate.lib.srparse.ReqParser;
+import de.uni_freiburg.informatik.ultimate.lib.srparse.pattern.PatternType;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.preferences.Pea2BoogiePreferences;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheck;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheckReusedSuccessResult;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.translator.Req2BoogieTranslator;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+/**
+ * Runs the requirement analysis twice with a {@link ReqCheckResultStore} and checks that the second run only
+ * regenerates the checks that are affected by a changed requirement.
+ */
+public class IncrementalReqCheckTest {
+
+	private static final String DECLARATIONS =
+			"Input A is bool\nOutput B is bool\nInput C is bool\nOutput D is bool\n";
+	private static final String REQ1 = "req1: Globally, it is always the case that if \"A\" holds, then \"B\" holds "
+			+ "after at most \"5\" time units\n";
+	private static final String REQ2 =
+			"req2: Globally, it is always the case that if \"B\" holds, then \"A\" holds as well\n";
+	private static final String REQ3 = "req3: Globally, it is always the case that if \"C\" holds, then \"D\" holds "
+			+ "after at most \"5\" time units\n";
+	private static final String REQ3_CHANGED = "req3: Globally, it is always the case that if \"C\" holds, "
+			+ "then \"D\" holds after at most \"7\" time units\n";
+
+	private Path mFile;
+	private List<IResult> mResults;
+
+	@Before
+	public void setUp() throws IOException {
+		mFile = Files.createTempFile("reqcheck", ".store");
+		Files.delete(mFile);
+		mResults = new ArrayList<>();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(mFile);
+	}
+
+	@Test
+	public void onlyChangedComponentIsRegenerated() throws Exception {
+		final Set<String> first = runAndProveAll(DECLARATIONS + REQ1 + REQ2 + REQ3, Map.of());
+		// the invariant req2 cannot be vacuous
+		Assert.assertEquals(Set.of("VACUOUS[req1]", "VACUOUS[req3]", "CONSISTENCY[]"), first);
+
+		mResults.clear();
+		Assert.assertEquals(Set.of(), runAndProveAll(DECLARATIONS + REQ1 + REQ2 + REQ3, Map.of()));
+		Assert.assertEquals(first.size(), mResults.size());
+		for (final IResult result : mResults) {
+			Assert.assertTrue(result instanceof ReqCheckReusedSuccessResult);
+			Assert.assertTrue(result.getShortDescription().endsWith("(proven in a previous run)"));
+		}
+
+		// req3 shares no variables with req1 and req2, hence their checks are reused
+		final Set<String> second = runAndProveAll(DECLARATIONS + REQ1 + REQ2 + REQ3_CHANGED, Map.of());
+		Assert.assertEquals(Set.of("VACUOUS[req3]", "CONSISTENCY[]"), second);
+	}
+
+	@Test
+	public void changedEncodingSettingRegeneratesAllChecks() throws Exception {
+		final String reqs = DECLARATIONS + REQ1 + REQ2 + REQ3;
+		final Set<String> first = runAndProveAll(reqs, Map.of());
+
+		Assert.assertEquals(first, runAndProveAll(reqs, Map.of(Pea2BoogiePreferences.LABEL_GUESS_IN_OUT, false)));
+		Assert.assertEquals(Set.of(), runAndProveAll(reqs, Map.of(Pea2BoogiePreferences.LABEL_GUESS_IN_OUT, false)));
+	}
+
+	@Test
+	public void inconsistentRunRecordsNothing() throws Exception {
+		final String reqs = DECLARATIONS + REQ1 + REQ2 + REQ3;
+		final Set<String> first = run(reqs, Set.of(Spec.CONSISTENCY));
+
+		// all requirements may be vacuous if they are inconsistent, hence no proof can be reused
+		Assert.assertEquals(first, runAndProveAll(reqs, Map.of()));
+		Assert.assertEquals(Set.of(), runAndProveAll(reqs, Map.of()));
+	}
+
+	/**
+	 * Translate the given requirements, record all generated checks as successful, and return a description of the
+	 * generated checks.
+	 */
+	private Set<String> runAndProveAll(final String requirements, final Map<String, Object> settings)
+			throws Exception {
+		return run(requirements, settings, Set.of());
+	}
+
+	/**
+	 * Translate the given requirements, record the generated checks of the given specifications as failed and all
+	 * others as successful, and return a description of the generated checks.
+	 */
+	private Set<String> run(final String requirements, final Set<Spec> failing) throws Exception {
+		return run(requirements, Map.of(), failing);
+	}
+
+	private Set<String> run(final String requirements, final Map<String, Object> settings, final Set<Spec> failing)
+			throws Exception {
+		final IUltimateServiceProvider services = new TestServices(mFile, settings, mResults);
+		final ILogger logger = services.getLoggingService().getLogger(getClass());
+		final PatternType<?>[] patterns =
+				(PatternType<?>[]) new ReqParser(logger, new StringReader(requirements), "").parse().value;
+		final Req2BoogieTranslator translator =
+				new Req2BoogieTranslator(services, logger, Arrays.asList(patterns), new ArrayList<>());
+		final List<ReqCheck> checks = collectChecks(translator.getUnit());
+
+		final ReqCheckResultStore store = ReqCheckResultStore.get(services.getStorage());
+		final Set<String> rtr = new TreeSet<>();
+		for (final ReqCheck check : checks) {
+			if (failing.containsAll(check.getSpec())) {
+				store.recordFailure(check);
+			} else {
+				store.recordSuccess(check);
+			}
+			rtr.add(check.getSpec().iterator().next() + new TreeSet<>(check.getReqIds()).toString());
+		}
+		store.destroy();
+		return rtr;
+	}
+
+	private static List<ReqCheck> collectChecks(final Unit unit) {
+		final CheckCollector collector = new CheckCollector();
+		for (final Declaration decl : unit.getDeclarations()) {
+			collector.processDeclaration(decl);
+		}
+		return collector.mChecks;
+	}
+
+	private static final class CheckCollector extends BoogieVisitor {
+		private final List<ReqCheck> mChecks = new ArrayList<>();
+
+		@Override
+		protected Declaration processDeclaration(final Declaration decl) {
+			return super.processDeclaration(decl);
+		}
+
+		@Override
+		protected void visit(final AssertStatement statement) {
+			final Check check = Check.getAnnotation(statement);
+			if (check instanceof ReqCheck) {
+				mChecks.add((ReqCheck) check);
+			}
+			super.visit(statement);
+		}
+	}
+
+	/**
+	 * Services whose PEAtoBoogie preferences are the defaults with rt-inconsistency disabled, because it requires an
+	 * external solver, and the result store set to the given file.
+	 */
+	private static final class TestServices implements IUltimateServiceProvider {
+		private final IUltimateServiceProvider mServices;
+		private final IPreferenceProvider mPrefs;
+		private final List<IResult> mResults;
+
+		private TestServices(final Path file, final Map<String, Object> settings, final List<IResult> results) {
+			mServices = UltimateMocks.createUltimateServiceProviderMock();
+			final Map<String, Object> values = new HashMap<>();
+			for (final BaseUltimatePreferenceItem item : new Pea2BoogiePreferences().getPreferenceItems()) {
+				for (final UltimatePreferenceItem<?> flat : item.getFlattenedList()) {
+					values.put(flat.getLabel(), flat.getDefaultValue());
+				}
+			}
+			values.put(Pea2BoogiePreferences.LABEL_CHECK_RT_INCONSISTENCY, false);
+			values.put(Pea2BoogiePreferences.LABEL_INCREMENTAL_RESULT_STORE, file.toString());
+			values.putAll(settings);
+			mPrefs = new MapPreferenceProvider(values);
+			mResults = results;
+		}
+
+		@Override
+		public IBacktranslationService getBacktranslationService() {
+			return mServices.getBacktranslationService();
+		}
+
+		@Override
+		public ILoggingService getLoggingService() {
+			return mServices.getLoggingService();
+		}
+
+		@Override
+		public IResultService getResultService() {
+			return new IResultService() {
+				@Override
+				public Map<String, List<IResult>> getResults() {
+					return Map.of(Activator.PLUGIN_ID, mResults);
+				}
+
+				@Override
+				public void reportResult(final String pluginId, final IResult result) {
+					mResults.add(result);
+				}
+
+				@Override
+				public void registerTransformer(final String name, final UnaryOperator<IResult> resultTransformer) {
+					// results are not transformed
+				}
+			};
+		}
+
+		@Override
+		public IProgressMonitorService getProgressMonitorService() {
+			return mServices.getProgressMonitorService();
+		}
+
+		@Override
+		public <T extends IService, K extends IServiceFactory<T>> T getServiceInstance(final Class<K> serviceType) {
+			return mServices.getServiceInstance(serviceType);
+		}
+
+		@Override
+		public IPreferenceProvider getPreferenceProvider(final String pluginId) {
+			return mPrefs;
+		}
+
+		@Override
+		public IUltimateServiceProvider registerPreferenceLayer(final Class<?> creator, final String... pluginIds) {
+			return this;
+		}
+
+		@Override
+		public IUltimateServiceProvider registerDefaultPreferenceLayer(final Class<?> creator,
+				final String... pluginIds) {
+			return this;
+		}
+
+		@Override
+		public IToolchainStorage getStorage() {
+			return mServices.getStorage();
+		}
+	}
+
+	private static final class MapPreferenceProvider implements IPreferenceProvider {
+		private final Map<String, Object> mValues;
+
+		private MapPreferenceProvider(final Map<String, Object> values) {
+			mValues = values;
+		}
+
+		@Override
+		public boolean getBoolean(final String key) {
+			return Boolean.parseBoolean(getString(key));
+		}
+
+		@Override
+		public boolean getBoolean(final String key, final boolean defaultValue) {
+			return mValues.containsKey(key) ? getBoolean(key) : defaultValue;
+		}
+
+		@Override
+		public String getString(final String key) {
+			final Object value = mValues.get(key);
+			return value == null ? "" : String.valueOf(value);
+		}
+
+		@Override
+		public String getString(final String key, final String defaultValue) {
+			return mValues.containsKey(key) ? getString(key) : defaultValue;
+		}
+
+		@Override
+		public <T extends Enum<T>> T getEnum(final String key, final Class<T> clazz) {
+			return Enum.valueOf(clazz, getString(key));
+		}
+
+		@Override
+		public <T extends Enum<T>> T getEnum(final String key, final T defaultValue, final Class<T> clazz) {
+			return mValues.containsKey(key) ? getEnum(key, clazz) : defaultValue;
+		}
+
+		@Override
+		public byte[] getByteArray(final String key) {
+			return getString(key).getBytes();
+		}
+
+		@Override
+		public byte[] getByteArray(final String key, final byte[] defaultValue) {
+			return mValues.containsKey(key) ? getByteArray(key) : defaultValue;
+		}
+
+		@Override
+		public double getDouble(final String key) {
+			return Double.parseDouble(getString(key));
+		}
+
+		@Override
+		public double getDouble(final String key, final double defaultValue) {
+			return mValues.containsKey(key) ? getDouble(key) : defaultValue;
+		}
+
+		@Override
+		public float getFloat(final String key) {
+			return Float.parseFloat(getString(key));
+		}
+
+		@Override
+		public float getFloat(final String key, final float defaultValue) {
+			return mValues.containsKey(key) ? getFloat(key) : defaultValue;
+		}
+
+		@Override
+		public int getInt(final String key) {
+			return Integer.parseInt(getString(key));
+		}
+
+		@Override
+		public int getInt(final String key, final int defaultValue) {
+			return mValues.containsKey(key) ? getInt(key) : defaultValue;
+		}
+
+		@Override
+		public long getLong(final String key) {
+			return Long.parseLong(getString(key));
+		}
+
+		@Override
+		public long getLong(final String key, final long defaultValue) {
+			return mValues.containsKey(key) ? getLong(key) : defaultValue;
+		}
+
+		@Override
+		public Map<String, String> getKeyValueMap(final String key) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void put(final String key, final String value) {
+			mValues.put(key, value);
+		}
+
+		@Override
+		public void put(final String key, final Object value) {
+			mValues.put(key, value);
+		}
+
+		@Override
+		public String getSingleLinePreferenceString() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Map<String, Object> getDefaultPreferences() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Map<String, Object> getPreferences() {
+			return mValues;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE PEAtoBoogie plug-in.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE PEAtoBoogie plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE PEAtoBoogie plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE PEAtoBoogie plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE PEAtoBoogie plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.pea2boogie;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.uni_freiburg.informatik.ultimate.core.model.models.annotation.Spec;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+import de.uni_freiburg.informatik.ultimate.pea2boogie.results.ReqCheck;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+/**
+ * Tests that {@link ReqCheckResultStore} keeps the fingerprints of successful checks across runs.
+ */
+public class ReqCheckResultStoreTest {
+
+	private ILogger mLogger;
+	private Path mFile;
+
+	@Before
+	public void setUp() throws IOException {
+		mLogger = UltimateMocks.createUltimateServiceProviderMock().getLoggingService().getLogger(getClass());
+		mFile = Files.createTempFile("reqcheck", ".store");
+		Files.delete(mFile);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(mFile);
+	}
+
+	@Test
+	public void successIsKeptAcrossRuns() {
+		final String vacuous = ReqCheckResultStore.fingerprint(Arrays.asList("VACUOUS", "req1"));
+		final String rtInconsistent = ReqCheckResultStore.fingerprint(Arrays.asList("RTINCONSISTENT", "req1"));
+
+		final ReqCheckResultStore first = new ReqCheckResultStore(mLogger, mFile);
+		Assert.assertFalse(first.isProven(vacuous));
+		first.register(createCheck(Spec.VACUOUS, "req1"), vacuous, Set.of("c1"));
+		first.register(createCheck(Spec.RTINCONSISTENT, "req1"), rtInconsistent, Set.of("c1"));
+		first.recordSuccess(createCheck(Spec.VACUOUS, "req1"));
+		// checks that were not registered are not recorded
+		first.recordSuccess(new ReqCheck(Spec.CONSISTENCY));
+		first.setConsistent();
+		first.destroy();
+
+		final ReqCheckResultStore second = new ReqCheckResultStore(mLogger, mFile);
+		Assert.assertEquals(1, second.size());
+		Assert.assertTrue(second.isProven(vacuous));
+		Assert.assertFalse(second.isProven(rtInconsistent));
+	}
+
+	@Test
+	public void unknownFormatIsIgnored() throws IOException {
+		final String fingerprint = ReqCheckResultStore.fingerprint(Arrays.asList("CONSISTENCY"));
+		Files.write(mFile, List.of("# some other file", fingerprint), StandardCharsets.UTF_8);
+
+		final ReqCheckResultStore store = new ReqCheckResultStore(mLogger, mFile);
+		Assert.assertFalse(store.isProven(fingerprint));
+		store.register(new ReqCheck(Spec.CONSISTENCY), fingerprint, Set.of("c1"));
+		store.recordSuccess(new ReqCheck(Spec.CONSISTENCY));
+		store.destroy();
+
+		Assert.assertTrue(new ReqCheckResultStore(mLogger, mFile).isProven(fingerprint));
+	}
+
+	@Test
+	public void successIsDroppedWithoutConsistency() {
+		final String vacuous = ReqCheckResultStore.fingerprint(Arrays.asList("VACUOUS", "req1"));
+
+		final ReqCheckResultStore first = new ReqCheckResultStore(mLogger, mFile);
+		first.register(createCheck(Spec.VACUOUS, "req1"), vacuous, Set.of("c1"));
+		first.recordSuccess(createCheck(Spec.VACUOUS, "req1"));
+		first.destroy();
+		Assert.assertFalse(new ReqCheckResultStore(mLogger, mFile).isProven(vacuous));
+
+		final ReqCheckResultStore second = new ReqCheckResultStore(mLogger, mFile);
+		second.register(new ReqCheck(Spec.CONSISTENCY), "consistency", Set.of("c1"));
+		second.register(createCheck(Spec.VACUOUS, "req1"), vacuous, Set.of("c1"));
+		second.recordSuccess(createCheck(Spec.VACUOUS, "req1"));
+		second.recordFailure(new ReqCheck(Spec.CONSISTENCY));
+		second.destroy();
+		Assert.assertFalse(new ReqCheckResultStore(mLogger, mFile).isProven(vacuous));
+	}
+
+	@Test
+	public void successIsDroppedIfRtInconsistencyOfOtherComponentFails() {
+		final String vacuous1 = ReqCheckResultStore.fingerprint(Arrays.asList("VACUOUS", "req1"));
+		final String vacuous2 = ReqCheckResultStore.fingerprint(Arrays.asList("VACUOUS", "req2"));
+		final String rtInconsistent = ReqCheckResultStore.fingerprint(Arrays.asList("RTINCONSISTENT", "req2"));
+
+		final ReqCheckResultStore first = new ReqCheckResultStore(mLogger, mFile);
+		first.setConsistent();
+		first.register(createCheck(Spec.VACUOUS, "req1"), vacuous1, Set.of("c1"));
+		first.register(createCheck(Spec.VACUOUS, "req2"), vacuous2, Set.of("c2"));
+		first.register(createCheck(Spec.RTINCONSISTENT, "req2"), rtInconsistent, Set.of("c2"));
+		first.recordSuccess(createCheck(Spec.VACUOUS, "req1"));
+		first.recordSuccess(createCheck(Spec.VACUOUS, "req2"));
+		first.recordFailure(createCheck(Spec.RTINCONSISTENT, "req2"));
+		first.destroy();
+
+		// fixing req2 changes the fingerprint of its own vacuity check, but not the one of req1
+		final ReqCheckResultStore second = new ReqCheckResultStore(mLogger, mFile);
+		Assert.assertFalse(second.isProven(vacuous1));
+		Assert.assertTrue(second.isProven(vacuous2));
+		Assert.assertFalse(second.isProven(rtInconsistent));
+	}
+
+	@Test
+	public void fingerprintSeparatesParts() {
+		Assert.assertNotEquals(ReqCheckResultStore.fingerprint(Arrays.asList("ab", "c")),
+				ReqCheckResultStore.fingerprint(Arrays.asList("a", "bc")));
+	}
+
+	private static ReqCheck createCheck(final Spec spec, final String reqId) {
+		return new ReqCheck(spec, new String[] { reqId }, new String[] { reqId + "_ct0" });
+	}
+}
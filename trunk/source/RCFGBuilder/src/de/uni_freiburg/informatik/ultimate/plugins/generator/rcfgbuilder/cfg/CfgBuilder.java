@@ -340,6 +340,7 @@ public class CfgBuilder {
 		final boolean dumpSmtScriptToFile = prefs.getBoolean(RcfgPreferenceInitializer.LABEL_DUMP_TO_FILE);
 		final boolean compressSmtScript = prefs.getBoolean(RcfgPreferenceInitializer.LABEL_COMPRESS_SMT_DUMP_FILE);
 		final String pathOfDumpedScript = prefs.getString(RcfgPreferenceInitializer.LABEL_DUMP_PATH);
+		final boolean collectTelemetry = prefs.getBoolean(RcfgPreferenceInitializer.LABEL_SMT_TELEMETRY);
 
 		final String commandExternalSolver = prefs.getString(RcfgPreferenceInitializer.LABEL_EXT_SOLVER_COMMAND);
 
@@ -360,7 +361,8 @@ public class CfgBuilder {
 						.setDumpUnsatCoreTrackBenchmark(dumpUnsatCoreTrackBenchmark)
 						.setDumpMainTrackBenchmark(dumpMainTrackBenchmark)
 						.setUseExternalSolver(true, commandExternalSolver, logicForExternalSolver)
-						.setSolverMode(solverMode).setAdditionalOptions(additionalSmtOptions);
+						.setSolverMode(solverMode).setAdditionalOptions(additionalSmtOptions)
+						.setCollectTelemetry(collectTelemetry);
 
 		return SolverBuilder.buildAndInitializeSolver(services, solverSettings, "CfgBuilderScript");
 	}
@@ -108,6 +108,11 @@ public class RcfgPreferenceInitializer extends UltimatePreferenceInitializer {
 	public static final String LABEL_DUMP_MAIN_TRACK_BENCHMARK = "Dump main track benchmark to file";
 	public static final String LABEL_DUMP_PATH = "To the following directory";
 	public static final String DEF_DUMP_PATH = "";
+	public static final String LABEL_SMT_TELEMETRY = "Collect SMT solver telemetry";
+	public static final boolean DEF_SMT_TELEMETRY = false;
+	public static final String DESC_SMT_TELEMETRY =
+			"Measure the latency of all SMT queries per command and per caller. The scripts of the slowest queries are "
+					+ "written to the directory of dumped SMT scripts.";
 
 	/**
 	 * @see Statements2TransFormula#mSimplePartialSkolemization
@@ -158,6 +163,8 @@ public class RcfgPreferenceInitializer extends UltimatePreferenceInitializer {
 				new UltimatePreferenceItem<>(LABEL_COMPRESS_SMT_DUMP_FILE, false, DESC_COMPRESS_SMT_DUMP_FILE,
 						PreferenceType.Boolean),
 				new UltimatePreferenceItem<>(LABEL_DUMP_PATH, DEF_DUMP_PATH, PreferenceType.Directory),
+				new UltimatePreferenceItem<>(LABEL_SMT_TELEMETRY, DEF_SMT_TELEMETRY, DESC_SMT_TELEMETRY,
+						PreferenceType.Boolean),
 				new UltimatePreferenceItem<>(LABEL_ADDITIONAL_SMT_OPTIONS, DEF_ADDITIONAL_SMT_OPTIONS,
 						PreferenceType.KeyValue),
 
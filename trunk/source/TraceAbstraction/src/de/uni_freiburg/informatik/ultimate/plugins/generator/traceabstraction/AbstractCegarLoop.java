@@ -88,6 +88,7 @@ import de.uni_freiburg.informatik.ultimate.plugins.generator.traceabstraction.pr
 import de.uni_freiburg.informatik.ultimate.util.CoreUtil;
 import de.uni_freiburg.informatik.ultimate.util.ReflectionUtil;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.relation.Pair;
+import de.uni_freiburg.informatik.ultimate.util.statistics.EventTracer;
 import de.uni_freiburg.informatik.ultimate.util.statistics.IStatisticsDataProvider;
 
 /**
@@ -99,6 +100,7 @@ import de.uni_freiburg.informatik.ultimate.util.statistics.IStatisticsDataProvid
  */
 public abstract class AbstractCegarLoop<L extends IIcfgTransition<?>, A extends IAutomaton<L, IPredicate>> {
 	private static final boolean DUMP_BIGGEST_AUTOMATON = false;
+	private static final String TRACE_CATEGORY = "CegarLoop";
 
 	protected final ILogger mLogger;
 	protected final SimplificationTechnique mSimplificationTechnique;
@@ -398,13 +400,17 @@ public abstract class AbstractCegarLoop<L extends IIcfgTransition<?>, A extends
 			final IUltimateServiceProvider iterationServices = createIterationTimer(currentErrorLoc);
 			mServices = iterationServices;
 			boolean updateBudget = true;
+			final long iterationStart = System.nanoTime();
 			try {
 				mCegarLoopBenchmark.announceNextIteration();
 				if (mPref.dumpAutomata()) {
 					mDumper = new Dumper(mLogger, mPref, mName, mIteration);
 				}
 				try {
-					final Pair<LBool, IProgramExecution<L, Term>> isCexResult = isCounterexampleFeasible();
+					final Pair<LBool, IProgramExecution<L, Term>> isCexResult;
+					try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "Feasibility check")) {
+						isCexResult = isCounterexampleFeasible();
+					}
 					final AutomatonType automatonType = processFeasibilityCheckResult(isCexResult.getFirst(),
 							isCexResult.getSecond(), currentErrorLoc);
 					if (mPref.stopAfterFirstViolation() && automatonType != AutomatonType.INTERPOLANT) {
@@ -445,6 +451,7 @@ public abstract class AbstractCegarLoop<L extends IIcfgTransition<?>, A extends
 					return;
 				}
 			} finally {
+				EventTracer.record(TRACE_CATEGORY, "Iteration", iterationStart, System.nanoTime());
 				if (updateBudget) {
 					mServices = updateTimeBudget(currentErrorLoc, parentServices, iterationServices);
 				}
@@ -460,7 +467,10 @@ public abstract class AbstractCegarLoop<L extends IIcfgTransition<?>, A extends
 
 	private void refineAbstractionInternal(final AutomatonType automatonType)
 			throws AutomataLibraryException, AssertionError {
-		final boolean progress = refineAbstraction();
+		final boolean progress;
+		try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "Refinement")) {
+			progress = refineAbstraction();
+		}
 		if (!progress) {
 			final String msgNoProgress = "No progress! Counterexample is still accepted by refined abstraction.";
 			mLogger.fatal(msgNoProgress);
@@ -535,10 +545,14 @@ public abstract class AbstractCegarLoop<L extends IIcfgTransition<?>, A extends
 				return;
 			}
 			mLogger.info("Excluding counterexample to continue analysis with %s automaton", automatonType);
-			constructErrorAutomaton();
+			try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "Error automaton construction")) {
+				constructErrorAutomaton();
+			}
 			break;
 		case INTERPOLANT:
-			constructInterpolantAutomaton();
+			try (EventTracer.Span span = EventTracer.span(TRACE_CATEGORY, "Interpolant automaton construction")) {
+				constructInterpolantAutomaton();
+			}
 			break;
 		default:
 			throw new UnsupportedOperationException("Unknown automaton type: " + automatonType);
@@ -27,6 +27,7 @@
  */
 package de.uni_freiburg.informatik.ultimate.plugins.generator.traceabstraction;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -72,6 +73,7 @@ import de.uni_freiburg.informatik.ultimate.lib.proofs.floydhoare.FloydHoareUtils
 import de.uni_freiburg.informatik.ultimate.lib.proofs.floydhoare.FloydHoareValidityCheck.MissingAnnotationBehaviour;
 import de.uni_freiburg.informatik.ultimate.lib.proofs.floydhoare.IFloydHoareAnnotation;
 import de.uni_freiburg.informatik.ultimate.lib.proofs.floydhoare.IcfgFloydHoareValidityCheck;
+import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.SmtTelemetry;
 import de.uni_freiburg.informatik.ultimate.lib.tracecheckerutils.partialorder.independence.abstraction.ICopyActionFactory;
 import de.uni_freiburg.informatik.ultimate.lib.tracecheckerutils.partialorder.petrinetlbe.PetriNetLargeBlockEncoding.IPLBECompositionFactory;
 import de.uni_freiburg.informatik.ultimate.plugins.generator.rcfgbuilder.cfg.BoogieIcfgLocation;
@@ -165,7 +167,7 @@ public class TraceAbstractionStarter<L extends IIcfgTransition<?>> {
 		mLogger.info("Computing trace abstraction results");
 		// Report results that were buffered because they may be overridden or amended.
 		reportLocationResults();
-		reportBenchmarkResults();
+		reportBenchmarkResults(icfg);
 
 		logNumberOfWitnessInvariants(errNodesOfAllProc);
 		mResultReporter.reportAllSafeResultIfNecessary(results, numberOfErrorLocs);
@@ -496,7 +498,7 @@ public class TraceAbstractionStarter<L extends IIcfgTransition<?>> {
 		return bench;
 	}
 
-	private void reportBenchmarkResults() {
+	private void reportBenchmarkResults(final IIcfg<IcfgLocation> icfg) {
 		for (final Map.Entry<DebugIdentifier, List<TraceAbstractionBenchmarks>> entry : mStatistics.entrySet()) {
 			final DebugIdentifier ident = entry.getKey();
 
@@ -508,6 +510,17 @@ public class TraceAbstractionStarter<L extends IIcfgTransition<?>> {
 				i++;
 			}
 		}
+		final SmtTelemetry telemetry = SmtTelemetry.get(mServices.getStorage());
+		if (telemetry != null) {
+			try {
+				telemetry.writeSlowQueries(mPrefs.pathOfDumpedScript(), icfg.getIdentifier());
+			} catch (final IOException e) {
+				mLogger.warn("Failed to write the scripts of the slowest SMT queries: " + e.getMessage());
+			}
+			final StatisticsData data = new StatisticsData();
+			data.aggregateBenchmarkData(telemetry);
+			mResultReporter.reportResult(new StatisticsResult<>(Activator.PLUGIN_NAME, "SMT solver telemetry", data));
+		}
 	}
 
 	private void recordLocationResult(final IcfgLocation loc, final IResult res) {
@@ -253,6 +253,10 @@ public final class TAPreferences {
 		return mPrefs.getString(RcfgPreferenceInitializer.LABEL_DUMP_PATH);
 	}
 
+	public boolean collectSmtTelemetry() {
+		return mPrefs.getBoolean(RcfgPreferenceInitializer.LABEL_SMT_TELEMETRY);
+	}
+
 	/**
 	 * @return The maxIterations.
 	 */
@@ -559,6 +559,9 @@ public class TraceAbstractionPreferenceInitializer extends UltimatePreferenceIni
 								RcfgPreferenceInitializer.DEF_DUMP_PATH, PreferenceType.Directory),
 						new UltimatePreferenceItem<>(RcfgPreferenceInitializer.LABEL_COMPRESS_SMT_DUMP_FILE, false,
 								RcfgPreferenceInitializer.DESC_COMPRESS_SMT_DUMP_FILE, PreferenceType.Boolean),
+						new UltimatePreferenceItem<>(RcfgPreferenceInitializer.LABEL_SMT_TELEMETRY,
+								RcfgPreferenceInitializer.DEF_SMT_TELEMETRY,
+								RcfgPreferenceInitializer.DESC_SMT_TELEMETRY, PreferenceType.Boolean),
 						new UltimatePreferenceItem<>(LABEL_USE_MINIMAL_UNSAT_CORE_ENUMERATION_FOR_SMTINTERPOL,
 								DEF_USE_MINIMAL_UNSAT_CORE_ENUMERATION_FOR_SMTINTERPOL,
 								DESC_USE_MINIMAL_UNSAT_CORE_ENUMERATION_FOR_SMTINTERPOL, PreferenceType.Boolean),
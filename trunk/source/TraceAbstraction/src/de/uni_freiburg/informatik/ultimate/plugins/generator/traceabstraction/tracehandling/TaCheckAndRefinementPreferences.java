@@ -72,6 +72,7 @@ public class TaCheckAndRefinementPreferences<LETTER extends IIcfgTransition<?>>
 	private final String mCommandExternalSolver;
 	private final boolean mDumpSmtScriptToFile;
 	private final String mPathOfDumpedScript;
+	private final boolean mCollectSmtTelemetry;
 	private final Logics mLogicForExternalSolver;
 	private final RefinementStrategyExceptionBlacklist mExceptionBlacklist;
 	private final LoopAccelerators mLoopAccelerationTechnique;
@@ -135,6 +136,7 @@ public class TaCheckAndRefinementPreferences<LETTER extends IIcfgTransition<?>>
 		mDumpSmtScriptToFile = taPrefs.dumpSmtScriptToFile();
 		mCompressDumpedScript = taPrefs.compressDumpedSmtScript();
 		mPathOfDumpedScript = taPrefs.pathOfDumpedScript();
+		mCollectSmtTelemetry = taPrefs.collectSmtTelemetry();
 		mLogicForExternalSolver = taPrefs.logicForExternalSolver();
 		mExceptionBlacklist = taPrefs.getRefinementStrategyExceptionSpecification();
 		mCollectInterpolantStatistics = taPrefs.collectInterpolantStatistics();
@@ -218,6 +220,10 @@ public class TaCheckAndRefinementPreferences<LETTER extends IIcfgTransition<?>>
 		return mPathOfDumpedScript;
 	}
 
+	public boolean getCollectSmtTelemetry() {
+		return mCollectSmtTelemetry;
+	}
+
 	public Logics getLogicForExternalSolver() {
 		return mLogicForExternalSolver;
 	}
@@ -314,7 +320,8 @@ public class TaCheckAndRefinementPreferences<LETTER extends IIcfgTransition<?>>
 				.setUseExternalSolver(getUseSeparateSolverForTracechecks(), getCommandExternalSolver(),
 						getLogicForExternalSolver())
 				.setSolverMode(getSolverMode()).setAdditionalOptions(getAdditionalSolverOptions())
-				.setUseMinimalUnsatCoreEnumerationForSmtInterpol(getUseMinimalUnsatCoreEnumerationForSmtInterpol());
+				.setUseMinimalUnsatCoreEnumerationForSmtInterpol(getUseMinimalUnsatCoreEnumerationForSmtInterpol())
+				.setCollectTelemetry(getCollectSmtTelemetry());
 	}
 
 	private boolean getUseMinimalUnsatCoreEnumerationForSmtInterpol() {
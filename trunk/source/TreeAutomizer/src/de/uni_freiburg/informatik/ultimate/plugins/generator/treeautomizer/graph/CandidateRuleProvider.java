@@ -29,6 +29,7 @@ package de.uni_freiburg.informatik.ultimate.plugins.generator.treeautomizer.grap
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import de.uni_freiburg.informatik.ultimate.automata.tree.ITreeAutomatonBU;
@@ -36,6 +37,7 @@ import de.uni_freiburg.informatik.ultimate.automata.tree.TreeAutomatonRule;
 import de.uni_freiburg.informatik.ultimate.lib.chc.HornClause;
 import de.uni_freiburg.informatik.ultimate.lib.modelcheckerutils.smt.predicates.IPredicate;
 import de.uni_freiburg.informatik.ultimate.lib.smtlibutils.IncrementalPlicationChecker.Validity;
+import de.uni_freiburg.informatik.ultimate.util.datastructures.relation.Pair;
 
 /**
  * Provides rules that might be added to an interpolant automaton during the generalization phase.
@@ -61,6 +63,7 @@ public class CandidateRuleProvider {
 	public CandidateRuleProvider(final ITreeAutomatonBU<HornClause, IPredicate> originalTreeRun,
 			final HCHoareTripleChecker hoareTripleChecker) {
 		mCandidateRules = new HashSet<>();
+		final Set<Pair<List<IPredicate>, HornClause>> checkedSourcesAndLetters = new HashSet<>();
 
 		for (final List<IPredicate> src : originalTreeRun.getSourceCombinations()) {
 			for (final TreeAutomatonRule<HornClause, IPredicate> rule : originalTreeRun.getSuccessors(src)) {
@@ -71,9 +74,19 @@ public class CandidateRuleProvider {
 					 */
 					continue;
 				}
-				for (final IPredicate dest : originalTreeRun.getStates()) {
-					if (hoareTripleChecker.check(rule.getSource(), rule.getLetter(), dest) == Validity.VALID) {
-						mCandidateRules.add(new TreeAutomatonRule<HornClause, IPredicate>(rule.getLetter(), rule.getSource(), dest));
+				if (!checkedSourcesAndLetters.add(new Pair<>(rule.getSource(), rule.getLetter()))) {
+					// another rule with the same source and letter already provided all candidates
+					continue;
+				}
+				/*
+				 * All destinations share the source and the letter, hence we check them in one batch that asserts
+				 * the precondition and the constraint only once.
+				 */
+				for (final Entry<IPredicate, Validity> entry : hoareTripleChecker
+						.checkAll(rule.getSource(), rule.getLetter(), originalTreeRun.getStates()).entrySet()) {
+					if (entry.getValue() == Validity.VALID) {
+						mCandidateRules.add(new TreeAutomatonRule<HornClause, IPredicate>(rule.getLetter(),
+								rule.getSource(), entry.getKey()));
 					}
 				}
 			}
@@ -27,8 +27,10 @@
  */
 package de.uni_freiburg.informatik.ultimate.plugins.generator.treeautomizer.graph;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -117,6 +119,63 @@ public class HCHoareTripleChecker {
 	 */
 	public Validity check(final List<IPredicate> preOld, final HornClause hornClause, final IPredicate succ) {
 
+		mManagedScript.lock(this);
+		mManagedScript.push(this, 1);
+
+		assertPreconditionsAndConstraint(preOld, hornClause);
+
+		/* postcondition */
+		final LBool satResult = checkNegatedPostcondition(succ);
+
+		mManagedScript.echo(this, new QuotedObject("finishing Hoare triple check"));
+		mManagedScript.pop(this, 1);
+		mManagedScript.unlock(this);
+		return IncrementalPlicationChecker.convertLBool2Validity(satResult);
+	}
+
+	/**
+	 * Checks the validity of the Hoare triples {pre} hornClause {succ} for all given postconditions. The
+	 * preconditions and the constraint of the HornClause are asserted only once and shared by all checks. If they are
+	 * already unsatisfiable, all Hoare triples are valid and the postconditions are not checked at all.
+	 *
+	 * @param preOld
+	 * @param hornClause
+	 * @param succs
+	 * @return a Validity value for each postcondition, in the iteration order of succs
+	 */
+	public Map<IPredicate, Validity> checkAll(final List<IPredicate> preOld, final HornClause hornClause,
+			final Collection<IPredicate> succs) {
+		final Map<IPredicate, Validity> result = new LinkedHashMap<>();
+		if (succs.isEmpty()) {
+			return result;
+		}
+
+		mManagedScript.lock(this);
+		mManagedScript.push(this, 1);
+
+		assertPreconditionsAndConstraint(preOld, hornClause);
+
+		final LBool preSat = mManagedScript.checkSat(this);
+		if (preSat == LBool.UNSAT) {
+			for (final IPredicate succ : succs) {
+				result.put(succ, Validity.VALID);
+			}
+		} else {
+			for (final IPredicate succ : succs) {
+				mManagedScript.push(this, 1);
+				final LBool satResult = checkNegatedPostcondition(succ);
+				mManagedScript.pop(this, 1);
+				result.put(succ, IncrementalPlicationChecker.convertLBool2Validity(satResult));
+			}
+		}
+
+		mManagedScript.echo(this, new QuotedObject("finishing Hoare triple checks"));
+		mManagedScript.pop(this, 1);
+		mManagedScript.unlock(this);
+		return result;
+	}
+
+	private void assertPreconditionsAndConstraint(final List<IPredicate> preOld, final HornClause hornClause) {
 		/* precondition */
 		/*
 		 * sanitize pre
@@ -131,29 +190,21 @@ public class HCHoareTripleChecker {
 			pre = preOld;
 		}
 
-		mManagedScript.lock(this);
-		mManagedScript.push(this, 1);
-
 		assertPreconditions(pre, hornClause);
 
 		/* constraint */
 		mManagedScript.echo(this, new QuotedObject("asserting horn clause constraint: "));
 		final Term closedConstraint = close(hornClause.getConstraintFormula());
 		mManagedScript.assertTerm(this, closedConstraint);
+	}
 
-		/* postcondition */
+	private LBool checkNegatedPostcondition(final IPredicate succ) {
 		// the postcondition can keeps its head vars, as the Hornclause did
 		mManagedScript.echo(this, new QuotedObject("asserting negated post condition: "));
 		final Term closedNegatedPostConditionFormula = SmtUtils.not(mManagedScript.getScript(),
 				succ.getClosedFormula());
 		mManagedScript.assertTerm(this, closedNegatedPostConditionFormula);
-
-		final LBool satResult = mManagedScript.checkSat(this);
-
-		mManagedScript.echo(this, new QuotedObject("finishing Hoare triple check"));
-		mManagedScript.pop(this, 1);
-		mManagedScript.unlock(this);
-		return IncrementalPlicationChecker.convertLBool2Validity(satResult);
+		return mManagedScript.checkSat(this);
 	}
 
 
@@ -338,13 +338,12 @@ public class TreeAutomizerCEGAR {
 
 	private void generalizeCounterExample(final ITreeAutomatonBU<HornClause, IPredicate> counterexample) {
 		final Set<TreeAutomatonRule<HornClause, IPredicate>> rules = new HashSet<>();
+		// the candidate rules are valid Hoare triples, CandidateRuleProvider only provides those
 		for (final TreeAutomatonRule<HornClause, IPredicate> rule : new CandidateRuleProvider(counterexample,
 				mHoareTripleChecker).getCandidateRules()) {
-			if (mHoareTripleChecker.check(rule) == Validity.VALID) {
-				mLogger.debug(
-						"Adding Rule: " + rule.getLetter() + "(" + rule.getSource() + ")" + " --> " + rule.getDest());
-				rules.add(rule);
-			}
+			mLogger.debug(
+					"Adding Rule: " + rule.getLetter() + "(" + rule.getSource() + ")" + " --> " + rule.getDest());
+			rules.add(rule);
 		}
 		mLogger.debug("Generalizing counterExample:");
 		for (final TreeAutomatonRule<HornClause, IPredicate> rule : rules) {
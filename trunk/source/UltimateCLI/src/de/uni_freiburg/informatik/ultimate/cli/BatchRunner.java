@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE CLI plug-in.
+ *
+ * The ULTIMATE CLI plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE CLI plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE CLI plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE CLI plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE CLI plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.cli;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
+
+import org.xml.sax.SAXException;
+
+import com.google.gson.Gson;
+
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.toolchain.DefaultToolchainJob;
+import de.uni_freiburg.informatik.ultimate.core.lib.results.ResultSummarizer;
+import de.uni_freiburg.informatik.ultimate.core.lib.results.ResultSummarizer.ToolchainResult;
+import de.uni_freiburg.informatik.ultimate.core.lib.toolchain.RunDefinition;
+import de.uni_freiburg.informatik.ultimate.core.model.IController;
+import de.uni_freiburg.informatik.ultimate.core.model.ICore;
+import de.uni_freiburg.informatik.ultimate.core.model.IToolchain;
+import de.uni_freiburg.informatik.ultimate.core.model.IToolchainData;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
+
+/**
+ * Runs many {@link BatchTask}s in one Ultimate instance s.t. plugin activation, class loading and JIT compilation are
+ * paid only once. A fixed number of workers runs the tasks concurrently. Each task gets its own toolchain, i.e., its own
+ * toolchain storage and services, and the settings of its settings file are applied to a preference layer of these
+ * services. Hence, tasks do not influence each other's settings.
+ * <p>
+ * Per-task timeouts are enforced by the deadline of the progress monitor service of the task. Because all tasks share
+ * one heap, a memory limit cannot be attributed to a single task. Instead, if the heap usage after garbage collection
+ * exceeds the memory limit, the most recently started task is canceled via its progress monitor service and reported
+ * as out of memory.
+ * <p>
+ * The result of each task is written as one line of JSON as soon as the task is finished.
+ */
+final class BatchRunner {
+
+	private static final long MEMORY_CHECK_INTERVAL_MS = 1000;
+	private static final String INSTANCE_SCOPE_PREFIX = "/instance/";
+
+	private final ICore<RunDefinition> mCore;
+	private final IController<RunDefinition> mController;
+	private final ILogger mLogger;
+	private final int mWorkers;
+	private final long mTimeout;
+	private final long mMemoryLimit;
+	private final Map<Long, TaskRun> mRunningToolchains;
+	private final Gson mGson;
+
+	/**
+	 * @param workers
+	 *            The number of tasks that run concurrently.
+	 * @param timeout
+	 *            The timeout of each task in ms. 0 disables the timeout, a negative value means that the timeout of
+	 *            the settings of the task is used.
+	 * @param memoryLimit
+	 *            The heap usage in bytes above which tasks are canceled. 0 disables the memory limit.
+	 */
+	BatchRunner(final ICore<RunDefinition> core, final IController<RunDefinition> controller, final ILogger logger,
+			final int workers, final long timeout, final long memoryLimit) {
+		if (workers < 1) {
+			throw new IllegalArgumentException("number of workers has to be positive");
+		}
+		mCore = core;
+		mController = controller;
+		mLogger = logger;
+		mWorkers = workers;
+		mTimeout = timeout;
+		mMemoryLimit = memoryLimit;
+		mRunningToolchains = new ConcurrentHashMap<>();
+		mGson = new Gson();
+	}
+
+	/**
+	 * Run all tasks and write their results to the given writer. Returns after all tasks are finished.
+	 */
+	void run(final List<BatchTask> tasks, final Writer output) throws InterruptedException {
+		mLogger.info("Running " + tasks.size() + " tasks with " + mWorkers + " workers");
+		final ExecutorService workers = Executors.newFixedThreadPool(mWorkers, runnable -> {
+			final Thread thread = new Thread(runnable, "BatchWorker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		final ScheduledExecutorService memoryWatchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "BatchMemoryWatchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (mMemoryLimit > 0) {
+			memoryWatchdog.scheduleWithFixedDelay(this::checkMemory, MEMORY_CHECK_INTERVAL_MS,
+					MEMORY_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+		}
+		try {
+			final List<Future<?>> futures = new ArrayList<>(tasks.size());
+			for (final BatchTask task : tasks) {
+				futures.add(workers.submit(() -> {
+					writeResult(output, runTask(task));
+					return null;
+				}));
+			}
+			for (final Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (final ExecutionException e) {
+					mLogger.fatal("Batch worker failed", e.getCause());
+				}
+			}
+		} finally {
+			memoryWatchdog.shutdownNow();
+			workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * Create the toolchain data of the task that belongs to the given toolchain. Called from
+	 * {@link IController#selectTools(IToolchain, List)}.
+	 */
+	IToolchainData<RunDefinition> selectTools(final IToolchain<RunDefinition> toolchain) {
+		final TaskRun run = getRun(toolchain);
+		final String toolchainFile = run.mTask.getToolchainFile().getAbsolutePath();
+		try {
+			return mCore.createToolchainData(toolchainFile);
+		} catch (final FileNotFoundException e) {
+			run.mError = "Toolchain file not found at specified path: " + toolchainFile;
+		} catch (final SAXException | JAXBException e) {
+			run.mError = "Toolchain file at path " + toolchainFile + " was malformed: " + e.getMessage();
+		}
+		mLogger.error(run.mTask + ": " + run.mError);
+		return null;
+	}
+
+	/**
+	 * Apply the settings of the task that belongs to the given toolchain. Called from
+	 * {@link IController#prerun(IToolchain)}.
+	 */
+	IToolchainData<RunDefinition> prerun(final IToolchain<RunDefinition> toolchain) {
+		final TaskRun run = getRun(toolchain);
+		final IToolchainData<RunDefinition> tcData = toolchain.getCurrentToolchainData();
+		final Map<String, Map<String, String>> settings = run.mSettings;
+		if (settings.isEmpty()) {
+			run.mServices = tcData.getServices();
+			return tcData;
+		}
+		final IUltimateServiceProvider services = tcData.getServices().registerPreferenceLayer(BatchRunner.class,
+				settings.keySet().toArray(new String[settings.size()]));
+		for (final Entry<String, Map<String, String>> entry : settings.entrySet()) {
+			for (final Entry<String, String> setting : entry.getValue().entrySet()) {
+				services.getPreferenceProvider(entry.getKey()).put(setting.getKey(), setting.getValue());
+			}
+		}
+		run.mServices = services;
+		return tcData.replaceServices(services);
+	}
+
+	/**
+	 * Remember an exception of the toolchain. Called from
+	 * {@link IController#displayException(IToolchain, String, Throwable)}.
+	 */
+	void displayException(final IToolchain<RunDefinition> toolchain, final String description, final Throwable ex) {
+		final TaskRun run = toolchain == null ? null : mRunningToolchains.get(toolchain.getId());
+		if (run != null) {
+			run.mError = description + ": " + ex;
+		}
+	}
+
+	private TaskRun getRun(final IToolchain<RunDefinition> toolchain) {
+		final TaskRun run = mRunningToolchains.get(toolchain.getId());
+		if (run == null) {
+			throw new IllegalStateException("Toolchain " + toolchain.getId() + " does not belong to a batch task");
+		}
+		return run;
+	}
+
+	private TaskRun runTask(final BatchTask task) throws InterruptedException {
+		final TaskRun run = new TaskRun(task);
+		final File settingsFile = task.getSettingsFile();
+		if (settingsFile != null) {
+			try {
+				run.mSettings = readSettings(settingsFile);
+			} catch (final IOException e) {
+				run.mError = "Could not load settings file " + settingsFile.getAbsolutePath() + ": " + e.getMessage();
+				mLogger.error(task + ": " + run.mError);
+				return run;
+			}
+		}
+		mLogger.info("Starting " + task);
+		final BatchToolchainJob job = new BatchToolchainJob(run);
+		if (mTimeout >= 0) {
+			job.setDeadline(mTimeout);
+		}
+		run.mStartTime = System.nanoTime();
+		job.schedule();
+		job.join();
+		run.mEndTime = System.nanoTime();
+		return run;
+	}
+
+	private void writeResult(final Writer output, final TaskRun run) throws IOException {
+		final BatchTask task = run.mTask;
+		final Map<String, Object> json = new LinkedHashMap<>();
+		json.put("task", task.getLine());
+		json.put("toolchain", task.getToolchainFile().getPath());
+		json.put("settings", task.getSettingsFile() == null ? null : task.getSettingsFile().getPath());
+		json.put("input", Arrays.stream(task.getInputFiles()).map(File::getPath).collect(Collectors.toList()));
+
+		final String result;
+		if (run.mOutOfMemory) {
+			result = "memout";
+		} else if (run.mError != null) {
+			result = "error";
+		} else {
+			result = "ok";
+		}
+		json.put("status", result);
+		json.put("result", run.mResult);
+		json.put("description", run.mDescription == null ? run.mError : run.mDescription);
+		json.put("error", run.mError);
+		json.put("time_ms", TimeUnit.NANOSECONDS.toMillis(run.mEndTime - run.mStartTime));
+
+		final String line = mGson.toJson(json);
+		mLogger.info("Finished " + task + ": " + line);
+		synchronized (output) {
+			output.write(line);
+			output.write(System.lineSeparator());
+			output.flush();
+		}
+	}
+
+	/**
+	 * Read all instance-scoped preferences of an Eclipse preference file.
+	 *
+	 * @return a map from plugin ids to maps from preference labels to values
+	 */
+	private static Map<String, Map<String, String>> readSettings(final File settingsFile) throws IOException {
+		final Properties properties = new Properties();
+		try (final InputStream input = new FileInputStream(settingsFile)) {
+			properties.load(input);
+		}
+		final Map<String, Map<String, String>> rtr = new HashMap<>();
+		for (final String key : properties.stringPropertyNames()) {
+			if (!key.startsWith(INSTANCE_SCOPE_PREFIX)) {
+				continue;
+			}
+			final String path = key.substring(INSTANCE_SCOPE_PREFIX.length());
+			final int separator = path.indexOf('/');
+			if (separator <= 0) {
+				continue;
+			}
+			rtr.computeIfAbsent(path.substring(0, separator), a -> new HashMap<>()).put(path.substring(separator + 1),
+					properties.getProperty(key));
+		}
+		return rtr;
+	}
+
+	private void checkMemory() {
+		final long used = getHeapUsageAfterLastGc();
+		if (used <= mMemoryLimit) {
+			return;
+		}
+		TaskRun youngest = null;
+		for (final TaskRun run : mRunningToolchains.values()) {
+			if (run.mOutOfMemory) {
+				// wait until the last canceled task released its memory
+				return;
+			}
+			if (run.mServices != null && (youngest == null || run.mStartTime > youngest.mStartTime)) {
+				youngest = run;
+			}
+		}
+		if (youngest == null) {
+			return;
+		}
+		mLogger.warn("Heap usage of " + (used >> 20) + " MB exceeds memory limit of " + (mMemoryLimit >> 20)
+				+ " MB, canceling " + youngest.mTask);
+		youngest.mOutOfMemory = true;
+		youngest.mServices.getProgressMonitorService().cancelToolchain();
+	}
+
+	private static long getHeapUsageAfterLastGc() {
+		long used = 0;
+		for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() != MemoryType.HEAP) {
+				continue;
+			}
+			MemoryUsage usage = pool.getCollectionUsage();
+			if (usage == null) {
+				usage = pool.getUsage();
+			}
+			used += usage.getUsed();
+		}
+		return used;
+	}
+
+	/**
+	 * The state of a task while it is running.
+	 */
+	private static final class TaskRun {
+		private final BatchTask mTask;
+		private volatile IUltimateServiceProvider mServices;
+		private volatile String mError;
+		private volatile boolean mOutOfMemory;
+		private volatile long mStartTime;
+		private long mEndTime;
+		private Map<String, Map<String, String>> mSettings;
+		private ToolchainResult mResult;
+		private String mDescription;
+
+		private TaskRun(final BatchTask task) {
+			mTask = task;
+			mSettings = Collections.emptyMap();
+			mResult = ToolchainResult.NORESULT;
+		}
+
+		/**
+		 * Summarize the results of the toolchain. Has to be called before the toolchain is released, because
+		 * releasing the toolchain clears its storage and thereby its results.
+		 */
+		private void summarizeResults() {
+			if (mServices == null) {
+				return;
+			}
+			final ResultSummarizer summarizer = new ResultSummarizer(mServices.getResultService());
+			mResult = summarizer.getResultSummary();
+			mDescription = summarizer.getResultDescription();
+		}
+	}
+
+	/**
+	 * A {@link DefaultToolchainJob} that registers its toolchain s.t. the controller callbacks can be mapped to the
+	 * task.
+	 */
+	private final class BatchToolchainJob extends DefaultToolchainJob {
+
+		private final TaskRun mRun;
+
+		private BatchToolchainJob(final TaskRun run) {
+			super("Processing " + run.mTask, BatchRunner.this.mCore, BatchRunner.this.mController,
+					BatchRunner.this.mLogger, run.mTask.getInputFiles());
+			mRun = run;
+		}
+
+		@Override
+		protected void setToolchain(final IToolchain<RunDefinition> toolchain) {
+			super.setToolchain(toolchain);
+			mRunningToolchains.put(toolchain.getId(), mRun);
+		}
+
+		/**
+		 * The toolchain data returned by the tool selection predates {@link IController#prerun(IToolchain)}. Use the
+		 * services of the task instead, s.t. the timeout is taken from the settings of the task.
+		 */
+		@Override
+		protected void setServices(final IUltimateServiceProvider services) {
+			super.setServices(mRun.mServices == null ? services : mRun.mServices);
+		}
+
+		@Override
+		protected void releaseToolchain() {
+			if (mToolchain == null) {
+				return;
+			}
+			mRun.summarizeResults();
+			super.releaseToolchain();
+			mRunningToolchains.remove(mToolchain.getId());
+		}
+	}
+}
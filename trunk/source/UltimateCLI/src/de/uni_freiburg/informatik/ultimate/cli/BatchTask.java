@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE CLI plug-in.
+ *
+ * The ULTIMATE CLI plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE CLI plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE CLI plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE CLI plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE CLI plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import de.uni_freiburg.informatik.ultimate.cli.exceptions.InvalidFileArgumentException;
+
+/**
+ * A single task of a batch run, i.e., a toolchain, an optional settings file, and the input files on which the
+ * toolchain should run.
+ * <p>
+ * A batch file contains one task per line. Each line consists of whitespace-separated paths of the form
+ * <code>TOOLCHAIN SETTINGS INPUT [INPUT ...]</code>, where <code>-</code> as settings means that the task uses the
+ * settings of the command line. Relative paths are resolved against the directory of the batch file. Empty lines and
+ * lines starting with <code>#</code> are ignored.
+ */
+public final class BatchTask {
+
+	private static final String NO_SETTINGS = "-";
+	private static final String COMMENT = "#";
+
+	private final int mLine;
+	private final File mToolchainFile;
+	private final File mSettingsFile;
+	private final File[] mInputFiles;
+
+	private BatchTask(final int line, final File toolchainFile, final File settingsFile, final File[] inputFiles) {
+		mLine = line;
+		mToolchainFile = toolchainFile;
+		mSettingsFile = settingsFile;
+		mInputFiles = inputFiles;
+	}
+
+	/**
+	 * @return The line of the batch file that defines this task. Serves as identifier of the task.
+	 */
+	public int getLine() {
+		return mLine;
+	}
+
+	public File getToolchainFile() {
+		return mToolchainFile;
+	}
+
+	/**
+	 * @return The settings file of this task or null if the task uses the settings of the command line.
+	 */
+	public File getSettingsFile() {
+		return mSettingsFile;
+	}
+
+	public File[] getInputFiles() {
+		return mInputFiles;
+	}
+
+	@Override
+	public String toString() {
+		return "Task " + mLine + " (" + mToolchainFile.getName() + ", "
+				+ (mSettingsFile == null ? NO_SETTINGS : mSettingsFile.getName()) + ", "
+				+ Arrays.stream(mInputFiles).map(File::getName).collect(Collectors.joining(" ")) + ")";
+	}
+
+	/**
+	 * Read all tasks of a batch file.
+	 *
+	 * @throws InvalidFileArgumentException
+	 *             if the batch file cannot be read, a line is malformed, or a line references a file that does not
+	 *             exist.
+	 */
+	public static List<BatchTask> parse(final File batchFile) throws InvalidFileArgumentException {
+		final List<String> lines;
+		try {
+			lines = Files.readAllLines(batchFile.toPath());
+		} catch (final IOException e) {
+			throw new InvalidFileArgumentException("Could not read batch file " + batchFile.getAbsolutePath(), e);
+		}
+		final File baseDir = batchFile.getAbsoluteFile().getParentFile();
+		final List<BatchTask> rtr = new ArrayList<>();
+		for (int i = 0; i < lines.size(); ++i) {
+			final String line = lines.get(i).trim();
+			if (line.isEmpty() || line.startsWith(COMMENT)) {
+				continue;
+			}
+			final String[] fields = line.split("\\s+");
+			final int lineNumber = i + 1;
+			if (fields.length < 3) {
+				throw new InvalidFileArgumentException("Line " + lineNumber + " of batch file "
+						+ batchFile.getAbsolutePath() + " does not have the form TOOLCHAIN SETTINGS INPUT [INPUT ...]");
+			}
+			final File toolchain = resolve(baseDir, fields[0], lineNumber);
+			final File settings = NO_SETTINGS.equals(fields[1]) ? null : resolve(baseDir, fields[1], lineNumber);
+			final File[] inputFiles = new File[fields.length - 2];
+			for (int j = 2; j < fields.length; ++j) {
+				inputFiles[j - 2] = resolve(baseDir, fields[j], lineNumber);
+			}
+			rtr.add(new BatchTask(lineNumber, toolchain, settings, inputFiles));
+		}
+		return rtr;
+	}
+
+	private static File resolve(final File baseDir, final String path, final int lineNumber)
+			throws InvalidFileArgumentException {
+		File file = new File(path);
+		if (!file.isAbsolute()) {
+			file = new File(baseDir, path);
+		}
+		if (!file.canRead()) {
+			throw new InvalidFileArgumentException("Line " + lineNumber + " of batch file references "
+					+ file.getAbsolutePath() + " which cannot be read");
+		}
+		return file.getAbsoluteFile();
+	}
+}
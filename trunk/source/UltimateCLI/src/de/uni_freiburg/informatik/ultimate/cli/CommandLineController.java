@@ -28,6 +28,8 @@ package de.uni_freiburg.informatik.ultimate.cli;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -87,6 +89,7 @@ public class CommandLineController implements IController<RunDefinition> {
 
 	private ParsedParameter mCliParams;
 	private String mCsvPrefix;
+	private BatchRunner mBatchRunner;
 
 	@Override
 	public int init(final ICore<RunDefinition> core) {
@@ -136,6 +139,10 @@ public class CommandLineController implements IController<RunDefinition> {
 			return IApplication.EXIT_OK;
 		}
 
+		if (toolchainStageParams.isBatchRequested()) {
+			return runBatch(core, args, toolchainStageParams);
+		}
+
 		if (!toolchainStageParams.hasToolchain()) {
 			if (toolchainStageParams.isHelpRequested()) {
 				printHelp(onlyCliHelpParser, toolchainStageParams);
@@ -205,6 +212,43 @@ public class CommandLineController implements IController<RunDefinition> {
 		return IApplication.EXIT_OK;
 	}
 
+	/**
+	 * Run all tasks of the batch file in this instance. The settings file and the plugin settings of the command line
+	 * are applied globally and form the base settings of all tasks.
+	 */
+	private int runBatch(final ICore<RunDefinition> core, final String[] args, final ParsedParameter params) {
+		try {
+			final List<BatchTask> tasks = BatchTask.parse(params.getBatchFile());
+			final File outputFile = params.getBatchOutputFile();
+			mLogger.info("This is Ultimate " + core.getUltimateVersionString());
+			core.resetPreferences(false);
+			if (params.hasSettings()) {
+				core.loadPreferences(params.getSettingsFile(), false);
+			}
+			params.applyCliSettings(core.createToolchainData().getServices());
+			mBatchRunner = new BatchRunner(core, this, mLogger, params.getBatchWorkers(), params.getBatchTimeout(),
+					params.getBatchMemoryLimit());
+			try (Writer output = Files.newBufferedWriter(outputFile.toPath())) {
+				mBatchRunner.run(tasks, output);
+			}
+			mLogger.info("Written batch results to " + outputFile.getAbsolutePath());
+		} catch (final ParseException pex) {
+			printParseException(args, pex);
+			return -1;
+		} catch (final InvalidFileArgumentException e) {
+			mLogger.error(e.getMessage());
+			printArgs(args);
+			return -1;
+		} catch (final IOException e) {
+			mLogger.fatal("Could not write batch results: " + e.getMessage());
+			return -1;
+		} catch (@SuppressWarnings("squid:S2142") final InterruptedException e) {
+			mLogger.fatal("Exception during execution of batch tasks", e);
+			return -1;
+		}
+		return IApplication.EXIT_OK;
+	}
+
 	private void printVersion(final ICore<RunDefinition> core) {
 		mLogger.info("This is Ultimate " + core.getUltimateVersionString());
 		// DD: note that the next line is used in benchexec
@@ -309,6 +353,9 @@ public class CommandLineController implements IController<RunDefinition> {
 	@Override
 	public IToolchainData<RunDefinition> selectTools(final IToolchain<RunDefinition> toolchain,
 			final List<ITool> tools) {
+		if (mBatchRunner != null) {
+			return mBatchRunner.selectTools(toolchain);
+		}
 		return mToolchain;
 	}
 
@@ -335,7 +382,7 @@ public class CommandLineController implements IController<RunDefinition> {
 
 		// TODO: Add option to control the writing of .csv files
 
-		if (mCliParams.generateCsvs()) {
+		if (mBatchRunner == null && mCliParams.generateCsvs()) {
 			final List<ICsvProviderProvider<?>> csvProviders = ResultUtil.filterResults(results, StatisticsResult.class)
 					.stream().map(StatisticsResult::getStatistics).collect(Collectors.toList());
 			writeCsvLogs(csvProviders, summarizer);
@@ -427,6 +474,9 @@ public class CommandLineController implements IController<RunDefinition> {
 	public void displayException(final IToolchain<RunDefinition> toolchain, final String description,
 			final Throwable ex) {
 		mLogger.fatal("RESULT: An exception occured during the execution of Ultimate: " + description, ex);
+		if (mBatchRunner != null) {
+			mBatchRunner.displayException(toolchain, description, ex);
+		}
 	}
 
 	@Override
@@ -483,6 +533,9 @@ public class CommandLineController implements IController<RunDefinition> {
 
 	@Override
 	public IToolchainData<RunDefinition> prerun(final IToolchain<RunDefinition> toolchain) {
+		if (mBatchRunner != null) {
+			return mBatchRunner.prerun(toolchain);
+		}
 		return toolchain.getCurrentToolchainData();
 	}
 
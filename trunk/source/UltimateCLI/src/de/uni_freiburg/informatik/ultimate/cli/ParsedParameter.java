@@ -156,6 +156,57 @@ public class ParsedParameter {
 		return mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_BACKEND_WHITELIST_JSON_FROM_DELTA);
 	}
 
+	public boolean isBatchRequested() {
+		return mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_BATCH);
+	}
+
+	public File getBatchFile() throws ParseException, InvalidFileArgumentException {
+		final File file = getParsedOption(CommandLineOptions.OPTION_LONG_NAME_BATCH);
+		checkFileReadable(file, CommandLineOptions.OPTION_LONG_NAME_BATCH);
+		return file;
+	}
+
+	public File getBatchOutputFile() throws ParseException, InvalidFileArgumentException {
+		if (mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_OUTPUT)) {
+			return getParsedOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_OUTPUT);
+		}
+		return new File(getBatchFile().getAbsolutePath() + ".jsonl");
+	}
+
+	public int getBatchWorkers() throws ParseException {
+		if (!mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_WORKERS)) {
+			return 1;
+		}
+		final Integer workers = getParsedOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_WORKERS);
+		if (workers < 1) {
+			throw new ParseException(
+					"Argument of \"" + CommandLineOptions.OPTION_LONG_NAME_BATCH_WORKERS + "\" has to be positive");
+		}
+		return workers;
+	}
+
+	/**
+	 * @return the timeout of each batch task in ms, or -1 if the timeout of the settings should be used
+	 */
+	public long getBatchTimeout() throws ParseException {
+		if (!mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_TIMEOUT)) {
+			return -1;
+		}
+		final Integer seconds = getParsedOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_TIMEOUT);
+		return Math.max(0, seconds) * 1000L;
+	}
+
+	/**
+	 * @return the memory limit of all batch tasks in bytes, or 0 if there is no memory limit
+	 */
+	public long getBatchMemoryLimit() throws ParseException {
+		if (!mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_MEMORY_LIMIT)) {
+			return 0;
+		}
+		final Integer megabytes = getParsedOption(CommandLineOptions.OPTION_LONG_NAME_BATCH_MEMORY_LIMIT);
+		return Math.max(0, megabytes) * 1024L * 1024L;
+	}
+
 	public boolean showExperimentals() {
 		return mCli.hasOption(CommandLineOptions.OPTION_LONG_NAME_EXPERIMENTAL);
 	}
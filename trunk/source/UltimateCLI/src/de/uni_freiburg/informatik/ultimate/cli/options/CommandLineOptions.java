@@ -55,6 +55,11 @@ public final class CommandLineOptions {
 			"generate-backend-json-from-defaults";
 	public static final String OPTION_LONG_NAME_FRONTEND_JSON_FROM_DELTA = "generate-frontend-json-from-delta";
 	public static final String OPTION_LONG_NAME_BACKEND_WHITELIST_JSON_FROM_DELTA = "generate-backend-json-from-delta";
+	public static final String OPTION_LONG_NAME_BATCH = "batch";
+	public static final String OPTION_LONG_NAME_BATCH_WORKERS = "batch-workers";
+	public static final String OPTION_LONG_NAME_BATCH_OUTPUT = "batch-output";
+	public static final String OPTION_LONG_NAME_BATCH_TIMEOUT = "batch-timeout";
+	public static final String OPTION_LONG_NAME_BATCH_MEMORY_LIMIT = "batch-memory-limit";
 
 	private CommandLineOptions() {
 		// this is a utility class
@@ -112,6 +117,28 @@ public final class CommandLineOptions {
 		rtr.add(Option.builder().longOpt(OPTION_LONG_NAME_BACKEND_WHITELIST_JSON_FROM_DELTA).type(Boolean.class)
 				.desc("Generate JSON for web backend whitelist for Ultimate settings that differ from their defaults.")
 				.build());
+
+		rtr.add(Option.builder().longOpt(OPTION_LONG_NAME_BATCH).type(File.class).hasArg().argName("FILE")
+				.desc("Run all tasks of a batch file in this Ultimate instance instead of a single toolchain. Each line "
+						+ "of the batch file has the form TOOLCHAIN SETTINGS INPUT [INPUT ...], where '-' as SETTINGS "
+						+ "uses the settings of the command line. Relative paths are resolved against the directory of "
+						+ "the batch file.")
+				.build());
+		rtr.add(Option.builder().longOpt(OPTION_LONG_NAME_BATCH_WORKERS).type(Integer.class).hasArg().argName("N")
+				.desc("Number of batch tasks that run concurrently (default: 1).").build());
+		rtr.add(Option.builder().longOpt(OPTION_LONG_NAME_BATCH_OUTPUT).type(File.class).hasArg().argName("FILE")
+				.desc("Write the results of the batch tasks as JSON lines to this file (default: the batch file with "
+						+ "suffix .jsonl).")
+				.build());
+		rtr.add(Option.builder().longOpt(OPTION_LONG_NAME_BATCH_TIMEOUT).type(Integer.class).hasArg().argName("SEC")
+				.desc("Timeout of each batch task in seconds. 0 disables the timeout. If not specified, the toolchain "
+						+ "timeout of the settings of a task is used.")
+				.build());
+		rtr.add(Option.builder().longOpt(OPTION_LONG_NAME_BATCH_MEMORY_LIMIT).type(Integer.class).hasArg()
+				.argName("MB")
+				.desc("If the heap usage of all batch tasks together exceeds this limit, the most recently started task "
+						+ "is canceled and reported as out of memory.")
+				.build());
 		return rtr;
 	}
 }
@@ -0,0 +1,402 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE CLI plug-in.
+ *
+ * The ULTIMATE CLI plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE CLI plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE CLI plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE CLI plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE CLI plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.cli;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.Activator;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.preferences.CorePreferenceInitializer;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.services.ProgressMonitorService;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.services.ToolchainStorage;
+import de.uni_freiburg.informatik.ultimate.core.lib.results.AllSpecificationsHoldResult;
+import de.uni_freiburg.informatik.ultimate.core.lib.results.TimeoutResult;
+import de.uni_freiburg.informatik.ultimate.core.lib.toolchain.RunDefinition;
+import de.uni_freiburg.informatik.ultimate.core.lib.toolchain.ToolchainData;
+import de.uni_freiburg.informatik.ultimate.core.model.IController;
+import de.uni_freiburg.informatik.ultimate.core.model.ICore;
+import de.uni_freiburg.informatik.ultimate.core.model.ISource;
+import de.uni_freiburg.informatik.ultimate.core.model.ITool;
+import de.uni_freiburg.informatik.ultimate.core.model.IToolchain;
+import de.uni_freiburg.informatik.ultimate.core.model.IToolchainData;
+import de.uni_freiburg.informatik.ultimate.core.model.IToolchainProgressMonitor;
+import de.uni_freiburg.informatik.ultimate.core.model.IUltimatePlugin;
+import de.uni_freiburg.informatik.ultimate.core.model.models.IElement;
+import de.uni_freiburg.informatik.ultimate.core.model.models.ModelType;
+import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceInitializer;
+import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceProvider;
+import de.uni_freiburg.informatik.ultimate.core.model.results.IResult;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILoggingService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IProgressMonitorService;
+import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+/**
+ * Runs small batches with a core whose toolchains only report a fixed result and checks the JSON lines written by
+ * {@link BatchRunner}. Like the real core, the core clears the toolchain storage when a toolchain is released.
+ */
+public class BatchRunnerTest {
+
+	private static final String PLUGIN_ID = "BatchRunnerTest";
+	private static final String CORRECT = "correct";
+	private static final String LOOP = "loop";
+	private static final long LOOP_LIMIT_MS = 30_000;
+
+	private ILogger mLogger;
+	private Path mDir;
+
+	@Before
+	public void setUp() throws IOException {
+		mLogger = UltimateMocks.createUltimateServiceProviderMock().getLoggingService().getLogger(getClass());
+		mDir = Files.createTempDirectory("batchrunnertest");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(mDir)) {
+			files.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void resultsAreReportedAfterToolchainRelease() throws Exception {
+		final File batch = writeBatch("tc.xml - correct.c", "tc.xml - correct.c");
+		final List<Map<String, Object>> lines = runBatch(batch, -1);
+
+		Assert.assertEquals(2, lines.size());
+		for (final Map<String, Object> line : lines) {
+			Assert.assertEquals("ok", line.get("status"));
+			Assert.assertEquals("CORRECT", line.get("result"));
+			Assert.assertNull(line.get("error"));
+		}
+	}
+
+	@Test
+	public void timeoutOfTaskSettingsIsApplied() throws Exception {
+		writeTimeoutSettings("timeout.epf", 1);
+		final File batch = writeBatch("tc.xml timeout.epf loop.c", "tc.xml - correct.c");
+		final List<Map<String, Object>> lines = runBatch(batch, -1);
+
+		Assert.assertEquals(2, lines.size());
+		final Map<String, Map<String, Object>> byInput = new HashMap<>();
+		for (final Map<String, Object> line : lines) {
+			final String input = ((List<?>) line.get("input")).get(0).toString();
+			byInput.put(new File(input).getName(), line);
+		}
+		Assert.assertEquals("TIMEOUT", byInput.get("loop.c").get("result"));
+		Assert.assertEquals("CORRECT", byInput.get("correct.c").get("result"));
+		Assert.assertTrue("task did not stop at the deadline of its settings",
+				((Number) byInput.get("loop.c").get("time_ms")).longValue() < LOOP_LIMIT_MS);
+	}
+
+	private List<Map<String, Object>> runBatch(final File batch, final long timeout) throws Exception {
+		final FakeCore core = new FakeCore();
+		final BatchRunner runner = new BatchRunner(core, core, mLogger, 2, timeout, 0);
+		core.mRunner = runner;
+		final StringWriter output = new StringWriter();
+		runner.run(BatchTask.parse(batch), output);
+
+		Assert.assertEquals("not every toolchain was released", 0, core.mActiveToolchains.get());
+		final Gson gson = new Gson();
+		final Type lineType = new TypeToken<Map<String, Object>>() {
+		}.getType();
+		return output.toString().lines().filter(a -> !a.isBlank())
+				.map(a -> gson.<Map<String, Object>> fromJson(a, lineType)).collect(Collectors.toList());
+	}
+
+	private File writeBatch(final String... lines) throws IOException {
+		Files.writeString(mDir.resolve("tc.xml"), "<toolchain/>");
+		Files.writeString(mDir.resolve("correct.c"), CORRECT);
+		Files.writeString(mDir.resolve("loop.c"), LOOP);
+		final Path batch = mDir.resolve("batch.txt");
+		Files.write(batch, List.of(lines), StandardCharsets.UTF_8);
+		return batch.toFile();
+	}
+
+	private void writeTimeoutSettings(final String name, final int timeoutInS) throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty("/instance/" + Activator.PLUGIN_ID + "/" + CorePreferenceInitializer.LABEL_TIMEOUT,
+				Integer.toString(timeoutInS));
+		try (OutputStream out = new FileOutputStream(mDir.resolve(name).toFile())) {
+			properties.store(out, null);
+		}
+	}
+
+	/**
+	 * A core and controller that forwards the controller callbacks to the {@link BatchRunner} like
+	 * {@link CommandLineController} does.
+	 */
+	private static final class FakeCore implements ICore<RunDefinition>, IController<RunDefinition> {
+
+		private final ILoggingService mLoggingService = new ToolchainStorage().getLoggingService();
+		private final AtomicLong mNextId = new AtomicLong();
+		private final AtomicLong mActiveToolchains = new AtomicLong();
+		private BatchRunner mRunner;
+
+		@Override
+		public IToolchainData<RunDefinition> createToolchainData(final String filename) {
+			return createToolchainData();
+		}
+
+		@Override
+		public IToolchainData<RunDefinition> createToolchainData() {
+			final ToolchainStorage storage = new ToolchainStorage();
+			return new ToolchainData(storage, storage);
+		}
+
+		@Override
+		public IToolchain<RunDefinition> requestToolchain(final File[] inputFiles) {
+			mActiveToolchains.incrementAndGet();
+			return new FakeToolchain(this, mNextId.incrementAndGet(), inputFiles);
+		}
+
+		@Override
+		public void releaseToolchain(final IToolchain<RunDefinition> toolchain) {
+			mActiveToolchains.decrementAndGet();
+			final IToolchainData<RunDefinition> data = toolchain.getCurrentToolchainData();
+			if (data != null) {
+				data.getStorage().clear();
+			}
+		}
+
+		@Override
+		public IToolchainData<RunDefinition> selectTools(final IToolchain<RunDefinition> toolchain,
+				final List<ITool> tools) {
+			return mRunner.selectTools(toolchain);
+		}
+
+		@Override
+		public IToolchainData<RunDefinition> prerun(final IToolchain<RunDefinition> toolchain) {
+			return mRunner.prerun(toolchain);
+		}
+
+		@Override
+		public void displayException(final IToolchain<RunDefinition> toolchain, final String description,
+				final Throwable ex) {
+			mRunner.displayException(toolchain, description, ex);
+		}
+
+		@Override
+		public int init(final ICore<RunDefinition> core) {
+			return 0;
+		}
+
+		@Override
+		public ISource selectParser(final IToolchain<RunDefinition> toolchain, final Collection<ISource> parser) {
+			return null;
+		}
+
+		@Override
+		public List<String> selectModel(final IToolchain<RunDefinition> toolchain, final List<String> modelNames) {
+			return modelNames;
+		}
+
+		@Override
+		public void displayToolchainResults(final IToolchain<RunDefinition> toolchain,
+				final Map<String, List<IResult>> results) {
+			// the batch runner writes the results
+		}
+
+		@Override
+		public void savePreferences(final String absolutePath) {
+			// not necessary
+		}
+
+		@Override
+		public void loadPreferences(final String absolutePath, final boolean silent) {
+			// not necessary
+		}
+
+		@Override
+		public void resetPreferences(final boolean silent) {
+			// not necessary
+		}
+
+		@Override
+		public IUltimatePlugin[] getRegisteredUltimatePlugins() {
+			return new IUltimatePlugin[] { this };
+		}
+
+		@Override
+		public String[] getRegisteredUltimatePluginIDs() {
+			return new String[] { PLUGIN_ID, Activator.PLUGIN_ID };
+		}
+
+		@Override
+		public ILoggingService getCoreLoggingService() {
+			return mLoggingService;
+		}
+
+		@Override
+		public IPreferenceProvider getPreferenceProvider(final String pluginId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String getUltimateVersionString() {
+			return "test";
+		}
+
+		@Override
+		public String getPluginName() {
+			return PLUGIN_ID;
+		}
+
+		@Override
+		public String getPluginID() {
+			return PLUGIN_ID;
+		}
+
+		@Override
+		public IPreferenceInitializer getPreferences() {
+			return null;
+		}
+	}
+
+	/**
+	 * A toolchain that follows the protocol of the real toolchain (tool selection, then init with prerun) and reports
+	 * a result that depends on the content of its input: {@value BatchRunnerTest#CORRECT} reports that all
+	 * specifications hold, {@value BatchRunnerTest#LOOP} waits until the toolchain is canceled and reports a timeout.
+	 */
+	private static final class FakeToolchain implements IToolchain<RunDefinition> {
+
+		private final FakeCore mCore;
+		private final long mId;
+		private final File[] mInputFiles;
+		private IToolchainData<RunDefinition> mData;
+
+		private FakeToolchain(final FakeCore core, final long id, final File[] inputFiles) {
+			mCore = core;
+			mId = id;
+			mInputFiles = inputFiles;
+		}
+
+		@Override
+		public void init(final IToolchainProgressMonitor monitor) {
+			if (mData == null) {
+				return;
+			}
+			mCore.mLoggingService.store(mData.getStorage());
+			final ILogger logger = mCore.mLoggingService.getLogger(PLUGIN_ID);
+			mData.getStorage().putStorable(ProgressMonitorService.getServiceKey(),
+					new ProgressMonitorService(monitor, logger, () -> new CountDownLatch(0)));
+			mData = mCore.prerun(this);
+		}
+
+		@Override
+		public IToolchainData<RunDefinition> makeToolSelection(final IToolchainProgressMonitor monitor) {
+			return setToolSelection(monitor, mCore.selectTools(this, Collections.emptyList()));
+		}
+
+		@Override
+		public IToolchainData<RunDefinition> setToolSelection(final IToolchainProgressMonitor monitor,
+				final IToolchainData<RunDefinition> data) {
+			if (data == null) {
+				return null;
+			}
+			mData = data;
+			init(monitor);
+			// like the real toolchain, return the data from before prerun
+			return data;
+		}
+
+		@Override
+		public boolean initializeParsers() {
+			return true;
+		}
+
+		@Override
+		public void runParsers() {
+			// nothing to parse
+		}
+
+		@Override
+		public ReturnCode processToolchain(final IToolchainProgressMonitor monitor) throws Throwable {
+			final IUltimateServiceProvider services = mData.getServices();
+			final String input = Files.readString(mInputFiles[0].toPath()).trim();
+			final IResult result;
+			if (LOOP.equals(input)) {
+				final IProgressMonitorService pms = services.getProgressMonitorService();
+				final long limit = System.currentTimeMillis() + LOOP_LIMIT_MS;
+				while (pms.continueProcessing() && System.currentTimeMillis() < limit) {
+					Thread.sleep(10);
+				}
+				result = pms.continueProcessing() ? new AllSpecificationsHoldResult(PLUGIN_ID, "no timeout")
+						: new TimeoutResult(PLUGIN_ID, "timeout");
+			} else {
+				result = new AllSpecificationsHoldResult(PLUGIN_ID, "correct");
+			}
+			services.getResultService().reportResult(PLUGIN_ID, result);
+			return ReturnCode.Ok;
+		}
+
+		@Override
+		public void addAST(final IElement root, final ModelType outputDefinition) {
+			// no models
+		}
+
+		@Override
+		public long getId() {
+			return mId;
+		}
+
+		@Override
+		public IToolchainData<RunDefinition> getCurrentToolchainData() {
+			return mData;
+		}
+
+		@Override
+		public File[] getInputFiles() {
+			return mInputFiles;
+		}
+	}
+}
@@ -35,6 +35,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 
 import org.apache.commons.cli.ParseException;
@@ -42,9 +45,11 @@ import org.apache.commons.cli.ParseException;
 import de.uni_freiburg.informatik.ultimate.cli.CommandLineController;
 import de.uni_freiburg.informatik.ultimate.cli.ParsedParameter;
 import de.uni_freiburg.informatik.ultimate.cli.exceptions.InvalidFileArgumentException;
+import de.uni_freiburg.informatik.ultimate.core.coreplugin.toolchain.DefaultToolchainJob;
 import de.uni_freiburg.informatik.ultimate.core.lib.results.ResultUtil;
 import de.uni_freiburg.informatik.ultimate.core.lib.toolchain.RunDefinition;
 import de.uni_freiburg.informatik.ultimate.core.model.ICore;
+import de.uni_freiburg.informatik.ultimate.core.model.ITool;
 import de.uni_freiburg.informatik.ultimate.core.model.IToolchain;
 import de.uni_freiburg.informatik.ultimate.core.model.IToolchainData;
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceInitializer;
@@ -67,17 +72,15 @@ import de.uni_freiburg.informatik.ultimate.deltadebugger.preferences.DeltaDebugg
 
 /**
  * The delta debugger controller can repeat a defined toolchain until the specified input cannot be reduced any further.
- * This is a quick and dirty implementation with some unfortunate limitations: Parallel testing is not possible, because
- * a global state has to be used to associate the results/exception of a toolchain execution. The test function which
- * defines the behavior that has to be kept by the reduced variants is implemented right here in this class (
- * {@link #isToolchainResultInteresting(ILogger)}). No user interaction is possible, final and intermediate output is
- * written to the log.
+ * Each toolchain execution uses its own toolchain data, s.t. variants can be tested in parallel. The results/exception
+ * of an execution are associated with it through the id of its toolchain. The test function which defines the behavior
+ * that has to be kept by the reduced variants is implemented right here in this class (
+ * {@link #isToolchainResultInteresting(ILogger, Map, IUltimateServiceProvider, File[])}). No user interaction is
+ * possible, final and intermediate output is written to the log.
  */
 public class DeltaDebuggerController extends CommandLineController {
 
-	private Optional<ToolchainException> mException;
-	private Optional<Map<String, List<IResult>>> mResults;
-	private IUltimateServiceProvider mServices;
+	private final Map<Long, ToolchainRun> mRunningToolchains = new ConcurrentHashMap<>();
 
 	@Override
 	public int init(final ICore<RunDefinition> core) {
@@ -88,16 +91,33 @@ public class DeltaDebuggerController extends CommandLineController {
 	@Override
 	public void displayException(final IToolchain<RunDefinition> toolchain, final String description,
 			final Throwable ex) {
-		mException = Optional.of(new ToolchainException(description, ex));
+		final ToolchainRun run = toolchain == null ? null : mRunningToolchains.get(toolchain.getId());
+		if (run != null) {
+			run.mException = Optional.of(new ToolchainException(description, ex));
+		}
 	}
 
 	@Override
 	public void displayToolchainResults(final IToolchain<RunDefinition> toolchain,
 			final Map<String, List<IResult>> results) {
+		final ToolchainRun run = mRunningToolchains.get(toolchain.getId());
+		if (run == null) {
+			return;
+		}
 		// The copy is necessary, because otherwise the map is empty after
 		// executeToolchain returns?!?
-		mResults = Optional.of(new HashMap<>(results));
-		mServices = toolchain.getCurrentToolchainData().getServices();
+		run.mResults = Optional.of(new HashMap<>(results));
+		run.mServices = toolchain.getCurrentToolchainData().getServices();
+	}
+
+	@Override
+	public IToolchainData<RunDefinition> selectTools(final IToolchain<RunDefinition> toolchain,
+			final List<ITool> tools) {
+		final ToolchainRun run = mRunningToolchains.get(toolchain.getId());
+		if (run == null) {
+			return super.selectTools(toolchain, tools);
+		}
+		return run.mToolchainData;
 	}
 
 	@Override
@@ -111,25 +131,28 @@ public class DeltaDebuggerController extends CommandLineController {
 	}
 
 	/**
-	 * Determines if the previous toolchain run showed the behavior of interest, i.e. the previous reduction was
-	 * successful.<br>
-	 * Check the values stored in mException and mResults to access the previous results and/or exception.
+	 * Determines if a toolchain run showed the behavior of interest, i.e. the reduction was successful.<br>
+	 * May be called concurrently for different toolchain runs.
 	 *
+	 * @param results
+	 *            the results of the toolchain run
+	 * @param services
+	 *            the services of the toolchain run
 	 * @param inputFiles
+	 *            the input files of the toolchain run
 	 *
-	 * @return true iff the previous toolchain run showed the behavior of interest
+	 * @return true iff the toolchain run showed the behavior of interest
 	 */
-	protected boolean isToolchainResultInteresting(final ILogger logger, final File[] inputFiles) {
+	protected boolean isToolchainResultInteresting(final ILogger logger, final Map<String, List<IResult>> results,
+			final IUltimateServiceProvider services, final File[] inputFiles) {
 		// an example of filtering ExceptionOrErrorResults with a certain message
-		if (!mResults.isPresent()) {
-			return false;
-		}
-		final IPreferenceProvider prefProvider = mServices.getPreferenceProvider(Activator.PLUGIN_ID);
-		return isUltimateToolchainResultInteresting(prefProvider)
-				&& isExternalToolResultInteresting(prefProvider, inputFiles);
+		final IPreferenceProvider prefProvider = services.getPreferenceProvider(Activator.PLUGIN_ID);
+		return isUltimateToolchainResultInteresting(prefProvider, results, services)
+				&& isExternalToolResultInteresting(prefProvider, services, inputFiles);
 	}
 
-	private boolean isExternalToolResultInteresting(final IPreferenceProvider prefProvider, final File[] inputFiles) {
+	private static boolean isExternalToolResultInteresting(final IPreferenceProvider prefProvider,
+			final IUltimateServiceProvider services, final File[] inputFiles) {
 		final ExternalComparison mode =
 				prefProvider.getEnum(DeltaDebuggerPreferences.LABEL_EXTERNAL_TOOL_MODE, ExternalComparison.class);
 		final ExternalTool tool;
@@ -137,7 +160,7 @@ public class DeltaDebuggerController extends CommandLineController {
 		case NONE:
 			return true;
 		case CPACHECKER:
-			tool = new ExternalToolCPAChecker(mServices);
+			tool = new ExternalToolCPAChecker(services);
 			break;
 		default:
 			throw new UnsupportedOperationException("Unknown external tool mode " + mode);
@@ -149,11 +172,12 @@ public class DeltaDebuggerController extends CommandLineController {
 		return result == ExternalToolResult.INTERESTING;
 	}
 
-	private boolean isUltimateToolchainResultInteresting(final IPreferenceProvider prefProvider) {
+	private static boolean isUltimateToolchainResultInteresting(final IPreferenceProvider prefProvider,
+			final Map<String, List<IResult>> results, final IUltimateServiceProvider services) {
 
-		final Class<? extends IResult> forbiddenResultType = DeltaDebuggerPreferences.getForbiddenClass(mServices);
+		final Class<? extends IResult> forbiddenResultType = DeltaDebuggerPreferences.getForbiddenClass(services);
 		if (forbiddenResultType != null
-				&& ResultUtil.filterResults(mResults.get(), forbiddenResultType).stream().findAny().isPresent()) {
+				&& ResultUtil.filterResults(results, forbiddenResultType).stream().findAny().isPresent()) {
 			return false;
 		}
 
@@ -169,14 +193,14 @@ public class DeltaDebuggerController extends CommandLineController {
 		final Predicate<IResult> predShortRegex =
 				a -> resultShortRegex.isEmpty() || a.getShortDescription().matches(resultShortRegex);
 
-		final Class<? extends IResult> interestingResultType = DeltaDebuggerPreferences.getInterestingClass(mServices);
+		final Class<? extends IResult> interestingResultType = DeltaDebuggerPreferences.getInterestingClass(services);
 
-		return ResultUtil.filterResults(mResults.get(), interestingResultType).stream()
+		return ResultUtil.filterResults(results, interestingResultType).stream()
 				.anyMatch(predShort.and(predLong).and(predShortRegex));
 	}
 
 	Optional<String> runDeltaDebuggerLoop(final ICore<RunDefinition> core, final ILogger logger,
-			final IToolchainData<RunDefinition> toolchain, final String inputSource)
+			final ParsedParameter cliParams, final IToolchainData<RunDefinition> toolchain, final String inputSource)
 			throws ParseException, InvalidFileArgumentException, InterruptedException {
 		final PassRunner runner = new PassRunner(logger);
 		runner.setTestFunction(variant -> {
@@ -188,10 +212,9 @@ public class DeltaDebuggerController extends CommandLineController {
 				tempFile.deleteOnExit();
 				Files.write(tempFile.toPath(), variant.getBytes(StandardCharsets.UTF_8));
 
-				// Execute the toolchain and store the results in the global
-				// controller state
-				return runToolchainAndCheckResults(core, logger, toolchain, new File[] { tempFile });
-			} catch (final IOException | InterruptedException e) {
+				// Execute the toolchain in its own toolchain data
+				return runToolchainAndCheckResults(core, logger, cliParams, new File[] { tempFile });
+			} catch (final IOException | InterruptedException | ParseException | InvalidFileArgumentException e) {
 				throw new CheckedExceptionWrapper(e);
 			}
 		});
@@ -202,9 +225,14 @@ public class DeltaDebuggerController extends CommandLineController {
 				RemoveUnreferencedPass.FUNCS, RemoveUnreferencedPass.ALL_DECLS, RemoveUnreferencedPass.ALL_OBJS,
 				RemoveUnreferencedPass.ALL_DECLS, RemoveUnreferencedPass.ALL_OBJS, HddPass.HDDSTAR));
 
-		// No parallel testing is currently possible because global state is
-		// used to store toolchain results/exception.
-		// runner.enableParallelTesting(Executors.newFixedThreadPool(2), 2);
+		final IPreferenceProvider prefProvider = toolchain.getServices().getPreferenceProvider(Activator.PLUGIN_ID);
+		runner.setCacheTestResults(prefProvider.getBoolean(DeltaDebuggerPreferences.LABEL_CACHE_TEST_RESULTS));
+
+		final int workerCount = prefProvider.getInt(DeltaDebuggerPreferences.LABEL_PARALLEL_TESTS);
+		final ExecutorService executor = workerCount > 1 ? Executors.newFixedThreadPool(workerCount) : null;
+		if (executor != null) {
+			runner.enableParallelTesting(executor, workerCount);
+		}
 
 		// Run the delta debugger loop. Make sure to unwrap and rethrow
 		// unhandled checked exceptions.
@@ -223,16 +251,27 @@ public class DeltaDebuggerController extends CommandLineController {
 			throw new AssertionError(e.mCause);
 		} catch (final UncheckedInterruptedException e) {
 			throw (InterruptedException) e.getCause();
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
 		}
 
 	}
 
 	private boolean runToolchainAndCheckResults(final ICore<RunDefinition> core, final ILogger logger,
-			final IToolchainData<RunDefinition> toolchain, final File[] inputFiles) throws InterruptedException {
-		mException = Optional.empty();
-		mResults = Optional.empty();
-		executeToolchain(core, inputFiles, logger, toolchain);
-		return isToolchainResultInteresting(logger, inputFiles);
+			final ParsedParameter cliParams, final File[] inputFiles)
+			throws InterruptedException, ParseException, InvalidFileArgumentException {
+		// Fresh toolchain data, because the storage is cleared at the start of each run, which would also kill the
+		// external tools of concurrently tested variants
+		final ToolchainRun run = new ToolchainRun(cliParams.createToolchainData());
+		final DefaultToolchainJob job = new VariantToolchainJob(core, logger, run, inputFiles);
+		job.schedule();
+		job.join();
+		if (!run.mResults.isPresent()) {
+			return false;
+		}
+		return isToolchainResultInteresting(logger, run.mResults.get(), run.mServices, inputFiles);
 	}
 
 	@Override
@@ -258,12 +297,12 @@ public class DeltaDebuggerController extends CommandLineController {
 
 		// Optional: Verify that the unmodified input shows the behaviour of
 		// interest
-		if (!runToolchainAndCheckResults(core, logger, toolchain, initialInputFiles)) {
+		if (!runToolchainAndCheckResults(core, logger, cliParams, initialInputFiles)) {
 			// TODO: replace by proper way to report this error to the user
 			throw new InvalidFileArgumentException("The initial input does not show the behaviour of interest");
 		}
 
-		final Optional<String> reducedResult = runDeltaDebuggerLoop(core, logger, toolchain, inputSource);
+		final Optional<String> reducedResult = runDeltaDebuggerLoop(core, logger, cliParams, toolchain, inputSource);
 
 		logger.warn("\n------------------------------------\n");
 		logger.warn(reducedResult.map(RewriteUtils::removeMultipleEmptyLines).orElse("[No reduction possible]"));
@@ -283,6 +322,50 @@ public class DeltaDebuggerController extends CommandLineController {
 		}
 	}
 
+	/**
+	 * The state of one toolchain execution.
+	 */
+	private static final class ToolchainRun {
+		private final IToolchainData<RunDefinition> mToolchainData;
+		private Optional<ToolchainException> mException;
+		private Optional<Map<String, List<IResult>>> mResults;
+		private IUltimateServiceProvider mServices;
+
+		public ToolchainRun(final IToolchainData<RunDefinition> toolchainData) {
+			mToolchainData = toolchainData;
+			mException = Optional.empty();
+			mResults = Optional.empty();
+		}
+	}
+
+	/**
+	 * Associates a toolchain with its {@link ToolchainRun} while the toolchain is executed.
+	 */
+	private final class VariantToolchainJob extends DefaultToolchainJob {
+		private final ToolchainRun mRun;
+
+		public VariantToolchainJob(final ICore<RunDefinition> core, final ILogger logger, final ToolchainRun run,
+				final File[] inputFiles) {
+			super("Processing Toolchain", core, DeltaDebuggerController.this, logger, inputFiles);
+			mRun = run;
+		}
+
+		@Override
+		protected void setToolchain(final IToolchain<RunDefinition> toolchain) {
+			super.setToolchain(toolchain);
+			mRunningToolchains.put(toolchain.getId(), mRun);
+		}
+
+		@Override
+		protected void releaseToolchain() {
+			if (mToolchain == null) {
+				return;
+			}
+			super.releaseToolchain();
+			mRunningToolchains.remove(mToolchain.getId());
+		}
+	}
+
 	/**
 	 * Stores arguments to displayException().
 	 */
@@ -66,8 +66,10 @@ public class PassRunner {
 	private ExecutorService mExecutorService;
 	private int mWorkerCount;
 	private int mTimeLimitPerPassInSeconds;
+	private boolean mCacheTestResults;
 	
 	private SearchStats mStats;
+	private VariantTestResultCache mTestResultCache;
 	
 	/**
 	 * @param logger
@@ -79,13 +81,14 @@ public class PassRunner {
 		mContextFactory = source -> new DefaultPassContext(source, logger);
 		mWorkerCount = 1;
 		mTimeLimitPerPassInSeconds = 0;
+		mCacheTestResults = true;
 		mStats = new SearchStats();
 		mDefaultMinimizer = IncludeEmptyVariantDecorator.decorate(new BinarySearchMinimizer(false));
 	}
 	
 	Optional<String> applyGenerators(final IVariantGenerator firstGenerator, final IMinimizer minimizer,
 			final boolean useSpeculativeIteration) {
-		final SearchObserver observer = new SearchObserver(mTestFunction, mStats, mLogger);
+		final SearchObserver observer = new SearchObserver(mTestFunction, mStats, mTestResultCache, mLogger);
 		final GeneratorSearchStepFactory searchStepFactory =
 				new GeneratorSearchStepFactory(minimizer, this::createDuplicateVariantTrackerLinkedToStats);
 		final SpeculativeSearchIterator<IGeneratorSearchStep> stepIterator =
@@ -198,6 +201,10 @@ public class PassRunner {
 		return mExecutorService != null;
 	}
 	
+	public boolean isTestResultCacheEnabled() {
+		return mCacheTestResults;
+	}
+	
 	IGeneratorSearchStep iterateDirect(final DirectSearchIteratorIterator<IGeneratorSearchStep> iterIterator) {
 		if (mTimeLimitPerPassInSeconds > 0) {
 			if (!iterIterator.iterateFor(mTimeLimitPerPassInSeconds, TimeUnit.SECONDS) && mLogger.isWarnEnabled()) {
@@ -247,6 +254,7 @@ public class PassRunner {
 		
 		Optional<String> result = Optional.empty();
 		IPassContext context = mContextFactory.create(input);
+		mTestResultCache = mCacheTestResults ? new VariantTestResultCache() : null;
 		
 		int passIndex = 0;
 		while (passIndex != mPasses.size()) {
@@ -259,7 +267,9 @@ public class PassRunner {
 				mLogger.info("-------------------------\n");
 			}
 			
-			final Optional<String> thisResult = applyPass(pass, context);
+			// A result that equals the input is no reduction, e.g. if all successful changes of a generator were no-ops
+			final String passInput = context.getInput().getText();
+			final Optional<String> thisResult = applyPass(pass, context).filter(a -> !a.equals(passInput));
 			if (thisResult.isPresent()) {
 				// Create context using new best variant for the next pass if there is one
 				if (passIndex + 1 != mPasses.size() || pass.repeatUntilReductionFails()) {
@@ -268,9 +278,6 @@ public class PassRunner {
 				result = thisResult;
 				
 				if (pass.repeatUntilReductionFails()) {
-					// TODO: Actually check if the result is a new variant by comparing the source text.
-					//       VariantGenerators should not support changes that don't actually change anything, 
-					//       but if they do anyways, this loop won't terminate.
 					--passIndex;
 				}
 			}
@@ -283,9 +290,21 @@ public class PassRunner {
 			}
 		}
 		
+		mTestResultCache = null;
 		return result;
 	}
 	
+	/**
+	 * @param cacheTestResults
+	 *            {@code true} iff variants with the same content should only be tested once, which requires a
+	 *            deterministic test function
+	 * @return The pass runner.
+	 */
+	public PassRunner setCacheTestResults(final boolean cacheTestResults) {
+		mCacheTestResults = cacheTestResults;
+		return this;
+	}
+	
 	public PassRunner setContextFactory(final IPassContextFactory contextFactory) {
 		mContextFactory = Objects.requireNonNull(contextFactory);
 		return this;
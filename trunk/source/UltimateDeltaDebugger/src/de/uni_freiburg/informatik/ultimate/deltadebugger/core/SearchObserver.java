@@ -44,13 +44,26 @@ class SearchObserver implements ISpeculativeIterationObserver<IGeneratorSearchSt
 	
 	private final IVariantTestFunction mTestFunction;
 	private final SearchStats mStats;
+	private final VariantTestResultCache mTestResultCache;
 	private IGeneratorSearchStep mPreviousStep;
 	
 	private final ILogger mLogger;
 	
-	public SearchObserver(final IVariantTestFunction testFunction, final SearchStats stats, final ILogger logger) {
+	/**
+	 * @param testFunction
+	 *            test function
+	 * @param stats
+	 *            search statistics
+	 * @param testResultCache
+	 *            cache of test results, or {@code null} if every variant should be tested
+	 * @param logger
+	 *            logger
+	 */
+	public SearchObserver(final IVariantTestFunction testFunction, final SearchStats stats,
+			final VariantTestResultCache testResultCache, final ILogger logger) {
 		mTestFunction = testFunction;
 		mStats = stats;
+		mTestResultCache = testResultCache;
 		mLogger = logger;
 	}
 	
@@ -84,6 +97,7 @@ class SearchObserver implements ISpeculativeIterationObserver<IGeneratorSearchSt
 					" - failed: " + stats.getFailedSteps() + " (" + stats.getChangeConflicts() + " change conflicts)");
 			logger.info(" - canceled: " + stats.getCanceledSpeculativeSteps());
 			logger.info(" - duplicate tests skipped: " + stats.getSkippedDuplicateMinimizerSteps());
+			logger.info(" - tests of identical variants skipped: " + stats.getCachedTestResults());
 		}
 	}
 	
@@ -160,6 +174,20 @@ class SearchObserver implements ISpeculativeIterationObserver<IGeneratorSearchSt
 			return Optional.empty();
 		}
 		
-		return mTestFunction.cancelableTest(variant, isCanceled);
+		if (mTestResultCache == null) {
+			return mTestFunction.cancelableTest(variant, isCanceled);
+		}
+		
+		// Different sets of changes can result in the same variant, e.g. if a change is a no-op in the presence of
+		// other changes, so the variant itself is compared
+		final String key = VariantTestResultCache.hash(variant);
+		final Boolean cachedResult = mTestResultCache.get(key);
+		if (cachedResult != null) {
+			mStats.getCachedTestResults().incrementAndGet();
+			return Optional.of(cachedResult);
+		}
+		final Optional<Boolean> result = mTestFunction.cancelableTest(variant, isCanceled);
+		result.ifPresent(keepVariant -> mTestResultCache.put(key, keepVariant));
+		return result;
 	}
 }
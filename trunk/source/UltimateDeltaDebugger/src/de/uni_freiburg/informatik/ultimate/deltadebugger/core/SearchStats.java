@@ -37,6 +37,14 @@ public class SearchStats {
 	private final AtomicInteger mSkippedDuplicateMinimizerSteps = new AtomicInteger();
 	private final AtomicInteger mOverallTestCount = new AtomicInteger();
 	private final AtomicInteger mChangeConflicts = new AtomicInteger();
+	private final AtomicInteger mCachedTestResults = new AtomicInteger();
+	
+	/**
+	 * @return number of tests that were skipped because a variant with the same content was tested before
+	 */
+	public AtomicInteger getCachedTestResults() {
+		return mCachedTestResults;
+	}
 	
 	public int getCanceledSpeculativeSteps() {
 		return mCanceledSpeculativeSteps;
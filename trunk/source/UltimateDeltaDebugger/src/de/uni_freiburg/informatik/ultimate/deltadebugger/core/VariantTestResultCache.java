@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the Ultimate Delta Debugger plug-in.
+ *
+ * The Ultimate Delta Debugger plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The Ultimate Delta Debugger plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the Ultimate Delta Debugger plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the Ultimate Delta Debugger plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the Ultimate Delta Debugger plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.deltadebugger.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe cache of test results by variant content. Only hashes of the variants are stored, because keeping every
+ * tested variant would need memory quadratic in the size of the input.
+ * <p>
+ * Using this cache requires a deterministic test function, which is already assumed by the minimizers.
+ */
+public class VariantTestResultCache {
+	private final Map<String, Boolean> mResults = new ConcurrentHashMap<>();
+	
+	/**
+	 * @param variant
+	 *            source code variant
+	 * @return key of the variant in this cache
+	 */
+	public static String hash(final String variant) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new AssertionError("Every Java platform supports SHA-256", e);
+		}
+		return Base64.getEncoder().encodeToString(digest.digest(variant.getBytes(StandardCharsets.UTF_8)));
+	}
+	
+	/**
+	 * @param key
+	 *            key of a variant, see {@link #hash(String)}
+	 * @return the test result of the variant or {@code null} if it was not tested yet
+	 */
+	public Boolean get(final String key) {
+		return mResults.get(key);
+	}
+	
+	/**
+	 * @param key
+	 *            key of a variant, see {@link #hash(String)}
+	 * @param keepVariant
+	 *            test result of the variant
+	 */
+	public void put(final String key, final boolean keepVariant) {
+		mResults.put(key, keepVariant);
+	}
+	
+	public int size() {
+		return mResults.size();
+	}
+}
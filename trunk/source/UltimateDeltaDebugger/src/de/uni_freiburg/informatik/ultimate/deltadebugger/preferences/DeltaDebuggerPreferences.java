@@ -40,6 +40,7 @@ import de.uni_freiburg.informatik.ultimate.core.lib.results.UnsupportedSyntaxRes
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.IPreferenceProvider;
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.PreferenceType;
 import de.uni_freiburg.informatik.ultimate.core.model.preferences.UltimatePreferenceItem;
+import de.uni_freiburg.informatik.ultimate.core.model.preferences.UltimatePreferenceItem.IUltimatePreferenceItemValidator;
 import de.uni_freiburg.informatik.ultimate.core.model.results.IResult;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.deltadebugger.Activator;
@@ -93,6 +94,20 @@ public final class DeltaDebuggerPreferences extends UltimatePreferenceInitialize
 					+ "Use the empty string if all results of this type are interesting.";
 	private static final String DEFAULT_RESULT_LONG_DESC_PREFIX = "";
 
+	public static final String LABEL_CACHE_TEST_RESULTS = "Test identical variants only once";
+	private static final boolean DEFAULT_CACHE_TEST_RESULTS = true;
+	private static final String DESC_CACHE_TEST_RESULTS =
+			"Different reductions often produce the same variant. If enabled, the result of the first test of a variant "
+					+ "is reused for all later variants with the same content. Disable this if the toolchain does not "
+					+ "always produce the same result for the same input, e.g., because of timeouts.";
+
+	public static final String LABEL_PARALLEL_TESTS = "Number of variants tested in parallel";
+	private static final int DEFAULT_PARALLEL_TESTS = 4;
+	private static final String DESC_PARALLEL_TESTS =
+			"Variants are tested speculatively in parallel, each in its own toolchain, i.e., some results may be "
+					+ "discarded once an earlier variant turns out to be interesting. Use 1 to test variants one after "
+					+ "another.";
+
 	public static final String LABEL_EXTERNAL_TOOL_TIMEOUT = "External tool timeout";
 	private static final int DEFAULT_EXTERNAL_TOOL_TIMEOUT = 90000;
 	private static final String DESC_EXTERNAL_TOOL_TIMEOUT =
@@ -151,6 +166,10 @@ public final class DeltaDebuggerPreferences extends UltimatePreferenceInitialize
 
 				new UltimatePreferenceItem<>(LABEL_FORBIDDEN_RESULT_TYPE, DEFAULT_FORBIDDEN_RESULT_TYPE,
 						DESC_FORBIDDEN_RESULT_TYPE, PreferenceType.Combo, VALUES_RESULT_TYPES),
+				new UltimatePreferenceItem<>(LABEL_CACHE_TEST_RESULTS, DEFAULT_CACHE_TEST_RESULTS,
+						DESC_CACHE_TEST_RESULTS, PreferenceType.Boolean),
+				new UltimatePreferenceItem<>(LABEL_PARALLEL_TESTS, DEFAULT_PARALLEL_TESTS, DESC_PARALLEL_TESTS,
+						PreferenceType.Integer, IUltimatePreferenceItemValidator.ONLY_POSITIVE),
 
 				new UltimatePreferenceItem<>(LABEL_EXTERNAL_TOOL_MODE, ExternalComparison.NONE, DESC_EXTERNAL_TOOL_MODE,
 						PreferenceType.Combo, ExternalComparison.values()),
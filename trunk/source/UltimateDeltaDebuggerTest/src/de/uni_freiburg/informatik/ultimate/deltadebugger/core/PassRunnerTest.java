@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the Ultimate Delta Debugger plug-in.
+ *
+ * The Ultimate Delta Debugger plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The Ultimate Delta Debugger plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the Ultimate Delta Debugger plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the Ultimate Delta Debugger plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the Ultimate Delta Debugger plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.deltadebugger.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+import de.uni_freiburg.informatik.ultimate.deltadebugger.core.generators.RemovePlainText;
+import de.uni_freiburg.informatik.ultimate.deltadebugger.core.parser.IParser;
+import de.uni_freiburg.informatik.ultimate.deltadebugger.core.parser.pst.interfaces.IPSTTranslationUnit;
+import de.uni_freiburg.informatik.ultimate.deltadebugger.core.text.ISourceDocument;
+import de.uni_freiburg.informatik.ultimate.deltadebugger.core.text.StringSourceDocument;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+
+/**
+ * Tests the handling of identical variants in {@link PassRunner}. The passes only work on the plain text, s.t. no
+ * parser is needed.
+ */
+public class PassRunnerTest {
+
+	private ILogger mLogger;
+	private PassRunner mRunner;
+
+	@Before
+	public void setUp() {
+		mLogger = UltimateMocks.createUltimateServiceProviderMock().getLoggingService().getLogger(getClass());
+		mRunner = new PassRunner(mLogger).setContextFactory(source -> new PlainTextContext(source, mLogger));
+	}
+
+	@Test(timeout = 10_000)
+	public void resultEqualToInputIsNoReduction() {
+		// every change is successful, but does not change the input
+		final IVariantGeneratorFactory noOp = context -> Optional.of(new NoOpGenerator(context.getInput()));
+		mRunner.setPasses(
+				Collections.singletonList(PassDescription.builder(noOp).repeatUntilReductionFails(true).build()));
+		mRunner.setTestFunction(variant -> true);
+
+		Assert.assertEquals(Optional.empty(), mRunner.run("int x;"));
+		Assert.assertTrue(mRunner.getStats().getSuccessfulSteps() > 0);
+	}
+
+	@Test
+	public void identicalVariantsAreTestedOnce() {
+		// removing either character results in the same variant
+		final AtomicInteger tests = runRemoveChars(true);
+		Assert.assertEquals(2, tests.get());
+		Assert.assertEquals(1, mRunner.getStats().getCachedTestResults().get());
+	}
+
+	@Test
+	public void identicalVariantsAreTestedAgainWithoutCache() {
+		final AtomicInteger tests = runRemoveChars(false);
+		Assert.assertEquals(3, tests.get());
+		Assert.assertEquals(0, mRunner.getStats().getCachedTestResults().get());
+	}
+
+	private AtomicInteger runRemoveChars(final boolean cacheTestResults) {
+		final AtomicInteger tests = new AtomicInteger();
+		mRunner.setPasses(Collections.singletonList(PassDescription.builder(RemovePlainText::analyzeChars).build()));
+		mRunner.setCacheTestResults(cacheTestResults);
+		mRunner.setTestFunction(variant -> {
+			tests.incrementAndGet();
+			return false;
+		});
+		Assert.assertEquals(Optional.empty(), mRunner.run("aa"));
+		return tests;
+	}
+
+	private static final class NoOpGenerator implements IVariantGenerator {
+		private final ISourceDocument mInput;
+		private final List<IChangeHandle> mChanges;
+
+		private NoOpGenerator(final ISourceDocument input) {
+			mInput = input;
+			mChanges = List.of(() -> 0, () -> 1);
+		}
+
+		@Override
+		public String apply(final List<IChangeHandle> activeChanges) {
+			return mInput.getText();
+		}
+
+		@Override
+		public List<IChangeHandle> getChanges() {
+			return mChanges;
+		}
+	}
+
+	private static final class PlainTextContext implements IPassContext {
+		private final ISourceDocument mInput;
+		private final ILogger mLogger;
+
+		private PlainTextContext(final String input, final ILogger logger) {
+			mInput = new StringSourceDocument(input);
+			mLogger = logger;
+		}
+
+		@Override
+		public ISourceDocument getInput() {
+			return mInput;
+		}
+
+		@Override
+		public IParser getParser() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IASTTranslationUnit getSharedAst() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IPSTTranslationUnit getSharedPst() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ILogger getLogger() {
+			return mLogger;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the Ultimate Delta Debugger plug-in.
+ *
+ * The Ultimate Delta Debugger plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The Ultimate Delta Debugger plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the Ultimate Delta Debugger plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the Ultimate Delta Debugger plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the Ultimate Delta Debugger plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.deltadebugger.core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link VariantTestResultCache}.
+ */
+public class VariantTestResultCacheTest {
+
+	@Test
+	public void hashDependsOnlyOnContent() {
+		Assert.assertEquals(VariantTestResultCache.hash("int main() {}"),
+				VariantTestResultCache.hash(new StringBuilder("int main() {").append('}').toString()));
+		Assert.assertNotEquals(VariantTestResultCache.hash("int main() {}"),
+				VariantTestResultCache.hash("int main() { }"));
+		Assert.assertNotEquals(VariantTestResultCache.hash(""), VariantTestResultCache.hash(" "));
+	}
+
+	@Test
+	public void resultsAreStoredByKey() {
+		final VariantTestResultCache cache = new VariantTestResultCache();
+		final String kept = VariantTestResultCache.hash("a");
+		final String removed = VariantTestResultCache.hash("b");
+		Assert.assertNull(cache.get(kept));
+
+		cache.put(kept, true);
+		cache.put(removed, false);
+		Assert.assertEquals(Boolean.TRUE, cache.get(kept));
+		Assert.assertEquals(Boolean.FALSE, cache.get(removed));
+		Assert.assertNull(cache.get(VariantTestResultCache.hash("c")));
+		Assert.assertEquals(2, cache.size());
+	}
+}
@@ -56,6 +56,10 @@ public class Config {
 	public static String LOG_LEVEL = "INFO";
 	public static String TMP_DIR = "";
 	public static int FORCED_TIMEOUT = 90;
+	public static int MAX_RUNNING_JOBS = 4;
+	public static int MAX_RUNNING_JOBS_PER_TENANT = 2;
+	public static int MAX_QUEUED_JOBS = 100;
+	public static int MAX_REQUEST_PRIORITY = 0;
 
 	private static final String SETTINGS_FILE = "web.config.properties";
 	private static final String PROPERTY_PREFIX = "WebBackend.";
@@ -117,6 +121,10 @@ public class Config {
 		LOG_FILE_PATH = loadString("LOG_FILE_PATH", LOG_FILE_PATH);
 		LOG_LEVEL = loadString("LOG_LEVEL", LOG_LEVEL);
 		FORCED_TIMEOUT = loadInteger("FORCED_TIMEOUT", FORCED_TIMEOUT);
+		MAX_RUNNING_JOBS = loadInteger("MAX_RUNNING_JOBS", MAX_RUNNING_JOBS);
+		MAX_RUNNING_JOBS_PER_TENANT = loadInteger("MAX_RUNNING_JOBS_PER_TENANT", MAX_RUNNING_JOBS_PER_TENANT);
+		MAX_QUEUED_JOBS = loadInteger("MAX_QUEUED_JOBS", MAX_QUEUED_JOBS);
+		MAX_REQUEST_PRIORITY = loadInteger("MAX_REQUEST_PRIORITY", MAX_REQUEST_PRIORITY);
 		try {
 			TMP_DIR = loadPathString("TMP_DIR", Files.createTempDirectory("ultimate_webbackend").toString());
 		} catch (final IOException ex) {
@@ -47,6 +47,7 @@ import de.uni_freiburg.informatik.ultimate.web.backend.dto.ErrorResponse;
 import de.uni_freiburg.informatik.ultimate.web.backend.dto.GenericResponse;
 import de.uni_freiburg.informatik.ultimate.web.backend.dto.ToolchainResponse;
 import de.uni_freiburg.informatik.ultimate.web.backend.util.FileUtil;
+import de.uni_freiburg.informatik.ultimate.web.backend.util.JobQueue;
 import de.uni_freiburg.informatik.ultimate.web.backend.util.Request;
 import de.uni_freiburg.informatik.ultimate.web.backend.util.WebBackendToolchainJob;
 
@@ -62,6 +63,7 @@ public class UltimateWebCore implements ICore<RunDefinition>, IController<RunDef
 	private final ILoggingService mLoggingService;
 
 	private final ConcurrentHashMap<Long, JobMetdata> mJobMetadata;
+	private final JobQueue mJobQueue;
 
 	public UltimateWebCore() {
 		mCoreStorage = new ToolchainStorage();
@@ -73,6 +75,8 @@ public class UltimateWebCore implements ICore<RunDefinition>, IController<RunDef
 		mPluginFactory = new PluginFactory(mSettingsManager, mLogger);
 		mToolchainManager = new ToolchainManager(mLoggingService, mPluginFactory, this);
 		mJobMetadata = new ConcurrentHashMap<>();
+		mJobQueue = new JobQueue(mLogger, Config.MAX_QUEUED_JOBS, Config.MAX_RUNNING_JOBS,
+				Config.MAX_RUNNING_JOBS_PER_TENANT);
 	}
 
 	/**
@@ -95,6 +99,19 @@ public class UltimateWebCore implements ICore<RunDefinition>, IController<RunDef
 	}
 
 	public ApiResponse cancelToolchainJob(final String jobId) {
+		final WebBackendToolchainJob queuedJob = mJobQueue.remove(jobId);
+		if (queuedJob != null) {
+			queuedJob.discard();
+			final ToolchainResponse tcResponse = new ToolchainResponse(jobId);
+			tcResponse.setResults(Collections.emptyList());
+			tcResponse.setStatus("done");
+			try {
+				tcResponse.store(mLogger);
+			} catch (final IOException ex) {
+				mLogger.error("Failed to store toolchain response for " + jobId, ex);
+			}
+			return new GenericResponse(String.format("JobId %s canceled", jobId));
+		}
 		for (final Job job : getPendingToolchainJobs()) {
 			final WebBackendToolchainJob tcJob = (WebBackendToolchainJob) job;
 			if (tcJob.getId().equals(jobId)) {
@@ -109,18 +126,33 @@ public class UltimateWebCore implements ICore<RunDefinition>, IController<RunDef
 
 		final String jobId = request.getRequestId();
 		final ToolchainResponse tcResponse = new ToolchainResponse(jobId);
+		final String tenant = request.getTenant();
+		final int priority = getPriorityFromRequest(request);
 
-		final IToolchain<RunDefinition> toolchain = requestToolchain(new File[] { prepareInputFile(request) });
-		mJobMetadata.put(toolchain.getId(), new JobMetdata(request.getRequestId(), toolchain.getId(),
-				prepareToolchainFile(request), getUserSettingsFromRequest(request)));
+		final File inputFile = prepareInputFile(request);
+		final File toolchainFile = prepareToolchainFile(request);
+		final List<Map<String, Object>> userSettings = getUserSettingsFromRequest(request);
+		final IToolchain<RunDefinition> toolchain = requestToolchain(new File[] { inputFile });
+		mJobMetadata.put(toolchain.getId(), new JobMetdata(jobId, toolchain.getId(), toolchainFile, userSettings));
 
+		boolean submitted = false;
 		try {
 			final WebBackendToolchainJob job = new WebBackendToolchainJob("WebBackendToolchainJob for request " + jobId,
 					this, this, mLogger, toolchain, jobId);
-			job.schedule();
+			submitted = mJobQueue.submit(job, tenant, priority);
+			if (submitted) {
+				tcResponse.setStatus("queued");
+			} else {
+				tcResponse.setErrorMessage("Too many queued jobs, try again later");
+			}
 		} catch (final Exception t) {
 			mLogger.error("Failed to run Ultimate", t);
 			tcResponse.setErrorMessage("Failed to run Ultimate: " + t.getMessage());
+		} finally {
+			if (!submitted) {
+				// the job will never run and thus never release its toolchain and metadata
+				releaseToolchain(toolchain);
+			}
 		}
 		try {
 			tcResponse.store(mLogger);
@@ -130,6 +162,20 @@ public class UltimateWebCore implements ICore<RunDefinition>, IController<RunDef
 		return tcResponse;
 	}
 
+	/**
+	 * The priority requested by the client, clamped to [0, {@link Config#MAX_REQUEST_PRIORITY}]. With the default
+	 * maximum of 0, client priorities are ignored.
+	 */
+	private static int getPriorityFromRequest(final Request request) {
+		final int priority;
+		try {
+			priority = Integer.parseInt(request.getSingleParameter("priority", "0"));
+		} catch (final NumberFormatException e) {
+			return 0;
+		}
+		return Math.max(0, Math.min(priority, Config.MAX_REQUEST_PRIORITY));
+	}
+
 	/**
 	 * Set the temporary ultimate input file. As set by the web-frontend user in the editor.
 	 *
@@ -274,8 +320,11 @@ public class UltimateWebCore implements ICore<RunDefinition>, IController<RunDef
 
 	@Override
 	public void releaseToolchain(final IToolchain<RunDefinition> toolchain) {
-		mToolchainManager.releaseToolchain(toolchain);
-		mJobMetadata.remove(toolchain.getId());
+		try {
+			mToolchainManager.releaseToolchain(toolchain);
+		} finally {
+			mJobMetadata.remove(toolchain.getId());
+		}
 	}
 
 	@Override
@@ -36,13 +36,34 @@ public class ToolchainResponse extends ApiResponse {
 		mErrorMessage = msg;
 	}
 
+	/**
+	 * Store this response. If it contains results, they supersede the results that were appended with
+	 * {@link #appendResult(ILogger, String, UltimateResult)}.
+	 */
 	public void store(final ILogger logger) throws IOException {
 		final JobResultStore jobResult = new JobResultStore(logger, mRequestId);
 		jobResult.store(this);
+		if (mResults != null) {
+			jobResult.deleteAppended();
+		}
+	}
+
+	/**
+	 * Append a single result of a job that is still running. The result is returned by
+	 * {@link #load(ILogger, String)} as long as the stored response has no results of its own.
+	 */
+	public static void appendResult(final ILogger logger, final String requestId, final UltimateResult result)
+			throws IOException {
+		final JobResultStore jobResult = new JobResultStore(logger, requestId);
+		jobResult.append(result);
 	}
 
 	public static Optional<ToolchainResponse> load(final ILogger logger, final String requestId) {
 		final JobResultStore jobResult = new JobResultStore(logger, requestId);
-		return jobResult.load(ToolchainResponse.class);
+		final Optional<ToolchainResponse> response = jobResult.load(ToolchainResponse.class);
+		if (response.isPresent() && response.get().mResults == null) {
+			response.get().mResults = jobResult.loadAppended(UltimateResult.class);
+		}
+		return response;
 	}
 }
@@ -20,6 +20,10 @@ public class FileUtil {
 		return Path.of(Config.TMP_DIR).resolve(jobId + ".result.json").toFile();
 	}
 
+	public static File getJobPartialResultsFile(final String jobId) {
+		return Path.of(Config.TMP_DIR).resolve(jobId + ".partial.jsonl").toFile();
+	}
+
 	public static File getTmpDir() {
 		return Path.of(Config.TMP_DIR).toFile();
 	}
@@ -0,0 +1,129 @@
+package de.uni_freiburg.informatik.ultimate.web.backend.util;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+
+import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
+
+/**
+ * Admission control for {@link WebBackendToolchainJob}s. Jobs wait in a bounded queue until they can be scheduled.
+ * Jobs with higher priority are scheduled first, jobs with equal priority in the order of their submission. A job is
+ * only scheduled if the number of running jobs and the number of running jobs of its tenant are below their limits.
+ * Queued jobs of a tenant that reached its limit do not block jobs of other tenants.
+ */
+public class JobQueue {
+
+	private static final Comparator<QueuedJob> ORDER =
+			Comparator.comparing((final QueuedJob x) -> x.mPriority, Comparator.reverseOrder())
+					.thenComparingLong(x -> x.mSequenceNumber);
+
+	private final ILogger mLogger;
+	private final int mMaxQueuedJobs;
+	private final int mMaxRunningJobs;
+	private final int mMaxRunningJobsPerTenant;
+
+	private final TreeSet<QueuedJob> mQueue;
+	private final Map<String, Integer> mRunningJobsPerTenant;
+	private int mRunningJobs;
+	private long mNextSequenceNumber;
+
+	public JobQueue(final ILogger logger, final int maxQueuedJobs, final int maxRunningJobs,
+			final int maxRunningJobsPerTenant) {
+		if (maxQueuedJobs < 0 || maxRunningJobs < 1 || maxRunningJobsPerTenant < 1) {
+			throw new IllegalArgumentException("Invalid job queue limits");
+		}
+		mLogger = logger;
+		mMaxQueuedJobs = maxQueuedJobs;
+		mMaxRunningJobs = maxRunningJobs;
+		mMaxRunningJobsPerTenant = maxRunningJobsPerTenant;
+		mQueue = new TreeSet<>(ORDER);
+		mRunningJobsPerTenant = new HashMap<>();
+	}
+
+	/**
+	 * Add a job to the queue and schedule queued jobs if possible.
+	 *
+	 * @return false if the queue is full. The job was not accepted in this case.
+	 */
+	public synchronized boolean submit(final WebBackendToolchainJob job, final String tenant, final int priority) {
+		if (mQueue.size() >= mMaxQueuedJobs) {
+			mLogger.warn("Rejecting job %s of %s, %s jobs are already queued", job.getId(), tenant, mQueue.size());
+			return false;
+		}
+		mQueue.add(new QueuedJob(job, tenant, priority, mNextSequenceNumber++));
+		mLogger.info("Queued job %s of %s with priority %s", job.getId(), tenant, priority);
+		scheduleQueuedJobs();
+		return true;
+	}
+
+	/**
+	 * Remove a job that was not scheduled yet.
+	 *
+	 * @return the removed job or null if there is no queued job with the given id
+	 */
+	public synchronized WebBackendToolchainJob remove(final String jobId) {
+		final Iterator<QueuedJob> iter = mQueue.iterator();
+		while (iter.hasNext()) {
+			final WebBackendToolchainJob job = iter.next().mJob;
+			if (job.getId().equals(jobId)) {
+				iter.remove();
+				return job;
+			}
+		}
+		return null;
+	}
+
+	private void scheduleQueuedJobs() {
+		final Iterator<QueuedJob> iter = mQueue.iterator();
+		while (mRunningJobs < mMaxRunningJobs && iter.hasNext()) {
+			final QueuedJob queuedJob = iter.next();
+			if (mRunningJobsPerTenant.getOrDefault(queuedJob.mTenant, 0) >= mMaxRunningJobsPerTenant) {
+				continue;
+			}
+			iter.remove();
+			schedule(queuedJob);
+		}
+	}
+
+	private void schedule(final QueuedJob queuedJob) {
+		mRunningJobs++;
+		mRunningJobsPerTenant.merge(queuedJob.mTenant, 1, Integer::sum);
+		queuedJob.mJob.addJobChangeListener(new JobChangeAdapter() {
+			@Override
+			public void done(final IJobChangeEvent event) {
+				finished(queuedJob);
+			}
+		});
+		mLogger.info("Scheduling job %s of %s (%s jobs running, %s jobs queued)", queuedJob.mJob.getId(),
+				queuedJob.mTenant, mRunningJobs, mQueue.size());
+		queuedJob.mJob.schedule();
+	}
+
+	private synchronized void finished(final QueuedJob queuedJob) {
+		mRunningJobs--;
+		mRunningJobsPerTenant.computeIfPresent(queuedJob.mTenant,
+				(tenant, running) -> running == 1 ? null : running - 1);
+		scheduleQueuedJobs();
+	}
+
+	private static final class QueuedJob {
+		private final WebBackendToolchainJob mJob;
+		private final String mTenant;
+		private final int mPriority;
+		private final long mSequenceNumber;
+
+		private QueuedJob(final WebBackendToolchainJob job, final String tenant, final int priority,
+				final long sequenceNumber) {
+			mJob = job;
+			mTenant = tenant;
+			mPriority = priority;
+			mSequenceNumber = sequenceNumber;
+		}
+	}
+}
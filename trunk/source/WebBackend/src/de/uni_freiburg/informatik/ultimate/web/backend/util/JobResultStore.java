@@ -1,10 +1,13 @@
 package de.uni_freiburg.informatik.ultimate.web.backend.util;
 
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import com.google.gson.Gson;
@@ -40,6 +43,50 @@ public class JobResultStore {
 		}
 	}
 
+	/**
+	 * Append a single object to the partial results of this job. Unlike {@link #store(Object)}, this does not rewrite
+	 * what was stored before.
+	 */
+	public void append(final Object obj) throws IOException {
+		if (obj == null) {
+			throw new IllegalStateException("No JSON payload");
+		}
+		try (final BufferedWriter writer = new BufferedWriter(new FileWriter(getPartialFile(), true))) {
+			writer.write(new Gson().toJson(obj));
+			writer.newLine();
+		}
+	}
+
+	/**
+	 * @return all objects that were appended with {@link #append(Object)}, or an empty list if there are none
+	 */
+	public <T> List<T> loadAppended(final Class<T> clazz) {
+		final List<T> rtr = new ArrayList<>();
+		final File file = getPartialFile();
+		if (!file.exists()) {
+			return rtr;
+		}
+		final Gson gson = new Gson();
+		try (final BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty()) {
+					rtr.add(gson.fromJson(line, clazz));
+				}
+			}
+		} catch (final IOException e) {
+			mLogger.warn("Could not read partial job results from %s: %s", file, e.getMessage());
+		}
+		return rtr;
+	}
+
+	public void deleteAppended() {
+		final File file = getPartialFile();
+		if (file.exists() && !file.delete()) {
+			mLogger.warn("Could not delete partial job results %s", file);
+		}
+	}
+
 	public <T> Optional<T> load(final Class<T> clazz) {
 		try {
 			final JsonReader reader = new JsonReader(new FileReader(getJsonFile()));
@@ -53,4 +100,8 @@ public class JobResultStore {
 		return FileUtil.getJobResultJsonFile(mJobId);
 	}
 
+	private File getPartialFile() {
+		return FileUtil.getJobPartialResultsFile(mJobId);
+	}
+
 }
@@ -72,6 +72,29 @@ public class Request {
 		return mParameterList;
 	}
 
+	/**
+	 * @return the tenant of this request, i.e., the user the servlet container authenticated or, if there is none, the
+	 *         remote address. The tenant is never taken from the request parameters, s.t. clients cannot choose it.
+	 */
+	public String getTenant() {
+		final String user = mRequest.getRemoteUser();
+		if (user != null) {
+			return "user:" + user;
+		}
+		return mRequest.getRemoteAddr();
+	}
+
+	/**
+	 * @return the value of the parameter or defaultValue if the parameter was not supplied
+	 */
+	public String getSingleParameter(final String parameterName, final String defaultValue)
+			throws IllegalArgumentException {
+		if (!getParameterList().containsKey(parameterName)) {
+			return defaultValue;
+		}
+		return getSingleParameter(parameterName);
+	}
+
 	public String getSingleParameter(final String parameterName) throws IllegalArgumentException {
 		final String[] parameters = getParameterList().get(parameterName);
 
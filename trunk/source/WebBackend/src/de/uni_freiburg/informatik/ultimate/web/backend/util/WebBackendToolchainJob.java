@@ -13,6 +13,7 @@ import de.uni_freiburg.informatik.ultimate.core.coreplugin.RcpProgressMonitorWra
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.exceptions.ParserInitializationException;
 import de.uni_freiburg.informatik.ultimate.core.coreplugin.toolchain.DefaultToolchainJob;
 import de.uni_freiburg.informatik.ultimate.core.lib.results.ExceptionOrErrorResult;
+import de.uni_freiburg.informatik.ultimate.core.lib.results.StatisticsResult;
 import de.uni_freiburg.informatik.ultimate.core.lib.toolchain.RunDefinition;
 import de.uni_freiburg.informatik.ultimate.core.model.IController;
 import de.uni_freiburg.informatik.ultimate.core.model.ICore;
@@ -20,6 +21,7 @@ import de.uni_freiburg.informatik.ultimate.core.model.IToolchain;
 import de.uni_freiburg.informatik.ultimate.core.model.IToolchain.ReturnCode;
 import de.uni_freiburg.informatik.ultimate.core.model.IToolchainData;
 import de.uni_freiburg.informatik.ultimate.core.model.IToolchainProgressMonitor;
+import de.uni_freiburg.informatik.ultimate.core.model.results.IResult;
 import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.web.backend.dto.ToolchainResponse;
@@ -29,6 +31,7 @@ public class WebBackendToolchainJob extends DefaultToolchainJob {
 
 	private final ILogger mServletLogger;
 	private final String mId;
+	private final Object mIntermediateResultLock;
 
 	public WebBackendToolchainJob(final String name, final ICore<RunDefinition> core,
 			final IController<RunDefinition> controller, final ILogger logger,
@@ -36,6 +39,7 @@ public class WebBackendToolchainJob extends DefaultToolchainJob {
 		super(name, core, controller, logger, toolchain);
 		mServletLogger = logger;
 		mId = id;
+		mIntermediateResultLock = new Object();
 	}
 
 	@Override
@@ -44,6 +48,7 @@ public class WebBackendToolchainJob extends DefaultToolchainJob {
 		tpm.beginTask(getName(), IProgressMonitor.UNKNOWN);
 
 		try {
+			storeIntermediateResults();
 			tpm.worked(1);
 
 			mToolchain.init(tpm);
@@ -61,6 +66,8 @@ public class WebBackendToolchainJob extends DefaultToolchainJob {
 						null);
 			}
 			setServices(chain.getServices());
+			mServices.getResultService().registerTransformer("WebBackend intermediate results",
+					this::addIntermediateResult);
 			tpm.worked(1);
 
 			mToolchain.runParsers();
@@ -79,6 +86,35 @@ public class WebBackendToolchainJob extends DefaultToolchainJob {
 		}
 	}
 
+	/**
+	 * Append each result as soon as it is reported, s.t. clients can poll the results while the toolchain is still
+	 * running. After the toolchain ended, {@link #storeToolchainResult(ReturnCode, Throwable)} replaces them.
+	 */
+	private IResult addIntermediateResult(final IResult result) {
+		if (!(result instanceof StatisticsResult<?>)) {
+			final UltimateResult converted = UltimateResultConverter.processResult(mServletLogger, result);
+			synchronized (mIntermediateResultLock) {
+				try {
+					ToolchainResponse.appendResult(mServletLogger, getId(), converted);
+				} catch (final IOException ex) {
+					mServletLogger.error("Could not store intermediate toolchain result", ex);
+				}
+			}
+		}
+		return result;
+	}
+
+	private void storeIntermediateResults() {
+		// the response has no results of its own, s.t. loading it returns the appended results
+		final ToolchainResponse tcResponse = new ToolchainResponse(getId());
+		tcResponse.setStatus("running");
+		try {
+			tcResponse.store(mServletLogger);
+		} catch (final IOException ex) {
+			mServletLogger.error("Could not store intermediate toolchain result", ex);
+		}
+	}
+
 	private void storeToolchainResult(final ReturnCode result, final Throwable e) {
 		final ToolchainResponse tcResponse = new ToolchainResponse(getId());
 		final IUltimateServiceProvider tcServices = mToolchain.getCurrentToolchainData().getServices();
@@ -118,6 +154,13 @@ public class WebBackendToolchainJob extends DefaultToolchainJob {
 		return mId;
 	}
 
+	/**
+	 * Release the toolchain of this job if the job is never scheduled.
+	 */
+	public void discard() {
+		releaseToolchain();
+	}
+
 	public CountDownLatch cancelToolchain() {
 		return mServices.getProgressMonitorService().cancelToolchain();
 	}
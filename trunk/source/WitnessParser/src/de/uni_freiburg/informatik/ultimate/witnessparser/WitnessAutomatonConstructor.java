@@ -26,19 +26,26 @@
  */
 package de.uni_freiburg.informatik.ultimate.witnessparser;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import org.apache.commons.collections15.Transformer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import de.uni_freiburg.informatik.ultimate.core.lib.results.InvalidWitnessErrorResult;
 import de.uni_freiburg.informatik.ultimate.core.model.models.IElement;
@@ -54,14 +61,6 @@ import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessGraphAnnot
 import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessLocation;
 import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessNode;
 import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessNodeAnnotation;
-import edu.uci.ics.jung.graph.DirectedSparseGraph;
-import edu.uci.ics.jung.io.GraphIOException;
-import edu.uci.ics.jung.io.graphml.AbstractMetadata;
-import edu.uci.ics.jung.io.graphml.EdgeMetadata;
-import edu.uci.ics.jung.io.graphml.GraphMLReader2;
-import edu.uci.ics.jung.io.graphml.GraphMetadata;
-import edu.uci.ics.jung.io.graphml.HyperEdgeMetadata;
-import edu.uci.ics.jung.io.graphml.NodeMetadata;
 
 /**
  *
@@ -70,6 +69,14 @@ import edu.uci.ics.jung.io.graphml.NodeMetadata;
  */
 public class WitnessAutomatonConstructor {
 
+	private static final String KEY = "key";
+	private static final String DEFAULT = "default";
+	private static final String GRAPH = "graph";
+	private static final String NODE = "node";
+	private static final String EDGE = "edge";
+	private static final String DATA = "data";
+	private static final String ALL = "all";
+
 	private final IUltimateServiceProvider mServices;
 	private final ILogger mLogger;
 	private Map<String, WitnessNode> mNodes;
@@ -81,9 +88,9 @@ public class WitnessAutomatonConstructor {
 		mLogger = services.getLoggingService().getLogger(Activator.PLUGIN_ID);
 	}
 
-	public IElement constructWitnessAutomaton(final File file) throws FileNotFoundException, GraphIOException {
-		final DirectedSparseGraph<WitnessNode, WitnessEdge> graph = getGraph(file);
-		if (graph == null) {
+	public IElement constructWitnessAutomaton(final File file) throws FileNotFoundException, XMLStreamException {
+		final List<WitnessNode> initialNodes = readGraph(file);
+		if (initialNodes == null) {
 			final IResult res = new InvalidWitnessErrorResult(Activator.PLUGIN_ID, "Witness file is invalid");
 			mWitnessType = Type.OTHER;
 			mLogger.error(res);
@@ -92,17 +99,13 @@ public class WitnessAutomatonConstructor {
 			return null;
 		}
 
-		// find starting element(s)
-		final Set<WitnessNode> initialNodes = graph.getVertices().stream()
-				.filter(WitnessAutomatonConstructor::isInitialNode).collect(Collectors.toSet());
-
 		if (initialNodes.size() > 1) {
 			throw new IllegalArgumentException("This file contains a witness with more than one initial location");
 		} else if (initialNodes.isEmpty()) {
 			throw new IllegalArgumentException("This file contains a witness without an initial location");
 		}
 
-		final WitnessNode initial = initialNodes.iterator().next();
+		final WitnessNode initial = initialNodes.get(0);
 		validate(initial);
 
 		printDebug(initial);
@@ -166,103 +169,186 @@ public class WitnessAutomatonConstructor {
 		mLogger.debug("Graph has " + closed.size() + 1 + " nodes and " + edgeCount + " edges");
 	}
 
-	private DirectedSparseGraph<WitnessNode, WitnessEdge> getGraph(final File file)
-			throws GraphIOException, FileNotFoundException {
+	/**
+	 * Read the GraphML file with a streaming XML parser. Nodes and edges are constructed directly while the file is
+	 * read, i.e., we neither keep the GraphML metadata of all elements nor build a separate graph.
+	 *
+	 * @return all nodes that are marked as entry nodes, or null if the file does not contain a graph
+	 */
+	private List<WitnessNode> readGraph(final File file) throws FileNotFoundException, XMLStreamException {
 		mNodes = new HashMap<>();
-		final GraphMLReader2<DirectedSparseGraph<WitnessNode, WitnessEdge>, WitnessNode, WitnessEdge> reader =
-				getGraphMLReader(file);
-		reader.init();
-		return reader.readGraph();
-	}
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
 
-	private GraphMLReader2<DirectedSparseGraph<WitnessNode, WitnessEdge>, WitnessNode, WitnessEdge>
-			getGraphMLReader(final File file) throws FileNotFoundException {
-		final Transformer<GraphMetadata, DirectedSparseGraph<WitnessNode, WitnessEdge>> graphTransformer =
-				getGraphTransformer();
-		final Transformer<NodeMetadata, WitnessNode> vertexTransformer = getVertexTransformer();
-		final Transformer<EdgeMetadata, WitnessEdge> edgeTransformer = getEdgeTransformer();
-		final Transformer<HyperEdgeMetadata, WitnessEdge> hyperEdgeTransformer = getHyperEdgeTransformer();
-		return new GraphMLReader2<>(new FileReader(file), graphTransformer, vertexTransformer, edgeTransformer,
-				hyperEdgeTransformer);
+		try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+			final XMLStreamReader reader = factory.createXMLStreamReader(input);
+			try {
+				return readGraph(reader);
+			} finally {
+				reader.close();
+			}
+		} catch (final FileNotFoundException e) {
+			throw e;
+		} catch (final IOException e) {
+			throw new XMLStreamException(e);
+		}
 	}
 
-	private static Transformer<HyperEdgeMetadata, WitnessEdge> getHyperEdgeTransformer() {
-		return arg0 -> null;
+	private List<WitnessNode> readGraph(final XMLStreamReader reader) throws XMLStreamException {
+		// default values of GraphML keys, by the element type they belong to
+		final Map<String, Map<String, String>> keyDefaults = new HashMap<>();
+		final List<WitnessNode> initialNodes = new ArrayList<>();
+		boolean containsGraph = false;
+		String keyId = null;
+		String keyFor = null;
+		Map<String, String> graphProperties = null;
+		Map<String, String> currentProperties = null;
+		String nodeId = null;
+		String edgeId = null;
+		String edgeSource = null;
+		String edgeTarget = null;
+
+		while (reader.hasNext()) {
+			final int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				switch (reader.getLocalName()) {
+				case KEY:
+					keyId = reader.getAttributeValue(null, "id");
+					keyFor = reader.getAttributeValue(null, "for");
+					break;
+				case DEFAULT:
+					if (keyId != null) {
+						keyDefaults.computeIfAbsent(keyFor == null ? ALL : keyFor, x -> new HashMap<>()).put(keyId,
+								reader.getElementText());
+					}
+					break;
+				case GRAPH:
+					containsGraph = true;
+					graphProperties = new HashMap<>();
+					currentProperties = graphProperties;
+					break;
+				case NODE:
+					nodeId = reader.getAttributeValue(null, "id");
+					currentProperties = new HashMap<>();
+					break;
+				case EDGE:
+					edgeId = reader.getAttributeValue(null, "id");
+					edgeSource = reader.getAttributeValue(null, "source");
+					edgeTarget = reader.getAttributeValue(null, "target");
+					currentProperties = new HashMap<>();
+					break;
+				case DATA:
+					final String key = reader.getAttributeValue(null, KEY);
+					final String value = reader.getElementText();
+					if (currentProperties != null && key != null) {
+						currentProperties.put(key, value);
+					}
+					break;
+				default:
+					break;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				switch (reader.getLocalName()) {
+				case KEY:
+					keyId = null;
+					keyFor = null;
+					break;
+				case NODE:
+					applyDefaults(keyDefaults, NODE, currentProperties);
+					final WitnessNode node = createNode(nodeId, currentProperties);
+					if (isInitialNode(node)) {
+						initialNodes.add(node);
+					}
+					currentProperties = graphProperties;
+					break;
+				case EDGE:
+					applyDefaults(keyDefaults, EDGE, currentProperties);
+					createEdge(edgeId, edgeSource, edgeTarget, currentProperties);
+					currentProperties = graphProperties;
+					break;
+				case GRAPH:
+					applyDefaults(keyDefaults, GRAPH, graphProperties);
+					createGraphAnnotation(graphProperties);
+					currentProperties = null;
+					break;
+				default:
+					break;
+				}
+			}
+		}
+		return containsGraph ? initialNodes : null;
 	}
 
-	private Transformer<EdgeMetadata, WitnessEdge> getEdgeTransformer() {
-		return data -> {
-
-			final WitnessNode source = createNode(data.getSource());
-			final WitnessNode target = createNode(data.getTarget());
-
-			final int startline = getIntProperty(data, "startline");
-			final int endline = getIntProperty(data, "endline");
-
-			// TODO: Calculate column from offsets
-			// final int startoffset = getIntProperty(data, "startoffset");
-			// final int endoffset = getIntProperty(data, "endoffset");
-
-			final String orgfile = data.getProperties().get("originfile");
-			final String sourcecode = data.getProperties().get("sourcecode");
-
-			final WitnessLocation loc = new WitnessLocation(orgfile, startline, endline);
-			final WitnessEdge edge = new WitnessEdge(source, target, data.getId(), loc, sourcecode);
-
-			//@formatter:off
-			final WitnessEdgeAnnotation annot = new WitnessEdgeAnnotation(
-					transformControlToBooleanString(data.getProperties().get("control")),
-					data.getProperties().get("enterLoopHead"),
-					data.getProperties().get("enterFunction"),
-					data.getProperties().get("returnFrom"),
-					data.getProperties().get("tokens"),
-					data.getProperties().get("assumption")
-			);
-			//@formatter:on
-			if (!annot.isEmpty()) {
-				annot.annotate(edge);
+	private static void applyDefaults(final Map<String, Map<String, String>> keyDefaults, final String elementType,
+			final Map<String, String> properties) {
+		for (final String type : new String[] { elementType, ALL }) {
+			final Map<String, String> defaults = keyDefaults.get(type);
+			if (defaults == null) {
+				continue;
+			}
+			for (final Entry<String, String> entry : defaults.entrySet()) {
+				properties.putIfAbsent(entry.getKey(), entry.getValue());
 			}
-			return edge;
-		};
+		}
 	}
 
-	private Transformer<NodeMetadata, WitnessNode> getVertexTransformer() {
-		return data -> {
-			final WitnessNode node = createNode(data.getId());
-
-			//@formatter:off
-			final WitnessNodeAnnotation annot = new WitnessNodeAnnotation(
-					getBoolProperty(data, "entry"),
-					getBoolProperty(data, "violation"),
-					getBoolProperty(data, "sink"),
-					data.getProperties().get("invariant")
-			);
-			//@formatter:on
-
-			if (!annot.isDefault()) {
-				annot.annotate(node);
-			}
-			return node;
-		};
+	private void createEdge(final String id, final String sourceId, final String targetId,
+			final Map<String, String> properties) {
+		final WitnessNode source = createNode(sourceId);
+		final WitnessNode target = createNode(targetId);
+
+		final int startline = getIntProperty(properties, "startline");
+		final int endline = getIntProperty(properties, "endline");
+
+		// TODO: Calculate column from offsets
+		// final int startoffset = getIntProperty(properties, "startoffset");
+		// final int endoffset = getIntProperty(properties, "endoffset");
+
+		final String orgfile = properties.get("originfile");
+		final String sourcecode = properties.get("sourcecode");
+
+		final WitnessLocation loc = new WitnessLocation(orgfile, startline, endline);
+		final WitnessEdge edge = new WitnessEdge(source, target, id, loc, sourcecode);
+
+		//@formatter:off
+		final WitnessEdgeAnnotation annot = new WitnessEdgeAnnotation(
+				transformControlToBooleanString(properties.get("control")),
+				properties.get("enterLoopHead"),
+				properties.get("enterFunction"),
+				properties.get("returnFrom"),
+				properties.get("tokens"),
+				properties.get("assumption")
+		);
+		//@formatter:on
+		if (!annot.isEmpty()) {
+			annot.annotate(edge);
+		}
 	}
 
-	private Transformer<GraphMetadata, DirectedSparseGraph<WitnessNode, WitnessEdge>> getGraphTransformer() {
-		return gm -> {
-			final String sourcecodelang = gm.getProperty("sourcecodelang");
-			final WitnessType witnesstype = (WitnessType) getEnumProperty(WitnessGraphAnnotation.WitnessType.class, gm,
-					"witness-type", WitnessGraphAnnotation.WitnessType.VIOLATION_WITNESS);
-			mGraphAnnotation = new WitnessGraphAnnotation(sourcecodelang, witnesstype);
+	private WitnessNode createNode(final String id, final Map<String, String> properties) {
+		final WitnessNode node = createNode(id);
 
-			final DirectedSparseGraph<WitnessNode, WitnessEdge> graph = new DirectedSparseGraph<>();
-			for (final Entry<Object, NodeMetadata> e1 : gm.getNodeMap().entrySet()) {
-				graph.addVertex((WitnessNode) e1.getKey());
-			}
-			for (final Entry<Object, EdgeMetadata> e2 : gm.getEdgeMap().entrySet()) {
-				final WitnessEdge edge = (WitnessEdge) e2.getKey();
-				graph.addEdge(edge, edge.getSource(), edge.getTarget());
-			}
-			return graph;
-		};
+		//@formatter:off
+		final WitnessNodeAnnotation annot = new WitnessNodeAnnotation(
+				getBoolProperty(properties, "entry"),
+				getBoolProperty(properties, "violation"),
+				getBoolProperty(properties, "sink"),
+				properties.get("invariant")
+		);
+		//@formatter:on
+
+		if (!annot.isDefault()) {
+			annot.annotate(node);
+		}
+		return node;
+	}
+
+	private void createGraphAnnotation(final Map<String, String> properties) {
+		final String sourcecodelang = properties.get("sourcecodelang");
+		final WitnessType witnesstype = (WitnessType) getEnumProperty(WitnessGraphAnnotation.WitnessType.class,
+				properties, "witness-type", WitnessGraphAnnotation.WitnessType.VIOLATION_WITNESS);
+		mGraphAnnotation = new WitnessGraphAnnotation(sourcecodelang, witnesstype);
 	}
 
 	private static String transformControlToBooleanString(final String controlString) {
@@ -278,30 +364,30 @@ public class WitnessAutomatonConstructor {
 		throw new IllegalArgumentException("control cannot have this value: " + controlString);
 	}
 
-	private static boolean getBoolProperty(final NodeMetadata data, final String key) {
-		final String entry = data.getProperties().get(key);
+	private static boolean getBoolProperty(final Map<String, String> properties, final String key) {
+		final String entry = properties.get(key);
 		return entry != null && Boolean.valueOf(entry);
 	}
 
-	private <T extends Enum<T>> Enum<T> getEnumProperty(final Class<T> clazz, final AbstractMetadata data,
+	private <T extends Enum<T>> Enum<T> getEnumProperty(final Class<T> clazz, final Map<String, String> properties,
 			final String key, final T defaultValue) {
-		final String entry = data.getProperties().get(key);
+		final String entry = properties.get(key);
 		if (entry == null) {
 			mLogger.warn("Your witness does not contain a value for " + key + " in element type "
-					+ data.getMetadataType() + ". Assuming default value \"" + defaultValue + "\"");
+					+ GRAPH + ". Assuming default value \"" + defaultValue + "\"");
 			return defaultValue;
 		}
 		try {
 			return Enum.valueOf(clazz, entry.toUpperCase());
 		} catch (final IllegalArgumentException ex) {
 			mLogger.error("Your witness contains an illegal value for " + key + " in element type "
-					+ data.getMetadataType() + ": \"" + entry + "\". Assuming default value \"" + defaultValue + "\"");
+					+ GRAPH + ": \"" + entry + "\". Assuming default value \"" + defaultValue + "\"");
 			return defaultValue;
 		}
 	}
 
-	private static int getIntProperty(final EdgeMetadata data, final String key) {
-		final String entry = data.getProperties().get(key);
+	private static int getIntProperty(final Map<String, String> properties, final String key) {
+		final String entry = properties.get(key);
 
 		// set line to line if there is a valid line, -1 otherwise
 		int value = 0;
@@ -34,6 +34,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.stream.XMLStreamException;
+
 import de.uni_freiburg.informatik.ultimate.core.lib.results.InvalidWitnessErrorResult;
 import de.uni_freiburg.informatik.ultimate.core.lib.results.InvalidWitnessErrorResult.InvalidWitnessReasons;
 import de.uni_freiburg.informatik.ultimate.core.model.ISource;
@@ -45,7 +47,6 @@ import de.uni_freiburg.informatik.ultimate.core.model.services.ILogger;
 import de.uni_freiburg.informatik.ultimate.core.model.services.IUltimateServiceProvider;
 import de.uni_freiburg.informatik.ultimate.witnessparser.preferences.WitnessParserPreferences;
 import de.uni_freiburg.informatik.ultimate.witnessparser.yaml.Witness;
-import edu.uci.ics.jung.io.GraphIOException;
 
 /**
  * @author Daniel Dietsch (dietsch@informatik.uni-freiburg.de)
@@ -132,7 +133,7 @@ public class WitnessParser implements ISource {
 			return rtr;
 		} catch (final FileNotFoundException e) {
 			reportInvalidWitnessResult(e.getMessage(), InvalidWitnessReasons.FILE_NOT_FOUND);
-		} catch (final GraphIOException e) {
+		} catch (final XMLStreamException e) {
 			reportInvalidWitnessResult(e.getMessage(), InvalidWitnessReasons.XML_INVALID);
 		}
 		mWitnessType = Type.OTHER;
@@ -29,9 +29,11 @@
 
 package de.uni_freiburg.informatik.ultimate.witnessparser;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -66,8 +68,10 @@ public class YamlWitnessParser {
 	public static Witness parseWitness(final File yamlInput) throws IOException {
 		final LoaderOptions loaderOptions = new LoaderOptions();
 		loaderOptions.setCodePointLimit(MAXIMAL_SIZE);
-		final List<Map<String, Object>> res =
-				new Yaml(new SafeConstructor(loaderOptions)).load(new FileInputStream(yamlInput));
+		final List<Map<String, Object>> res;
+		try (InputStream input = new BufferedInputStream(new FileInputStream(yamlInput))) {
+			res = new Yaml(new SafeConstructor(loaderOptions)).load(input);
+		}
 		return new Witness(res.stream().flatMap(YamlWitnessParser::parseWitnessEntry).collect(Collectors.toList()));
 	}
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE WitnessParser plug-in.
+ *
+ * The ULTIMATE WitnessParser plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE WitnessParser plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE WitnessParser plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE WitnessParser plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE WitnessParser plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.witnessparser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import de.uni_freiburg.informatik.ultimate.test.util.TestUtil;
+
+/**
+ * Compares the witness automata that {@link WitnessAutomatonConstructor} builds from the GraphML witnesses in the
+ * examples with those of the JUNG-based reader it replaced. Many of these witnesses declare keys with default values.
+ */
+@RunWith(Parameterized.class)
+public class ExampleWitnessesTest {
+
+	private static final String EXAMPLES = "examples";
+
+	private final File mWitness;
+
+	public ExampleWitnessesTest(final String name, final File witness) {
+		mWitness = witness;
+	}
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> data() {
+		final File examples = new File(TestUtil.getPathFromTrunk(EXAMPLES));
+		final List<Object[]> rtr = new ArrayList<>();
+		for (final File witness : TestUtil.getFiles(examples, ".graphml")) {
+			rtr.add(new Object[] { examples.toPath().relativize(witness.toPath()).toString(), witness });
+		}
+		rtr.sort((a, b) -> ((String) a[0]).compareTo((String) b[0]));
+		return rtr;
+	}
+
+	@Test
+	public void sameAutomatonAsJung() throws Exception {
+		WitnessAutomatonConstructorTest.assertSameAutomatonAsJung(mWitness);
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE WitnessParser plug-in.
+ *
+ * The ULTIMATE WitnessParser plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE WitnessParser plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE WitnessParser plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE WitnessParser plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE WitnessParser plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.witnessparser;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.collections15.Transformer;
+
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessEdge;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessEdgeAnnotation;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessGraphAnnotation;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessGraphAnnotation.WitnessType;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessLocation;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessNode;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessNodeAnnotation;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.io.GraphIOException;
+import edu.uci.ics.jung.io.graphml.EdgeMetadata;
+import edu.uci.ics.jung.io.graphml.GraphMLReader2;
+import edu.uci.ics.jung.io.graphml.GraphMetadata;
+import edu.uci.ics.jung.io.graphml.NodeMetadata;
+
+/**
+ * Reads GraphML witnesses with JUNG's {@link GraphMLReader2}, as {@link WitnessAutomatonConstructor} did before it
+ * read them with StAX. Serves as reference for the output of {@link WitnessAutomatonConstructor}.
+ */
+public class JungWitnessReader {
+
+	private final Map<String, WitnessNode> mNodes = new HashMap<>();
+	private WitnessGraphAnnotation mGraphAnnotation;
+
+	/**
+	 * @return the graph of the witness in the given file. The graph annotation is not yet attached to a node, see
+	 *         {@link #getGraphAnnotation()}.
+	 */
+	public DirectedSparseGraph<WitnessNode, WitnessEdge> read(final File file) throws IOException, GraphIOException {
+		try (Reader input = new FileReader(file)) {
+			final GraphMLReader2<DirectedSparseGraph<WitnessNode, WitnessEdge>, WitnessNode, WitnessEdge> reader =
+					new GraphMLReader2<>(input, getGraphTransformer(), getVertexTransformer(), getEdgeTransformer(),
+							data -> null);
+			reader.init();
+			try {
+				return reader.readGraph();
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	public WitnessGraphAnnotation getGraphAnnotation() {
+		return mGraphAnnotation;
+	}
+
+	private Transformer<EdgeMetadata, WitnessEdge> getEdgeTransformer() {
+		return data -> {
+			final WitnessNode source = createNode(data.getSource());
+			final WitnessNode target = createNode(data.getTarget());
+			final Map<String, String> properties = data.getProperties();
+			final WitnessLocation loc = new WitnessLocation(properties.get("originfile"),
+					getIntProperty(properties, "startline"), getIntProperty(properties, "endline"));
+			final WitnessEdge edge = new WitnessEdge(source, target, data.getId(), loc, properties.get("sourcecode"));
+			final WitnessEdgeAnnotation annot =
+					new WitnessEdgeAnnotation(transformControlToBooleanString(properties.get("control")),
+							properties.get("enterLoopHead"), properties.get("enterFunction"),
+							properties.get("returnFrom"), properties.get("tokens"), properties.get("assumption"));
+			if (!annot.isEmpty()) {
+				annot.annotate(edge);
+			}
+			return edge;
+		};
+	}
+
+	private Transformer<NodeMetadata, WitnessNode> getVertexTransformer() {
+		return data -> {
+			final WitnessNode node = createNode(data.getId());
+			final Map<String, String> properties = data.getProperties();
+			final WitnessNodeAnnotation annot = new WitnessNodeAnnotation(getBoolProperty(properties, "entry"),
+					getBoolProperty(properties, "violation"), getBoolProperty(properties, "sink"),
+					properties.get("invariant"));
+			if (!annot.isDefault()) {
+				annot.annotate(node);
+			}
+			return node;
+		};
+	}
+
+	private Transformer<GraphMetadata, DirectedSparseGraph<WitnessNode, WitnessEdge>> getGraphTransformer() {
+		return gm -> {
+			mGraphAnnotation =
+					new WitnessGraphAnnotation(gm.getProperty("sourcecodelang"), getWitnessType(gm.getProperties()));
+			final DirectedSparseGraph<WitnessNode, WitnessEdge> graph = new DirectedSparseGraph<>();
+			for (final Entry<Object, NodeMetadata> entry : gm.getNodeMap().entrySet()) {
+				graph.addVertex((WitnessNode) entry.getKey());
+			}
+			for (final Entry<Object, EdgeMetadata> entry : gm.getEdgeMap().entrySet()) {
+				final WitnessEdge edge = (WitnessEdge) entry.getKey();
+				graph.addEdge(edge, edge.getSource(), edge.getTarget());
+			}
+			return graph;
+		};
+	}
+
+	private static WitnessType getWitnessType(final Map<String, String> properties) {
+		final String entry = properties.get("witness-type");
+		if (entry == null) {
+			return WitnessType.VIOLATION_WITNESS;
+		}
+		try {
+			return WitnessType.valueOf(entry.toUpperCase());
+		} catch (final IllegalArgumentException ex) {
+			return WitnessType.VIOLATION_WITNESS;
+		}
+	}
+
+	private static String transformControlToBooleanString(final String controlString) {
+		if (controlString == null) {
+			return null;
+		}
+		if ("condition-true".equalsIgnoreCase(controlString)) {
+			return "true";
+		}
+		if ("condition-false".equalsIgnoreCase(controlString)) {
+			return "false";
+		}
+		throw new IllegalArgumentException("control cannot have this value: " + controlString);
+	}
+
+	private static boolean getBoolProperty(final Map<String, String> properties, final String key) {
+		final String entry = properties.get(key);
+		return entry != null && Boolean.valueOf(entry);
+	}
+
+	private static int getIntProperty(final Map<String, String> properties, final String key) {
+		final String entry = properties.get(key);
+		if (entry == null) {
+			return -1;
+		}
+		try {
+			return Integer.valueOf(entry);
+		} catch (final NumberFormatException ex) {
+			return -1;
+		}
+	}
+
+	private WitnessNode createNode(final String id) {
+		return mNodes.computeIfAbsent(id, WitnessNode::new);
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of the ULTIMATE WitnessParser plug-in.
+ *
+ * The ULTIMATE WitnessParser plug-in is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * The ULTIMATE WitnessParser plug-in is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the ULTIMATE WitnessParser plug-in. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Additional permission under GNU GPL version 3 section 7:
+ * If you modify the ULTIMATE WitnessParser plug-in, or any covered work, by linking
+ * or combining it with Eclipse RCP (or a modified version of Eclipse RCP),
+ * containing parts covered by the terms of the Eclipse Public License, the
+ * licensors of the ULTIMATE WitnessParser plug-in grant you additional permission
+ * to convey the resulting work.
+ */
+package de.uni_freiburg.informatik.ultimate.witnessparser;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.uni_freiburg.informatik.ultimate.core.model.models.ILocation;
+import de.uni_freiburg.informatik.ultimate.core.model.models.ModelType;
+import de.uni_freiburg.informatik.ultimate.test.mocks.UltimateMocks;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessEdge;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessEdgeAnnotation;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessGraphAnnotation;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessNode;
+import de.uni_freiburg.informatik.ultimate.witnessparser.graph.WitnessNodeAnnotation;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+
+/**
+ * Compares the witness automata that {@link WitnessAutomatonConstructor} builds with those of the JUNG-based reader
+ * it replaced, see {@link JungWitnessReader}. The witnesses in the examples are compared in
+ * {@link ExampleWitnessesTest}.
+ */
+public class WitnessAutomatonConstructorTest {
+
+	@Rule
+	public TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Keys with a default value for nodes, edges, the graph and all elements, where some elements override the
+	 * default.
+	 */
+	@Test
+	public void keyDefaultsAreApplied() throws Exception {
+		final File witness = mFolder.newFile("defaults.graphml");
+		Files.write(witness.toPath(), Arrays.asList("<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+				"<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">",
+				" <key id=\"entry\" for=\"node\" attr.name=\"isEntryNode\"><default>false</default></key>",
+				" <key id=\"sink\" for=\"node\" attr.name=\"isSinkNode\"><default>true</default></key>",
+				" <key id=\"violation\" for=\"node\" attr.name=\"isViolationNode\"/>",
+				" <key id=\"witness-type\" for=\"graph\"><default>correctness_witness</default></key>",
+				" <key id=\"sourcecodelang\" for=\"graph\"/>",
+				" <key id=\"originfile\" for=\"edge\"><default>main.c</default></key>",
+				" <key id=\"startline\" for=\"all\"><default>7</default></key>",
+				" <key id=\"control\" for=\"edge\"/>",
+				" <key id=\"invariant\" for=\"node\"><default>x == 0</default></key>",
+				" <graph edgedefault=\"directed\">",
+				"  <data key=\"sourcecodelang\">C</data>",
+				"  <node id=\"N0\"><data key=\"entry\">true</data><data key=\"sink\">false</data></node>",
+				"  <node id=\"N1\"><data key=\"invariant\">x &gt; 0</data></node>",
+				"  <node id=\"N2\"><data key=\"violation\">true</data></node>",
+				"  <edge id=\"E0\" source=\"N0\" target=\"N1\"><data key=\"control\">condition-true</data></edge>",
+				"  <edge id=\"E1\" source=\"N1\" target=\"N2\"><data key=\"startline\">9</data>",
+				"   <data key=\"originfile\">other.c</data></edge>",
+				"  <edge id=\"E2\" source=\"N1\" target=\"N0\"/>", " </graph>", "</graphml>"),
+				StandardCharsets.UTF_8);
+		final List<String> automaton = assertSameAutomatonAsJung(witness);
+		Assert.assertTrue(automaton.toString(), automaton.contains("graph C CORRECTNESS_WITNESS"));
+		Assert.assertTrue(automaton.toString(), automaton.contains("node N1 [false, false, true, x > 0]"));
+		Assert.assertTrue(automaton.toString(), automaton.contains("edge E1 N1->N2 other.c:9-9 null null"));
+		Assert.assertTrue(automaton.toString(), automaton.contains("edge E2 N1->N0 main.c:7-7 null null"));
+	}
+
+	/**
+	 * Read the given witness with both readers and check that they give the same witness type and the same nodes and
+	 * edges with the same annotations.
+	 *
+	 * @return the description of the automaton, see {@link #describe(WitnessNode)}
+	 */
+	static List<String> assertSameAutomatonAsJung(final File witness) throws Exception {
+		final JungWitnessReader reference = new JungWitnessReader();
+		final DirectedSparseGraph<WitnessNode, WitnessEdge> graph = reference.read(witness);
+		final List<WitnessNode> referenceInitials = graph.getVertices().stream()
+				.filter(a -> WitnessNodeAnnotation.getAnnotation(a) != null
+						&& WitnessNodeAnnotation.getAnnotation(a).isInitial())
+				.collect(Collectors.toList());
+
+		final WitnessAutomatonConstructor constructor =
+				new WitnessAutomatonConstructor(UltimateMocks.createUltimateServiceProviderMock());
+		if (referenceInitials.size() != 1) {
+			Assert.assertThrows(IllegalArgumentException.class, () -> constructor.constructWitnessAutomaton(witness));
+			return Collections.emptyList();
+		}
+		final WitnessNode initial = (WitnessNode) constructor.constructWitnessAutomaton(witness);
+		final WitnessNode referenceInitial = referenceInitials.get(0);
+		reference.getGraphAnnotation().annotate(referenceInitial);
+
+		final List<String> expected = describe(referenceInitial);
+		Assert.assertEquals(expected, describe(initial));
+		Assert.assertEquals(getWitnessType(reference.getGraphAnnotation()), constructor.getWitnessType());
+		return expected;
+	}
+
+	/**
+	 * @return a sorted description of the graph annotation and of all nodes and edges that are reachable from the
+	 *         initial node
+	 */
+	private static List<String> describe(final WitnessNode initial) {
+		final WitnessGraphAnnotation graphAnnot = WitnessGraphAnnotation.getAnnotation(initial);
+		final List<String> rtr = new ArrayList<>();
+		rtr.add("graph " + graphAnnot.getSourceCodeLanguage() + " " + graphAnnot.getWitnessType());
+		final Set<WitnessNode> visited = new HashSet<>();
+		final Deque<WitnessNode> worklist = new ArrayDeque<>();
+		worklist.add(initial);
+		while (!worklist.isEmpty()) {
+			final WitnessNode node = worklist.removeFirst();
+			if (!visited.add(node)) {
+				continue;
+			}
+			rtr.add("node " + node.getName() + " " + describe(WitnessNodeAnnotation.getAnnotation(node)));
+			for (final WitnessEdge edge : node.getOutgoingEdges()) {
+				rtr.add("edge " + edge.getName() + " " + node.getName() + "->" + edge.getTarget().getName() + " "
+						+ describe(edge.getLocation()) + " " + edge.getSourceCode() + " "
+						+ describe(WitnessEdgeAnnotation.getAnnotation(edge)));
+				worklist.add(edge.getTarget());
+			}
+		}
+		Collections.sort(rtr);
+		return rtr;
+	}
+
+	private static String describe(final WitnessNodeAnnotation annot) {
+		if (annot == null) {
+			return "null";
+		}
+		return Arrays.asList(annot.isInitial(), annot.isError(), annot.isSink(), annot.getInvariant()).toString();
+	}
+
+	private static String describe(final WitnessEdgeAnnotation annot) {
+		if (annot == null) {
+			return "null";
+		}
+		return Arrays.asList(annot.getCondition(), annot.getEnterLoopHead(), annot.getEnterFrom(),
+				annot.getReturnFrom(), annot.getTokens(), annot.getAssumption()).toString();
+	}
+
+	private static String describe(final ILocation loc) {
+		return loc.getFileName() + ":" + loc.getStartLine() + "-" + loc.getEndLine();
+	}
+
+	private static ModelType.Type getWitnessType(final WitnessGraphAnnotation annot) {
+		switch (annot.getWitnessType()) {
+		case VIOLATION_WITNESS:
+			return ModelType.Type.VIOLATION_WITNESS;
+		case CORRECTNESS_WITNESS:
+			return ModelType.Type.CORRECTNESS_WITNESS;
+		default:
+			return ModelType.Type.OTHER;
+		}
+	}
+}
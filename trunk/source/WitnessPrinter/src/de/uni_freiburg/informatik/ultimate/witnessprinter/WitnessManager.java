@@ -28,10 +28,14 @@ package de.uni_freiburg.informatik.ultimate.witnessprinter;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -85,7 +89,6 @@ public class WitnessManager {
 		for (final ResultWitness witness : witnesses) {
 			final IResult cex = witness.getResult();
 			final String originalFile = witness.getSourceFile();
-			final String svcompWitness = witness.getWitnessString();
 			final String witnessEnding = witness.getWitnessEnding();
 
 			final String witnessDir = ups.getString(PreferenceInitializer.LABEL_WITNESS_DIRECTORY);
@@ -103,25 +106,25 @@ public class WitnessManager {
 			final List<String> filenamesToDelete = new ArrayList<>();
 
 			String filename = null;
-			if (svcompWitness != null) {
+			if (witness.hasWitness()) {
 				if (writeBesideInputFile) {
 					filename = createWitnessFilenameWriteBeside(originalFile, prefix, witnessEnding);
 				} else {
 					filename = createWitnessFilename(witnessDir, witnessFilename, prefix);
 				}
-				writeWitness(svcompWitness, filename);
+				writeWitness(witness, filename);
 				filenamesToDelete.add(filename);
 			}
 
 			if (ups.getBoolean(PreferenceInitializer.LABEL_WITNESS_VERIFY)) {
-				if (svcompWitness == null) {
+				if (!witness.hasWitness()) {
 					reportWitnessResult(null, cex, WitnessVerificationStatus.INTERNAL_ERROR,
 							WitnessVerificationStatus.VERIFIED);
 				} else {
-					checkWitness(filename, cex, originalFile, svcompWitness);
+					checkWitness(filename, cex, originalFile, witness.getWitnessString());
 				}
 			} else if (ups.getBoolean(PreferenceInitializer.LABEL_WITNESS_LOG)) {
-				reportWitnessResult(svcompWitness, cex, WitnessVerificationStatus.UNVERIFIED,
+				reportWitnessResult(witness.getWitnessString(), cex, WitnessVerificationStatus.UNVERIFIED,
 						WitnessVerificationStatus.UNVERIFIED);
 			}
 
@@ -143,10 +146,18 @@ public class WitnessManager {
 		}
 	}
 
-	private void writeWitness(final String svcompWitness, final String filename) {
+	private void writeWitness(final ResultWitness witness, final String filename) {
+		final Path path = Paths.get(filename);
 		try {
-			final File file = CoreUtil.writeFile(filename, svcompWitness);
-			mLogger.info("Wrote witness to " + file.getCanonicalFile().getAbsolutePath());
+			final Path parent = path.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			// the witness closes the writer itself, but we still want it closed if something goes wrong
+			try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				witness.writeWitness(writer);
+			}
+			mLogger.info("Wrote witness to " + path.toFile().getCanonicalFile().getAbsolutePath());
 		} catch (final IOException e) {
 			mLogger.fatal("Something went wrong during writing of a witness", e);
 		}
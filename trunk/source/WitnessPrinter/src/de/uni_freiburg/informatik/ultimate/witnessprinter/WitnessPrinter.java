@@ -28,6 +28,8 @@
 package de.uni_freiburg.informatik.ultimate.witnessprinter;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -185,9 +187,9 @@ public class WitnessPrinter implements IOutput {
 		for (final CounterExampleResult<?, ?, ?> cex : cexResults) {
 			final IProgramExecution<?, ?> backtransPe = backtrans.translateProgramExecution(cex.getProgramExecution());
 			if (createGraphML) {
-				final String witness =
-						new GraphMLViolationWitnessGenerator<>(backtransPe, mLogger, mServices).makeGraphMLString();
-				suppliers.add(new ResultWitness(filename, GRAPHML, witness, cex));
+				final GraphMLViolationWitnessGenerator<?, ?> generator =
+						new GraphMLViolationWitnessGenerator<>(backtransPe, mLogger, mServices);
+				suppliers.add(new ResultWitness(filename, GRAPHML, generator::writeGraphML, cex));
 			}
 			// TODO: Add support for YAML
 		}
@@ -206,8 +208,8 @@ public class WitnessPrinter implements IOutput {
 
 		for (final LassoShapedNonTerminationArgument<?, ?> cex : cexResults) {
 			if (createGraphML) {
-				final String witness = getWitness(backtrans, cex);
-				suppliers.add(new ResultWitness(filename, GRAPHML, witness, cex));
+				final GraphMLViolationWitnessGenerator<?, ?> generator = getWitnessGenerator(backtrans, cex);
+				suppliers.add(new ResultWitness(filename, GRAPHML, generator::writeGraphML, cex));
 			}
 			// TODO: Add support for YAML
 		}
@@ -215,13 +217,13 @@ public class WitnessPrinter implements IOutput {
 	}
 
 	@SuppressWarnings("unchecked")
-	private <TE, T> String getWitness(final IBacktranslationService backtrans,
+	private <TE, T> GraphMLViolationWitnessGenerator<TE, T> getWitnessGenerator(final IBacktranslationService backtrans,
 			final LassoShapedNonTerminationArgument<?, ?> cex) {
 		final IProgramExecution<TE, T> stem =
 				(IProgramExecution<TE, T>) backtrans.translateProgramExecution(cex.getStemExecution());
 		final IProgramExecution<TE, T> loop =
 				(IProgramExecution<TE, T>) backtrans.translateProgramExecution(cex.getLoopExecution());
-		return new GraphMLViolationWitnessGenerator<>(stem, loop, mLogger, mServices).makeGraphMLString();
+		return new GraphMLViolationWitnessGenerator<>(stem, loop, mLogger, mServices);
 	}
 
 	@Override
@@ -239,17 +241,40 @@ public class WitnessPrinter implements IOutput {
 		return new PreferenceInitializer();
 	}
 
+	/**
+	 * Writes a witness to a {@link Writer} and closes the writer afterwards.
+	 */
+	@FunctionalInterface
+	public interface IWitnessWriter {
+		void write(Writer writer) throws IOException;
+	}
+
 	public static class ResultWitness {
 		private final String mSourceFile;
 		private final String mWitnessEnding;
-		private final String mWitnessString;
+		private final IWitnessWriter mWitnessWriter;
 		private final IResult mResult;
+		private String mWitnessString;
 
 		public ResultWitness(final String sourceFile, final String witnessEnding, final String witnessString,
 				final IResult result) {
+			this(sourceFile, witnessEnding, witnessString == null ? null : writer -> {
+				try (Writer w = writer) {
+					w.write(witnessString);
+				}
+			}, result);
+			mWitnessString = witnessString;
+		}
+
+		/**
+		 * Create a witness that is only rendered when it is written, s.t. large witnesses can be streamed directly to
+		 * a file without being materialized as a string.
+		 */
+		public ResultWitness(final String sourceFile, final String witnessEnding, final IWitnessWriter witnessWriter,
+				final IResult result) {
 			mSourceFile = sourceFile;
 			mWitnessEnding = witnessEnding;
-			mWitnessString = witnessString;
+			mWitnessWriter = witnessWriter;
 			mResult = result;
 		}
 
@@ -261,7 +286,27 @@ public class WitnessPrinter implements IOutput {
 			return mWitnessEnding;
 		}
 
-		public String getWitnessString() {
+		public boolean hasWitness() {
+			return mWitnessWriter != null;
+		}
+
+		/**
+		 * Write the witness to the given writer and close it afterwards.
+		 */
+		public void writeWitness(final Writer writer) throws IOException {
+			mWitnessWriter.write(writer);
+		}
+
+		/**
+		 * @return The witness as string or null if there is no witness. The string is only created on demand; prefer
+		 *         {@link #writeWitness(Writer)} if the witness should end up in a file.
+		 */
+		public String getWitnessString() throws IOException {
+			if (mWitnessString == null && mWitnessWriter != null) {
+				final StringWriter writer = new StringWriter();
+				mWitnessWriter.write(writer);
+				mWitnessString = writer.toString();
+			}
 			return mWitnessString;
 		}
 
@@ -28,6 +28,7 @@ package de.uni_freiburg.informatik.ultimate.witnessprinter.graphml;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,12 +45,14 @@ import de.uni_freiburg.informatik.ultimate.core.model.translation.AtomicTraceEle
 import de.uni_freiburg.informatik.ultimate.core.model.translation.IBacktranslationValueProvider;
 import de.uni_freiburg.informatik.ultimate.core.model.translation.IProgramExecution;
 import de.uni_freiburg.informatik.ultimate.core.model.translation.IProgramExecution.ProgramState;
-import edu.uci.ics.jung.graph.DirectedSparseGraph;
-import edu.uci.ics.jung.graph.Hypergraph;
+import de.uni_freiburg.informatik.ultimate.witnessprinter.graphml.UltimateGraphMLWriter.GraphMLStream;
 
 /**
  * Generates an SVCOMP witness from a {@link IProgramExecution} (i.e., a false witness). Probably only useful together
  * with {@link CACSLProgramExecution} instances.
+ * <p>
+ * The witness is written while the program execution is traversed, i.e., nodes and edges are not collected in a graph
+ * before they are written. Each node is directly followed by its incoming edge.
  *
  * @author Daniel Dietsch (dietsch@informatik.uni-freiburg.de)
  *
@@ -92,6 +95,19 @@ public class GraphMLViolationWitnessGenerator<TE, E> extends GraphMLBaseWitnessG
 
 	@Override
 	public String makeGraphMLString() {
+		final StringWriter writer = new StringWriter();
+		try {
+			writeGraphML(writer);
+		} catch (final IOException e) {
+			mLogger.error("Could not save witness graph: " + e.getMessage());
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Write the witness to the given writer and close it afterwards.
+	 */
+	public void writeGraphML(final Writer writer) throws IOException {
 		final UltimateGraphMLWriter<GeneratedWitnessNode, GeneratedWitnessEdge<TE, E>> graphWriter =
 				new UltimateGraphMLWriter<>();
 		final String filename = StringEscapeUtils.escapeXml10(mFilename);
@@ -122,28 +138,12 @@ public class GraphMLViolationWitnessGenerator<TE, E> extends GraphMLBaseWitnessG
 		// TODO: When we switch to "multi-property" witnesses, we write invariants for FALSE-witnesses
 		addVertexData(graphWriter, "invariant", "true", vertex -> null);
 
-		final Hypergraph<GeneratedWitnessNode, GeneratedWitnessEdge<TE, E>> graph = getGraph();
-		final StringWriter writer = new StringWriter();
-		try {
-			graphWriter.save(graph, writer);
-		} catch (final IOException e) {
-			mLogger.error("Could not save witness graph: " + e.getMessage());
-		}
-		try {
-			writer.flush();
-			return writer.toString();
-		} finally {
-			try {
-				writer.close();
-			} catch (final IOException e) {
-				mLogger.error("Could not close witness writer: " + e.getMessage());
-			}
+		try (GraphMLStream stream = graphWriter.open(writer)) {
+			writeGraph(stream);
 		}
 	}
 
-	private Hypergraph<GeneratedWitnessNode, GeneratedWitnessEdge<TE, E>> getGraph() {
-		final DirectedSparseGraph<GeneratedWitnessNode, GeneratedWitnessEdge<TE, E>> graph =
-				new OrderedDirectedSparseGraph<>();
+	private void writeGraph(final GraphMLStream stream) throws IOException {
 		final GeneratedWitnessNodeEdgeFactory<TE, E> fac = new GeneratedWitnessNodeEdgeFactory<>(mStringProvider);
 
 		final IProgramExecution<TE, E> reducedStem = reduceProgramExecution(mStem);
@@ -155,9 +155,9 @@ public class GraphMLViolationWitnessGenerator<TE, E> extends GraphMLBaseWitnessG
 			// if we have only a stem just create an error node as the last node of the stem
 			// current is the initial node
 			current = fac.createInitialWitnessNode();
-			graph.addVertex(current);
+			stream.addVertex(current);
 			funCreateLastNode = () -> fac.createErrorWitnessNode();
-			addProgramExecution(graph, fac, current, reducedStem, funCreateLastNode);
+			addProgramExecution(stream, fac, current, reducedStem, funCreateLastNode, false);
 		} else if (reducedStem.getLength() > 0) {
 			// if we have stem and loop, and the stem actually exists, the last node of the stem is the honda, and the
 			// honda is the first and last node of the loop
@@ -165,38 +165,45 @@ public class GraphMLViolationWitnessGenerator<TE, E> extends GraphMLBaseWitnessG
 			final GeneratedWitnessNode honda = fac.createHondaWitnessNode();
 			funCreateLastNode = () -> honda;
 			current = fac.createInitialWitnessNode();
-			graph.addVertex(current);
-			addProgramExecution(graph, fac, current, reducedStem, funCreateLastNode);
-			addProgramExecution(graph, fac, honda, reducedLoop, funCreateLastNode);
+			stream.addVertex(current);
+			addProgramExecution(stream, fac, current, reducedStem, funCreateLastNode, false);
+			addProgramExecution(stream, fac, honda, reducedLoop, funCreateLastNode, true);
 		} else {
 			// if we have stem and loop, but the stem has length 0, the honda is the first and last
 			// node of the loop and the initial node
 			current = fac.createWitnessNode(true, false, false, true);
-			graph.addVertex(current);
+			stream.addVertex(current);
 			funCreateLastNode = () -> current;
-			addProgramExecution(graph, fac, current, reducedLoop, funCreateLastNode);
+			addProgramExecution(stream, fac, current, reducedLoop, funCreateLastNode, true);
 		}
-
-		return graph;
 	}
 
-	private void addProgramExecution(final DirectedSparseGraph<GeneratedWitnessNode, GeneratedWitnessEdge<TE, E>> graph,
-			final GeneratedWitnessNodeEdgeFactory<TE, E> fac, GeneratedWitnessNode current,
-			final IProgramExecution<TE, E> reducedStem, final Supplier<GeneratedWitnessNode> funCreateLastNode) {
+	/**
+	 * Write the nodes and edges of the program execution, starting from the already written node current.
+	 *
+	 * @param isLastNodeWritten
+	 *            true iff the node supplied by funCreateLastNode was already written
+	 */
+	private void addProgramExecution(final GraphMLStream stream, final GeneratedWitnessNodeEdgeFactory<TE, E> fac,
+			GeneratedWitnessNode current, final IProgramExecution<TE, E> reducedStem,
+			final Supplier<GeneratedWitnessNode> funCreateLastNode, final boolean isLastNodeWritten) throws IOException {
 		GeneratedWitnessNode next;
 		final int progExecLength = reducedStem.getLength();
 		for (int idx = 0; idx < progExecLength; ++idx) {
 
 			final AtomicTraceElement<TE> currentATE = reducedStem.getTraceElement(idx);
 			final ProgramState<E> currentState = reducedStem.getProgramState(idx);
-			if (idx == progExecLength - 1) {
+			final boolean isLastNode = idx == progExecLength - 1;
+			if (isLastNode) {
 				next = funCreateLastNode.get();
 			} else {
 				next = fac.createWitnessNode();
 			}
 
-			graph.addVertex(next);
-			graph.addEdge(fac.createWitnessEdge(currentATE, currentState, next.isHonda()), current, next);
+			if (!isLastNode || !isLastNodeWritten) {
+				stream.addVertex(next);
+			}
+			stream.addEdge(fac.createWitnessEdge(currentATE, currentState, next.isHonda()), current, next);
 			current = next;
 		}
 	}
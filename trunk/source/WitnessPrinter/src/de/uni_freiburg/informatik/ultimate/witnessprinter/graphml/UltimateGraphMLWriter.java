@@ -1,12 +1,14 @@
 package de.uni_freiburg.informatik.ultimate.witnessprinter.graphml;
 
 import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.Map.Entry;
 
 import org.apache.commons.collections15.Transformer;
 
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
 import edu.uci.ics.jung.graph.Hypergraph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
 import edu.uci.ics.jung.io.GraphMLMetadata;
@@ -58,7 +60,31 @@ public class UltimateGraphMLWriter<V, E> extends GraphMLWriter<V, E> {
 	@Override
 	public void save(final Hypergraph<V, E> graph, final Writer writer) throws IOException {
 		final BufferedWriter bw = new BufferedWriter(writer);
+		writeHeader(graph, bw);
 
+		// write vertex information
+		writeVertexData(graph, bw);
+
+		// write edge information
+		writeEdgeData(graph, bw);
+
+		writeFooter(bw);
+		bw.close();
+	}
+
+	/**
+	 * Start writing a graph incrementally, i.e., without constructing the whole graph first. Vertices and edges are
+	 * written as soon as they are added to the returned stream. The graph-level data is computed on an empty directed
+	 * graph.
+	 *
+	 * @param writer
+	 *            The writer that receives the GraphML document. It is closed when the stream is closed.
+	 */
+	public GraphMLStream open(final Writer writer) throws IOException {
+		return new GraphMLStream(writer);
+	}
+
+	private void writeHeader(final Hypergraph<V, E> graph, final BufferedWriter bw) throws IOException {
 		// write out boilerplate header
 		bw.write(XML_VERSION);
 		bw.write(GRAPHML_OPEN);
@@ -98,19 +124,61 @@ public class UltimateGraphMLWriter<V, E> extends GraphMLWriter<V, E> {
 				bw.write(format("data", "key", entry.getKey(), value.toString()) + "\n");
 			}
 		}
+	}
 
-		// write vertex information
-		writeVertexData(graph, bw);
-
-		// write edge information
-		writeEdgeData(graph, bw);
-
+	private static void writeFooter(final BufferedWriter bw) throws IOException {
 		// close graph
 		bw.write("</graph>\n");
 		bw.write("</graphml>\n");
 		bw.flush();
+	}
 
-		bw.close();
+	/**
+	 * A GraphML document that is written incrementally. Each vertex and each edge is written immediately, hence only
+	 * the buffer of the underlying writer is kept in memory. Each vertex has to be added exactly once, and GraphML
+	 * allows that an edge is added before its source or target.
+	 */
+	public final class GraphMLStream implements Closeable {
+		private final BufferedWriter mWriter;
+		/**
+		 * Graph that contains at most the element that is currently written. We use it to reuse the element writers of
+		 * {@link GraphMLWriter}, which iterate over a graph.
+		 */
+		private final DirectedSparseGraph<V, E> mCurrentElement;
+
+		private GraphMLStream(final Writer writer) throws IOException {
+			mWriter = new BufferedWriter(writer);
+			mCurrentElement = new DirectedSparseGraph<>();
+			writeHeader(mCurrentElement, mWriter);
+		}
+
+		public void addVertex(final V vertex) throws IOException {
+			mCurrentElement.addVertex(vertex);
+			try {
+				writeVertexData(mCurrentElement, mWriter);
+			} finally {
+				mCurrentElement.removeVertex(vertex);
+			}
+		}
+
+		public void addEdge(final E edge, final V source, final V target) throws IOException {
+			mCurrentElement.addEdge(edge, source, target);
+			try {
+				writeEdgeData(mCurrentElement, mWriter);
+			} finally {
+				mCurrentElement.removeVertex(source);
+				mCurrentElement.removeVertex(target);
+			}
+		}
+
+		/**
+		 * Finish the GraphML document and close the underlying writer.
+		 */
+		@Override
+		public void close() throws IOException {
+			writeFooter(mWriter);
+			mWriter.close();
+		}
 	}
 
 }